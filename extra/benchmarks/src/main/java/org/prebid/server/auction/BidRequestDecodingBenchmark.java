@@ -0,0 +1,72 @@
+package org.prebid.server.auction;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iab.openrtb.request.BidRequest;
+import io.vertx.core.buffer.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.benchmark.AuctionFixtures;
+import org.prebid.server.json.JsonMerger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding of incoming /openrtb2/auction request through intermediate JSON tree normalized by
+ * {@link OrtbTypesResolver} with decoding straight from the request bytes, the way
+ * {@link org.prebid.server.auction.requestfactory.AuctionRequestFactory} does for requests having nothing to normalize.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BidRequestDecodingBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int impCount;
+
+    private final ObjectMapper mapper = AuctionFixtures.MAPPER.mapper();
+
+    private final OrtbTypesResolver ortbTypesResolver =
+            new OrtbTypesResolver(0, AuctionFixtures.MAPPER, new JsonMerger(AuctionFixtures.MAPPER));
+
+    private String body;
+
+    private Buffer rawBody;
+
+    @Setup
+    public void setUp() {
+        body = AuctionFixtures.MAPPER.encodeToString(
+                AuctionFixtures.bidRequest(impCount, AuctionFixtures.BIDDERS));
+        rawBody = Buffer.buffer(body);
+    }
+
+    @Benchmark
+    public BidRequest decodeThroughTree() throws IOException {
+        final JsonNode bidRequestNode = mapper.readTree(body);
+        ortbTypesResolver.normalizeBidRequest(bidRequestNode, new ArrayList<>(), "referer");
+        return mapper.treeToValue(bidRequestNode, BidRequest.class);
+    }
+
+    @Benchmark
+    public BidRequest decodeFromBytes() {
+        final BidRequest bidRequest = ortbTypesResolver.decodeNormalized(rawBody.getBytes());
+        if (bidRequest == null) {
+            throw new IllegalStateException("Benchmark request is expected to have nothing to normalize");
+        }
+        return bidRequest;
+    }
+}
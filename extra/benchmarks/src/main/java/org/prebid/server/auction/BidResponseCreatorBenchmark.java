@@ -0,0 +1,117 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.response.BidResponse;
+import io.vertx.core.Vertx;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.BidRequestCacheInfo;
+import org.prebid.server.auction.model.TimeoutContext;
+import org.prebid.server.auction.model.debug.DebugContext;
+import org.prebid.server.benchmark.AuctionFixtures;
+import org.prebid.server.benchmark.Collaborators;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.hooks.execution.model.HookExecutionContext;
+import org.prebid.server.model.Endpoint;
+import org.prebid.server.settings.model.Account;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptyMap;
+
+/**
+ * Measures {@link BidResponseCreator#create} for responses of several bidders with targeting keywords requested.
+ * <p>
+ * Bids caching is turned off and no hooks modules are configured, so the score covers winning bids selection,
+ * targeting keywords creation and building of the resulting {@link BidResponse}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BidResponseCreatorBenchmark {
+
+    private static final BidRequestCacheInfo CACHE_INFO = BidRequestCacheInfo.builder().build();
+
+    @Param({"1", "10", "50"})
+    private int impCount;
+
+    private BidResponseCreator bidResponseCreator;
+
+    private BidRequest bidRequest;
+
+    private List<AuctionParticipation> auctionParticipations;
+
+    private Timeout timeout;
+
+    private Vertx vertx;
+
+    @Setup
+    public void setUp() {
+        bidRequest = AuctionFixtures.bidRequest(impCount, AuctionFixtures.BIDDERS);
+        auctionParticipations = AuctionFixtures.bidderResponses(bidRequest, AuctionFixtures.BIDDERS).stream()
+                .map(bidderResponse -> AuctionParticipation.builder()
+                        .bidder(bidderResponse.getBidder())
+                        .bidderResponse(bidderResponse)
+                        .build())
+                .toList();
+
+        final Clock clock = Clock.systemUTC();
+        final TimeoutFactory timeoutFactory = new TimeoutFactory(clock);
+        timeout = timeoutFactory.create(Long.MAX_VALUE / 2);
+
+        vertx = Vertx.vertx();
+        final BidderCatalog bidderCatalog = Collaborators.bidderCatalog(AuctionFixtures.BIDDERS);
+        bidResponseCreator = Collaborators.bidResponseCreator(
+                vertx,
+                bidderCatalog,
+                Collaborators.hookStageExecutor(timeoutFactory, clock),
+                Collaborators.metrics(),
+                clock);
+    }
+
+    @TearDown
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Benchmark
+    public BidResponse create() {
+        return bidResponseCreator.create(auctionContext(), CACHE_INFO, emptyMap()).result();
+    }
+
+    private AuctionContext auctionContext() {
+        return AuctionContext.builder()
+                .account(Account.empty("accountId"))
+                .bidRequest(bidRequest)
+                .timeoutContext(TimeoutContext.of(0L, timeout, 0))
+                .debugContext(DebugContext.empty())
+                .hookExecutionContext(HookExecutionContext.of(Endpoint.openrtb2_auction))
+                .debugHttpCalls(new HashMap<>())
+                .debugWarnings(new ArrayList<>())
+                .auctionParticipations(auctionParticipations)
+                .bidRejectionTrackers(new HashMap<>())
+                .prebidErrors(new ArrayList<>())
+                .build();
+    }
+}
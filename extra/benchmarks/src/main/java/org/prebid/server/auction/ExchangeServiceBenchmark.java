@@ -0,0 +1,283 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.request.BidRequest;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.activity.Activity;
+import org.prebid.server.activity.infrastructure.ActivityController;
+import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
+import org.prebid.server.activity.infrastructure.debug.ActivityInfrastructureDebug;
+import org.prebid.server.auction.aliases.BidderAliases;
+import org.prebid.server.auction.bidderrequestpostprocessor.BidderRequestPostProcessingResult;
+import org.prebid.server.auction.externalortb.StoredResponseProcessor;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.BidRejectionTracker;
+import org.prebid.server.auction.model.BidderRequest;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.auction.model.TimeoutContext;
+import org.prebid.server.auction.model.debug.DebugContext;
+import org.prebid.server.auction.privacy.enforcement.PrivacyEnforcementService;
+import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
+import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConverterFactory;
+import org.prebid.server.benchmark.AuctionFixtures;
+import org.prebid.server.benchmark.Collaborators;
+import org.prebid.server.bidadjustments.BidAdjustmentFactorResolver;
+import org.prebid.server.bidadjustments.BidAdjustmentsProcessor;
+import org.prebid.server.bidadjustments.BidAdjustmentsResolver;
+import org.prebid.server.bidadjustments.BidAdjustmentsRulesResolver;
+import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.BidderErrorNotifier;
+import org.prebid.server.bidder.BidderRequestCompressor;
+import org.prebid.server.bidder.HttpBidderRequestEnricher;
+import org.prebid.server.bidder.HttpBidderRequester;
+import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.cookie.PrioritizedCoopSyncProvider;
+import org.prebid.server.cookie.UidsCookie;
+import org.prebid.server.cookie.UidsCookieBinaryCodec;
+import org.prebid.server.cookie.UidsCookieService;
+import org.prebid.server.cookie.proto.Uids;
+import org.prebid.server.currency.CurrencyConversionService;
+import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.floors.PriceFloorAdjuster;
+import org.prebid.server.floors.PriceFloorEnforcer;
+import org.prebid.server.floors.PriceFloorProcessor;
+import org.prebid.server.hooks.execution.HookStageExecutor;
+import org.prebid.server.hooks.execution.model.HookExecutionContext;
+import org.prebid.server.json.JsonMerger;
+import org.prebid.server.log.CriteriaLogManager;
+import org.prebid.server.log.HttpInteractionLogger;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.model.CaseInsensitiveMultiMap;
+import org.prebid.server.model.Endpoint;
+import org.prebid.server.model.HttpRequestContext;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.BidValidationEnforcement;
+import org.prebid.server.validation.BidderParamValidator;
+import org.prebid.server.validation.ImpValidator;
+import org.prebid.server.validation.ResponseBidValidator;
+import org.prebid.server.version.PrebidVersionProvider;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+
+/**
+ * Measures {@link ExchangeService#holdAuction} for a request addressed to several bidders.
+ * <p>
+ * Only bidders calls are replaced with a hand-written stub responding with the fixture bids. Other collaborators
+ * are real instances configured without privacy enforcements, hooks modules, floors, stored responses
+ * and bids caching, so the score is dominated by splitting of incoming request into per-bidder requests
+ * (imps preparation, user/device/site adjustments), processing of bidders responses and response creation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExchangeServiceBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int impCount;
+
+    @Param({"1", "5"})
+    private int bidderCount;
+
+    @Param({"false", "true"})
+    private boolean copyOnWriteFanOut;
+
+    private ExchangeService exchangeService;
+
+    private BidRequest bidRequest;
+
+    private Account account;
+
+    private Clock clock;
+
+    private TimeoutFactory timeoutFactory;
+
+    private UidsCookie uidsCookie;
+
+    private ActivityInfrastructure activityInfrastructure;
+
+    private Vertx vertx;
+
+    @Setup
+    public void setUp() {
+        final List<String> bidders = AuctionFixtures.BIDDERS.subList(0, bidderCount);
+        bidRequest = AuctionFixtures.bidRequest(impCount, bidders);
+        account = Account.empty("accountId");
+
+        final Map<String, BidderSeatBid> seatBids = AuctionFixtures.bidderResponses(bidRequest, bidders).stream()
+                .collect(Collectors.toMap(BidderResponse::getBidder, BidderResponse::getSeatBid));
+
+        clock = Clock.systemUTC();
+        timeoutFactory = new TimeoutFactory(clock);
+        vertx = Vertx.vertx();
+
+        final Metrics metrics = Collaborators.metrics();
+        final BidderCatalog bidderCatalog = Collaborators.bidderCatalog(AuctionFixtures.BIDDERS);
+        final JsonMerger jsonMerger = new JsonMerger(AuctionFixtures.MAPPER);
+        final HookStageExecutor hookStageExecutor = Collaborators.hookStageExecutor(timeoutFactory, clock);
+
+        uidsCookie = new UidsCookie(Uids.builder().uids(emptyMap()).build(), AuctionFixtures.MAPPER);
+
+        final ActivityInfrastructureDebug activityDebug =
+                new ActivityInfrastructureDebug(account.getId(), null, metrics, AuctionFixtures.MAPPER);
+        activityInfrastructure = new ActivityInfrastructure(
+                Arrays.stream(Activity.values()).collect(Collectors.toMap(
+                        Function.identity(),
+                        activity -> ActivityController.of(true, emptyList(), activityDebug))),
+                activityDebug);
+
+        final ImpValidator impValidator = new ImpValidator(
+                BidderParamValidator.create(bidderCatalog, "static/bidder-params", AuctionFixtures.MAPPER),
+                bidderCatalog,
+                AuctionFixtures.MAPPER);
+
+        final UidsCookieService uidsCookieService = new UidsCookieService(
+                null,
+                null,
+                null,
+                null,
+                null,
+                90,
+                0,
+                1,
+                new PrioritizedCoopSyncProvider(emptySet(), bidderCatalog),
+                metrics,
+                AuctionFixtures.MAPPER,
+                new UidsCookieBinaryCodec(emptyList()),
+                false);
+
+        final CurrencyConversionService currencyService = new CurrencyConversionService(null);
+        final BidsAdjuster bidsAdjuster = new BidsAdjuster(
+                new ResponseBidValidator(BidValidationEnforcement.skip, BidValidationEnforcement.skip, metrics, 0),
+                PriceFloorEnforcer.noOp(),
+                new BidAdjustmentsProcessor(
+                        currencyService,
+                        new BidAdjustmentFactorResolver(),
+                        new BidAdjustmentsResolver(
+                                currencyService, new BidAdjustmentsRulesResolver(AuctionFixtures.MAPPER)),
+                        AuctionFixtures.MAPPER),
+                new DsaEnforcer(AuctionFixtures.MAPPER));
+
+        exchangeService = new ExchangeService(
+                0,
+                bidderCatalog,
+                new StoredResponseProcessor(Collaborators.applicationSettings(), AuctionFixtures.MAPPER),
+                new PrivacyEnforcementService(emptyList()),
+                new FpdResolver(AuctionFixtures.MAPPER, jsonMerger),
+                new ImpAdjuster(AuctionFixtures.MAPPER, jsonMerger, impValidator),
+                SupplyChainResolver.create(null, AuctionFixtures.MAPPER),
+                new DebugResolver(bidderCatalog, null),
+                (bidderRequest, aliases, auctionContext) -> Future.succeededFuture(
+                        BidderRequestPostProcessingResult.withValue(bidderRequest)),
+                new UidUpdater(null, bidderCatalog, uidsCookieService),
+                new TimeoutResolver(50L, 5000L, 0L),
+                timeoutFactory,
+                new BidRequestOrtbVersionConversionManager(
+                        new BidRequestOrtbVersionConverterFactory(AuctionFixtures.MAPPER)),
+                new StaticHttpBidderRequester(seatBids, bidderCatalog, metrics),
+                Collaborators.bidResponseCreator(vertx, bidderCatalog, hookStageExecutor, metrics, clock),
+                new BidResponsePostProcessor.NoOpBidResponsePostProcessor(),
+                hookStageExecutor,
+                new HttpInteractionLogger(AuctionFixtures.MAPPER),
+                PriceFloorAdjuster.noOp(),
+                PriceFloorProcessor.noOp(),
+                bidsAdjuster,
+                metrics,
+                clock,
+                AuctionFixtures.MAPPER,
+                new CriteriaLogManager(AuctionFixtures.MAPPER),
+                false,
+                copyOnWriteFanOut);
+    }
+
+    @TearDown
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Benchmark
+    public AuctionContext holdAuction() {
+        return exchangeService.holdAuction(auctionContext()).result();
+    }
+
+    private AuctionContext auctionContext() {
+        final long startTime = clock.millis();
+        return AuctionContext.builder()
+                .httpRequest(HttpRequestContext.builder().headers(CaseInsensitiveMultiMap.empty()).build())
+                .uidsCookie(uidsCookie)
+                .bidRequest(bidRequest)
+                .debugWarnings(new ArrayList<>())
+                .prebidErrors(new ArrayList<>())
+                .account(account)
+                .requestTypeMetric(MetricName.openrtb2web)
+                .timeoutContext(TimeoutContext.of(startTime, timeoutFactory.create(startTime, 1000L), 90))
+                .hookExecutionContext(HookExecutionContext.of(Endpoint.openrtb2_auction))
+                .debugContext(DebugContext.empty())
+                .bidRejectionTrackers(new HashMap<>())
+                .activityInfrastructure(activityInfrastructure)
+                .build();
+    }
+
+    /**
+     * Responds with the fixture bids of the bidder instead of calling it.
+     */
+    private static class StaticHttpBidderRequester extends HttpBidderRequester {
+
+        private final Map<String, BidderSeatBid> seatBids;
+
+        StaticHttpBidderRequester(Map<String, BidderSeatBid> seatBids, BidderCatalog bidderCatalog, Metrics metrics) {
+            super(
+                    Collaborators.httpClient(),
+                    null,
+                    new BidderErrorNotifier(0, false, false, 0, Collaborators.httpClient(), metrics),
+                    new HttpBidderRequestEnricher(new PrebidVersionProvider("benchmark"), bidderCatalog),
+                    new BidderRequestCompressor(Deflater.DEFAULT_COMPRESSION, 0, metrics),
+                    AuctionFixtures.MAPPER,
+                    0);
+
+            this.seatBids = seatBids;
+        }
+
+        @Override
+        public <T> Future<BidderSeatBid> requestBids(Bidder<T> bidder,
+                                                     BidderRequest bidderRequest,
+                                                     BidRejectionTracker bidRejectionTracker,
+                                                     Timeout timeout,
+                                                     CaseInsensitiveMultiMap requestHeaders,
+                                                     BidderAliases aliases,
+                                                     boolean debugEnabled) {
+
+            return Future.succeededFuture(seatBids.get(bidderRequest.getBidder()));
+        }
+    }
+}
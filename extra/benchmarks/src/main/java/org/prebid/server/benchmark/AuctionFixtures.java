@@ -0,0 +1,129 @@
+package org.prebid.server.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.bidder.model.BidderBid;
+import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestTargeting;
+import org.prebid.server.proto.openrtb.ext.response.BidType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * OpenRTB objects shared by benchmarks, built from the auction fixtures of core integration tests.
+ * <p>
+ * The request of multi-bid test is taken with its imps replaced by copies of the multi-size banner imp
+ * of mediasquare test addressed to all given bidders, so the amount of work grows with both number of imps
+ * and number of bidders. Every bidder responds to every imp with one of the bids of multi-bid test.
+ */
+public final class AuctionFixtures {
+
+    public static final JacksonMapper MAPPER = new JacksonMapper(ObjectMapperProvider.mapper());
+
+    public static final List<String> BIDDERS = List.of("generic", "appnexus", "rubicon", "openx", "pubmatic");
+
+    private static final String FIXTURES_PATH = "/org/prebid/server/it/openrtb2/";
+    private static final String REQUEST_FIXTURE = "multi_bid/test-auction-generic-genericAlias-request.json";
+    private static final String IMP_FIXTURE = "mediasquare/test-auction-mediasquare-request.json";
+    private static final String BIDS_FIXTURE = "multi_bid/test-genericAlias-bid-response-1.json";
+
+    private static final Imp IMP_TEMPLATE = readFixture(IMP_FIXTURE, BidRequest.class).getImp().get(1);
+    private static final List<Bid> BID_TEMPLATES =
+            readFixture(BIDS_FIXTURE, BidResponse.class).getSeatbid().get(0).getBid();
+
+    private AuctionFixtures() {
+    }
+
+    /**
+     * Returns request of the fixture with the given number of imps. Bids caching is dropped from the fixture
+     * and targeting is completed the same way as for incoming requests, so that no benchmark calls Prebid Cache.
+     */
+    public static BidRequest bidRequest(int impCount, List<String> bidders) {
+        final BidRequest template = readFixture(REQUEST_FIXTURE, BidRequest.class);
+        final JsonNode bidderParams = template.getImp().get(0).getExt().at("/prebid/bidder/generic");
+
+        final List<Imp> imps = new ArrayList<>(impCount);
+        for (int i = 0; i < impCount; i++) {
+            imps.add(imp("imp-" + i, bidders, bidderParams));
+        }
+
+        final ExtRequestPrebid prebid = template.getExt().getPrebid();
+        return template.toBuilder()
+                .imp(imps)
+                .ext(ExtRequest.of(prebid.toBuilder()
+                        .targeting(targeting(prebid.getTargeting()))
+                        .cache(null)
+                        .build()))
+                .build();
+    }
+
+    private static Imp imp(String impId, List<String> bidders, JsonNode bidderParams) {
+        final ObjectNode impExt = MAPPER.mapper().createObjectNode();
+        final ObjectNode biddersNode = impExt.putObject("prebid").putObject("bidder");
+        for (String bidder : bidders) {
+            biddersNode.set(bidder, bidderParams.deepCopy());
+        }
+
+        return IMP_TEMPLATE.toBuilder()
+                .id(impId)
+                .tagid(impId)
+                .ext(impExt)
+                .build();
+    }
+
+    private static ExtRequestTargeting targeting(ExtRequestTargeting targeting) {
+        return targeting.toBuilder()
+                .includewinners(true)
+                .includebidderkeys(true)
+                .includeformat(false)
+                .build();
+    }
+
+    public static List<BidderResponse> bidderResponses(BidRequest bidRequest, List<String> bidders) {
+        final List<BidderResponse> bidderResponses = new ArrayList<>(bidders.size());
+        for (int b = 0; b < bidders.size(); b++) {
+            final String bidder = bidders.get(b);
+            final List<Imp> imps = bidRequest.getImp();
+            final List<BidderBid> bids = new ArrayList<>(imps.size());
+            for (int i = 0; i < imps.size(); i++) {
+                final Bid template = BID_TEMPLATES.get((b + i) % BID_TEMPLATES.size());
+                final Bid bid = template.toBuilder()
+                        .id(bidder + "-" + imps.get(i).getId())
+                        .impid(imps.get(i).getId())
+                        .price(BigDecimal.valueOf(1.25 + b * 0.37))
+                        .w(300)
+                        .h(250)
+                        .ext(template.getExt().deepCopy())
+                        .build();
+                bids.add(BidderBid.of(bid, BidType.banner, "USD"));
+            }
+            bidderResponses.add(BidderResponse.of(bidder, BidderSeatBid.of(bids), 100));
+        }
+        return bidderResponses;
+    }
+
+    private static <T> T readFixture(String name, Class<T> type) {
+        try (InputStream fixture = AuctionFixtures.class.getResourceAsStream(FIXTURES_PATH + name)) {
+            if (fixture == null) {
+                throw new IllegalStateException("Fixture is not found on classpath: " + name);
+            }
+            return MAPPER.mapper().readValue(fixture, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
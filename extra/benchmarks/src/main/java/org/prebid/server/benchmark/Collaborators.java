@@ -0,0 +1,271 @@
+package org.prebid.server.benchmark;
+
+import com.codahale.metrics.MetricRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import org.prebid.server.auction.BidResponseCreator;
+import org.prebid.server.auction.WinningBidComparatorFactory;
+import org.prebid.server.auction.externalortb.StoredRequestProcessor;
+import org.prebid.server.auction.model.CategoryMappingResult;
+import org.prebid.server.auction.versionconverter.OrtbVersion;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.BidderDeps;
+import org.prebid.server.bidder.BidderInfo;
+import org.prebid.server.bidder.BidderInstanceDeps;
+import org.prebid.server.bidder.Usersyncer;
+import org.prebid.server.cache.CoreCacheService;
+import org.prebid.server.cache.model.CacheTtl;
+import org.prebid.server.events.EventsService;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.hooks.execution.HookCatalog;
+import org.prebid.server.hooks.execution.HookStageExecutor;
+import org.prebid.server.identity.UUIDIdGenerator;
+import org.prebid.server.json.JsonMerger;
+import org.prebid.server.metric.AccountMetricsVerbosityResolver;
+import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.settings.ParsedStoredDataCache;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.Profile;
+import org.prebid.server.settings.model.StoredDataResult;
+import org.prebid.server.settings.model.StoredResponseDataResult;
+import org.prebid.server.spring.config.bidder.model.CompressionType;
+import org.prebid.server.spring.config.bidder.model.Ortb;
+import org.prebid.server.spring.config.model.CacheDefaultTtlProperties;
+import org.prebid.server.vast.VastModifier;
+import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+
+/**
+ * Collaborators of measured services shared by benchmarks.
+ * <p>
+ * Services doing only computations are real instances configured to do as little as possible,
+ * while the ones doing I/O are replaced with hand-written stubs.
+ */
+public final class Collaborators {
+
+    private static final String EXTERNAL_URL = "https://prebid.example.com";
+    private static final String CACHE_URL = "https://cache.example.com/cache";
+
+    private Collaborators() {
+    }
+
+    public static Metrics metrics() {
+        return new Metrics(
+                new MetricRegistry(),
+                CounterType.counter,
+                new AccountMetricsVerbosityResolver(AccountMetricsVerbosityLevel.none, emptyList(), emptyList()));
+    }
+
+    /**
+     * Returns catalog of enabled OpenRTB 2.6 bidders without implementations, so it may be used only
+     * with {@link org.prebid.server.bidder.HttpBidderRequester} stubbed.
+     */
+    public static BidderCatalog bidderCatalog(List<String> bidders) {
+        final BidderInfo bidderInfo = BidderInfo.create(
+                true, OrtbVersion.ORTB_2_6, false, null, null, null, null, null, null, null, 0, null, false, false,
+                CompressionType.NONE, Ortb.of(false), 0L);
+
+        return new BidderCatalog(bidders.stream()
+                .map(bidder -> BidderDeps.of(List.of(BidderInstanceDeps.builder()
+                        .name(bidder)
+                        .deprecatedNames(emptyList())
+                        .bidderInfo(bidderInfo)
+                        .usersyncer(Usersyncer.of(bidder, null, null, false, null))
+                        .build())))
+                .toList());
+    }
+
+    public static HookStageExecutor hookStageExecutor(TimeoutFactory timeoutFactory, Clock clock) {
+        return HookStageExecutor.create(
+                null,
+                null,
+                emptyMap(),
+                new HookCatalog(emptyList()),
+                timeoutFactory,
+                clock,
+                AuctionFixtures.MAPPER,
+                false,
+                0);
+    }
+
+    public static ApplicationSettings applicationSettings() {
+        return new EmptyApplicationSettings();
+    }
+
+    public static HttpClient httpClient() {
+        return new UnreachableHttpClient();
+    }
+
+    /**
+     * Returns {@link BidResponseCreator} able to create responses only with bids caching turned off,
+     * since Prebid Cache is not reachable.
+     */
+    public static BidResponseCreator bidResponseCreator(Vertx vertx,
+                                                        BidderCatalog bidderCatalog,
+                                                        HookStageExecutor hookStageExecutor,
+                                                        Metrics metrics,
+                                                        Clock clock) {
+
+        final EventsService eventsService = new EventsService(EXTERNAL_URL);
+        final VastModifier vastModifier = new VastModifier(bidderCatalog, eventsService, metrics);
+        final UUIDIdGenerator idGenerator = new UUIDIdGenerator();
+
+        final CoreCacheService coreCacheService = new CoreCacheService(
+                httpClient(),
+                cacheUrl(),
+                null,
+                CACHE_URL + "?uuid=",
+                0L,
+                null,
+                false,
+                false,
+                null,
+                vastModifier,
+                eventsService,
+                metrics,
+                clock,
+                idGenerator,
+                AuctionFixtures.MAPPER);
+
+        final StoredRequestProcessor storedRequestProcessor = new StoredRequestProcessor(
+                0L,
+                null,
+                false,
+                vertx.fileSystem(),
+                applicationSettings(),
+                idGenerator,
+                metrics,
+                new TimeoutFactory(clock),
+                AuctionFixtures.MAPPER,
+                new JsonMerger(AuctionFixtures.MAPPER),
+                new ParsedStoredDataCache(60, 100, AuctionFixtures.MAPPER, metrics));
+
+        return new BidResponseCreator(
+                0,
+                coreCacheService,
+                bidderCatalog,
+                vastModifier,
+                eventsService,
+                storedRequestProcessor,
+                new WinningBidComparatorFactory(),
+                idGenerator,
+                idGenerator,
+                hookStageExecutor,
+                (bidderResponses, bidRequest, account, timeout) -> Future.succeededFuture(
+                        CategoryMappingResult.of(emptyMap(), emptyMap(), bidderResponses, null)),
+                0,
+                false,
+                clock,
+                AuctionFixtures.MAPPER,
+                metrics,
+                CacheTtl.of(null, null),
+                CacheDefaultTtlProperties.of(null, null, null, null));
+    }
+
+    private static URL cacheUrl() {
+        try {
+            return URI.create(CACHE_URL).toURL();
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * Application settings without any accounts and stored data.
+     */
+    private static class EmptyApplicationSettings implements ApplicationSettings {
+
+        @Override
+        public Future<Account> getAccountById(String accountId, Timeout timeout) {
+            return Future.failedFuture(new PreBidException("Account not found: " + accountId));
+        }
+
+        @Override
+        public Future<StoredDataResult<String>> getStoredData(String accountId,
+                                                              Set<String> requestIds,
+                                                              Set<String> impIds,
+                                                              Timeout timeout) {
+
+            return Future.succeededFuture(StoredDataResult.of(emptyMap(), emptyMap(), emptyList()));
+        }
+
+        @Override
+        public Future<StoredDataResult<String>> getAmpStoredData(String accountId,
+                                                                 Set<String> requestIds,
+                                                                 Set<String> impIds,
+                                                                 Timeout timeout) {
+
+            return Future.succeededFuture(StoredDataResult.of(emptyMap(), emptyMap(), emptyList()));
+        }
+
+        @Override
+        public Future<StoredDataResult<String>> getVideoStoredData(String accountId,
+                                                                   Set<String> requestIds,
+                                                                   Set<String> impIds,
+                                                                   Timeout timeout) {
+
+            return Future.succeededFuture(StoredDataResult.of(emptyMap(), emptyMap(), emptyList()));
+        }
+
+        @Override
+        public Future<StoredDataResult<Profile>> getProfiles(String accountId,
+                                                             Set<String> requestIds,
+                                                             Set<String> impIds,
+                                                             Timeout timeout) {
+
+            return Future.succeededFuture(StoredDataResult.of(emptyMap(), emptyMap(), emptyList()));
+        }
+
+        @Override
+        public Future<StoredResponseDataResult> getStoredResponses(Set<String> responseIds, Timeout timeout) {
+            return Future.succeededFuture(StoredResponseDataResult.of(emptyMap(), emptyList()));
+        }
+
+        @Override
+        public Future<Map<String, String>> getCategories(String primaryAdServer, String publisher, Timeout timeout) {
+            return Future.succeededFuture(emptyMap());
+        }
+    }
+
+    /**
+     * HTTP client failing every request, benchmarks must never reach the network.
+     */
+    private static class UnreachableHttpClient implements HttpClient {
+
+        @Override
+        public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
+                                                  String body, long timeoutMs, long maxResponseSize) {
+
+            return failure(url);
+        }
+
+        @Override
+        public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
+                                                  byte[] body, long timeoutMs, long maxResponseSize) {
+
+            return failure(url);
+        }
+
+        private static Future<HttpClientResponse> failure(String url) {
+            return Future.failedFuture(new IllegalStateException("Benchmarks must not call " + url));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package org.prebid.server.floors;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Imp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.benchmark.AuctionFixtures;
+import org.prebid.server.benchmark.Collaborators;
+import org.prebid.server.currency.CurrencyConversionService;
+import org.prebid.server.floors.model.PriceFloorData;
+import org.prebid.server.floors.model.PriceFloorField;
+import org.prebid.server.floors.model.PriceFloorModelGroup;
+import org.prebid.server.floors.model.PriceFloorRules;
+import org.prebid.server.floors.model.PriceFloorSchema;
+import org.prebid.server.geolocation.CountryCodeMapper;
+import org.prebid.server.proto.openrtb.ext.request.ImpMediaType;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures floor resolution for every imp and bidder of a request against a model group
+ * with five schema fields, which is what price floors enforcement does for each bidder request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceFloorResolverBenchmark {
+
+    private static final List<String> MEDIA_TYPES = List.of("banner", "video", "*");
+    private static final List<String> SIZES = List.of("300x250", "300x600", "728x90", "320x50", "*");
+    private static final List<String> DOMAINS = List.of("example.com", "example.org", "news.example.net", "*");
+    private static final List<String> DEVICE_TYPES = List.of("desktop", "phone", "tablet", "*");
+
+    @Param({"1", "10", "50"})
+    private int impCount;
+
+    private BasicPriceFloorResolver priceFloorResolver;
+
+    private BidRequest bidRequest;
+
+    private PriceFloorRules floorRules;
+
+    @Setup
+    public void setUp() {
+        priceFloorResolver = new BasicPriceFloorResolver(
+                new CurrencyConversionService(null),
+                new CountryCodeMapper("US, USA", "310, US"),
+                Collaborators.metrics(),
+                AuctionFixtures.MAPPER);
+
+        bidRequest = AuctionFixtures.bidRequest(impCount, AuctionFixtures.BIDDERS);
+
+        final PriceFloorModelGroup modelGroup = PriceFloorModelGroup.builder()
+                .currency("USD")
+                .modelWeight(100)
+                .schema(PriceFloorSchema.of("|", List.of(
+                        PriceFloorField.mediaType,
+                        PriceFloorField.size,
+                        PriceFloorField.domain,
+                        PriceFloorField.deviceType,
+                        PriceFloorField.bidder)))
+                .values(givenValues())
+                .defaultFloor(BigDecimal.valueOf(0.01))
+                .build();
+        floorRules = PriceFloorRules.builder()
+                .enabled(true)
+                .data(PriceFloorData.builder().currency("USD").modelGroups(List.of(modelGroup)).build())
+                .build();
+    }
+
+    @Benchmark
+    public void resolve(Blackhole blackhole) {
+        final List<String> warnings = new ArrayList<>();
+        for (Imp imp : bidRequest.getImp()) {
+            for (Format format : imp.getBanner().getFormat()) {
+                for (String bidder : AuctionFixtures.BIDDERS) {
+                    blackhole.consume(priceFloorResolver.resolve(
+                            bidRequest, floorRules, imp, ImpMediaType.banner, format, bidder, warnings));
+                }
+            }
+        }
+    }
+
+    /**
+     * Rules for every combination of values, except that only every third one has the concrete bidder,
+     * so part of the lookups fall back to wildcard rules.
+     */
+    private static Map<String, BigDecimal> givenValues() {
+        final Map<String, BigDecimal> values = new HashMap<>();
+        int index = 0;
+        for (String mediaType : MEDIA_TYPES) {
+            for (String size : SIZES) {
+                for (String domain : DOMAINS) {
+                    for (String deviceType : DEVICE_TYPES) {
+                        final String bidder = index % 3 == 0
+                                ? AuctionFixtures.BIDDERS.get(index % AuctionFixtures.BIDDERS.size())
+                                : "*";
+                        final String rule = String.join("|", mediaType, size, domain, deviceType, bidder);
+                        values.put(rule, BigDecimal.valueOf(0.1 + (index % 50) * 0.05));
+                        index++;
+                    }
+                }
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,133 @@
+package org.prebid.server.hooks.modules.rule.engine;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.BidRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.benchmark.AuctionFixtures;
+import org.prebid.server.benchmark.Collaborators;
+import org.prebid.server.hooks.execution.model.Stage;
+import org.prebid.server.hooks.modules.rule.engine.core.config.StageConfigParser;
+import org.prebid.server.hooks.modules.rule.engine.core.config.model.AccountConfig;
+import org.prebid.server.hooks.modules.rule.engine.core.config.model.AccountRuleConfig;
+import org.prebid.server.hooks.modules.rule.engine.core.config.model.ModelGroupConfig;
+import org.prebid.server.hooks.modules.rule.engine.core.config.model.ResultFunctionConfig;
+import org.prebid.server.hooks.modules.rule.engine.core.config.model.RuleSetConfig;
+import org.prebid.server.hooks.modules.rule.engine.core.config.model.SchemaFunctionConfig;
+import org.prebid.server.hooks.modules.rule.engine.core.request.Granularity;
+import org.prebid.server.hooks.modules.rule.engine.core.request.RequestConditionalRuleFactory;
+import org.prebid.server.hooks.modules.rule.engine.core.request.RequestRuleContext;
+import org.prebid.server.hooks.modules.rule.engine.core.request.RequestStageSpecification;
+import org.prebid.server.hooks.modules.rule.engine.core.rules.Rule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures processed auction request rules of an account with many rule sets, each having an imp-level schema
+ * function, so every rule set is evaluated for every imp of the request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RuleEngineBenchmark {
+
+    @Param({"50"})
+    private int ruleSetCount;
+
+    @Param({"20"})
+    private int impCount;
+
+    private Rule<BidRequest, RequestRuleContext> rule;
+
+    private BidRequest bidRequest;
+
+    private AuctionContext auctionContext;
+
+    @Setup
+    public void setUp() {
+        final ObjectMapper mapper = AuctionFixtures.MAPPER.mapper();
+        final RequestStageSpecification specification = new RequestStageSpecification(
+                mapper, Collaborators.bidderCatalog(AuctionFixtures.BIDDERS), new Random(0));
+        final StageConfigParser<BidRequest, RequestRuleContext> parser = new StageConfigParser<>(
+                new Random(0),
+                Stage.processed_auction_request,
+                specification,
+                new RequestConditionalRuleFactory());
+
+        final List<RuleSetConfig> ruleSets = new ArrayList<>(ruleSetCount);
+        for (int i = 0; i < ruleSetCount; i++) {
+            ruleSets.add(givenRuleSet(mapper, i));
+        }
+
+        rule = parser.parse(AccountConfig.builder().ruleSets(ruleSets).build());
+        bidRequest = AuctionFixtures.bidRequest(impCount, AuctionFixtures.BIDDERS);
+        auctionContext = AuctionContext.builder().bidRequest(bidRequest).build();
+    }
+
+    @Benchmark
+    public void process(Blackhole blackhole) {
+        blackhole.consume(rule.process(
+                bidRequest, RequestRuleContext.of(auctionContext, Granularity.Request.instance(), "datacenter")));
+    }
+
+    /**
+     * Rule set matching domain, country, EID presence of a source and ad unit code. Every rule set matches
+     * a different part of imps by ad unit code, the rest fall back to the wildcard rule. The fixture request
+     * has neither site domain nor device country, so rules match them with wildcard.
+     */
+    private static RuleSetConfig givenRuleSet(ObjectMapper mapper, int index) {
+        final ObjectNode eidInArgs = mapper.createObjectNode();
+        eidInArgs.putArray("sources").add("source-" + index % 5);
+
+        final List<SchemaFunctionConfig> schema = List.of(
+                SchemaFunctionConfig.of("domain", null),
+                SchemaFunctionConfig.of("deviceCountry", null),
+                SchemaFunctionConfig.of("eidIn", eidInArgs),
+                SchemaFunctionConfig.of("adUnitCode", null));
+
+        final List<AccountRuleConfig> rules = new ArrayList<>();
+        for (int imp = index % 4; imp < 20; imp += 4) {
+            rules.add(AccountRuleConfig.of(
+                    List.of("*", "*", "false", "imp-" + imp),
+                    givenResults(mapper, "rule-" + index + "-" + imp)));
+        }
+        rules.add(AccountRuleConfig.of(List.of("*", "*", "*", "*"), givenResults(mapper, "default-" + index)));
+
+        final ModelGroupConfig modelGroup = ModelGroupConfig.builder()
+                .weight(100)
+                .analyticsKey("rule-set-" + index)
+                .version("1")
+                .schema(schema)
+                .rules(rules)
+                .build();
+
+        return RuleSetConfig.builder()
+                .stage(Stage.processed_auction_request)
+                .name("rule-set-" + index)
+                .modelGroups(List.of(modelGroup))
+                .build();
+    }
+
+    private static List<ResultFunctionConfig> givenResults(ObjectMapper mapper, String analyticsValue) {
+        return List.of(ResultFunctionConfig.of(
+                "logAtag", mapper.createObjectNode().put("analyticsValue", analyticsValue)));
+    }
+}
@@ -0,0 +1,73 @@
+package org.prebid.server.json;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.benchmark.AuctionFixtures;
+import org.prebid.server.bidder.model.BidderBid;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding of incoming auction request and encoding of outgoing auction response,
+ * both done by {@link JacksonMapper} on every /openrtb2/auction call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OpenrtbJsonBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int impCount;
+
+    private final JacksonMapper mapper = AuctionFixtures.MAPPER;
+
+    private byte[] bidRequestBytes;
+
+    private BidResponse bidResponse;
+
+    @Setup
+    public void setUp() {
+        final BidRequest bidRequest = AuctionFixtures.bidRequest(impCount, AuctionFixtures.BIDDERS);
+        bidRequestBytes = mapper.encodeToBytes(bidRequest);
+
+        final List<SeatBid> seatBids = AuctionFixtures.bidderResponses(bidRequest, AuctionFixtures.BIDDERS).stream()
+                .map(OpenrtbJsonBenchmark::toSeatBid)
+                .toList();
+        bidResponse = BidResponse.builder().id(bidRequest.getId()).cur("USD").seatbid(seatBids).build();
+    }
+
+    @Benchmark
+    public BidRequest decodeBidRequest() {
+        return mapper.decodeValue(bidRequestBytes, BidRequest.class);
+    }
+
+    @Benchmark
+    public byte[] encodeBidResponse() {
+        return mapper.encodeToBytes(bidResponse);
+    }
+
+    private static SeatBid toSeatBid(BidderResponse bidderResponse) {
+        final List<Bid> bids = bidderResponse.getSeatBid().getBids().stream()
+                .map(BidderBid::getBid)
+                .toList();
+        return SeatBid.builder().seat(bidderResponse.getBidder()).bid(bids).build();
+    }
+}
@@ -0,0 +1,77 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.benchmark.AuctionFixtures;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures merging of incoming request and its imps with already parsed stored data,
+ * the way {@code StoredRequestProcessor} does it for requests referencing stored request and stored imps.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StoredRequestMergeBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int impCount;
+
+    private JsonMerger jsonMerger;
+
+    private BidRequest incomingBidRequest;
+
+    private JsonNode storedRequest;
+
+    private List<Imp> incomingImps;
+
+    private JsonNode storedImp;
+
+    @Setup
+    public void setUp() {
+        final JacksonMapper mapper = AuctionFixtures.MAPPER;
+        jsonMerger = new JsonMerger(mapper);
+
+        final BidRequest bidRequest = AuctionFixtures.bidRequest(impCount, AuctionFixtures.BIDDERS);
+
+        // incoming request carries only imp ids and overrides a few top-level fields,
+        // everything else comes from stored data
+        incomingImps = bidRequest.getImp().stream()
+                .map(imp -> Imp.builder().id(imp.getId()).build())
+                .toList();
+        incomingBidRequest = BidRequest.builder().id("incoming-id").tmax(500L).imp(incomingImps).build();
+
+        storedRequest = mapper.mapper().valueToTree(bidRequest.toBuilder().imp(null).build());
+        storedImp = mapper.mapper().valueToTree(bidRequest.getImp().getFirst().toBuilder().id(null).build());
+    }
+
+    @Benchmark
+    public BidRequest mergeStoredRequest() {
+        return jsonMerger.merge(incomingBidRequest, storedRequest, "stored-request", BidRequest.class);
+    }
+
+    @Benchmark
+    public void mergeStoredImps(Blackhole blackhole) {
+        for (Imp imp : incomingImps) {
+            blackhole.consume(jsonMerger.merge(imp, storedImp, "stored-imp", Imp.class));
+        }
+    }
+}
@@ -10,7 +10,10 @@ import fiftyone.pipeline.engines.data.AspectPropertyValue;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.device.DeviceDetectionCache;
+import org.prebid.server.device.DeviceDetectionKey;
 import org.prebid.server.hooks.modules.fiftyone.devicedetection.model.boundary.CollectedEvidence;
+import org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.FiftyOneDeviceDetectionModule;
 import org.prebid.server.model.UpdateResult;
 import org.prebid.server.proto.openrtb.ext.request.ExtDevice;
 
@@ -18,22 +21,31 @@ import jakarta.annotation.Nonnull;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 public class DeviceEnricher {
 
     private static final String EXT_DEVICE_ID_KEY = "fiftyonedegrees_deviceId";
+    private static final String HEADER_EVIDENCE_PREFIX = "header.";
 
     private final Pipeline pipeline;
+    private final DeviceDetectionCache deviceDetectionCache;
 
     public DeviceEnricher(@Nonnull Pipeline pipeline) {
+        this(pipeline, DeviceDetectionCache.noCache());
+    }
+
+    public DeviceEnricher(@Nonnull Pipeline pipeline, @Nonnull DeviceDetectionCache deviceDetectionCache) {
         this.pipeline = Objects.requireNonNull(pipeline);
+        this.deviceDetectionCache = Objects.requireNonNull(deviceDetectionCache);
     }
 
     public static boolean shouldSkipEnriching(Device device) {
@@ -41,19 +53,41 @@ public class DeviceEnricher {
     }
 
     public EnrichmentResult populateDeviceInfo(Device device, CollectedEvidence collectedEvidence) throws Exception {
+        final Map<String, String> evidence = collectedEvidence != null
+                ? pickRelevantFrom(collectedEvidence)
+                : Collections.emptyMap();
+
+        final Device detectedDevice;
+        try {
+            detectedDevice = deviceDetectionCache.get(
+                    FiftyOneDeviceDetectionModule.CODE,
+                    DeviceDetectionKey.fromHeaders(toHeaders(evidence)),
+                    () -> processEvidence(evidence));
+        } catch (DetectionException e) {
+            throw e.getCause();
+        }
+
+        if (detectedDevice == null) {
+            return null;
+        }
+        final Device properDevice = Optional.ofNullable(device).orElseGet(() -> Device.builder().build());
+        return patchDevice(properDevice, detectedDevice);
+    }
+
+    private Device processEvidence(Map<String, String> evidence) {
         try (FlowData data = pipeline.createFlowData()) {
-            data.addEvidence(pickRelevantFrom(collectedEvidence));
+            data.addEvidence(evidence);
             data.process();
             final DeviceData deviceData = data.get(DeviceData.class);
-            if (deviceData == null) {
-                return null;
-            }
-            final Device properDevice = Optional.ofNullable(device).orElseGet(() -> Device.builder().build());
-            return patchDevice(properDevice, deviceData);
+            return deviceData != null ? detectDevice(deviceData) : null;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DetectionException(e);
         }
     }
 
-    private Map<String, String> pickRelevantFrom(CollectedEvidence collectedEvidence) {
+    private static Map<String, String> pickRelevantFrom(CollectedEvidence collectedEvidence) {
         final Map<String, String> evidence = new HashMap<>();
 
         final String ua = collectedEvidence.deviceUA();
@@ -75,65 +109,102 @@ public class DeviceEnricher {
         return evidence;
     }
 
-    private EnrichmentResult patchDevice(Device device, DeviceData deviceData) {
+    private static Map<String, String> toHeaders(Map<String, String> evidence) {
+        final Map<String, String> headers = new HashMap<>();
+        evidence.forEach((key, value) -> headers.put(StringUtils.removeStart(key, HEADER_EVIDENCE_PREFIX), value));
+        return headers;
+    }
+
+    private Device detectDevice(DeviceData deviceData) {
+        final String deviceId = detectDeviceId(deviceData);
+        final ExtDevice ext = ExtDevice.empty();
+        if (deviceId != null) {
+            ext.addProperty(EXT_DEVICE_ID_KEY, new TextNode(deviceId));
+        }
+
+        return Device.builder()
+                .devicetype(detectDeviceType(deviceData))
+                .make(detectMake(deviceData))
+                .model(detectModel(deviceData))
+                .os(detectOs(deviceData))
+                .osv(detectOsv(deviceData))
+                .h(detectH(deviceData))
+                .w(detectW(deviceData))
+                .ppi(detectPpi(deviceData))
+                .pxratio(detectPixelRatio(deviceData))
+                .ext(ext)
+                .build();
+    }
+
+    private EnrichmentResult patchDevice(Device device, Device detectedDevice) {
         final List<String> updatedFields = new ArrayList<>();
         final Device.DeviceBuilder deviceBuilder = device.toBuilder();
 
-        final UpdateResult<Integer> resolvedDeviceType = resolveDeviceType(device, deviceData);
+        final UpdateResult<Integer> resolvedDeviceType = resolve(
+                device.getDevicetype(), detectedDevice.getDevicetype(), DeviceEnricher::isPositive);
         if (resolvedDeviceType.isUpdated()) {
             deviceBuilder.devicetype(resolvedDeviceType.getValue());
             updatedFields.add("devicetype");
         }
 
-        final UpdateResult<String> resolvedMake = resolveMake(device, deviceData);
+        final UpdateResult<String> resolvedMake = resolve(
+                device.getMake(), detectedDevice.getMake(), StringUtils::isNotBlank);
         if (resolvedMake.isUpdated()) {
             deviceBuilder.make(resolvedMake.getValue());
             updatedFields.add("make");
         }
 
-        final UpdateResult<String> resolvedModel = resolveModel(device, deviceData);
+        final UpdateResult<String> resolvedModel = resolve(
+                device.getModel(), detectedDevice.getModel(), StringUtils::isNotBlank);
         if (resolvedModel.isUpdated()) {
             deviceBuilder.model(resolvedModel.getValue());
             updatedFields.add("model");
         }
 
-        final UpdateResult<String> resolvedOs = resolveOs(device, deviceData);
+        final UpdateResult<String> resolvedOs = resolve(
+                device.getOs(), detectedDevice.getOs(), StringUtils::isNotBlank);
         if (resolvedOs.isUpdated()) {
             deviceBuilder.os(resolvedOs.getValue());
             updatedFields.add("os");
         }
 
-        final UpdateResult<String> resolvedOsv = resolveOsv(device, deviceData);
+        final UpdateResult<String> resolvedOsv = resolve(
+                device.getOsv(), detectedDevice.getOsv(), StringUtils::isNotBlank);
         if (resolvedOsv.isUpdated()) {
             deviceBuilder.osv(resolvedOsv.getValue());
             updatedFields.add("osv");
         }
 
-        final UpdateResult<Integer> resolvedH = resolveH(device, deviceData);
+        final UpdateResult<Integer> resolvedH = resolve(
+                device.getH(), detectedDevice.getH(), DeviceEnricher::isPositive);
         if (resolvedH.isUpdated()) {
             deviceBuilder.h(resolvedH.getValue());
             updatedFields.add("h");
         }
 
-        final UpdateResult<Integer> resolvedW = resolveW(device, deviceData);
+        final UpdateResult<Integer> resolvedW = resolve(
+                device.getW(), detectedDevice.getW(), DeviceEnricher::isPositive);
         if (resolvedW.isUpdated()) {
             deviceBuilder.w(resolvedW.getValue());
             updatedFields.add("w");
         }
 
-        final UpdateResult<Integer> resolvedPpi = resolvePpi(device, deviceData);
+        final UpdateResult<Integer> resolvedPpi = resolve(
+                device.getPpi(), detectedDevice.getPpi(), DeviceEnricher::isPositive);
         if (resolvedPpi.isUpdated()) {
             deviceBuilder.ppi(resolvedPpi.getValue());
             updatedFields.add("ppi");
         }
 
-        final UpdateResult<BigDecimal> resolvedPixelRatio = resolvePixelRatio(device, deviceData);
+        final UpdateResult<BigDecimal> resolvedPixelRatio = resolve(
+                device.getPxratio(), detectedDevice.getPxratio(), pixelRatio -> pixelRatio.intValue() > 0);
         if (resolvedPixelRatio.isUpdated()) {
             deviceBuilder.pxratio(resolvedPixelRatio.getValue());
             updatedFields.add("pxratio");
         }
 
-        final UpdateResult<String> resolvedDeviceId = resolveDeviceId(device, deviceData);
+        final UpdateResult<String> resolvedDeviceId = resolve(
+                getDeviceId(device), getDeviceId(detectedDevice), StringUtils::isNotBlank);
         if (resolvedDeviceId.isUpdated()) {
             setDeviceId(deviceBuilder, device, resolvedDeviceId.getValue());
             updatedFields.add("ext." + EXT_DEVICE_ID_KEY);
@@ -149,139 +220,82 @@ public class DeviceEnricher {
                 .build();
     }
 
-    private UpdateResult<Integer> resolveDeviceType(Device device, DeviceData deviceData) {
-        final Integer currentDeviceType = device.getDevicetype();
-        if (isPositive(currentDeviceType)) {
-            return UpdateResult.unaltered(currentDeviceType);
+    /**
+     * Detected values are already validated, so the current value is replaced by any detected one.
+     */
+    private static <T> UpdateResult<T> resolve(T currentValue, T detectedValue, Predicate<T> isPresent) {
+        if (currentValue != null && isPresent.test(currentValue)) {
+            return UpdateResult.unaltered(currentValue);
         }
 
+        return detectedValue != null
+                ? UpdateResult.updated(detectedValue)
+                : UpdateResult.unaltered(currentValue);
+    }
+
+    private Integer detectDeviceType(DeviceData deviceData) {
         final String rawDeviceType = getSafe(deviceData, DeviceData::getDeviceType);
         if (rawDeviceType == null) {
-            return UpdateResult.unaltered(currentDeviceType);
+            return null;
         }
 
         final OrtbDeviceType properDeviceType = OrtbDeviceType.resolveFrom(rawDeviceType);
-        return properDeviceType != OrtbDeviceType.UNKNOWN
-                ? UpdateResult.updated(properDeviceType.ordinal())
-                : UpdateResult.unaltered(currentDeviceType);
+        return properDeviceType != OrtbDeviceType.UNKNOWN ? properDeviceType.ordinal() : null;
     }
 
-    private UpdateResult<String> resolveMake(Device device, DeviceData deviceData) {
-        final String currentMake = device.getMake();
-        if (StringUtils.isNotBlank(currentMake)) {
-            return UpdateResult.unaltered(currentMake);
-        }
-
+    private String detectMake(DeviceData deviceData) {
         final String make = getSafe(deviceData, DeviceData::getHardwareVendor);
-        return StringUtils.isNotBlank(make)
-                ? UpdateResult.updated(make)
-                : UpdateResult.unaltered(currentMake);
+        return StringUtils.isNotBlank(make) ? make : null;
     }
 
-    private UpdateResult<String> resolveModel(Device device, DeviceData deviceData) {
-        final String currentModel = device.getModel();
-        if (StringUtils.isNotBlank(currentModel)) {
-            return UpdateResult.unaltered(currentModel);
-        }
-
+    private String detectModel(DeviceData deviceData) {
         final String model = getSafe(deviceData, DeviceData::getHardwareModel);
         if (StringUtils.isNotBlank(model)) {
-            return UpdateResult.updated(model);
+            return model;
         }
 
         final List<String> names = getSafe(deviceData, DeviceData::getHardwareName);
-        return CollectionUtils.isNotEmpty(names)
-                ? UpdateResult.updated(String.join(",", names))
-                : UpdateResult.unaltered(currentModel);
+        return CollectionUtils.isNotEmpty(names) ? String.join(",", names) : null;
     }
 
-    private UpdateResult<String> resolveOs(Device device, DeviceData deviceData) {
-        final String currentOs = device.getOs();
-        if (StringUtils.isNotBlank(currentOs)) {
-            return UpdateResult.unaltered(currentOs);
-        }
-
+    private String detectOs(DeviceData deviceData) {
         final String os = getSafe(deviceData, DeviceData::getPlatformName);
-        return StringUtils.isNotBlank(os)
-                ? UpdateResult.updated(os)
-                : UpdateResult.unaltered(currentOs);
+        return StringUtils.isNotBlank(os) ? os : null;
     }
 
-    private UpdateResult<String> resolveOsv(Device device, DeviceData deviceData) {
-        final String currentOsv = device.getOsv();
-        if (StringUtils.isNotBlank(currentOsv)) {
-            return UpdateResult.unaltered(currentOsv);
-        }
-
+    private String detectOsv(DeviceData deviceData) {
         final String osv = getSafe(deviceData, DeviceData::getPlatformVersion);
-        return StringUtils.isNotBlank(osv)
-                ? UpdateResult.updated(osv)
-                : UpdateResult.unaltered(currentOsv);
+        return StringUtils.isNotBlank(osv) ? osv : null;
     }
 
-    private UpdateResult<Integer> resolveH(Device device, DeviceData deviceData) {
-        final Integer currentH = device.getH();
-        if (isPositive(currentH)) {
-            return UpdateResult.unaltered(currentH);
-        }
-
+    private Integer detectH(DeviceData deviceData) {
         final Integer h = getSafe(deviceData, DeviceData::getScreenPixelsHeight);
-        return isPositive(h)
-                ? UpdateResult.updated(h)
-                : UpdateResult.unaltered(currentH);
+        return isPositive(h) ? h : null;
     }
 
-    private UpdateResult<Integer> resolveW(Device device, DeviceData deviceData) {
-        final Integer currentW = device.getW();
-        if (isPositive(currentW)) {
-            return UpdateResult.unaltered(currentW);
-        }
-
+    private Integer detectW(DeviceData deviceData) {
         final Integer w = getSafe(deviceData, DeviceData::getScreenPixelsWidth);
-        return isPositive(w)
-                ? UpdateResult.updated(w)
-                : UpdateResult.unaltered(currentW);
+        return isPositive(w) ? w : null;
     }
 
-    private UpdateResult<Integer> resolvePpi(Device device, DeviceData deviceData) {
-        final Integer currentPpi = device.getPpi();
-        if (isPositive(currentPpi)) {
-            return UpdateResult.unaltered(currentPpi);
-        }
-
+    private Integer detectPpi(DeviceData deviceData) {
         final Integer pixelsHeight = getSafe(deviceData, DeviceData::getScreenPixelsHeight);
         if (pixelsHeight == null) {
-            return UpdateResult.unaltered(currentPpi);
+            return null;
         }
 
         final Double inchesHeight = getSafe(deviceData, DeviceData::getScreenInchesHeight);
-        return isPositive(inchesHeight)
-                ? UpdateResult.updated((int) Math.round(pixelsHeight / inchesHeight))
-                : UpdateResult.unaltered(currentPpi);
+        return isPositive(inchesHeight) ? (int) Math.round(pixelsHeight / inchesHeight) : null;
     }
 
-    private UpdateResult<BigDecimal> resolvePixelRatio(Device device, DeviceData deviceData) {
-        final BigDecimal currentPixelRatio = device.getPxratio();
-        if (currentPixelRatio != null && currentPixelRatio.intValue() > 0) {
-            return UpdateResult.unaltered(currentPixelRatio);
-        }
-
+    private BigDecimal detectPixelRatio(DeviceData deviceData) {
         final Double rawRatio = getSafe(deviceData, DeviceData::getPixelRatio);
-        return isPositive(rawRatio)
-                ? UpdateResult.updated(BigDecimal.valueOf(rawRatio))
-                : UpdateResult.unaltered(currentPixelRatio);
+        return isPositive(rawRatio) ? BigDecimal.valueOf(rawRatio) : null;
     }
 
-    private UpdateResult<String> resolveDeviceId(Device device, DeviceData deviceData) {
-        final String currentDeviceId = getDeviceId(device);
-        if (StringUtils.isNotBlank(currentDeviceId)) {
-            return UpdateResult.unaltered(currentDeviceId);
-        }
-
+    private String detectDeviceId(DeviceData deviceData) {
         final String deviceID = getSafe(deviceData, DeviceData::getDeviceId);
-        return StringUtils.isNotBlank(deviceID)
-                ? UpdateResult.updated(deviceID)
-                : UpdateResult.unaltered(currentDeviceId);
+        return StringUtils.isNotBlank(deviceID) ? deviceID : null;
     }
 
     private static boolean isPositive(Integer value) {
@@ -324,4 +338,16 @@ public class DeviceEnricher {
         }
         return null;
     }
+
+    private static class DetectionException extends RuntimeException {
+
+        DetectionException(Exception cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized Exception getCause() {
+            return (Exception) super.getCause();
+        }
+    }
 }
@@ -13,7 +13,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.device.InMemoryDeviceDetectionCache;
 import org.prebid.server.hooks.modules.fiftyone.devicedetection.model.boundary.CollectedEvidence;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.openrtb.ext.request.ExtDevice;
 
 import java.math.BigDecimal;
@@ -42,6 +45,9 @@ public class DeviceEnricherTest {
     @Mock(strictness = LENIENT)
     private DeviceData deviceData;
 
+    @Mock
+    private Metrics metrics;
+
     private DeviceEnricher target;
 
     @BeforeEach
@@ -529,6 +535,30 @@ public class DeviceEnricherTest {
                 .isEqualTo("fake-device-id");
     }
 
+    @Test
+    public void populateDeviceInfoShouldProcessEvidenceOnceWhenDetectedDeviceIsCached() throws Exception {
+        // given
+        target = new DeviceEnricher(pipeline, new InMemoryDeviceDetectionCache(10, 60, metrics));
+        buildCompleteDeviceData();
+        final CollectedEvidence collectedEvidence = CollectedEvidence.builder()
+                .deviceUA("fake-UserAgent")
+                .secureHeaders(Map.of("header.Sec-CH-UA-Model", "communicator"))
+                .build();
+
+        // when
+        target.populateDeviceInfo(Device.builder().build(), collectedEvidence);
+        final EnrichmentResult result = target.populateDeviceInfo(
+                Device.builder().make("Enterprise").build(),
+                collectedEvidence);
+
+        // then
+        assertThat(result.enrichedDevice().getMake()).isEqualTo("Enterprise");
+        assertThat(result.enrichedDevice().getModel()).isEqualTo("communicator");
+        assertThat(result.enrichedFields()).doesNotContain("make");
+        verify(pipeline, times(1)).createFlowData();
+        verify(metrics).updateDeviceDetectionCacheMetric("fiftyone-devicedetection", MetricName.hit);
+    }
+
     private static Device buildCompleteDevice() {
         final Device device = Device.builder()
                 .devicetype(1)
@@ -9,6 +9,7 @@ import org.prebid.server.geolocation.CountryCodeMapper;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.FilterService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInferenceDataService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.ModelCache;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxInferenceExecutor;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunner;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunnerFactory;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunnerWithThresholds;
@@ -23,7 +24,14 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @ConditionalOnProperty(prefix = "hooks." + GreenbidsRealTimeDataModule.CODE, name = "enabled", havingValue = "true")
 @Configuration
@@ -58,8 +66,40 @@ public class GreenbidsRealTimeDataConfiguration {
     }
 
     @Bean
-    FilterService filterService() {
-        return new FilterService();
+    OnnxInferenceExecutor onnxInferenceExecutor(GreenbidsRealTimeDataProperties properties) {
+        // bounded queue makes the pool reject batches under overload instead of piling them up
+        final int inferenceThreads = properties.getInferenceThreads();
+        final ExecutorService inferencePool = new ThreadPoolExecutor(
+                inferenceThreads,
+                inferenceThreads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getInferenceQueueCapacity()),
+                daemonThreadFactory("greenbids-inference"));
+        final ScheduledExecutorService flushScheduler = Executors.newSingleThreadScheduledExecutor(
+                daemonThreadFactory("greenbids-inference-flush"));
+
+        return new OnnxInferenceExecutor(
+                inferencePool,
+                flushScheduler,
+                properties.getInferenceMaxBatchSize(),
+                properties.getInferenceMaxBatchDelayMicros(),
+                properties.getInferenceResultCacheSize(),
+                properties.getInferenceResultCacheTtlMinutes());
+    }
+
+    private static ThreadFactory daemonThreadFactory(String name) {
+        final AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @Bean
+    FilterService filterService(OnnxInferenceExecutor onnxInferenceExecutor) {
+        return new FilterService(onnxInferenceExecutor);
     }
 
     @Bean
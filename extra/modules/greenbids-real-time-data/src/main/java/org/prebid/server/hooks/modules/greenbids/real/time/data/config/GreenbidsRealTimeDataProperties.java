@@ -24,4 +24,16 @@ public class GreenbidsRealTimeDataProperties {
     Long timeoutMs;
 
     Integer maxRedirects;
+
+    Integer inferenceThreads = 2;
+
+    Integer inferenceQueueCapacity = 1000;
+
+    Integer inferenceMaxBatchSize = 64;
+
+    Long inferenceMaxBatchDelayMicros = 500L;
+
+    Long inferenceResultCacheSize = 100_000L;
+
+    Long inferenceResultCacheTtlMinutes = 15L;
 }
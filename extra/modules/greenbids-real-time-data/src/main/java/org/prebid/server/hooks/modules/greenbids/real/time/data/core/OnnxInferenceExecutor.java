@@ -0,0 +1,285 @@
+package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
+
+import ai.onnxruntime.OnnxTensor;
+import ai.onnxruntime.OnnxValue;
+import ai.onnxruntime.OrtException;
+import ai.onnxruntime.OrtSession;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import lombok.Value;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.model.data.ThrottlingMessage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs model inference off the event loop.
+ * <p>
+ * Rows of concurrent auctions using the same model are collected into micro-batches, which are flushed either
+ * when they reach the max size or when the oldest request waited for max delay. Each batch is run on the inference
+ * executor with a single model call, and each auction gets its slice of the result on its own Vert.x context.
+ * <p>
+ * Probabilities are cached per model version and feature row, so the cache does not hold evicted models. Since
+ * the row contains hour bucket and minute quadrant, cached value is reused only within the same time bucket.
+ * <p>
+ * Inference executor is expected to have a bounded queue: if it rejects the batch, all its requests fail and
+ * the caller proceeds without inference.
+ */
+public class OnnxInferenceExecutor {
+
+    private static final String PROBABILITIES = "probabilities";
+
+    private final Executor inferenceExecutor;
+    private final ScheduledExecutorService flushScheduler;
+    private final int maxBatchSize;
+    private final long maxBatchDelayMicros;
+
+    private final Map<OnnxModelRunner, Batch> batches;
+    private final Cache<RowKey, float[]> resultCache;
+
+    public OnnxInferenceExecutor(Executor inferenceExecutor,
+                                 ScheduledExecutorService flushScheduler,
+                                 int maxBatchSize,
+                                 long maxBatchDelayMicros,
+                                 long resultCacheSize,
+                                 long resultCacheTtlMinutes) {
+
+        if (maxBatchSize < 1 || maxBatchDelayMicros < 0) {
+            throw new IllegalArgumentException("Max batch size should be positive and max delay non-negative");
+        }
+
+        this.inferenceExecutor = Objects.requireNonNull(inferenceExecutor);
+        this.flushScheduler = Objects.requireNonNull(flushScheduler);
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchDelayMicros = maxBatchDelayMicros;
+
+        // weak keys let batches go together with models evicted from the model cache
+        batches = Caffeine.newBuilder().weakKeys().<OnnxModelRunner, Batch>build().asMap();
+        resultCache = Caffeine.newBuilder()
+                .maximumSize(resultCacheSize)
+                .expireAfterWrite(resultCacheTtlMinutes, TimeUnit.MINUTES)
+                .build();
+    }
+
+    /**
+     * Returns model probabilities for each of the given messages, in the same order.
+     */
+    public Future<float[][]> infer(OnnxModelRunner onnxModelRunner, List<ThrottlingMessage> throttlingMessages) {
+        final int size = throttlingMessages.size();
+        final float[][] probabilities = new float[size][];
+        final List<RowKey> missingKeys = new ArrayList<>();
+        final List<Integer> missingIndexes = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            final RowKey key = RowKey.of(onnxModelRunner.getVersion(), toRow(throttlingMessages.get(i)));
+            final float[] cached = resultCache.getIfPresent(key);
+            if (cached != null) {
+                probabilities[i] = cached;
+            } else {
+                missingKeys.add(key);
+                missingIndexes.add(i);
+            }
+        }
+
+        if (missingKeys.isEmpty()) {
+            return Future.succeededFuture(probabilities);
+        }
+
+        final Request request = new Request(probabilities, missingKeys, missingIndexes, Vertx.currentContext());
+        enqueue(onnxModelRunner, request);
+        return request.promise.future();
+    }
+
+    private static List<String> toRow(ThrottlingMessage message) {
+        return Arrays.asList(
+                message.getBrowser(),
+                message.getBidder(),
+                message.getAdUnitCode(),
+                message.getCountry(),
+                message.getHostname(),
+                message.getDevice(),
+                message.getHourBucket(),
+                message.getMinuteQuadrant());
+    }
+
+    private void enqueue(OnnxModelRunner onnxModelRunner, Request request) {
+        final Batch batch = batches.computeIfAbsent(onnxModelRunner, ignored -> new Batch());
+
+        final List<Request> ready;
+        final boolean scheduleFlush;
+        synchronized (batch) {
+            batch.requests.add(request);
+            batch.rows += request.keys.size();
+
+            ready = batch.rows >= maxBatchSize || maxBatchDelayMicros == 0 ? batch.drain() : null;
+            scheduleFlush = ready == null && batch.requests.size() == 1;
+        }
+
+        if (ready != null) {
+            dispatch(onnxModelRunner, ready);
+        } else if (scheduleFlush) {
+            scheduleFlush(onnxModelRunner, batch);
+        }
+    }
+
+    private void scheduleFlush(OnnxModelRunner onnxModelRunner, Batch batch) {
+        try {
+            flushScheduler.schedule(() -> flush(onnxModelRunner, batch), maxBatchDelayMicros, TimeUnit.MICROSECONDS);
+        } catch (RejectedExecutionException e) {
+            flush(onnxModelRunner, batch);
+        }
+    }
+
+    private void flush(OnnxModelRunner onnxModelRunner, Batch batch) {
+        final List<Request> ready;
+        synchronized (batch) {
+            ready = batch.drain();
+        }
+
+        if (!ready.isEmpty()) {
+            dispatch(onnxModelRunner, ready);
+        }
+    }
+
+    private void dispatch(OnnxModelRunner onnxModelRunner, List<Request> requests) {
+        try {
+            inferenceExecutor.execute(() -> run(onnxModelRunner, requests));
+        } catch (RejectedExecutionException e) {
+            requests.forEach(request -> request.fail(new PreBidException("Inference rejected: " + e.getMessage())));
+        }
+    }
+
+    private void run(OnnxModelRunner onnxModelRunner, List<Request> requests) {
+        final float[][] probabilities;
+        try {
+            probabilities = runModel(onnxModelRunner, toInferenceRows(requests));
+        } catch (RuntimeException e) {
+            requests.forEach(request -> request.fail(e));
+            return;
+        }
+
+        int offset = 0;
+        for (Request request : requests) {
+            for (int i = 0; i < request.keys.size(); i++) {
+                final float[] rowProbabilities = probabilities[offset + i];
+                request.probabilities[request.indexes.get(i)] = rowProbabilities;
+                resultCache.put(request.keys.get(i), rowProbabilities);
+            }
+            offset += request.keys.size();
+            request.complete();
+        }
+    }
+
+    private static String[][] toInferenceRows(List<Request> requests) {
+        final List<String[]> rows = new ArrayList<>();
+        for (Request request : requests) {
+            for (RowKey key : request.keys) {
+                rows.add(key.getRow().toArray(String[]::new));
+            }
+        }
+        return rows.toArray(String[][]::new);
+    }
+
+    private static float[][] runModel(OnnxModelRunner onnxModelRunner, String[][] rows) {
+        try (OrtSession.Result results = onnxModelRunner.runModel(rows)) {
+            return extractProbabilities(results, rows.length);
+        } catch (OrtException e) {
+            throw new PreBidException("Exception during model inference: ", e);
+        }
+    }
+
+    private static float[][] extractProbabilities(OrtSession.Result results, int expectedSize) throws OrtException {
+        OnnxTensor probabilities = null;
+        for (Map.Entry<String, OnnxValue> onnxItem : results) {
+            validateOnnxTensor(onnxItem);
+            if (Objects.equals(onnxItem.getKey(), PROBABILITIES)) {
+                probabilities = (OnnxTensor) onnxItem.getValue();
+            }
+        }
+
+        if (probabilities == null) {
+            throw new PreBidException("Model returned no probabilities");
+        }
+        validateTensorSize(probabilities, expectedSize);
+        return (float[][]) probabilities.getValue();
+    }
+
+    private static void validateOnnxTensor(Map.Entry<String, OnnxValue> onnxItem) {
+        if (!(onnxItem.getValue() instanceof OnnxTensor)) {
+            throw new PreBidException("Expected OnnxTensor for 'probabilities', but found: "
+                    + onnxItem.getValue().getClass().getName());
+        }
+    }
+
+    private static void validateTensorSize(OnnxTensor tensor, int expectedSize) {
+        final long[] tensorShape = tensor.getInfo().getShape();
+        if (tensorShape.length == 0 || tensorShape[0] != expectedSize) {
+            throw new PreBidException("Mismatch between tensor size and throttlingMessages size");
+        }
+    }
+
+    @Value(staticConstructor = "of")
+    private static class RowKey {
+
+        long modelVersion;
+
+        List<String> row;
+    }
+
+    private static class Batch {
+
+        private List<Request> requests = new ArrayList<>();
+        private int rows;
+
+        private List<Request> drain() {
+            final List<Request> drained = requests;
+            requests = new ArrayList<>();
+            rows = 0;
+            return drained;
+        }
+    }
+
+    private static class Request {
+
+        private final float[][] probabilities;
+        private final List<RowKey> keys;
+        private final List<Integer> indexes;
+        private final Context context;
+        private final Promise<float[][]> promise = Promise.promise();
+
+        Request(float[][] probabilities, List<RowKey> keys, List<Integer> indexes, Context context) {
+            this.probabilities = probabilities;
+            this.keys = keys;
+            this.indexes = indexes;
+            this.context = context;
+        }
+
+        private void complete() {
+            onContext(() -> promise.tryComplete(probabilities));
+        }
+
+        private void fail(Throwable throwable) {
+            onContext(() -> promise.tryFail(throwable));
+        }
+
+        private void onContext(Runnable action) {
+            if (context != null) {
+                context.runOnContext(ignored -> action.run());
+            } else {
+                action.run();
+            }
+        }
+    }
+}
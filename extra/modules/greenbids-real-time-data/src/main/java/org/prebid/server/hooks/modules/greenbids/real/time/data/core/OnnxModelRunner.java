@@ -6,19 +6,35 @@ import ai.onnxruntime.OrtException;
 import ai.onnxruntime.OrtSession;
 
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class OnnxModelRunner {
 
     private static final OrtEnvironment ENVIRONMENT = OrtEnvironment.getEnvironment();
+    private static final AtomicLong VERSIONS = new AtomicLong();
 
     private final OrtSession session;
+    private final long version;
 
     public OnnxModelRunner(byte[] onnxModelBytes) throws OrtException {
         session = ENVIRONMENT.createSession(onnxModelBytes, new OrtSession.SessionOptions());
+        version = VERSIONS.incrementAndGet();
     }
 
+    /**
+     * Returns version unique for each loaded model, so that a reloaded model never shares it with the previous one.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Runs model on the given rows. Input tensor is released right after the run, while returned result
+     * should be closed by the caller.
+     */
     public OrtSession.Result runModel(String[][] throttlingInferenceRow) throws OrtException {
-        final OnnxTensor inputTensor = OnnxTensor.createTensor(ENVIRONMENT, throttlingInferenceRow);
-        return session.run(Collections.singletonMap("input", inputTensor));
+        try (OnnxTensor inputTensor = OnnxTensor.createTensor(ENVIRONMENT, throttlingInferenceRow)) {
+            return session.run(Collections.singletonMap("input", inputTensor));
+        }
     }
 }
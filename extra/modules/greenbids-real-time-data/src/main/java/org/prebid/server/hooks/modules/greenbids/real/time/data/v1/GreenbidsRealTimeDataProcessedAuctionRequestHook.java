@@ -125,19 +125,22 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHook implements Process
             OnnxModelRunner onnxModelRunner,
             Double threshold) {
 
-        final Map<String, Map<String, Boolean>> impsBiddersFilterMap;
+        final List<ThrottlingMessage> throttlingMessages;
         try {
-            final List<ThrottlingMessage> throttlingMessages = greenbidsInferenceDataService
-                    .extractThrottlingMessagesFromBidRequest(bidRequest);
-
-            impsBiddersFilterMap = filterService.filterBidders(
-                    onnxModelRunner,
-                    throttlingMessages,
-                    threshold);
+            throttlingMessages = greenbidsInferenceDataService.extractThrottlingMessagesFromBidRequest(bidRequest);
         } catch (PreBidException e) {
             return noActionInvocationResult();
         }
 
+        return filterService.filterBidders(onnxModelRunner, throttlingMessages, threshold)
+                .compose(impsBiddersFilterMap -> toInvocationResult(bidRequest, greenbidsConfig, impsBiddersFilterMap));
+    }
+
+    private Future<InvocationResult<AuctionRequestPayload>> toInvocationResult(
+            BidRequest bidRequest,
+            GreenbidsConfig greenbidsConfig,
+            Map<String, Map<String, Boolean>> impsBiddersFilterMap) {
+
         final GreenbidsInvocationResult invocationResult = GreenbidsInvocationResultCreator.create(
                 greenbidsConfig,
                 bidRequest,
@@ -5,6 +5,7 @@ import ai.onnxruntime.OnnxValue;
 import ai.onnxruntime.OrtException;
 import ai.onnxruntime.OrtSession;
 import ai.onnxruntime.TensorInfo;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -20,9 +21,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
@@ -44,7 +45,15 @@ public class FilterServiceTest {
     @Mock
     private OnnxValue onnxValue;
 
-    private final FilterService target = new FilterService();
+    @Mock
+    private ScheduledExecutorService flushScheduler;
+
+    private FilterService target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new FilterService(new OnnxInferenceExecutor(Runnable::run, flushScheduler, 1, 0L, 100L, 15L));
+    }
 
     @Test
     public void filterBiddersShouldReturnFilteredBiddersWhenValidThrottlingMessagesProvided()
@@ -56,7 +65,7 @@ public class FilterServiceTest {
 
         // when
         final Map<String, Map<String, Boolean>> impsBiddersFilterMap = target.filterBidders(
-                onnxModelRunner, throttlingMessages, threshold);
+                onnxModelRunner, throttlingMessages, threshold).result();
 
         // then
         assertThat(impsBiddersFilterMap).isNotNull();
@@ -72,10 +81,10 @@ public class FilterServiceTest {
         final Double threshold = 0.5;
 
         when(onnxModelRunnerMock.runModel(any(String[][].class))).thenReturn(results);
-        when(results.spliterator()).thenReturn(Arrays.asList(createInvalidOnnxItem()).spliterator());
+        when(results.iterator()).thenReturn(Arrays.asList(createInvalidOnnxItem()).iterator());
 
         // when & then
-        assertThatThrownBy(() -> target.filterBidders(onnxModelRunnerMock, throttlingMessages, threshold))
+        assertThat(target.filterBidders(onnxModelRunnerMock, throttlingMessages, threshold).cause())
                 .isInstanceOf(PreBidException.class)
                 .hasMessageContaining("Expected OnnxTensor for 'probabilities', but found");
     }
@@ -90,7 +99,7 @@ public class FilterServiceTest {
                 .thenThrow(new OrtException("Exception during runModel"));
 
         // when & then
-        assertThatThrownBy(() -> target.filterBidders(onnxModelRunnerMock, throttlingMessages, threshold))
+        assertThat(target.filterBidders(onnxModelRunnerMock, throttlingMessages, threshold).cause())
                 .isInstanceOf(PreBidException.class)
                 .hasMessageContaining("Exception during model inference");
     }
@@ -102,7 +111,7 @@ public class FilterServiceTest {
         final Double threshold = 0.5;
 
         // when & then
-        assertThatThrownBy(() -> target.filterBidders(onnxModelRunnerMock, throttlingMessages, threshold))
+        assertThat(target.filterBidders(onnxModelRunnerMock, throttlingMessages, threshold).cause())
                 .isInstanceOf(PreBidException.class)
                 .hasMessageContaining("throttlingMessages cannot be null or empty");
     }
@@ -114,12 +123,12 @@ public class FilterServiceTest {
         final Double threshold = 0.5;
 
         when(onnxModelRunnerMock.runModel(any(String[][].class))).thenReturn(results);
-        when(results.spliterator()).thenReturn(Arrays.asList(createOnnxItem()).spliterator());
+        when(results.iterator()).thenReturn(Arrays.asList(createOnnxItem()).iterator());
         when(onnxTensor.getInfo()).thenReturn(tensorInfo);
         when(tensorInfo.getShape()).thenReturn(new long[]{0});
 
         // when & then
-        assertThatThrownBy(() -> target.filterBidders(onnxModelRunnerMock, throttlingMessages, threshold))
+        assertThat(target.filterBidders(onnxModelRunnerMock, throttlingMessages, threshold).cause())
                 .isInstanceOf(PreBidException.class)
                 .hasMessageContaining("Mismatch between tensor size and throttlingMessages size");
     }
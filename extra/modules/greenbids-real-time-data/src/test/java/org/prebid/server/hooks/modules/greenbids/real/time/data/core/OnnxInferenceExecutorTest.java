@@ -0,0 +1,162 @@
+package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
+
+import ai.onnxruntime.OrtException;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.model.data.ThrottlingMessage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class OnnxInferenceExecutorTest {
+
+    @Mock
+    private ScheduledExecutorService flushScheduler;
+
+    private OnnxModelRunner onnxModelRunner;
+
+    @BeforeEach
+    public void setUp() throws OrtException, IOException {
+        onnxModelRunner = spy(new OnnxModelRunner(Files.readAllBytes(Paths.get(
+                "src/test/resources/models_pbuid=test-pbuid.onnx"))));
+    }
+
+    @Test
+    public void inferShouldRunRowsOfConcurrentRequestsInSingleBatch() throws OrtException {
+        // given
+        final OnnxInferenceExecutor target = givenExecutor(3);
+
+        // when
+        final Future<float[][]> first = target.infer(onnxModelRunner, List.of(givenMessage("rubicon")));
+        final boolean firstCompletedBeforeBatchIsFull = first.isComplete();
+        final Future<float[][]> second = target.infer(
+                onnxModelRunner, List.of(givenMessage("appnexus"), givenMessage("pubmatic")));
+
+        // then
+        assertThat(firstCompletedBeforeBatchIsFull).isFalse();
+        assertThat(first.result()).hasDimensions(1, 2);
+        assertThat(second.result()).hasDimensions(2, 2);
+        verify(onnxModelRunner, times(1)).runModel(any());
+    }
+
+    @Test
+    public void inferShouldFlushNotFullBatchOnDeadline() throws OrtException {
+        // given
+        final OnnxInferenceExecutor target = givenExecutor(10);
+
+        // when
+        final Future<float[][]> result = target.infer(onnxModelRunner, List.of(givenMessage("rubicon")));
+
+        // then
+        final ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(flushScheduler).schedule(flushCaptor.capture(), eq(500L), eq(TimeUnit.MICROSECONDS));
+        assertThat(result.isComplete()).isFalse();
+
+        flushCaptor.getValue().run();
+        assertThat(result.result()).hasDimensions(1, 2);
+        verify(onnxModelRunner).runModel(any());
+    }
+
+    @Test
+    public void inferShouldReuseCachedProbabilitiesOfTheSameFeatures() throws OrtException {
+        // given
+        final OnnxInferenceExecutor target = givenExecutor(1);
+        final float[][] firstResult = target.infer(onnxModelRunner, List.of(givenMessage("rubicon"))).result();
+
+        // when
+        final Future<float[][]> result = target.infer(onnxModelRunner, List.of(givenMessage("rubicon")));
+
+        // then
+        assertThat(result.result()).isDeepEqualTo(firstResult);
+        verify(onnxModelRunner, times(1)).runModel(any());
+    }
+
+    @Test
+    public void inferShouldFailAllRequestsOfBatchIfInferenceFails() throws OrtException {
+        // given
+        final OnnxInferenceExecutor target = givenExecutor(1);
+        willThrow(new OrtException("failed")).given(onnxModelRunner).runModel(any());
+
+        // when
+        final Future<float[][]> result = target.infer(onnxModelRunner, List.of(givenMessage("rubicon")));
+
+        // then
+        assertThat(result.cause())
+                .isInstanceOf(PreBidException.class)
+                .hasMessageContaining("Exception during model inference");
+    }
+
+    @Test
+    public void inferShouldNotReuseCachedProbabilitiesOfReloadedModel() throws OrtException, IOException {
+        // given
+        final OnnxInferenceExecutor target = givenExecutor(1);
+        final OnnxModelRunner reloadedModelRunner = spy(new OnnxModelRunner(Files.readAllBytes(Paths.get(
+                "src/test/resources/models_pbuid=test-pbuid.onnx"))));
+        target.infer(onnxModelRunner, List.of(givenMessage("rubicon")));
+
+        // when
+        final Future<float[][]> result = target.infer(reloadedModelRunner, List.of(givenMessage("rubicon")));
+
+        // then
+        assertThat(result.result()).hasDimensions(1, 2);
+        verify(onnxModelRunner).runModel(any());
+        verify(reloadedModelRunner).runModel(any());
+    }
+
+    @Test
+    public void inferShouldFailAllRequestsOfBatchIfInferenceExecutorRejectsIt() throws OrtException {
+        // given
+        final OnnxInferenceExecutor target = new OnnxInferenceExecutor(
+                runnable -> {
+                    throw new RejectedExecutionException("Queue is full");
+                },
+                flushScheduler, 1, 500L, 100L, 15L);
+
+        // when
+        final Future<float[][]> result = target.infer(onnxModelRunner, List.of(givenMessage("rubicon")));
+
+        // then
+        assertThat(result.cause())
+                .isInstanceOf(PreBidException.class)
+                .hasMessage("Inference rejected: Queue is full");
+        verify(onnxModelRunner, never()).runModel(any());
+    }
+
+    private OnnxInferenceExecutor givenExecutor(int maxBatchSize) {
+        return new OnnxInferenceExecutor(Runnable::run, flushScheduler, maxBatchSize, 500L, 100L, 15L);
+    }
+
+    private static ThrottlingMessage givenMessage(String bidder) {
+        return ThrottlingMessage.builder()
+                .browser("Chrome 59")
+                .bidder(bidder)
+                .adUnitCode("adunitcodevalue")
+                .country("US")
+                .hostname("www.leparisien.fr")
+                .device("PC")
+                .hourBucket("10")
+                .minuteQuadrant("1")
+                .build();
+    }
+}
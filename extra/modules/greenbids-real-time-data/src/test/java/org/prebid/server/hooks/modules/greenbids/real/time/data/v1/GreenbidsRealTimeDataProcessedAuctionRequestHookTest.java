@@ -83,8 +83,8 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
         final BidRequest bidRequest = givenBidRequest(identity(), List.of(imp));
         final AuctionInvocationContext invocationContext = givenAuctionInvocationContext(explorationRate);
 
-        given(filterService.filterBidders(any(), any(), any())).willReturn(Map.of("adunitcodevalue",
-                Map.of("rubicon", false, "appnexus", false, "pubmatic", false)));
+        given(filterService.filterBidders(any(), any(), any())).willReturn(Future.succeededFuture(Map.of(
+                "adunitcodevalue", Map.of("rubicon", false, "appnexus", false, "pubmatic", false))));
 
         // when
         final Future<InvocationResult<AuctionRequestPayload>> future = target
@@ -126,8 +126,8 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
         final BidRequest bidRequest = givenBidRequest(identity(), List.of(imp));
         final AuctionInvocationContext invocationContext = givenAuctionInvocationContext(explorationRate);
 
-        given(filterService.filterBidders(any(), any(), any())).willReturn(Map.of("adunitcodevalue",
-                Map.of("rubicon", true, "appnexus", false, "pubmatic", false)));
+        given(filterService.filterBidders(any(), any(), any())).willReturn(Future.succeededFuture(Map.of(
+                "adunitcodevalue", Map.of("rubicon", true, "appnexus", false, "pubmatic", false))));
 
         // when
         final Future<InvocationResult<AuctionRequestPayload>> future = target
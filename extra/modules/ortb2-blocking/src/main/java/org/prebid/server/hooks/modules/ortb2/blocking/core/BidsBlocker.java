@@ -1,6 +1,5 @@
 package org.prebid.server.hooks.modules.ortb2.blocking.core;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
@@ -23,13 +22,18 @@ import org.prebid.server.proto.openrtb.ext.response.BidType;
 import org.prebid.server.spring.config.bidder.model.MediaType;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -44,18 +48,24 @@ public class BidsBlocker {
     private static final String ATTR_FIELD = "attr";
 
     private static final Integer DEFAULT_BLOCKED_CATTAX_COMPLEMENT = 1;
+    private static final int MAX_BIT_SET_ATTRIBUTE = 1024;
 
     private final List<BidderBid> bids;
     private final String bidder;
     private final OrtbVersion ortbVersion;
-    private final ObjectNode accountConfig;
+    private final CompiledAccountConfig accountConfig;
     private final BlockedAttributes blockedAttributes;
     private final boolean debugEnabled;
 
+    private final Predicate<String> blockedBadv;
+    private final Predicate<String> blockedBcat;
+    private final Predicate<String> blockedBapp;
+    private final Map<MediaType, Map<String, Predicate<Integer>>> blockedBattr;
+
     private BidsBlocker(List<BidderBid> bids,
                         String bidder,
                         OrtbVersion ortbVersion,
-                        ObjectNode accountConfig,
+                        CompiledAccountConfig accountConfig,
                         BlockedAttributes blockedAttributes,
                         boolean debugEnabled) {
 
@@ -65,12 +75,18 @@ public class BidsBlocker {
         this.accountConfig = accountConfig;
         this.blockedAttributes = blockedAttributes;
         this.debugEnabled = debugEnabled;
+
+        // blocked values are turned into hash lookups once per response instead of list scans per bid
+        blockedBadv = toLookup(blockedAttributeValues(BlockedAttributes::getBadv));
+        blockedBcat = toLookup(blockedAttributeValues(BlockedAttributes::getBcat));
+        blockedBapp = toLookup(blockedAttributeValues(BlockedAttributes::getBapp));
+        blockedBattr = toBattrLookups(blockedAttributeValues(BlockedAttributes::getBattr));
     }
 
     public static BidsBlocker create(List<BidderBid> bids,
                                      String bidder,
                                      OrtbVersion ortbVersion,
-                                     ObjectNode accountConfig,
+                                     CompiledAccountConfig accountConfig,
                                      BlockedAttributes blockedAttributes,
                                      boolean debugEnabled) {
 
@@ -78,7 +94,7 @@ public class BidsBlocker {
                 Objects.requireNonNull(bids),
                 Objects.requireNonNull(bidder),
                 Objects.requireNonNull(ortbVersion),
-                accountConfig,
+                Objects.requireNonNull(accountConfig),
                 blockedAttributes,
                 debugEnabled);
     }
@@ -138,14 +154,14 @@ public class BidsBlocker {
         return checkAttribute(
                 bidderBid.getBid().getAdomain(),
                 blockingConfig.getBadv(),
-                blockedAttributeValues(BlockedAttributes::getBadv));
+                blockedBadv);
     }
 
     private AttributeCheckResult<String> checkBcat(BidderBid bidderBid, ResponseBlockingConfig blockingConfig) {
         return checkAttribute(
                 bidderBid.getBid().getCat(),
                 blockingConfig.getBcat(),
-                blockedAttributeValues(BlockedAttributes::getBcat));
+                blockedBcat);
     }
 
     private AttributeCheckResult<Integer> checkCattax(BidderBid bidderBid, ResponseBlockingConfig blockingConfig) {
@@ -166,17 +182,17 @@ public class BidsBlocker {
         return checkAttribute(
                 bidderBid.getBid().getBundle(),
                 blockingConfig.getBapp(),
-                blockedAttributeValues(BlockedAttributes::getBapp));
+                blockedBapp);
     }
 
     private AttributeCheckResult<Integer> checkBattr(BidderBid bidderBid, ResponseBlockingConfig blockingConfig) {
         final MediaType mediaType = mapBidTypeToMediaType(bidderBid.getType());
+        final Map<String, Predicate<Integer>> impBattr = mediaType != null ? blockedBattr.get(mediaType) : null;
+
         return checkAttribute(
                 bidderBid.getBid().getAttr(),
                 blockingConfig.getBattr().get(mediaType),
-                blockedAttributeValues(
-                        blockedAttributes -> extractBattrForMediaType(blockedAttributes, mediaType),
-                        bidderBid.getBid().getImpid()));
+                impBattr != null ? impBattr.get(bidderBid.getBid().getImpid()) : null);
     }
 
     private static MediaType mapBidTypeToMediaType(BidType bidType) {
@@ -189,16 +205,9 @@ public class BidsBlocker {
         };
     }
 
-    private static Map<String, List<Integer>> extractBattrForMediaType(BlockedAttributes blockedAttributes,
-                                                                       MediaType mediaType) {
-
-        final Map<MediaType, Map<String, List<Integer>>> battr = blockedAttributes.getBattr();
-        return battr != null ? battr.get(mediaType) : null;
-    }
-
     private <T> AttributeCheckResult<T> checkAttribute(List<T> attribute,
                                                        BidAttributeBlockingConfig<T> blockingConfig,
-                                                       List<T> blockedAttributeValues) {
+                                                       Predicate<T> blockedAttributeValues) {
 
         if (blockingConfig == null || !blockingConfig.isEnforceBlocks()) {
             return AttributeCheckResult.succeeded();
@@ -210,9 +219,9 @@ public class BidsBlocker {
                     : AttributeCheckResult.succeeded();
         }
 
-        if (CollectionUtils.isNotEmpty(blockedAttributeValues)) {
+        if (blockedAttributeValues != null) {
             final List<T> blockedBidValues = attribute.stream()
-                    .filter(blockedAttributeValues::contains)
+                    .filter(blockedAttributeValues)
                     .filter(blockedBidValue -> !blockingConfig.getAllowedValues().contains(blockedBidValue))
                     .toList();
 
@@ -226,17 +235,17 @@ public class BidsBlocker {
 
     private AttributeCheckResult<String> checkAttribute(String attribute,
                                                         BidAttributeBlockingConfig<String> blockingConfig,
-                                                        List<String> blockedAttributeValues) {
+                                                        Predicate<String> blockedAttributeValues) {
 
         if (blockingConfig == null
                 || !blockingConfig.isEnforceBlocks()
                 || StringUtils.isEmpty(attribute)
-                || CollectionUtils.isEmpty(blockedAttributeValues)) {
+                || blockedAttributeValues == null) {
 
             return AttributeCheckResult.succeeded();
         }
 
-        final boolean blocked = blockedAttributeValues.contains(attribute)
+        final boolean blocked = blockedAttributeValues.test(attribute)
                 && !blockingConfig.getAllowedValues().contains(attribute);
 
         return blocked
@@ -263,10 +272,46 @@ public class BidsBlocker {
         return blockedAttributes != null ? getter.apply(blockedAttributes) : null;
     }
 
-    private <T> T blockedAttributeValues(Function<BlockedAttributes, Map<String, T>> getter, String impId) {
-        final Map<String, T> blockedAttributeValues = blockedAttributeValues(getter);
+    private static <T> Predicate<T> toLookup(Collection<T> blockedValues) {
+        if (CollectionUtils.isEmpty(blockedValues)) {
+            return null;
+        }
+
+        return new HashSet<>(blockedValues)::contains;
+    }
+
+    private static Map<MediaType, Map<String, Predicate<Integer>>> toBattrLookups(
+            Map<MediaType, Map<String, List<Integer>>> battr) {
+
+        if (battr == null) {
+            return Collections.emptyMap();
+        }
+
+        final Map<MediaType, Map<String, Predicate<Integer>>> lookups = new EnumMap<>(MediaType.class);
+        battr.forEach((mediaType, impBattr) -> {
+            final Map<String, Predicate<Integer>> impLookups = new HashMap<>();
+            impBattr.forEach((impId, values) -> impLookups.put(impId, toBitSetLookup(values)));
+            lookups.put(mediaType, impLookups);
+        });
+
+        return lookups;
+    }
+
+    private static Predicate<Integer> toBitSetLookup(List<Integer> blockedValues) {
+        if (CollectionUtils.isEmpty(blockedValues)) {
+            return null;
+        }
+
+        // creative attributes are small non-negative codes, anything else falls back to the hash set
+        final boolean bitSetCompatible = blockedValues.stream()
+                .allMatch(value -> value != null && value >= 0 && value < MAX_BIT_SET_ATTRIBUTE);
+        if (!bitSetCompatible) {
+            return toLookup(blockedValues);
+        }
 
-        return blockedAttributeValues != null ? blockedAttributeValues.get(impId) : null;
+        final BitSet bitSet = new BitSet();
+        blockedValues.forEach(bitSet::set);
+        return value -> value != null && value >= 0 && bitSet.get(value);
     }
 
     private List<String> debugMessages(Set<Integer> blockedBidIndexes, List<Result<BlockingResult>> blockedBidResults) {
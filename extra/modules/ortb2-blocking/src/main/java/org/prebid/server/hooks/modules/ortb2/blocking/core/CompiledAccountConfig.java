@@ -0,0 +1,719 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.exception.InvalidAccountConfigurationException;
+import org.prebid.server.util.StreamUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Immutable blocking model compiled once per version of the account configuration.
+ * <p>
+ * Blocked values, action overrides and deal exceptions are parsed upfront: overrides are indexed by bidder and
+ * media type, deal exceptions are merged per deal id. Since invalid parts of the configuration are reported only
+ * when request actually touches them, compilation never fails - each error is kept in place and thrown on access.
+ */
+public class CompiledAccountConfig {
+
+    private static final String ENFORCE_BLOCKS_FIELD = "enforce-blocks";
+    private static final String BLOCK_UNKNOWN_ADOMAIN_FIELD = "block-unknown-adomain";
+    private static final String BLOCKED_ADOMAIN_FIELD = "blocked-adomain";
+    private static final String ALLOWED_ADOMAIN_FOR_DEALS_FIELD = "allowed-adomain-for-deals";
+    private static final String BLOCKED_ADV_CAT_FIELD = "blocked-adv-cat";
+    private static final String CATEGORY_TAXONOMY_FIELD = "category-taxonomy";
+    private static final String BLOCK_UNKNOWN_ADV_CAT_FIELD = "block-unknown-adv-cat";
+    private static final String ALLOWED_ADV_CAT_FOR_DEALS_FIELD = "allowed-adv-cat-for-deals";
+    private static final String BLOCKED_APP_FIELD = "blocked-app";
+    private static final String ALLOWED_APP_FOR_DEALS_FIELD = "allowed-app-for-deals";
+    private static final String BLOCKED_BANNER_TYPE_FIELD = "blocked-banner-type";
+    private static final String BLOCKED_BANNER_ATTR_FIELD = "blocked-banner-attr";
+    private static final String BLOCKED_VIDEO_ATTR_FIELD = "blocked-video-attr";
+    private static final String BLOCKED_AUDIO_ATTR_FIELD = "blocked-audio-attr";
+    private static final String ALLOWED_BANNER_ATTR_FOR_DEALS = "allowed-banner-attr-for-deals";
+    private static final String ALLOWED_VIDEO_ATTR_FOR_DEALS = "allowed-video-attr-for-deals";
+    private static final String ALLOWED_AUDIO_ATTR_FOR_DEALS = "allowed-audio-attr-for-deals";
+
+    private static final String ATTRIBUTES_FIELD = "attributes";
+    private static final String ACTION_OVERRIDES_FIELD = "action-overrides";
+    private static final String OVERRIDE_FIELD = "override";
+    private static final String CONDITIONS_FIELD = "conditions";
+    private static final String BIDDERS_FIELD = "bidders";
+    private static final String MEDIA_TYPE_FIELD = "media-type";
+    private static final String DEALIDS_FIELD = "deal-ids";
+
+    private static final Set<String> ATTRIBUTE_NAMES = Set.of("badv", "bcat", "bapp", "btype", "battr");
+
+    private static final Map<String, Class<?>> ARRAY_FIELD_TYPES = Map.ofEntries(
+            Map.entry(BLOCKED_ADOMAIN_FIELD, String.class),
+            Map.entry(BLOCKED_ADV_CAT_FIELD, String.class),
+            Map.entry(BLOCKED_APP_FIELD, String.class),
+            Map.entry(BLOCKED_BANNER_TYPE_FIELD, Integer.class),
+            Map.entry(BLOCKED_BANNER_ATTR_FIELD, Integer.class),
+            Map.entry(BLOCKED_VIDEO_ATTR_FIELD, Integer.class),
+            Map.entry(BLOCKED_AUDIO_ATTR_FIELD, Integer.class),
+            Map.entry(ALLOWED_ADOMAIN_FOR_DEALS_FIELD, String.class),
+            Map.entry(ALLOWED_ADV_CAT_FOR_DEALS_FIELD, String.class),
+            Map.entry(ALLOWED_APP_FOR_DEALS_FIELD, String.class),
+            Map.entry(ALLOWED_BANNER_ATTR_FOR_DEALS, Integer.class),
+            Map.entry(ALLOWED_VIDEO_ATTR_FOR_DEALS, Integer.class),
+            Map.entry(ALLOWED_AUDIO_ATTR_FOR_DEALS, Integer.class));
+
+    private static final Map<String, Class<?>> SCALAR_FIELD_TYPES = Map.of(
+            ENFORCE_BLOCKS_FIELD, Boolean.class,
+            BLOCK_UNKNOWN_ADOMAIN_FIELD, Boolean.class,
+            BLOCK_UNKNOWN_ADV_CAT_FIELD, Boolean.class,
+            CATEGORY_TAXONOMY_FIELD, Integer.class);
+
+    private static final Set<String> DEAL_FIELDS = Set.of(
+            ALLOWED_ADOMAIN_FOR_DEALS_FIELD,
+            ALLOWED_ADV_CAT_FOR_DEALS_FIELD,
+            ALLOWED_APP_FOR_DEALS_FIELD,
+            ALLOWED_BANNER_ATTR_FOR_DEALS,
+            ALLOWED_VIDEO_ATTR_FOR_DEALS,
+            ALLOWED_AUDIO_ATTR_FOR_DEALS);
+
+    private static final CompiledAccountConfig EMPTY = new CompiledAccountConfig(null, Compiled.value(null));
+
+    private final ObjectNode source;
+    private final Compiled<Map<String, Compiled<AttributeConfig>>> attributes;
+
+    private CompiledAccountConfig(ObjectNode source, Compiled<Map<String, Compiled<AttributeConfig>>> attributes) {
+        this.source = source;
+        this.attributes = attributes;
+    }
+
+    public static CompiledAccountConfig compile(ObjectNode config) {
+        if (config == null) {
+            return EMPTY;
+        }
+
+        return new CompiledAccountConfig(config, Compiled.of(() -> compileAttributes(config)));
+    }
+
+    /**
+     * Tells whether this model reflects the given version of the account configuration.
+     */
+    public boolean isCompiledFrom(ObjectNode config) {
+        return source == config || (source != null && source.equals(config));
+    }
+
+    boolean hasAttributes() {
+        return attributes.get() != null;
+    }
+
+    AttributeConfig attribute(String attribute) {
+        final Map<String, Compiled<AttributeConfig>> attributeConfigs = attributes.get();
+        final Compiled<AttributeConfig> attributeConfig = attributeConfigs != null
+                ? attributeConfigs.get(attribute)
+                : null;
+
+        return attributeConfig != null ? attributeConfig.get() : null;
+    }
+
+    private static Map<String, Compiled<AttributeConfig>> compileAttributes(ObjectNode config) {
+        final JsonNode attributesNode = objectNodeFrom(config, ATTRIBUTES_FIELD);
+        if (attributesNode == null) {
+            return null;
+        }
+
+        final Map<String, Compiled<AttributeConfig>> attributeConfigs = new HashMap<>();
+        for (String attribute : ATTRIBUTE_NAMES) {
+            if (attributesNode.has(attribute)) {
+                attributeConfigs.put(attribute, Compiled.of(
+                        () -> AttributeConfig.compile(objectNodeFrom(attributesNode, attribute))));
+            }
+        }
+
+        return Collections.unmodifiableMap(attributeConfigs);
+    }
+
+    static class AttributeConfig {
+
+        private final Map<String, Compiled<List<?>>> arrays;
+        private final Map<String, Compiled<Object>> scalars;
+        private final Compiled<Map<String, Compiled<ConditionalOverrides>>> conditionalOverrides;
+        private final Compiled<Map<String, Compiled<DealOverrides>>> dealOverrides;
+        private final Map<String, Compiled<Set<?>>> defaultDealExceptions;
+
+        private AttributeConfig(JsonNode attributeConfig) {
+            arrays = compileFields(attributeConfig, ARRAY_FIELD_TYPES, CompiledAccountConfig::typedArrayFrom);
+            scalars = compileFields(attributeConfig, SCALAR_FIELD_TYPES, CompiledAccountConfig::typedFieldFrom);
+
+            final Compiled<JsonNode> actionOverrides = Compiled.of(
+                    () -> objectNodeFrom(attributeConfig, ACTION_OVERRIDES_FIELD));
+            conditionalOverrides = actionOverrides.map(overrides -> compileOverrides(
+                    overrides,
+                    field -> !DEAL_FIELDS.contains(field),
+                    (overridesForField, field) -> ConditionalOverrides.compile(
+                            overridesForField,
+                            field,
+                            ARRAY_FIELD_TYPES.get(field),
+                            SCALAR_FIELD_TYPES.get(field))));
+            dealOverrides = actionOverrides.map(overrides -> compileOverrides(
+                    overrides,
+                    DEAL_FIELDS::contains,
+                    (overridesForField, field) -> DealOverrides.compile(overridesForField, field, this)));
+
+            defaultDealExceptions = new HashMap<>();
+            for (String field : DEAL_FIELDS) {
+                defaultDealExceptions.put(field, Compiled.of(() -> mergeDealExceptions(field, List.of())));
+            }
+        }
+
+        private static AttributeConfig compile(JsonNode attributeConfig) {
+            return attributeConfig != null ? new AttributeConfig(attributeConfig) : null;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> List<T> values(String field) {
+            final Compiled<List<?>> values = arrays.get(field);
+            return values != null ? (List<T>) values.get() : null;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> T value(String field) {
+            final Compiled<Object> value = scalars.get(field);
+            return value != null ? (T) value.get() : null;
+        }
+
+        /**
+         * Returns overrides with bidder and media type conditions defined for the given field, if any.
+         */
+        ConditionalOverrides overridesFor(String field) {
+            final Map<String, Compiled<ConditionalOverrides>> overrides = conditionalOverrides.get();
+            final Compiled<ConditionalOverrides> fieldOverrides = overrides != null ? overrides.get(field) : null;
+
+            return fieldOverrides != null ? fieldOverrides.get() : null;
+        }
+
+        /**
+         * Returns values allowed for the given deal: ones configured for all deals merged with ones configured
+         * for this specific deal.
+         */
+        @SuppressWarnings("unchecked")
+        <T> Set<T> dealExceptionsFor(String field, String dealid) {
+            final Map<String, Compiled<DealOverrides>> overrides = dealOverrides.get();
+            final Compiled<DealOverrides> fieldOverrides = overrides != null ? overrides.get(field) : null;
+            final Compiled<Set<?>> dealExceptions = fieldOverrides != null
+                    ? fieldOverrides.get().exceptionsFor(dealid)
+                    : null;
+
+            return (Set<T>) (dealExceptions != null ? dealExceptions : defaultDealExceptions.get(field)).get();
+        }
+
+        private static <T> Map<String, Compiled<T>> compileFields(JsonNode parent,
+                                                                  Map<String, Class<?>> fieldTypes,
+                                                                  FieldParser<T> parser) {
+
+            final Map<String, Compiled<T>> fields = new HashMap<>();
+            for (Map.Entry<String, Class<?>> fieldType : fieldTypes.entrySet()) {
+                final String field = fieldType.getKey();
+                if (parent.has(field)) {
+                    fields.put(field, Compiled.of(() -> parser.parse(parent, fieldType.getValue(), field)));
+                }
+            }
+
+            return fields;
+        }
+
+        private static <T> Map<String, Compiled<T>> compileOverrides(JsonNode actionOverrides,
+                                                                     Predicate<String> fieldFilter,
+                                                                     BiFunction<JsonNode, String, T> compiler) {
+
+            if (actionOverrides == null) {
+                return null;
+            }
+
+            final Map<String, Compiled<T>> overrides = new HashMap<>();
+            final Iterator<String> fields = actionOverrides.fieldNames();
+            while (fields.hasNext()) {
+                final String field = fields.next();
+                if (fieldFilter.test(field)) {
+                    overrides.put(field, Compiled.of(() -> compiler.apply(actionOverrides.get(field), field)));
+                }
+            }
+
+            return overrides;
+        }
+
+        private Set<?> mergeDealExceptions(String field, List<Compiled<List<?>>> overrides) {
+            final List<?> defaultValue = values(field);
+            if (defaultValue == null && overrides.isEmpty()) {
+                return Collections.emptySet();
+            }
+
+            final Set<Object> results = new HashSet<>(defaultValue != null ? defaultValue : List.of());
+            for (Compiled<List<?>> override : overrides) {
+                results.addAll(override.get());
+            }
+
+            return Collections.unmodifiableSet(results);
+        }
+    }
+
+    /**
+     * Overrides of a single field, indexed by bidder and media type while keeping configuration order.
+     */
+    static class ConditionalOverrides {
+
+        private final List<ConditionalOverride> overrides;
+        private final InvalidAccountConfigurationException error;
+        private final Map<String, OverridesByMediaType> bidderOverrides;
+        private final OverridesByMediaType catchAllBidderOverrides;
+
+        private ConditionalOverrides(List<ConditionalOverride> overrides, InvalidAccountConfigurationException error) {
+            this.overrides = overrides;
+            this.error = error;
+
+            final Map<String, List<ConditionalOverride>> overridesByBidder = new HashMap<>();
+            final List<ConditionalOverride> catchAllOverrides = new ArrayList<>();
+            for (ConditionalOverride override : overrides) {
+                if (override.bidders == null) {
+                    catchAllOverrides.add(override);
+                } else {
+                    override.bidders.forEach(bidder ->
+                            overridesByBidder.computeIfAbsent(bidder, key -> new ArrayList<>()).add(override));
+                }
+            }
+
+            bidderOverrides = new HashMap<>();
+            overridesByBidder.forEach((bidder, overridesOfBidder) ->
+                    bidderOverrides.put(bidder, new OverridesByMediaType(overridesOfBidder)));
+            catchAllBidderOverrides = new OverridesByMediaType(catchAllOverrides);
+        }
+
+        private static ConditionalOverrides compile(JsonNode overridesNode,
+                                                    String field,
+                                                    Class<?> arrayType,
+                                                    Class<?> scalarType) {
+
+            final JsonNode overridesForField = objectArrayFrom(overridesNode, field);
+            final List<ConditionalOverride> overrides = new ArrayList<>();
+            try {
+                for (final JsonNode override : overridesForField) {
+                    overrides.add(ConditionalOverride.compile(override, arrayType, scalarType));
+                }
+            } catch (InvalidAccountConfigurationException e) {
+                return new ConditionalOverrides(overrides, e);
+            }
+
+            return new ConditionalOverrides(overrides, null);
+        }
+
+        /**
+         * Selects override applicable to the given bidder and media types: the first one configured for this bidder
+         * specifically or, if there is none, the first one configured for all bidders.
+         */
+        Selection select(String bidder, Set<String> mediaTypes) {
+            if (error != null) {
+                // preserve order of errors as if overrides were validated one by one
+                for (ConditionalOverride override : overrides) {
+                    if (override.matchesBidder(bidder) && override.matchesMediaTypes(mediaTypes)) {
+                        override.requireValue();
+                    }
+                }
+                throw error;
+            }
+
+            final OverridesByMediaType specific = bidderOverrides.get(bidder);
+            final List<ConditionalOverride> specificMatches = specific != null
+                    ? specific.matching(mediaTypes)
+                    : Collections.emptyList();
+            final List<ConditionalOverride> catchAllMatches = catchAllBidderOverrides.matching(mediaTypes);
+
+            specificMatches.forEach(ConditionalOverride::requireValue);
+            catchAllMatches.forEach(ConditionalOverride::requireValue);
+
+            final ConditionalOverride selected = !specificMatches.isEmpty()
+                    ? specificMatches.getFirst()
+                    : !catchAllMatches.isEmpty() ? catchAllMatches.getFirst() : null;
+
+            return new Selection(selected, specificMatches.size() + catchAllMatches.size());
+        }
+    }
+
+    private static class OverridesByMediaType {
+
+        private final List<ConditionalOverride> overrides;
+        private final Map<String, List<ConditionalOverride>> byMediaType;
+        private final List<ConditionalOverride> anyMediaType;
+
+        private OverridesByMediaType(List<ConditionalOverride> overrides) {
+            this.overrides = List.copyOf(overrides);
+
+            final Set<String> mediaTypes = new HashSet<>();
+            overrides.stream()
+                    .map(override -> override.mediaTypes)
+                    .filter(Objects::nonNull)
+                    .forEach(mediaTypes::addAll);
+
+            byMediaType = new HashMap<>();
+            for (String mediaType : mediaTypes) {
+                byMediaType.put(mediaType, matchingAny(Collections.singleton(mediaType)));
+            }
+            anyMediaType = overrides.stream()
+                    .filter(override -> override.mediaTypes == null)
+                    .toList();
+        }
+
+        private List<ConditionalOverride> matching(Set<String> mediaTypes) {
+            if (overrides.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            return mediaTypes.size() == 1
+                    ? byMediaType.getOrDefault(mediaTypes.iterator().next(), anyMediaType)
+                    : matchingAny(mediaTypes);
+        }
+
+        private List<ConditionalOverride> matchingAny(Set<String> mediaTypes) {
+            return overrides.stream()
+                    .filter(override -> override.matchesMediaTypes(mediaTypes))
+                    .toList();
+        }
+    }
+
+    private static class ConditionalOverride {
+
+        private final Set<String> bidders;
+        private final Set<String> mediaTypes;
+        private final Compiled<?> value;
+        private final InvalidAccountConfigurationException missingValueError;
+
+        private ConditionalOverride(Set<String> bidders,
+                                    Set<String> mediaTypes,
+                                    Compiled<?> value,
+                                    InvalidAccountConfigurationException missingValueError) {
+
+            this.bidders = bidders;
+            this.mediaTypes = mediaTypes;
+            this.value = value;
+            this.missingValueError = missingValueError;
+        }
+
+        private static ConditionalOverride compile(JsonNode override, Class<?> arrayType, Class<?> scalarType) {
+            final JsonNode conditions = requireNonNull(objectNodeFrom(override, CONDITIONS_FIELD), CONDITIONS_FIELD);
+            final List<String> bidders = stringArrayFrom(conditions, BIDDERS_FIELD);
+            final List<String> mediaTypes = stringArrayFrom(conditions, MEDIA_TYPE_FIELD);
+
+            if (bidders == null && mediaTypes == null) {
+                throw new InvalidAccountConfigurationException(
+                        "%s field in account configuration must contain at least one of %s or %s".formatted(
+                                CONDITIONS_FIELD,
+                                BIDDERS_FIELD,
+                                MEDIA_TYPE_FIELD));
+            }
+
+            final JsonNode value = override.get(OVERRIDE_FIELD);
+            return new ConditionalOverride(
+                    bidders != null ? Set.copyOf(bidders) : null,
+                    mediaTypes != null ? Set.copyOf(mediaTypes) : null,
+                    value != null ? Compiled.of(() -> typedValue(value, arrayType, scalarType)) : null,
+                    value == null ? missingFieldError(OVERRIDE_FIELD) : null);
+        }
+
+        private static Object typedValue(JsonNode value, Class<?> arrayType, Class<?> scalarType) {
+            return arrayType != null
+                    ? asTypedArray(value, arrayType, OVERRIDE_FIELD)
+                    : typedAs(value, Objects.requireNonNull(scalarType), OVERRIDE_FIELD);
+        }
+
+        private boolean matchesBidder(String bidder) {
+            return bidders == null || bidders.contains(bidder);
+        }
+
+        private boolean matchesMediaTypes(Set<String> actualMediaTypes) {
+            return mediaTypes == null || !Collections.disjoint(mediaTypes, actualMediaTypes);
+        }
+
+        private void requireValue() {
+            if (missingValueError != null) {
+                throw missingValueError;
+            }
+        }
+    }
+
+    /**
+     * Result of override selection: the override to apply, if any, and the number of overrides matched.
+     */
+    static class Selection {
+
+        private final ConditionalOverride selected;
+        private final int matched;
+
+        private Selection(ConditionalOverride selected, int matched) {
+            this.selected = selected;
+            this.matched = matched;
+        }
+
+        boolean hasValue() {
+            return selected != null;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> T value() {
+            return selected != null ? (T) selected.value.get() : null;
+        }
+
+        int matched() {
+            return matched;
+        }
+    }
+
+    /**
+     * Deal exception overrides of a single field, merged per deal id.
+     */
+    private static class DealOverrides {
+
+        private final List<DealOverride> overrides;
+        private final InvalidAccountConfigurationException error;
+        private final Map<String, Compiled<Set<?>>> exceptionsByDealId;
+
+        private DealOverrides(List<DealOverride> overrides,
+                              InvalidAccountConfigurationException error,
+                              Map<String, Compiled<Set<?>>> exceptionsByDealId) {
+
+            this.overrides = overrides;
+            this.error = error;
+            this.exceptionsByDealId = exceptionsByDealId;
+        }
+
+        private static DealOverrides compile(JsonNode overridesNode, String field, AttributeConfig attributeConfig) {
+            final JsonNode overridesForField = objectArrayFrom(overridesNode, field);
+            final List<DealOverride> overrides = new ArrayList<>();
+            try {
+                for (final JsonNode override : overridesForField) {
+                    overrides.add(DealOverride.compile(override, ARRAY_FIELD_TYPES.get(field), field));
+                }
+            } catch (InvalidAccountConfigurationException e) {
+                return new DealOverrides(overrides, e, Collections.emptyMap());
+            }
+
+            final Map<String, List<DealOverride>> overridesByDealId = new LinkedHashMap<>();
+            for (DealOverride override : overrides) {
+                override.dealIds.forEach(dealId ->
+                        overridesByDealId.computeIfAbsent(dealId, key -> new ArrayList<>()).add(override));
+            }
+
+            final Map<String, Compiled<Set<?>>> exceptionsByDealId = new HashMap<>();
+            overridesByDealId.forEach((dealId, dealOverrides) -> exceptionsByDealId.put(
+                    dealId, Compiled.of(() -> mergeDealExceptions(attributeConfig, field, dealOverrides))));
+
+            return new DealOverrides(overrides, null, exceptionsByDealId);
+        }
+
+        private static Set<?> mergeDealExceptions(AttributeConfig attributeConfig,
+                                                  String field,
+                                                  List<DealOverride> overrides) {
+
+            overrides.forEach(DealOverride::requireValue);
+            return attributeConfig.mergeDealExceptions(field, overrides.stream()
+                    .<Compiled<List<?>>>map(override -> override.value)
+                    .toList());
+        }
+
+        private Compiled<Set<?>> exceptionsFor(String dealid) {
+            if (error != null) {
+                // preserve order of errors as if overrides were validated one by one
+                for (DealOverride override : overrides) {
+                    if (override.dealIds.contains(dealid)) {
+                        override.requireValue();
+                    }
+                }
+                throw error;
+            }
+
+            return exceptionsByDealId.get(dealid);
+        }
+    }
+
+    private static class DealOverride {
+
+        private final Collection<String> dealIds;
+        private final Compiled<List<?>> value;
+        private final InvalidAccountConfigurationException missingValueError;
+
+        private DealOverride(Collection<String> dealIds,
+                             Compiled<List<?>> value,
+                             InvalidAccountConfigurationException missingValueError) {
+
+            this.dealIds = dealIds;
+            this.value = value;
+            this.missingValueError = missingValueError;
+        }
+
+        private static DealOverride compile(JsonNode override, Class<?> type, String field) {
+            final JsonNode conditions = requireNonNull(objectNodeFrom(override, CONDITIONS_FIELD), CONDITIONS_FIELD);
+            final List<String> dealIds = stringArrayFrom(conditions, DEALIDS_FIELD);
+
+            if (dealIds == null) {
+                throw new InvalidAccountConfigurationException(
+                        "%s field in account configuration must contain %s".formatted(CONDITIONS_FIELD, DEALIDS_FIELD));
+            }
+
+            final JsonNode value = override.get(OVERRIDE_FIELD);
+            return new DealOverride(
+                    Set.copyOf(dealIds),
+                    value != null ? Compiled.of(() -> asTypedArray(value, type, field)) : null,
+                    value == null ? missingFieldError(OVERRIDE_FIELD) : null);
+        }
+
+        private void requireValue() {
+            if (missingValueError != null) {
+                throw missingValueError;
+            }
+        }
+    }
+
+    /**
+     * Either compiled value or configuration error to be thrown when value is accessed.
+     */
+    private static final class Compiled<T> {
+
+        private final T value;
+        private final InvalidAccountConfigurationException error;
+
+        private Compiled(T value, InvalidAccountConfigurationException error) {
+            this.value = value;
+            this.error = error;
+        }
+
+        private static <T> Compiled<T> value(T value) {
+            return new Compiled<>(value, null);
+        }
+
+        private static <T> Compiled<T> of(Supplier<T> compiler) {
+            try {
+                return value(compiler.get());
+            } catch (InvalidAccountConfigurationException e) {
+                return new Compiled<>(null, e);
+            }
+        }
+
+        private <R> Compiled<R> map(Function<T, R> mapper) {
+            return error == null ? Compiled.of(() -> mapper.apply(value)) : new Compiled<>(null, error);
+        }
+
+        private T get() {
+            if (error != null) {
+                throw error;
+            }
+
+            return value;
+        }
+    }
+
+    @FunctionalInterface
+    private interface FieldParser<T> {
+
+        T parse(JsonNode parent, Class<?> type, String field);
+    }
+
+    private static List<?> typedArrayFrom(JsonNode parent, Class<?> type, String field) {
+        final JsonNode child = parent.get(field);
+        if (child == null) {
+            return null;
+        }
+
+        return asTypedArray(child, type, field);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> stringArrayFrom(JsonNode parent, String field) {
+        return (List<String>) typedArrayFrom(parent, String.class, field);
+    }
+
+    private static List<?> asTypedArray(JsonNode node, Class<?> type, String field) {
+        if (!node.isArray()) {
+            throw new InvalidAccountConfigurationException(field + " field in account configuration is not an array");
+        }
+
+        return StreamUtil.asStream(node.elements())
+                .map(element -> typedAs(element, type, field))
+                .toList();
+    }
+
+    private static Object typedFieldFrom(JsonNode parent, Class<?> type, String field) {
+        final JsonNode child = parent.get(field);
+        if (child == null) {
+            return null;
+        }
+
+        return typedAs(child, type, field);
+    }
+
+    private static Object typedAs(JsonNode node, Class<?> type, String field) {
+        final Function<JsonNode, Boolean> checker;
+        final Function<JsonNode, ?> converter;
+
+        if (type.isAssignableFrom(String.class)) {
+            checker = JsonNode::isTextual;
+            converter = JsonNode::textValue;
+        } else if (type.isAssignableFrom(Integer.class)) {
+            checker = JsonNode::isInt;
+            converter = JsonNode::intValue;
+        } else if (type.isAssignableFrom(Boolean.class)) {
+            checker = JsonNode::isBoolean;
+            converter = JsonNode::booleanValue;
+        } else {
+            throw new IllegalArgumentException("Unsupported type: " + type);
+        }
+
+        final Boolean hasDesiredType = checker.apply(node);
+        if (!hasDesiredType) {
+            throw new InvalidAccountConfigurationException(
+                    "%s field in account configuration has unexpected type. Expected %s".formatted(field, type));
+        }
+
+        return converter.apply(node);
+    }
+
+    private static JsonNode objectNodeFrom(JsonNode parent, String field) {
+        final JsonNode child = parent.get(field);
+        if (child == null) {
+            return null;
+        }
+
+        if (!child.isObject()) {
+            throw new InvalidAccountConfigurationException(field + " field in account configuration is not an object");
+        }
+
+        return child;
+    }
+
+    private static JsonNode objectArrayFrom(JsonNode child, String field) {
+        if (!child.isArray() || !StreamUtil.asStream(child.elements()).allMatch(JsonNode::isObject)) {
+            throw new InvalidAccountConfigurationException(
+                    field + " field in account configuration is not an array of objects");
+        }
+
+        return child;
+    }
+
+    private static <T> T requireNonNull(T object, String field) {
+        if (object == null) {
+            throw missingFieldError(field);
+        }
+
+        return object;
+    }
+
+    private static InvalidAccountConfigurationException missingFieldError(String field) {
+        return new InvalidAccountConfigurationException(field + " field in account configuration is missing");
+    }
+}
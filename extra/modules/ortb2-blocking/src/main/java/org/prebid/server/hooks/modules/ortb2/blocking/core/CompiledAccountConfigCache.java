@@ -0,0 +1,37 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Keeps the latest compiled blocking model of each account.
+ * <p>
+ * Account configuration is usually served by the settings cache, so the same configuration instance comes with
+ * every request until the account is refreshed. The model is recompiled once the account brings another version.
+ */
+public class CompiledAccountConfigCache {
+
+    private final Cache<String, CompiledAccountConfig> cache;
+
+    public CompiledAccountConfigCache(long maxSize) {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public CompiledAccountConfig get(String accountId, ObjectNode accountConfig) {
+        if (accountId == null || accountConfig == null) {
+            return CompiledAccountConfig.compile(accountConfig);
+        }
+
+        final CompiledAccountConfig cached = cache.getIfPresent(accountId);
+        if (cached != null && cached.isCompiledFrom(accountConfig)) {
+            return cached;
+        }
+
+        final CompiledAccountConfig compiled = CompiledAccountConfig.compile(accountConfig);
+        cache.put(accountId, compiled);
+        return compiled;
+    }
+}
@@ -1,8 +1,10 @@
 package org.prebid.server.hooks.modules.ortb2.blocking.spring.config;
 
 import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.CompiledAccountConfigCache;
 import org.prebid.server.hooks.modules.ortb2.blocking.v1.Ortb2BlockingModule;
 import org.prebid.server.json.ObjectMapperProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,7 +14,13 @@ import org.springframework.context.annotation.Configuration;
 public class Ortb2BlockingModuleConfiguration {
 
     @Bean
-    Ortb2BlockingModule ortb2BlockingModule(BidderCatalog bidderCatalog) {
-        return new Ortb2BlockingModule(bidderCatalog, ObjectMapperProvider.mapper());
+    Ortb2BlockingModule ortb2BlockingModule(
+            BidderCatalog bidderCatalog,
+            @Value("${hooks.modules.ortb2-blocking.account-config-cache-size:10000}") long accountConfigCacheSize) {
+
+        return new Ortb2BlockingModule(
+                bidderCatalog,
+                ObjectMapperProvider.mapper(),
+                new CompiledAccountConfigCache(accountConfigCacheSize));
     }
 }
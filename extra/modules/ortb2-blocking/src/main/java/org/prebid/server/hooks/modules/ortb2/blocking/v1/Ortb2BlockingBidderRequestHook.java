@@ -3,11 +3,14 @@ package org.prebid.server.hooks.modules.ortb2.blocking.v1;
 import com.iab.openrtb.request.BidRequest;
 import io.vertx.core.Future;
 import org.prebid.server.auction.aliases.BidderAliases;
+import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.hooks.execution.v1.InvocationResultImpl;
 import org.prebid.server.hooks.execution.v1.bidder.BidderRequestPayloadImpl;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.BlockedAttributesResolver;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.CompiledAccountConfig;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.CompiledAccountConfigCache;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.RequestUpdater;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.BlockedAttributes;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.ExecutionResult;
@@ -20,6 +23,7 @@ import org.prebid.server.hooks.v1.bidder.BidderRequestHook;
 import org.prebid.server.hooks.v1.bidder.BidderRequestPayload;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
+import org.prebid.server.settings.model.Account;
 
 import java.util.Map;
 import java.util.Objects;
@@ -29,9 +33,11 @@ public class Ortb2BlockingBidderRequestHook implements BidderRequestHook {
     private static final String CODE = "ortb2-blocking-bidder-request";
 
     private final BidderCatalog bidderCatalog;
+    private final CompiledAccountConfigCache accountConfigCache;
 
-    public Ortb2BlockingBidderRequestHook(BidderCatalog bidderCatalog) {
+    public Ortb2BlockingBidderRequestHook(BidderCatalog bidderCatalog, CompiledAccountConfigCache accountConfigCache) {
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
+        this.accountConfigCache = Objects.requireNonNull(accountConfigCache);
     }
 
     @Override
@@ -50,7 +56,7 @@ public class Ortb2BlockingBidderRequestHook implements BidderRequestHook {
                         bidRequest,
                         bidder,
                         moduleContext.ortbVersionOf(bidder),
-                        invocationContext.accountConfig(),
+                        accountConfig(invocationContext),
                         invocationContext.debugEnabled())
                 .resolve();
 
@@ -86,6 +92,13 @@ public class Ortb2BlockingBidderRequestHook implements BidderRequestHook {
                 : ModuleContext.create();
     }
 
+    private CompiledAccountConfig accountConfig(BidderInvocationContext invocationContext) {
+        final AuctionContext auctionContext = invocationContext.auctionContext();
+        final Account account = auctionContext != null ? auctionContext.getAccount() : null;
+
+        return accountConfigCache.get(account != null ? account.getId() : null, invocationContext.accountConfig());
+    }
+
     private BidderAliases aliases(BidRequest bidRequest) {
         final ExtRequest requestExt = bidRequest.getExt();
         final ExtRequestPrebid prebid = requestExt != null ? requestExt.getPrebid() : null;
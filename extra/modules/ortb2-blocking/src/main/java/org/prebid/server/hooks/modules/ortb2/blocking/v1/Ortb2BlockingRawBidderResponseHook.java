@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.vertx.core.Future;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
+import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
 import org.prebid.server.hooks.execution.v1.InvocationResultImpl;
 import org.prebid.server.hooks.execution.v1.analytics.ActivityImpl;
@@ -13,6 +14,8 @@ import org.prebid.server.hooks.execution.v1.analytics.ResultImpl;
 import org.prebid.server.hooks.execution.v1.analytics.TagsImpl;
 import org.prebid.server.hooks.execution.v1.bidder.BidderResponsePayloadImpl;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.BidsBlocker;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.CompiledAccountConfig;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.CompiledAccountConfigCache;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.ResponseUpdater;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.AnalyticsResult;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.BlockedBids;
@@ -26,6 +29,7 @@ import org.prebid.server.hooks.v1.analytics.Tags;
 import org.prebid.server.hooks.v1.bidder.BidderInvocationContext;
 import org.prebid.server.hooks.v1.bidder.BidderResponsePayload;
 import org.prebid.server.hooks.v1.bidder.RawBidderResponseHook;
+import org.prebid.server.settings.model.Account;
 
 import java.util.Collections;
 import java.util.List;
@@ -40,9 +44,11 @@ public class Ortb2BlockingRawBidderResponseHook implements RawBidderResponseHook
     private static final String SUCCESS_STATUS = "success";
 
     private final ObjectMapper mapper;
+    private final CompiledAccountConfigCache accountConfigCache;
 
-    public Ortb2BlockingRawBidderResponseHook(ObjectMapper mapper) {
+    public Ortb2BlockingRawBidderResponseHook(ObjectMapper mapper, CompiledAccountConfigCache accountConfigCache) {
         this.mapper = Objects.requireNonNull(mapper);
+        this.accountConfigCache = Objects.requireNonNull(accountConfigCache);
     }
 
     @Override
@@ -57,7 +63,7 @@ public class Ortb2BlockingRawBidderResponseHook implements RawBidderResponseHook
                         bidderResponsePayload.bids(),
                         bidder,
                         ObjectUtils.defaultIfNull(moduleContext.ortbVersionOf(bidder), OrtbVersion.ORTB_2_5),
-                        invocationContext.accountConfig(),
+                        accountConfig(invocationContext),
                         moduleContext.blockedAttributesFor(bidder),
                         invocationContext.debugEnabled())
                 .block();
@@ -97,6 +103,13 @@ public class Ortb2BlockingRawBidderResponseHook implements RawBidderResponseHook
                 : ModuleContext.create();
     }
 
+    private CompiledAccountConfig accountConfig(BidderInvocationContext invocationContext) {
+        final AuctionContext auctionContext = invocationContext.auctionContext();
+        final Account account = auctionContext != null ? auctionContext.getAccount() : null;
+
+        return accountConfigCache.get(account != null ? account.getId() : null, invocationContext.accountConfig());
+    }
+
     private Tags toAnalyticsTags(List<AnalyticsResult> analyticsResults) {
         if (CollectionUtils.isEmpty(analyticsResults)) {
             return null;
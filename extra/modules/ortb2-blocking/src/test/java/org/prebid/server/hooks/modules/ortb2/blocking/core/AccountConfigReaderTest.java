@@ -57,7 +57,7 @@ public class AccountConfigReaderTest {
     @Test
     public void blockedAttributesForShouldReturnEmptyResultWhenNoAccountConfig() {
         // given
-        final AccountConfigReader reader = AccountConfigReader.create(null, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create((ObjectNode) null, "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThat(reader.blockedAttributesFor(emptyRequest())).isEqualTo(Result.empty());
@@ -1251,6 +1251,47 @@ public class AccountConfigReaderTest {
         });
     }
 
+    @Test
+    public void responseBlockingConfigForShouldReuseResultForNonDealBidsOfSameType() {
+        // given
+        final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(Attributes.builder()
+                .badv(Attribute.badvBuilder().enforceBlocks(true).build())
+                .build()));
+        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+
+        // when
+        final Result<ResponseBlockingConfig> first = reader.responseBlockingConfigFor(
+                BidderBid.of(Bid.builder().build(), BidType.banner, "USD"));
+        final Result<ResponseBlockingConfig> second = reader.responseBlockingConfigFor(
+                BidderBid.of(Bid.builder().build(), BidType.banner, "USD"));
+        final Result<ResponseBlockingConfig> video = reader.responseBlockingConfigFor(
+                BidderBid.of(Bid.builder().build(), BidType.video, "USD"));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(video).isNotSameAs(first);
+        assertThat(first.getValue().getBadv()).isEqualTo(BidAttributeBlockingConfig.of(true, false, emptySet()));
+    }
+
+    @Test
+    public void blockedAttributesForShouldIgnoreInvalidConfigurationNotUsedByRequest() {
+        // given
+        final ObjectNode accountConfig = MAPPER.createObjectNode()
+                .set("attributes", MAPPER.createObjectNode()
+                        .set("badv", MAPPER.createObjectNode()
+                                .put("enforce-blocks", 1)
+                                .set("blocked-adomain", MAPPER.createArrayNode().add("domain1.com"))));
+        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+
+        // when and then
+        assertThat(reader.blockedAttributesFor(emptyRequest()))
+                .isEqualTo(Result.withValue(attributesWithBadv(singletonList("domain1.com"))));
+        assertThatThrownBy(() -> reader.responseBlockingConfigFor(bid()))
+                .isInstanceOf(InvalidAccountConfigurationException.class)
+                .hasMessage("enforce-blocks field in account configuration has unexpected type. "
+                        + "Expected class java.lang.Boolean");
+    }
+
     @Test
     public void responseBlockingConfigForShouldReturnAllAttributesForBanner() {
         // given
@@ -0,0 +1,91 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompiledAccountConfigCacheTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final CompiledAccountConfigCache target = new CompiledAccountConfigCache(100);
+
+    @Test
+    public void getShouldReturnSameModelWhileAccountConfigIsNotChanged() {
+        // given
+        final ObjectNode accountConfig = givenAccountConfig("domain1.com");
+        final CompiledAccountConfig first = target.get("accountId", accountConfig);
+
+        // when
+        final CompiledAccountConfig result = target.get("accountId", accountConfig);
+
+        // then
+        assertThat(result).isSameAs(first);
+    }
+
+    @Test
+    public void getShouldReturnSameModelForEqualAccountConfig() {
+        // given
+        final CompiledAccountConfig first = target.get("accountId", givenAccountConfig("domain1.com"));
+
+        // when
+        final CompiledAccountConfig result = target.get("accountId", givenAccountConfig("domain1.com"));
+
+        // then
+        assertThat(result).isSameAs(first);
+    }
+
+    @Test
+    public void getShouldRecompileModelWhenAccountConfigChanged() {
+        // given
+        final CompiledAccountConfig first = target.get("accountId", givenAccountConfig("domain1.com"));
+        final ObjectNode changedAccountConfig = givenAccountConfig("domain2.com");
+
+        // when
+        final CompiledAccountConfig result = target.get("accountId", changedAccountConfig);
+
+        // then
+        assertThat(result).isNotSameAs(first);
+        assertThat(result.isCompiledFrom(changedAccountConfig)).isTrue();
+        assertThat(target.get("accountId", changedAccountConfig)).isSameAs(result);
+    }
+
+    @Test
+    public void getShouldKeepModelsOfDifferentAccountsSeparately() {
+        // given
+        final ObjectNode accountConfig = givenAccountConfig("domain1.com");
+
+        // when
+        final CompiledAccountConfig first = target.get("accountId1", accountConfig);
+        final CompiledAccountConfig second = target.get("accountId2", givenAccountConfig("domain2.com"));
+
+        // then
+        assertThat(first).isNotSameAs(second);
+        assertThat(target.get("accountId1", accountConfig)).isSameAs(first);
+    }
+
+    @Test
+    public void getShouldNotCacheModelWhenAccountIdIsAbsent() {
+        // given
+        final ObjectNode accountConfig = givenAccountConfig("domain1.com");
+
+        // when
+        final CompiledAccountConfig first = target.get(null, accountConfig);
+        final CompiledAccountConfig second = target.get(null, accountConfig);
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.isCompiledFrom(accountConfig)).isTrue();
+    }
+
+    private static ObjectNode givenAccountConfig(String blockedAdomain) {
+        final ObjectNode badv = MAPPER.createObjectNode();
+        badv.putArray("blocked-adomain").add(blockedAdomain);
+
+        final ObjectNode accountConfig = MAPPER.createObjectNode();
+        accountConfig.putObject("attributes").set("badv", badv);
+        return accountConfig;
+    }
+}
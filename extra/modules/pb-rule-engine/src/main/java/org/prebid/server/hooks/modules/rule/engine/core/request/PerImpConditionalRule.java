@@ -20,7 +20,8 @@ public class PerImpConditionalRule implements Rule<BidRequest, RequestRuleContex
     public RuleResult<BidRequest> process(BidRequest value, RequestRuleContext context) {
         RuleResult<BidRequest> result = RuleResult.noAction(value);
         for (Imp imp : value.getImp()) {
-            result = result.mergeWith(delegate.process(result.getValue(), contextForImp(context, imp)));
+            result = result.mergeWith(delegate.process(
+                    result.getValue(), context.withGranularity(new Granularity.Imp(imp.getId()))));
 
             if (result.isReject()) {
                 return result;
@@ -29,11 +30,4 @@ public class PerImpConditionalRule implements Rule<BidRequest, RequestRuleContex
 
         return result;
     }
-
-    private RequestRuleContext contextForImp(RequestRuleContext context, Imp imp) {
-        return RequestRuleContext.of(
-                context.getAuctionContext(),
-                new Granularity.Imp(imp.getId()),
-                context.getDatacenter());
-    }
 }
@@ -0,0 +1,31 @@
+package org.prebid.server.hooks.modules.rule.engine.core.request;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Keeps values computed while rules of all rule sets are evaluated against a single request.
+ * <p>
+ * Result functions only change the bidders of imps, which no schema function reads, so a value computed once
+ * stays valid for the whole request, even after the request is updated by a fired rule.
+ * <p>
+ * Not thread-safe: a request is processed on a single event loop thread.
+ */
+public class RequestEvaluationCache {
+
+    private final Map<Object, Object> values = new HashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <V> V computeIfAbsent(Object key, Supplier<V> supplier) {
+        final V cached = (V) values.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // values may be computed from other cached values, so map is not locked while computing
+        final V computed = supplier.get();
+        values.put(key, computed);
+        return computed;
+    }
+}
@@ -1,5 +1,7 @@
 package org.prebid.server.hooks.modules.rule.engine.core.request;
 
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import lombok.Value;
 import org.prebid.server.auction.model.AuctionContext;
 
@@ -11,4 +13,16 @@ public class RequestRuleContext {
     Granularity granularity;
 
     String datacenter;
+
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    RequestEvaluationCache evaluationCache;
+
+    public static RequestRuleContext of(AuctionContext auctionContext, Granularity granularity, String datacenter) {
+        return of(auctionContext, granularity, datacenter, new RequestEvaluationCache());
+    }
+
+    public RequestRuleContext withGranularity(Granularity granularity) {
+        return of(auctionContext, granularity, datacenter, evaluationCache);
+    }
 }
@@ -6,6 +6,7 @@ import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.hooks.modules.rule.engine.core.request.result.functions.filter.ExcludeBiddersFunction;
 import org.prebid.server.hooks.modules.rule.engine.core.request.result.functions.filter.IncludeBiddersFunction;
 import org.prebid.server.hooks.modules.rule.engine.core.request.result.functions.log.LogATagFunction;
+import org.prebid.server.hooks.modules.rule.engine.core.request.schema.MemoizedSchemaFunction;
 import org.prebid.server.hooks.modules.rule.engine.core.request.schema.functions.AdUnitCodeFunction;
 import org.prebid.server.hooks.modules.rule.engine.core.request.schema.functions.AdUnitCodeInFunction;
 import org.prebid.server.hooks.modules.rule.engine.core.request.schema.functions.BundleFunction;
@@ -53,29 +54,30 @@ public class RequestStageSpecification implements StageSpecification<BidRequest,
                                      RandomGenerator random) {
 
         schemaFunctions = new HashMap<>();
-        schemaFunctions.put(AdUnitCodeFunction.NAME, new AdUnitCodeFunction());
-        schemaFunctions.put(AdUnitCodeInFunction.NAME, new AdUnitCodeInFunction());
-        schemaFunctions.put(BundleFunction.NAME, new BundleFunction());
-        schemaFunctions.put(BundleInFunction.NAME, new BundleInFunction());
-        schemaFunctions.put(ChannelFunction.NAME, new ChannelFunction());
-        schemaFunctions.put(DataCenterFunction.NAME, new DataCenterFunction());
-        schemaFunctions.put(DataCenterInFunction.NAME, new DataCenterInFunction());
-        schemaFunctions.put(DeviceCountryFunction.NAME, new DeviceCountryFunction());
-        schemaFunctions.put(DeviceCountryInFunction.NAME, new DeviceCountryInFunction());
-        schemaFunctions.put(DeviceTypeFunction.NAME, new DeviceTypeFunction());
-        schemaFunctions.put(DeviceTypeInFunction.NAME, new DeviceTypeInFunction());
-        schemaFunctions.put(DomainFunction.NAME, new DomainFunction());
-        schemaFunctions.put(DomainInFunction.NAME, new DomainInFunction());
-        schemaFunctions.put(EidAvailableFunction.NAME, new EidAvailableFunction());
-        schemaFunctions.put(EidInFunction.NAME, new EidInFunction());
-        schemaFunctions.put(FpdAvailableFunction.NAME, new FpdAvailableFunction());
-        schemaFunctions.put(GppSidAvailableFunction.NAME, new GppSidAvailableFunction());
-        schemaFunctions.put(GppSidInFunction.NAME, new GppSidInFunction());
-        schemaFunctions.put(MediaTypeInFunction.NAME, new MediaTypeInFunction());
+        putMemoized(AdUnitCodeFunction.NAME, new AdUnitCodeFunction());
+        putMemoized(AdUnitCodeInFunction.NAME, new AdUnitCodeInFunction());
+        putMemoized(BundleFunction.NAME, new BundleFunction());
+        putMemoized(BundleInFunction.NAME, new BundleInFunction());
+        putMemoized(ChannelFunction.NAME, new ChannelFunction());
+        putMemoized(DataCenterFunction.NAME, new DataCenterFunction());
+        putMemoized(DataCenterInFunction.NAME, new DataCenterInFunction());
+        putMemoized(DeviceCountryFunction.NAME, new DeviceCountryFunction());
+        putMemoized(DeviceCountryInFunction.NAME, new DeviceCountryInFunction());
+        putMemoized(DeviceTypeFunction.NAME, new DeviceTypeFunction());
+        putMemoized(DeviceTypeInFunction.NAME, new DeviceTypeInFunction());
+        putMemoized(DomainFunction.NAME, new DomainFunction());
+        putMemoized(DomainInFunction.NAME, new DomainInFunction());
+        putMemoized(EidAvailableFunction.NAME, new EidAvailableFunction());
+        putMemoized(EidInFunction.NAME, new EidInFunction());
+        putMemoized(FpdAvailableFunction.NAME, new FpdAvailableFunction());
+        putMemoized(GppSidAvailableFunction.NAME, new GppSidAvailableFunction());
+        putMemoized(GppSidInFunction.NAME, new GppSidInFunction());
+        putMemoized(MediaTypeInFunction.NAME, new MediaTypeInFunction());
+        // percent draws a new random value on each call, so its results are not memoized
         schemaFunctions.put(PercentFunction.NAME, new PercentFunction<>(random));
-        schemaFunctions.put(PrebidKeyFunction.NAME, new PrebidKeyFunction());
-        schemaFunctions.put(TcfInScopeFunction.NAME, new TcfInScopeFunction());
-        schemaFunctions.put(UserFpdAvailableFunction.NAME, new UserFpdAvailableFunction());
+        putMemoized(PrebidKeyFunction.NAME, new PrebidKeyFunction());
+        putMemoized(TcfInScopeFunction.NAME, new TcfInScopeFunction());
+        putMemoized(UserFpdAvailableFunction.NAME, new UserFpdAvailableFunction());
 
         resultFunctions = Map.of(
                 IncludeBiddersFunction.NAME, new IncludeBiddersFunction(mapper, bidderCatalog),
@@ -100,4 +102,8 @@ public class RequestStageSpecification implements StageSpecification<BidRequest,
 
         return function;
     }
+
+    private void putMemoized(String name, SchemaFunction<BidRequest, RequestRuleContext> function) {
+        schemaFunctions.put(name, new MemoizedSchemaFunction(function, PER_IMP_SCHEMA_FUNCTIONS.contains(name)));
+    }
 }
@@ -0,0 +1,45 @@
+package org.prebid.server.hooks.modules.rule.engine.core.request.schema;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.BidRequest;
+import org.prebid.server.hooks.modules.rule.engine.core.request.Granularity;
+import org.prebid.server.hooks.modules.rule.engine.core.request.RequestRuleContext;
+import org.prebid.server.hooks.modules.rule.engine.core.rules.schema.SchemaFunction;
+import org.prebid.server.hooks.modules.rule.engine.core.rules.schema.SchemaFunctionArguments;
+
+import java.util.Objects;
+
+/**
+ * Computes the result of a deterministic schema function at most once per request for each combination of
+ * function arguments and, for imp-level functions, imp.
+ */
+public class MemoizedSchemaFunction implements SchemaFunction<BidRequest, RequestRuleContext> {
+
+    private final SchemaFunction<BidRequest, RequestRuleContext> delegate;
+    private final boolean perImp;
+
+    public MemoizedSchemaFunction(SchemaFunction<BidRequest, RequestRuleContext> delegate, boolean perImp) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.perImp = perImp;
+    }
+
+    @Override
+    public String extract(SchemaFunctionArguments<BidRequest, RequestRuleContext> arguments) {
+        final RequestRuleContext context = arguments.getContext();
+        final ResultKey key = new ResultKey(delegate, arguments.getConfig(), perImp ? impId(context) : null);
+
+        return context.getEvaluationCache().computeIfAbsent(key, () -> delegate.extract(arguments));
+    }
+
+    private static String impId(RequestRuleContext context) {
+        return context.getGranularity() instanceof Granularity.Imp imp ? imp.impId() : null;
+    }
+
+    @Override
+    public void validateConfig(ObjectNode config) {
+        delegate.validateConfig(config);
+    }
+
+    private record ResultKey(SchemaFunction<BidRequest, RequestRuleContext> function, ObjectNode config, String impId) {
+    }
+}
@@ -21,11 +21,23 @@ public class DomainInFunction implements SchemaFunction<BidRequest, RequestRuleC
 
     private static final String DOMAINS_FIELD = "domains";
 
+    private static final Object SUPPLIED_DOMAINS_KEY = new Object();
+
     @Override
     public String extract(SchemaFunctionArguments<BidRequest, RequestRuleContext> arguments) {
         final BidRequest bidRequest = arguments.getOperand();
+        final Set<String> suppliedDomains = arguments.getContext().getEvaluationCache()
+                .computeIfAbsent(SUPPLIED_DOMAINS_KEY, () -> suppliedDomains(bidRequest));
+
+        final boolean matches = StreamUtil.asStream(arguments.getConfig().get(DOMAINS_FIELD).elements())
+                .map(JsonNode::asText)
+                .anyMatch(suppliedDomains::contains);
+
+        return Boolean.toString(matches);
+    }
 
-        final Set<String> suppliedDomains = Stream.of(
+    private static Set<String> suppliedDomains(BidRequest bidRequest) {
+        return Stream.of(
                         DomainUtils.extractSitePublisherDomain(bidRequest),
                         DomainUtils.extractAppPublisherDomain(bidRequest),
                         DomainUtils.extractDoohPublisherDomain(bidRequest),
@@ -35,12 +47,6 @@ public class DomainInFunction implements SchemaFunction<BidRequest, RequestRuleC
                 .filter(Optional::isPresent)
                 .map(Optional::get)
                 .collect(Collectors.toSet());
-
-        final boolean matches = StreamUtil.asStream(arguments.getConfig().get(DOMAINS_FIELD).elements())
-                .map(JsonNode::asText)
-                .anyMatch(suppliedDomains::contains);
-
-        return Boolean.toString(matches);
     }
 
     @Override
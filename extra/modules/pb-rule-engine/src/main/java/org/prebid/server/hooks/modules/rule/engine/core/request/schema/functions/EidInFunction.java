@@ -22,15 +22,12 @@ public class EidInFunction implements SchemaFunction<BidRequest, RequestRuleCont
 
     private static final String SOURCES_FIELD = "sources";
 
+    private static final Object EID_SOURCES_KEY = new Object();
+
     @Override
     public String extract(SchemaFunctionArguments<BidRequest, RequestRuleContext> arguments) {
-        final Set<String> sources = Optional.of(arguments.getOperand())
-                .map(BidRequest::getUser)
-                .map(User::getEids)
-                .stream()
-                .flatMap(Collection::stream)
-                .map(Eid::getSource)
-                .collect(Collectors.toSet());
+        final Set<String> sources = arguments.getContext().getEvaluationCache()
+                .computeIfAbsent(EID_SOURCES_KEY, () -> eidSources(arguments.getOperand()));
 
         final boolean matches = StreamUtil.asStream(arguments.getConfig().get(SOURCES_FIELD).elements())
                 .map(JsonNode::asText)
@@ -39,6 +36,16 @@ public class EidInFunction implements SchemaFunction<BidRequest, RequestRuleCont
         return Boolean.toString(matches);
     }
 
+    private static Set<String> eidSources(BidRequest bidRequest) {
+        return Optional.of(bidRequest)
+                .map(BidRequest::getUser)
+                .map(User::getEids)
+                .stream()
+                .flatMap(Collection::stream)
+                .map(Eid::getSource)
+                .collect(Collectors.toSet());
+    }
+
     @Override
     public void validateConfig(ObjectNode config) {
         ValidationUtils.assertArrayOfStrings(config, SOURCES_FIELD);
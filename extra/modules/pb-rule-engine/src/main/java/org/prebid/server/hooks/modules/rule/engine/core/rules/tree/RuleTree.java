@@ -1,48 +1,125 @@
 package org.prebid.server.hooks.modules.rule.engine.core.rules.tree;
 
 import lombok.Getter;
-import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.hooks.modules.rule.engine.core.rules.exception.NoMatchingRuleException;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+/**
+ * Matches schema function results against rule conditions.
+ * <p>
+ * Matcher strings are interned into integer ids when the tree is built, and children of each node are kept
+ * in a sorted id array, so a lookup does a single dictionary hit per argument. Each leaf keeps its lookup result
+ * with matched conditions precomputed, so nothing is allocated per lookup.
+ */
 public class RuleTree<T> {
 
     public static final String WILDCARD_MATCHER = "*";
 
-    private final RuleNode<T> root;
+    private static final int UNKNOWN_MATCHER = -1;
+
+    private final Map<String, Integer> matcherIds;
+    private final Node<T> root;
 
     @Getter
     private final int depth;
 
     public RuleTree(RuleNode<T> root, int depth) {
-        this.root = Objects.requireNonNull(root);
+        this.matcherIds = new HashMap<>();
+        this.root = compile(Objects.requireNonNull(root), new ArrayList<>());
         this.depth = depth;
     }
 
     public LookupResult<T> lookup(List<String> path) {
-        final List<String> matches = new ArrayList<>();
-        RuleNode<T> next = root;
+        Node<T> next = root;
 
         for (String pathPart : path) {
-            next = switch (next) {
-                case RuleNode.IntermediateNode<T> node -> {
-                    final RuleNode<T> result = node.next(pathPart);
-                    matches.add(result == null ? WILDCARD_MATCHER : pathPart);
-                    yield ObjectUtils.defaultIfNull(result, node.next(WILDCARD_MATCHER));
-                }
-
-                case RuleNode.LeafNode<T> ignored -> throw new IllegalArgumentException("Argument count mismatch");
-                case null -> throw new NoMatchingRuleException();
-            };
-        }
-
-        return switch (next) {
-            case RuleNode.LeafNode<T> leaf -> LookupResult.of(leaf.value(), matches);
-            case RuleNode.IntermediateNode<T> ignored -> throw new IllegalArgumentException("Argument count mismatch");
-            case null -> throw new NoMatchingRuleException();
+            if (next == null) {
+                throw new NoMatchingRuleException();
+            }
+            if (next.isLeaf()) {
+                throw new IllegalArgumentException("Argument count mismatch");
+            }
+
+            next = next.next(matcherIds.getOrDefault(pathPart, UNKNOWN_MATCHER));
+        }
+
+        if (next == null) {
+            throw new NoMatchingRuleException();
+        }
+        if (!next.isLeaf()) {
+            throw new IllegalArgumentException("Argument count mismatch");
+        }
+
+        return next.result;
+    }
+
+    private Node<T> compile(RuleNode<T> node, List<String> matches) {
+        return switch (node) {
+            case RuleNode.LeafNode<T> leaf -> Node.leaf(LookupResult.of(leaf.value(), List.copyOf(matches)));
+            case RuleNode.IntermediateNode<T> intermediate -> compileIntermediate(intermediate, matches);
         };
     }
+
+    private Node<T> compileIntermediate(RuleNode.IntermediateNode<T> node, List<String> matches) {
+        final Map<Integer, Node<T>> children = new HashMap<>();
+        Node<T> wildcard = null;
+
+        for (Map.Entry<String, RuleNode<T>> entry : node.children().entrySet()) {
+            final String matcher = entry.getKey();
+
+            matches.add(matcher);
+            final Node<T> child = compile(entry.getValue(), matches);
+            matches.removeLast();
+
+            if (WILDCARD_MATCHER.equals(matcher)) {
+                wildcard = child;
+            } else {
+                children.put(matcherIds.computeIfAbsent(matcher, ignored -> matcherIds.size()), child);
+            }
+        }
+
+        return Node.intermediate(children, wildcard);
+    }
+
+    private static final class Node<T> {
+
+        private final int[] childIds;
+        private final List<Node<T>> children;
+        private final Node<T> wildcard;
+        private final LookupResult<T> result;
+
+        private Node(int[] childIds, List<Node<T>> children, Node<T> wildcard, LookupResult<T> result) {
+            this.childIds = childIds;
+            this.children = children;
+            this.wildcard = wildcard;
+            this.result = result;
+        }
+
+        static <T> Node<T> leaf(LookupResult<T> result) {
+            return new Node<>(null, Collections.emptyList(), null, result);
+        }
+
+        static <T> Node<T> intermediate(Map<Integer, Node<T>> children, Node<T> wildcard) {
+            final int[] childIds = children.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+            final List<Node<T>> sortedChildren = Arrays.stream(childIds).mapToObj(children::get).toList();
+
+            return new Node<>(childIds, sortedChildren, wildcard, null);
+        }
+
+        boolean isLeaf() {
+            return childIds == null;
+        }
+
+        Node<T> next(int matcherId) {
+            final int index = matcherId == UNKNOWN_MATCHER ? -1 : Arrays.binarySearch(childIds, matcherId);
+            return index >= 0 ? children.get(index) : wildcard;
+        }
+    }
 }
@@ -0,0 +1,112 @@
+package org.prebid.server.hooks.modules.rule.engine.core.request.schema;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.BidRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.hooks.modules.rule.engine.core.request.Granularity;
+import org.prebid.server.hooks.modules.rule.engine.core.request.RequestRuleContext;
+import org.prebid.server.hooks.modules.rule.engine.core.rules.schema.SchemaFunction;
+import org.prebid.server.hooks.modules.rule.engine.core.rules.schema.SchemaFunctionArguments;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class MemoizedSchemaFunctionTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Mock
+    private SchemaFunction<BidRequest, RequestRuleContext> delegate;
+
+    @Test
+    public void extractShouldComputeResultOncePerRequestForEqualArguments() {
+        // given
+        final MemoizedSchemaFunction target = new MemoizedSchemaFunction(delegate, false);
+        given(delegate.extract(any())).willReturn("result");
+
+        final RequestRuleContext context = RequestRuleContext.of(
+                AuctionContext.builder().build(), Granularity.Request.instance(), "datacenter");
+
+        // when
+        final String first = target.extract(givenArguments(givenConfig("a"), context));
+        final String second = target.extract(
+                givenArguments(givenConfig("a"), context.withGranularity(new Granularity.Imp("impId"))));
+
+        // then
+        assertThat(first).isEqualTo("result");
+        assertThat(second).isEqualTo("result");
+        verify(delegate, times(1)).extract(any());
+    }
+
+    @Test
+    public void extractShouldComputeResultForEachDistinctArguments() {
+        // given
+        final MemoizedSchemaFunction target = new MemoizedSchemaFunction(delegate, false);
+        given(delegate.extract(any())).willReturn("result");
+
+        final RequestRuleContext context = RequestRuleContext.of(
+                AuctionContext.builder().build(), Granularity.Request.instance(), "datacenter");
+
+        // when
+        target.extract(givenArguments(givenConfig("a"), context));
+        target.extract(givenArguments(givenConfig("b"), context));
+
+        // then
+        verify(delegate, times(2)).extract(any());
+    }
+
+    @Test
+    public void extractShouldComputeResultForEachImpWhenFunctionIsPerImp() {
+        // given
+        final MemoizedSchemaFunction target = new MemoizedSchemaFunction(delegate, true);
+        given(delegate.extract(any())).willReturn("result");
+
+        final RequestRuleContext context = RequestRuleContext.of(
+                AuctionContext.builder().build(), new Granularity.Imp("impId1"), "datacenter");
+
+        // when
+        target.extract(givenArguments(null, context));
+        target.extract(givenArguments(null, context));
+        target.extract(givenArguments(null, context.withGranularity(new Granularity.Imp("impId2"))));
+
+        // then
+        verify(delegate, times(2)).extract(any());
+    }
+
+    @Test
+    public void extractShouldNotShareResultsBetweenRequests() {
+        // given
+        final MemoizedSchemaFunction target = new MemoizedSchemaFunction(delegate, false);
+        given(delegate.extract(any())).willReturn("result");
+
+        // when
+        target.extract(givenArguments(null, RequestRuleContext.of(
+                AuctionContext.builder().build(), Granularity.Request.instance(), "datacenter")));
+        target.extract(givenArguments(null, RequestRuleContext.of(
+                AuctionContext.builder().build(), Granularity.Request.instance(), "datacenter")));
+
+        // then
+        verify(delegate, times(2)).extract(any());
+    }
+
+    private static SchemaFunctionArguments<BidRequest, RequestRuleContext> givenArguments(
+            ObjectNode config, RequestRuleContext context) {
+
+        return SchemaFunctionArguments.of(BidRequest.builder().build(), config, context);
+    }
+
+    private static ObjectNode givenConfig(String value) {
+        final ObjectNode config = MAPPER.createObjectNode();
+        config.putArray("values").add(value);
+        return config;
+    }
+}
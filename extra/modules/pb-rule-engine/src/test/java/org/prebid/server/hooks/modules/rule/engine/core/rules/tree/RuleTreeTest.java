@@ -34,4 +34,33 @@ public class RuleTreeTest {
         assertThatExceptionOfType(NoMatchingRuleException.class).isThrownBy(() -> tree.lookup(asList("C", "B")));
         assertThatExceptionOfType(NoMatchingRuleException.class).isThrownBy(() -> tree.lookup(singletonList("C")));
     }
+
+    @Test
+    public void lookupShouldFallBackToWildcardForUnknownMatcherAndReuseResult() {
+        // given
+        final Map<String, RuleNode<String>> subnodes = Map.of(
+                "A", new RuleNode.LeafNode<>("A"),
+                "*", new RuleNode.LeafNode<>("ANY"));
+
+        final RuleTree<String> tree = new RuleTree<>(new RuleNode.IntermediateNode<>(subnodes), 1);
+
+        // when
+        final LookupResult<String> result = tree.lookup(singletonList("unknown"));
+
+        // then
+        assertThat(result).isEqualTo(LookupResult.of("ANY", List.of("*")));
+        assertThat(tree.lookup(singletonList("*"))).isSameAs(result);
+        assertThat(tree.lookup(singletonList("A"))).isEqualTo(LookupResult.of("A", List.of("A")));
+    }
+
+    @Test
+    public void lookupShouldThrowExceptionOnArgumentCountMismatch() {
+        // given
+        final RuleTree<String> tree = new RuleTree<>(
+                new RuleNode.IntermediateNode<>(Map.of("A", new RuleNode.LeafNode<>("A"))), 1);
+
+        // when and then
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> tree.lookup(asList("A", "B")));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> tree.lookup(List.of()));
+    }
 }
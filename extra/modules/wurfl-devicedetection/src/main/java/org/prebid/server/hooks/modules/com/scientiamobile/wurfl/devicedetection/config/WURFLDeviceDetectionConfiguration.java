@@ -1,5 +1,6 @@
 package org.prebid.server.hooks.modules.com.scientiamobile.wurfl.devicedetection.config;
 
+import org.prebid.server.device.DeviceDetectionCache;
 import org.prebid.server.hooks.modules.com.scientiamobile.wurfl.devicedetection.model.WURFLEngineUtils;
 import org.prebid.server.hooks.modules.com.scientiamobile.wurfl.devicedetection.v1.WURFLDeviceDetectionEntrypointHook;
 import org.prebid.server.hooks.modules.com.scientiamobile.wurfl.devicedetection.v1.WURFLDeviceDetectionModule;
@@ -35,7 +36,8 @@ public class WURFLDeviceDetectionConfiguration {
     @Bean
     public WURFLDeviceDetectionModule wurflDeviceDetectionModule(WURFLDeviceDetectionConfigProperties configProperties,
                                                                  JacksonMapper mapper,
-                                                                 Vertx vertx) {
+                                                                 Vertx vertx,
+                                                                 DeviceDetectionCache deviceDetectionCache) {
 
         final WURFLService wurflService = new WURFLService(null, configProperties);
         final FileSyncer fileSyncer = createFileSyncer(configProperties, wurflService, vertx);
@@ -43,7 +45,8 @@ public class WURFLDeviceDetectionConfiguration {
 
         return new WURFLDeviceDetectionModule(List.of(
                 new WURFLDeviceDetectionEntrypointHook(),
-                new WURFLDeviceDetectionRawAuctionRequestHook(wurflService, configProperties, mapper)));
+                new WURFLDeviceDetectionRawAuctionRequestHook(
+                        wurflService, configProperties, mapper, deviceDetectionCache)));
     }
 
     private FileSyncer createFileSyncer(WURFLDeviceDetectionConfigProperties configProperties,
@@ -25,10 +25,7 @@ public class OrtbDeviceUpdater implements PayloadUpdate<AuctionRequestPayload> {
 
     private static final String WURFL_PROPERTY = "wurfl";
 
-    private final com.scientiamobile.wurfl.core.Device wurflDevice;
-    private final Set<String> staticCaps;
-    private final Set<String> virtualCaps;
-    private final boolean addExtCaps;
+    private final Device detectedDevice;
     private final JacksonMapper mapper;
 
     public OrtbDeviceUpdater(com.scientiamobile.wurfl.core.Device wurflDevice,
@@ -37,13 +34,50 @@ public class OrtbDeviceUpdater implements PayloadUpdate<AuctionRequestPayload> {
                              boolean addExtCaps,
                              JacksonMapper mapper) {
 
-        this.wurflDevice = Objects.requireNonNull(wurflDevice);
-        this.staticCaps = Objects.requireNonNull(staticCaps);
-        this.virtualCaps = Objects.requireNonNull(virtualCaps);
-        this.addExtCaps = addExtCaps;
+        this(detectDevice(wurflDevice, staticCaps, virtualCaps, addExtCaps, mapper), mapper);
+    }
+
+    public OrtbDeviceUpdater(Device detectedDevice, JacksonMapper mapper) {
+        this.detectedDevice = Objects.requireNonNull(detectedDevice);
         this.mapper = Objects.requireNonNull(mapper);
     }
 
+    /**
+     * Returns device with all the fields WURFL is able to detect and {@code wurfl} ext property, so the result
+     * does not depend on the ORTB device it is merged into later and can be shared between requests.
+     */
+    public static Device detectDevice(com.scientiamobile.wurfl.core.Device wurflDevice,
+                                      Set<String> staticCaps,
+                                      Set<String> virtualCaps,
+                                      boolean addExtCaps,
+                                      JacksonMapper mapper) {
+
+        Objects.requireNonNull(wurflDevice);
+        Objects.requireNonNull(staticCaps);
+        Objects.requireNonNull(virtualCaps);
+        Objects.requireNonNull(mapper);
+
+        final String model = getWurflModel(wurflDevice);
+
+        final ExtDevice ext = ExtDevice.empty();
+        ext.addProperty(WURFL_PROPERTY, createWurflObject(wurflDevice, staticCaps, virtualCaps, addExtCaps, mapper));
+
+        return Device.builder()
+                .make(getWurflMake(wurflDevice))
+                .model(model)
+                .devicetype(getWurflDeviceType(wurflDevice))
+                .hwv(model)
+                .os(getWurflOs(wurflDevice))
+                .osv(getWurflOsv(wurflDevice))
+                .h(getWurflH(wurflDevice))
+                .w(getWurflW(wurflDevice))
+                .ppi(getWurflPpi(wurflDevice))
+                .pxratio(getWurflPxRatio(wurflDevice))
+                .js(getWurflJs(wurflDevice))
+                .ext(ext)
+                .build();
+    }
+
     @Override
     public AuctionRequestPayload apply(AuctionRequestPayload auctionRequestPayload) {
         final BidRequest bidRequest = auctionRequestPayload.bidRequest();
@@ -53,21 +87,21 @@ public class OrtbDeviceUpdater implements PayloadUpdate<AuctionRequestPayload> {
     }
 
     private Device update(Device ortbDevice) {
-        final String make = tryUpdateField(ortbDevice.getMake(), this::getWurflMake);
-        final String model = tryUpdateField(ortbDevice.getModel(), this::getWurflModel);
-        final String hwv = tryUpdateField(ortbDevice.getHwv(), this::getWurflModel);
+        final String make = tryUpdateField(ortbDevice.getMake(), detectedDevice::getMake);
+        final String model = tryUpdateField(ortbDevice.getModel(), detectedDevice::getModel);
+        final String hwv = tryUpdateField(ortbDevice.getHwv(), detectedDevice::getHwv);
         final Integer deviceType = tryUpdateField(
                 Optional.ofNullable(ortbDevice.getDevicetype())
                         .filter(it -> it > 0)
                         .orElse(null),
-                this::getWurflDeviceType);
-        final String os = tryUpdateField(ortbDevice.getOs(), this::getWurflOs);
-        final String osv = tryUpdateField(ortbDevice.getOsv(), this::getWurflOsv);
-        final Integer h = tryUpdateField(ortbDevice.getH(), this::getWurflH);
-        final Integer w = tryUpdateField(ortbDevice.getW(), this::getWurflW);
-        final Integer ppi = tryUpdateField(ortbDevice.getPpi(), this::getWurflPpi);
-        final BigDecimal pxratio = tryUpdateField(ortbDevice.getPxratio(), this::getWurflPxRatio);
-        final Integer js = tryUpdateField(ortbDevice.getJs(), this::getWurflJs);
+                detectedDevice::getDevicetype);
+        final String os = tryUpdateField(ortbDevice.getOs(), detectedDevice::getOs);
+        final String osv = tryUpdateField(ortbDevice.getOsv(), detectedDevice::getOsv);
+        final Integer h = tryUpdateField(ortbDevice.getH(), detectedDevice::getH);
+        final Integer w = tryUpdateField(ortbDevice.getW(), detectedDevice::getW);
+        final Integer ppi = tryUpdateField(ortbDevice.getPpi(), detectedDevice::getPpi);
+        final BigDecimal pxratio = tryUpdateField(ortbDevice.getPxratio(), detectedDevice::getPxratio);
+        final Integer js = tryUpdateField(ortbDevice.getJs(), detectedDevice::getJs);
 
         return ortbDevice.toBuilder()
                 .make(make)
@@ -96,29 +130,33 @@ public class OrtbDeviceUpdater implements PayloadUpdate<AuctionRequestPayload> {
                 : fromOrtbDevice;
     }
 
-    private String getWurflMake() {
+    private static String getWurflMake(com.scientiamobile.wurfl.core.Device wurflDevice) {
         return wurflDevice.getCapability("brand_name");
     }
 
-    private String getWurflModel() {
+    private static String getWurflModel(com.scientiamobile.wurfl.core.Device wurflDevice) {
         return wurflDevice.getCapability("model_name");
     }
 
-    private Integer getWurflDeviceType() {
+    private static Integer getWurflDeviceType(com.scientiamobile.wurfl.core.Device wurflDevice) {
 
-        if (getWurflIsOtt()) {
+        if (getWurflIsOtt(wurflDevice)) {
             return 7;
         }
 
-        if (getWurflIsConsole()) {
+        if (getWurflIsConsole(wurflDevice)) {
             return 6;
         }
 
-        if ("out_of_home_device".equals(getWurflPhysicalFormFactor())) {
+        if ("out_of_home_device".equals(getWurflPhysicalFormFactor(wurflDevice))) {
             return 8;
         }
 
-        final String formFactor = getWurflFormFactor();
+        final String formFactor = getWurflFormFactor(wurflDevice);
+        if (formFactor == null) {
+            return null;
+        }
+
         return switch (formFactor) {
             case "Desktop" -> 2;
             case "Smartphone", "Feature Phone" -> 4;
@@ -130,7 +168,7 @@ public class OrtbDeviceUpdater implements PayloadUpdate<AuctionRequestPayload> {
         };
     }
 
-    private Boolean getWurflIsOtt() {
+    private static Boolean getWurflIsOtt(com.scientiamobile.wurfl.core.Device wurflDevice) {
         try {
             return wurflDevice.getCapabilityAsBool("is_ott");
         } catch (CapabilityNotDefinedException e) {
@@ -139,7 +177,7 @@ public class OrtbDeviceUpdater implements PayloadUpdate<AuctionRequestPayload> {
         }
     }
 
-    private String getWurflFormFactor() {
+    private static String getWurflFormFactor(com.scientiamobile.wurfl.core.Device wurflDevice) {
         try {
             return wurflDevice.getVirtualCapability("form_factor");
         } catch (VirtualCapabilityNotDefinedException e) {
@@ -148,7 +186,7 @@ public class OrtbDeviceUpdater implements PayloadUpdate<AuctionRequestPayload> {
         }
     }
 
-    private String getWurflPhysicalFormFactor() {
+    private static String getWurflPhysicalFormFactor(com.scientiamobile.wurfl.core.Device wurflDevice) {
         try {
             return wurflDevice.getCapability("physical_form_factor");
         } catch (CapabilityNotDefinedException e) {
@@ -157,7 +195,7 @@ public class OrtbDeviceUpdater implements PayloadUpdate<AuctionRequestPayload> {
         }
     }
 
-    private Boolean getWurflIsConsole() {
+    private static Boolean getWurflIsConsole(com.scientiamobile.wurfl.core.Device wurflDevice) {
         try {
             return wurflDevice.getCapabilityAsBool("is_console");
         } catch (CapabilityNotDefinedException e) {
@@ -166,7 +204,7 @@ public class OrtbDeviceUpdater implements PayloadUpdate<AuctionRequestPayload> {
         }
     }
 
-    private String getWurflOs() {
+    private static String getWurflOs(com.scientiamobile.wurfl.core.Device wurflDevice) {
         try {
             return wurflDevice.getVirtualCapability("advertised_device_os");
         } catch (VirtualCapabilityNotDefinedException e) {
@@ -175,7 +213,7 @@ public class OrtbDeviceUpdater implements PayloadUpdate<AuctionRequestPayload> {
         }
     }
 
-    private String getWurflOsv() {
+    private static String getWurflOsv(com.scientiamobile.wurfl.core.Device wurflDevice) {
         try {
             return wurflDevice.getVirtualCapability("advertised_device_os_version");
         } catch (VirtualCapabilityNotDefinedException e) {
@@ -184,7 +222,7 @@ public class OrtbDeviceUpdater implements PayloadUpdate<AuctionRequestPayload> {
         return null;
     }
 
-    private Integer getWurflH() {
+    private static Integer getWurflH(com.scientiamobile.wurfl.core.Device wurflDevice) {
         try {
             return wurflDevice.getCapabilityAsInt("resolution_height");
         } catch (NumberFormatException e) {
@@ -193,7 +231,7 @@ public class OrtbDeviceUpdater implements PayloadUpdate<AuctionRequestPayload> {
         }
     }
 
-    private Integer getWurflW() {
+    private static Integer getWurflW(com.scientiamobile.wurfl.core.Device wurflDevice) {
         try {
             return wurflDevice.getCapabilityAsInt("resolution_width");
         } catch (NumberFormatException e) {
@@ -202,7 +240,7 @@ public class OrtbDeviceUpdater implements PayloadUpdate<AuctionRequestPayload> {
         }
     }
 
-    private Integer getWurflPpi() {
+    private static Integer getWurflPpi(com.scientiamobile.wurfl.core.Device wurflDevice) {
         try {
             return wurflDevice.getVirtualCapabilityAsInt("pixel_density");
         } catch (VirtualCapabilityNotDefinedException e) {
@@ -211,7 +249,7 @@ public class OrtbDeviceUpdater implements PayloadUpdate<AuctionRequestPayload> {
         }
     }
 
-    private BigDecimal getWurflPxRatio() {
+    private static BigDecimal getWurflPxRatio(com.scientiamobile.wurfl.core.Device wurflDevice) {
         try {
             final String densityAsString = wurflDevice.getCapability("density_class");
             return densityAsString != null
@@ -223,7 +261,7 @@ public class OrtbDeviceUpdater implements PayloadUpdate<AuctionRequestPayload> {
         }
     }
 
-    private Integer getWurflJs() {
+    private static Integer getWurflJs(com.scientiamobile.wurfl.core.Device wurflDevice) {
         try {
             return wurflDevice.getCapabilityAsBool("ajax_support_javascript") ? 1 : 0;
         } catch (CapabilityNotDefinedException | NumberFormatException e) {
@@ -241,7 +279,8 @@ public class OrtbDeviceUpdater implements PayloadUpdate<AuctionRequestPayload> {
                 .map(this::copyExtDevice)
                 .orElse(ExtDevice.empty());
 
-        updatedExt.addProperty(WURFL_PROPERTY, createWurflObject());
+        // detected device may be shared between requests, so its ext is never handed out as is
+        updatedExt.addProperty(WURFL_PROPERTY, detectedDevice.getExt().getProperty(WURFL_PROPERTY).deepCopy());
 
         return updatedExt;
     }
@@ -252,7 +291,12 @@ public class OrtbDeviceUpdater implements PayloadUpdate<AuctionRequestPayload> {
         return copy;
     }
 
-    private ObjectNode createWurflObject() {
+    private static ObjectNode createWurflObject(com.scientiamobile.wurfl.core.Device wurflDevice,
+                                                Set<String> staticCaps,
+                                                Set<String> virtualCaps,
+                                                boolean addExtCaps,
+                                                JacksonMapper mapper) {
+
         final ObjectNode wurfl = mapper.mapper().createObjectNode();
 
         wurfl.put("wurfl_id", wurflDevice.getId());
@@ -18,6 +18,8 @@ import org.prebid.server.hooks.v1.auction.AuctionInvocationContext;
 import org.prebid.server.hooks.v1.auction.AuctionRequestPayload;
 import org.prebid.server.hooks.v1.auction.RawAuctionRequestHook;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.device.DeviceDetectionCache;
+import org.prebid.server.device.DeviceDetectionKey;
 import org.prebid.server.settings.model.Account;
 import io.vertx.core.Future;
 import org.apache.commons.lang3.StringUtils;
@@ -38,15 +40,18 @@ public class WURFLDeviceDetectionRawAuctionRequestHook implements RawAuctionRequ
     private final Set<String> allowedPublisherIDs;
     private final boolean addExtCaps;
     private final JacksonMapper mapper;
+    private final DeviceDetectionCache deviceDetectionCache;
 
     public WURFLDeviceDetectionRawAuctionRequestHook(WURFLService wurflService,
                                                      WURFLDeviceDetectionConfigProperties configProperties,
-                                                     JacksonMapper mapper) {
+                                                     JacksonMapper mapper,
+                                                     DeviceDetectionCache deviceDetectionCache) {
 
         this.wurflService = Objects.requireNonNull(wurflService);
         this.addExtCaps = Objects.requireNonNull(configProperties).isExtCaps();
         this.allowedPublisherIDs = Objects.requireNonNull(configProperties.getAllowedPublisherIds());
         this.mapper = Objects.requireNonNull(mapper);
+        this.deviceDetectionCache = Objects.requireNonNull(deviceDetectionCache);
     }
 
     @Override
@@ -75,8 +80,11 @@ public class WURFLDeviceDetectionRawAuctionRequestHook implements RawAuctionRequ
                         : null;
 
         final Map<String, String> headers = HeadersResolver.resolve(device, requestHeaders);
-        final Optional<com.scientiamobile.wurfl.core.Device> wurflDevice = wurflService.lookupDevice(headers);
-        if (wurflDevice.isEmpty()) {
+        final Device detectedDevice = deviceDetectionCache.get(
+                WURFLDeviceDetectionModule.CODE,
+                DeviceDetectionKey.fromHeaders(headers),
+                () -> detectDevice(headers));
+        if (detectedDevice == null) {
             logger.info("No WURFL device found, returning original bid request");
             return noActionResult();
         }
@@ -85,15 +93,21 @@ public class WURFLDeviceDetectionRawAuctionRequestHook implements RawAuctionRequ
                 InvocationResultImpl.<AuctionRequestPayload>builder()
                         .status(InvocationStatus.success)
                         .action(InvocationAction.update)
-                        .payloadUpdate(new OrtbDeviceUpdater(
-                                wurflDevice.get(),
-                                wurflService.getAllCapabilities(),
-                                wurflService.getAllVirtualCapabilities(),
-                                addExtCaps,
-                                mapper))
+                        .payloadUpdate(new OrtbDeviceUpdater(detectedDevice, mapper))
                         .build());
     }
 
+    private Device detectDevice(Map<String, String> headers) {
+        return wurflService.lookupDevice(headers)
+                .map(wurflDevice -> OrtbDeviceUpdater.detectDevice(
+                        wurflDevice,
+                        wurflService.getAllCapabilities(),
+                        wurflService.getAllVirtualCapabilities(),
+                        addExtCaps,
+                        mapper))
+                .orElse(null);
+    }
+
     private boolean isDeviceAlreadyEnriched(Device device) {
         final ExtDevice extDevice = device.getExt();
         if (extDevice != null && extDevice.containsProperty(WURFL_PROPERTY)) {
@@ -391,4 +391,25 @@ public class OrtbDeviceUpdaterTest {
         assertThat(resultExt.getProperty("wurfl")).isNotNull();
 
     }
+
+    @Test
+    public void updateShouldNotShareWurflPropertyOfDetectedDevice() {
+        // given
+        given(wurflDevice.getId()).willReturn("test_phone_ver1");
+        given(wurflDevice.getVirtualCapability("form_factor")).willReturn("Smartphone");
+        final Device detectedDevice = OrtbDeviceUpdater.detectDevice(
+                wurflDevice, staticCaps, virtualCaps, false, mapper);
+        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(detectedDevice, mapper);
+        given(payload.bidRequest()).willReturn(BidRequest.builder().device(Device.builder().build()).build());
+
+        // when
+        final AuctionRequestPayload result = target.apply(payload);
+
+        // then
+        final Device resultDevice = result.bidRequest().getDevice();
+        assertThat(resultDevice.getDevicetype()).isEqualTo(4);
+        assertThat(resultDevice.getExt().getProperty("wurfl"))
+                .isEqualTo(detectedDevice.getExt().getProperty("wurfl"))
+                .isNotSameAs(detectedDevice.getExt().getProperty("wurfl"));
+    }
 }
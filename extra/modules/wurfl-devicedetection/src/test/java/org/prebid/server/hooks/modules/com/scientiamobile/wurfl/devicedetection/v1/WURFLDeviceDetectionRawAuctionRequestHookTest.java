@@ -12,6 +12,8 @@ import org.prebid.server.proto.openrtb.ext.request.ExtDevicePrebid;
 import org.prebid.server.proto.openrtb.ext.request.ExtDevice;
 import org.prebid.server.proto.openrtb.ext.request.ExtDeviceInt;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.device.DeviceDetectionCache;
+import org.prebid.server.device.InMemoryDeviceDetectionCache;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.json.ObjectMapperProvider;
@@ -22,6 +24,8 @@ import org.prebid.server.hooks.v1.InvocationResult;
 import org.prebid.server.hooks.v1.InvocationStatus;
 import org.prebid.server.hooks.v1.auction.AuctionInvocationContext;
 import org.prebid.server.hooks.v1.auction.AuctionRequestPayload;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -32,6 +36,7 @@ import java.util.Set;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class WURFLDeviceDetectionRawAuctionRequestHookTest {
@@ -45,6 +50,9 @@ public class WURFLDeviceDetectionRawAuctionRequestHookTest {
     @Mock
     private AuctionRequestPayload payload;
 
+    @Mock
+    private Metrics metrics;
+
     @Mock
     private AuctionInvocationContext context;
 
@@ -65,7 +73,8 @@ public class WURFLDeviceDetectionRawAuctionRequestHookTest {
         auctionContext = AuctionContext.builder().account(account).build();
 
         final WURFLService wurflService = new WURFLService(wurflEngine, configProperties);
-        target = new WURFLDeviceDetectionRawAuctionRequestHook(wurflService, configProperties, mapper);
+        target = new WURFLDeviceDetectionRawAuctionRequestHook(
+                wurflService, configProperties, mapper, DeviceDetectionCache.noCache());
     }
 
     @Test
@@ -108,7 +117,8 @@ public class WURFLDeviceDetectionRawAuctionRequestHookTest {
         given(payload.bidRequest()).willReturn(bidRequest);
         given(configProperties.getAllowedPublisherIds()).willReturn(Collections.emptySet());
         final WURFLService wurflService = new WURFLService(wurflEngine, configProperties);
-        target = new WURFLDeviceDetectionRawAuctionRequestHook(wurflService, configProperties, mapper);
+        target = new WURFLDeviceDetectionRawAuctionRequestHook(
+                wurflService, configProperties, mapper, DeviceDetectionCache.noCache());
 
         // when
         final InvocationResult<AuctionRequestPayload> result = target.call(payload, context).result();
@@ -132,7 +142,8 @@ public class WURFLDeviceDetectionRawAuctionRequestHookTest {
         given(configProperties.getAllowedPublisherIds()).willReturn(Collections.emptySet());
         final WURFLService wurflService = new WURFLService(wurflEngine, configProperties);
         given(wurflDevice.getId()).willReturn("test_phone_ver1");
-        target = new WURFLDeviceDetectionRawAuctionRequestHook(wurflService, configProperties, mapper);
+        target = new WURFLDeviceDetectionRawAuctionRequestHook(
+                wurflService, configProperties, mapper, DeviceDetectionCache.noCache());
 
         // when
         final InvocationResult<AuctionRequestPayload> result = target.call(payload, context).result();
@@ -148,7 +159,8 @@ public class WURFLDeviceDetectionRawAuctionRequestHookTest {
         final String ua = "Mozilla/5.0 (testPhone; CPU testPhone OS 1_0_2) Version/17.4.1 Mobile/12E GrandTest/604.1";
         given(configProperties.getAllowedPublisherIds()).willReturn(Collections.emptySet());
         final WURFLService wurflService = new WURFLService(wurflEngine, configProperties);
-        target = new WURFLDeviceDetectionRawAuctionRequestHook(wurflService, configProperties, mapper);
+        target = new WURFLDeviceDetectionRawAuctionRequestHook(
+                wurflService, configProperties, mapper, DeviceDetectionCache.noCache());
         final Device device = Device.builder()
                 .ua(ua)
                 .devicetype(1)
@@ -199,6 +211,34 @@ public class WURFLDeviceDetectionRawAuctionRequestHookTest {
         assertThat(result.action()).isEqualTo(InvocationAction.update);
     }
 
+    @Test
+    public void callShouldLookupDeviceOnceForSameUserAgentWhenCacheIsUsed() {
+        // given
+        final String ua = "Mozilla/5.0 (iPhone; CPU iPhone OS 17_7_2) Version/17.4.1 Mobile/15E148 Safari/604.1";
+        final Device device = Device.builder().ua(ua).build();
+        final BidRequest bidRequest = BidRequest.builder().device(device).build();
+        given(payload.bidRequest()).willReturn(bidRequest);
+        given(configProperties.getAllowedPublisherIds()).willReturn(Collections.emptySet());
+        given(wurflEngine.getDeviceForRequest(any(Map.class))).willReturn(wurflDevice);
+        given(wurflDevice.getId()).willReturn("apple_iphone_ver1");
+        given(wurflDevice.getCapability("brand_name")).willReturn("Apple");
+
+        final WURFLService wurflService = new WURFLService(wurflEngine, configProperties);
+        target = new WURFLDeviceDetectionRawAuctionRequestHook(
+                wurflService, configProperties, mapper, new InMemoryDeviceDetectionCache(10, 60, metrics));
+
+        // when
+        target.call(payload, context);
+        final InvocationResult<AuctionRequestPayload> result = target.call(payload, context).result();
+
+        // then
+        assertThat(result.action()).isEqualTo(InvocationAction.update);
+        assertThat(result.payloadUpdate().apply(payload).bidRequest().getDevice().getMake()).isEqualTo("Apple");
+        verify(wurflEngine).getDeviceForRequest(any(Map.class));
+        verify(metrics).updateDeviceDetectionCacheMetric(WURFLDeviceDetectionModule.CODE, MetricName.miss);
+        verify(metrics).updateDeviceDetectionCacheMetric(WURFLDeviceDetectionModule.CODE, MetricName.hit);
+    }
+
     @Test
     public void shouldEnrichDeviceWhenAllowedPublisherIdsIsEmpty() throws Exception {
         // given
@@ -220,7 +260,8 @@ public class WURFLDeviceDetectionRawAuctionRequestHookTest {
         given(configProperties.getAllowedPublisherIds()).willReturn(Collections.emptySet());
 
         final WURFLService wurflService = new WURFLService(wurflEngine, configProperties);
-        target = new WURFLDeviceDetectionRawAuctionRequestHook(wurflService, configProperties, mapper);
+        target = new WURFLDeviceDetectionRawAuctionRequestHook(
+                wurflService, configProperties, mapper, DeviceDetectionCache.noCache());
 
         // when
         final InvocationResult<AuctionRequestPayload> result = target.call(payload, context).result();
@@ -254,7 +295,8 @@ public class WURFLDeviceDetectionRawAuctionRequestHookTest {
         given(context.auctionContext()).willReturn(auctionContext);
 
         final WURFLService wurflService = new WURFLService(wurflEngine, configProperties);
-        target = new WURFLDeviceDetectionRawAuctionRequestHook(wurflService, configProperties, mapper);
+        target = new WURFLDeviceDetectionRawAuctionRequestHook(
+                wurflService, configProperties, mapper, DeviceDetectionCache.noCache());
 
         // when
         final InvocationResult<AuctionRequestPayload> result = target.call(payload, context).result();
@@ -271,7 +313,8 @@ public class WURFLDeviceDetectionRawAuctionRequestHookTest {
         given(account.getId()).willReturn("unknown-publisher");
         given(configProperties.getAllowedPublisherIds()).willReturn(Set.of("allowed-publisher"));
         final WURFLService wurflService = new WURFLService(wurflEngine, configProperties);
-        target = new WURFLDeviceDetectionRawAuctionRequestHook(wurflService, configProperties, mapper);
+        target = new WURFLDeviceDetectionRawAuctionRequestHook(
+                wurflService, configProperties, mapper, DeviceDetectionCache.noCache());
 
         // when
         final InvocationResult<AuctionRequestPayload> result = target.call(payload, context).result();
@@ -288,7 +331,8 @@ public class WURFLDeviceDetectionRawAuctionRequestHookTest {
         given(account.getId()).willReturn("");
         given(configProperties.getAllowedPublisherIds()).willReturn(Set.of("allowed-publisher"));
         final WURFLService wurflService = new WURFLService(wurflEngine, configProperties);
-        target = new WURFLDeviceDetectionRawAuctionRequestHook(wurflService, configProperties, mapper);
+        target = new WURFLDeviceDetectionRawAuctionRequestHook(
+                wurflService, configProperties, mapper, DeviceDetectionCache.noCache());
 
         // when
         final InvocationResult<AuctionRequestPayload> result = target.call(payload, context).result();
@@ -1,5 +1,7 @@
 package org.prebid.server.activity.infrastructure.creator;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
 import org.apache.commons.collections4.ListUtils;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.infrastructure.ActivityController;
@@ -25,7 +27,7 @@ import org.prebid.server.settings.model.activity.AccountActivityConfiguration;
 import org.prebid.server.settings.model.activity.privacy.AccountPrivacyModuleConfig;
 import org.prebid.server.settings.model.activity.rule.AccountActivityRuleConfig;
 
-import java.util.Arrays;
+import java.time.Clock;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.EnumSet;
@@ -36,8 +38,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BinaryOperator;
-import java.util.function.Function;
-import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
@@ -46,16 +46,23 @@ public class ActivityInfrastructureCreator {
     private static final Logger logger = LoggerFactory.getLogger(ActivityInfrastructureCreator.class);
 
     private static final int MODULE_MAX_SKIP_RATE = 100;
+    private static final int COMPILED_CONFIGS_CACHE_SIZE = 10000;
 
     private final ActivityRuleFactory activityRuleFactory;
     private final Purpose defaultPurpose4;
     private final Metrics metrics;
     private final JacksonMapper jacksonMapper;
+    private final Clock clock;
+
+    // privacy configs are parts of cached accounts, so they are compared by identity and released with account
+    private final Map<AccountPrivacyConfig, CompiledPrivacyConfig> compiledConfigs;
+    private final CompiledPrivacyConfig emptyConfig;
 
     public ActivityInfrastructureCreator(ActivityRuleFactory activityRuleFactory,
                                          GdprConfig gdprConfig,
                                          Metrics metrics,
-                                         JacksonMapper jacksonMapper) {
+                                         JacksonMapper jacksonMapper,
+                                         Clock clock) {
 
         this.activityRuleFactory = Objects.requireNonNull(activityRuleFactory);
         this.defaultPurpose4 = Optional.ofNullable(gdprConfig)
@@ -64,6 +71,14 @@ public class ActivityInfrastructureCreator {
                 .orElse(null);
         this.metrics = Objects.requireNonNull(metrics);
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
+        this.clock = Objects.requireNonNull(clock);
+
+        compiledConfigs = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(COMPILED_CONFIGS_CACHE_SIZE)
+                .<AccountPrivacyConfig, CompiledPrivacyConfig>build()
+                .asMap();
+        emptyConfig = compile(null, null);
     }
 
     public ActivityInfrastructure create(Account account, GppContext gppContext, TraceLevel traceLevel) {
@@ -76,7 +91,62 @@ public class ActivityInfrastructureCreator {
     }
 
     Map<Activity, ActivityController> parse(Account account, GppContext gppContext, ActivityInfrastructureDebug debug) {
-        final Optional<AccountPrivacyConfig> accountPrivacyConfig = Optional.ofNullable(account.getPrivacy());
+        final CompiledPrivacyConfig compiledConfig = compiledPrivacyConfig(account);
+        final Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs =
+                compiledConfig.getModulesConfigs();
+
+        final Set<PrivacyModuleQualifier> skipPrivacyModules = modulesConfigs.entrySet().stream()
+                .filter(entry -> shouldSkipPrivacyModule(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(PrivacyModuleQualifier.class)));
+
+        final Map<Activity, ActivityController> controllers = new EnumMap<>(Activity.class);
+        for (Activity activity : Activity.values()) {
+            // TODO: remove this fallback after transition period
+            final boolean imitateTransmitEids =
+                    activity == Activity.TRANSMIT_EIDS && compiledConfig.isImitateTransmitEids();
+            final Activity effectiveActivity = imitateTransmitEids ? Activity.TRANSMIT_UFPD : activity;
+
+            controllers.put(activity, from(
+                    effectiveActivity,
+                    compiledConfig.getActivities().get(effectiveActivity),
+                    modulesConfigs,
+                    skipPrivacyModules,
+                    gppContext,
+                    debug));
+        }
+
+        return controllers;
+    }
+
+    private CompiledPrivacyConfig compiledPrivacyConfig(Account account) {
+        final AccountPrivacyConfig accountPrivacyConfig = account.getPrivacy();
+        if (accountPrivacyConfig == null) {
+            return emptyConfig;
+        }
+
+        final CompiledPrivacyConfig cachedConfig = compiledConfigs.get(accountPrivacyConfig);
+        if (cachedConfig != null) {
+            metrics.updateSettingsCacheEventMetric(MetricName.activity_infrastructure, MetricName.hit);
+            return cachedConfig;
+        }
+
+        metrics.updateSettingsCacheEventMetric(MetricName.activity_infrastructure, MetricName.miss);
+
+        final long startTime = clock.millis();
+        final CompiledPrivacyConfig compiledConfig = compile(account.getId(), accountPrivacyConfig);
+        metrics.updateSettingsCacheBuildTime(MetricName.activity_infrastructure, clock.millis() - startTime);
+
+        compiledConfigs.put(accountPrivacyConfig, compiledConfig);
+        return compiledConfig;
+    }
+
+    /**
+     * Prepares request-independent part of account privacy configuration,
+     * so only GPP context, skipped modules and debug have to be applied for each request.
+     */
+    private CompiledPrivacyConfig compile(String accountId, AccountPrivacyConfig privacyConfig) {
+        final Optional<AccountPrivacyConfig> accountPrivacyConfig = Optional.ofNullable(privacyConfig);
 
         final Map<Activity, AccountActivityConfiguration> activitiesConfiguration = accountPrivacyConfig
                 .map(AccountPrivacyConfig::getActivities)
@@ -90,27 +160,28 @@ public class ActivityInfrastructureCreator {
                 .collect(Collectors.toMap(
                         AccountPrivacyModuleConfig::getCode,
                         UnaryOperator.identity(),
-                        takeFirstAndLogDuplicates(account.getId())));
+                        takeFirstAndLogDuplicates(accountId),
+                        () -> new EnumMap<>(PrivacyModuleQualifier.class)));
 
-        final Set<PrivacyModuleQualifier> skipPrivacyModules = modulesConfigs.entrySet().stream()
-                .filter(entry -> shouldSkipPrivacyModule(entry.getValue()))
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toCollection(() -> EnumSet.noneOf(PrivacyModuleQualifier.class)));
+        final Map<Activity, CompiledActivity> activities = new EnumMap<>(Activity.class);
+        activitiesConfiguration.forEach((activity, configuration) -> {
+            if (activity != null && configuration != null) {
+                activities.put(activity, compileActivity(configuration));
+            }
+        });
+
+        return CompiledPrivacyConfig.of(
+                Collections.unmodifiableMap(modulesConfigs),
+                Collections.unmodifiableMap(activities),
+                imitateTransmitEids(activitiesConfiguration, accountPrivacyConfig));
+    }
 
-        return Arrays.stream(Activity.values()).collect(Collectors.toMap(
-                UnaryOperator.identity(),
-                fallbackActivity(
-                        activitiesConfiguration,
-                        accountPrivacyConfig,
-                        activity -> from(
-                                activity,
-                                activitiesConfiguration.get(activity),
-                                modulesConfigs,
-                                skipPrivacyModules,
-                                gppContext,
-                                debug)),
-                (oldValue, newValue) -> oldValue,
-                enumMapFactory()));
+    private static CompiledActivity compileActivity(AccountActivityConfiguration activityConfiguration) {
+        return CompiledActivity.of(
+                allowFromConfig(activityConfiguration.getAllow()),
+                ListUtils.emptyIfNull(activityConfiguration.getRules()).stream()
+                        .filter(Objects::nonNull)
+                        .toList());
     }
 
     private BinaryOperator<AccountPrivacyModuleConfig> takeFirstAndLogDuplicates(String accountId) {
@@ -123,13 +194,10 @@ public class ActivityInfrastructureCreator {
         };
     }
 
-    // TODO: remove this wrapper after transition period
-    private Function<Activity, ActivityController> fallbackActivity(
-            Map<Activity, AccountActivityConfiguration> activitiesConfiguration,
-            Optional<AccountPrivacyConfig> accountPrivacyConfig,
-            Function<Activity, ActivityController> activityControllerCreator) {
+    private boolean imitateTransmitEids(Map<Activity, AccountActivityConfiguration> activitiesConfiguration,
+                                        Optional<AccountPrivacyConfig> accountPrivacyConfig) {
 
-        final boolean imitateTransmitEids = !activitiesConfiguration.containsKey(Activity.TRANSMIT_EIDS)
+        return !activitiesConfiguration.containsKey(Activity.TRANSMIT_EIDS)
                 && activitiesConfiguration.containsKey(Activity.TRANSMIT_UFPD)
                 && accountPrivacyConfig
                 .map(AccountPrivacyConfig::getGdpr)
@@ -139,10 +207,6 @@ public class ActivityInfrastructureCreator {
                 .map(Purpose::getEid)
                 .map(PurposeEid::getActivityTransition)
                 .orElse(false);
-
-        return originalActivity -> originalActivity == Activity.TRANSMIT_EIDS && imitateTransmitEids
-                ? activityControllerCreator.apply(Activity.TRANSMIT_UFPD)
-                : activityControllerCreator.apply(originalActivity);
     }
 
     private static boolean shouldSkipPrivacyModule(AccountPrivacyModuleConfig config) {
@@ -150,13 +214,13 @@ public class ActivityInfrastructureCreator {
     }
 
     private ActivityController from(Activity activity,
-                                    AccountActivityConfiguration activityConfiguration,
+                                    CompiledActivity compiledActivity,
                                     Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs,
                                     Set<PrivacyModuleQualifier> skipPrivacyModules,
                                     GppContext gppContext,
                                     ActivityInfrastructureDebug debug) {
 
-        if (activityConfiguration == null) {
+        if (compiledActivity == null) {
             return ActivityController.of(
                     ActivityInfrastructure.ALLOW_ACTIVITY_BY_DEFAULT,
                     Collections.emptyList(),
@@ -169,14 +233,12 @@ public class ActivityInfrastructureCreator {
                 skipPrivacyModules,
                 gppContext);
 
-        final boolean allow = allowFromConfig(activityConfiguration.getAllow());
-        final List<Rule> rules = ListUtils.emptyIfNull(activityConfiguration.getRules()).stream()
-                .filter(Objects::nonNull)
+        final List<Rule> rules = compiledActivity.getRules().stream()
                 .map(ruleConfiguration -> createRule(ruleConfiguration, creationContext))
                 .filter(Objects::nonNull)
                 .toList();
 
-        return ActivityController.of(allow, rules, debug);
+        return ActivityController.of(compiledActivity.isAllow(), rules, debug);
     }
 
     private static boolean allowFromConfig(Boolean configValue) {
@@ -197,7 +259,21 @@ public class ActivityInfrastructureCreator {
         }
     }
 
-    private static Supplier<Map<Activity, ActivityController>> enumMapFactory() {
-        return () -> new EnumMap<>(Activity.class);
+    @Value(staticConstructor = "of")
+    private static class CompiledPrivacyConfig {
+
+        Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs;
+
+        Map<Activity, CompiledActivity> activities;
+
+        boolean imitateTransmitEids;
+    }
+
+    @Value(staticConstructor = "of")
+    private static class CompiledActivity {
+
+        boolean allow;
+
+        List<AccountActivityRuleConfig> rules;
     }
 }
@@ -1,5 +1,7 @@
 package org.prebid.server.activity.infrastructure.creator.rule;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.activity.ComponentType;
@@ -10,60 +12,78 @@ import org.prebid.server.activity.infrastructure.rule.Rule;
 import org.prebid.server.settings.model.activity.rule.AccountActivityConditionsRuleConfig;
 
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeSet;
 
 public class ConditionsRuleCreator extends AbstractRuleCreator<AccountActivityConditionsRuleConfig> {
 
+    private static final int COMPILED_RULES_CACHE_SIZE = 10000;
+
+    // rule configurations are parts of cached accounts, so they are compared by identity and released with account
+    private final Map<AccountActivityConditionsRuleConfig, CompiledConditionsRule> compiledRules;
+
     public ConditionsRuleCreator() {
         super(AccountActivityConditionsRuleConfig.class);
+
+        compiledRules = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(COMPILED_RULES_CACHE_SIZE)
+                .<AccountActivityConditionsRuleConfig, CompiledConditionsRule>build()
+                .asMap();
     }
 
     @Override
     protected Rule fromConfiguration(AccountActivityConditionsRuleConfig ruleConfiguration,
                                      ActivityControllerCreationContext creationContext) {
 
+        final CompiledConditionsRule compiledRule =
+                compiledRules.computeIfAbsent(ruleConfiguration, ConditionsRuleCreator::compile);
+
+        return compiledRule.bind(creationContext.getGppContext().scope().getSectionsIds());
+    }
+
+    /**
+     * Builds both possible variants of the rule, so only GPP sids have to be checked for each request.
+     */
+    private static CompiledConditionsRule compile(AccountActivityConditionsRuleConfig ruleConfiguration) {
         final boolean allow = allowFromConfig(ruleConfiguration.getAllow());
         final AccountActivityConditionsRuleConfig.Condition condition = ruleConfiguration.getCondition();
 
-        return new ConditionsRule(
-                condition != null ? setOf(condition.getComponentTypes()) : null,
-                condition != null ? caseInsensitiveSetOf(condition.getComponentNames()) : null,
-                sidsMatched(condition, creationContext.getGppContext().scope().getSectionsIds()),
-                condition != null ? geoCodes(condition.getGeoCodes()) : null,
-                condition != null ? condition.getGpc() : null,
-                allow);
+        final Set<ComponentType> componentTypes =
+                condition != null ? componentTypesOf(condition.getComponentTypes()) : null;
+        final Set<String> componentNames =
+                condition != null ? componentNamesOf(condition.getComponentNames()) : null;
+        final List<ConditionsRule.GeoCode> geoCodes = condition != null ? geoCodes(condition.getGeoCodes()) : null;
+        final String gpc = condition != null ? condition.getGpc() : null;
+        final List<Integer> sids = condition != null ? condition.getSids() : null;
+
+        return CompiledConditionsRule.of(
+                sids != null ? new HashSet<>(sids) : null,
+                new ConditionsRule(componentTypes, componentNames, true, geoCodes, gpc, allow),
+                new ConditionsRule(componentTypes, componentNames, false, geoCodes, gpc, allow));
     }
 
     private static boolean allowFromConfig(Boolean configValue) {
         return configValue != null ? configValue : ActivityInfrastructure.ALLOW_ACTIVITY_BY_DEFAULT;
     }
 
-    private static Set<ComponentType> setOf(Collection<ComponentType> collection) {
-        return collection != null ? new HashSet<>(collection) : null;
-    }
-
-    private static Set<String> caseInsensitiveSetOf(Collection<String> collection) {
+    private static Set<ComponentType> componentTypesOf(Collection<ComponentType> collection) {
         if (collection == null) {
             return null;
         }
 
-        final Set<String> caseInsensitiveSet = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-        caseInsensitiveSet.addAll(collection);
-        return caseInsensitiveSet;
-    }
-
-    private static boolean sidsMatched(AccountActivityConditionsRuleConfig.Condition condition, Set<Integer> gppSids) {
-        final List<Integer> sids = condition != null ? condition.getSids() : null;
-        return sids == null || intersects(sids, gppSids);
+        return collection.isEmpty() || collection.contains(null)
+                ? new HashSet<>(collection)
+                : EnumSet.copyOf(collection);
     }
 
-    private static boolean intersects(Collection<Integer> configurationSids, Collection<Integer> gppSids) {
-        return CollectionUtils.isNotEmpty(configurationSids) && CollectionUtils.isNotEmpty(gppSids)
-                && !CollectionUtils.intersection(configurationSids, gppSids).isEmpty();
+    private static Set<String> componentNamesOf(Collection<String> collection) {
+        return collection != null ? new LinkedHashSet<>(collection) : null;
     }
 
     private static List<ConditionsRule.GeoCode> geoCodes(List<String> stringGeoCodes) {
@@ -91,4 +111,22 @@ public class ConditionsRuleCreator extends AbstractRuleCreator<AccountActivityCo
                 stringGeoCode.substring(0, firstDot),
                 stringGeoCode.substring(firstDot + 1));
     }
+
+    @Value(staticConstructor = "of")
+    private static class CompiledConditionsRule {
+
+        Set<Integer> sids;
+
+        ConditionsRule sidsMatchedRule;
+
+        ConditionsRule sidsNotMatchedRule;
+
+        ConditionsRule bind(Set<Integer> gppSids) {
+            return sids == null || intersects(gppSids) ? sidsMatchedRule : sidsNotMatchedRule;
+        }
+
+        private boolean intersects(Set<Integer> gppSids) {
+            return CollectionUtils.isNotEmpty(gppSids) && gppSids.stream().anyMatch(sids::contains);
+        }
+    }
 }
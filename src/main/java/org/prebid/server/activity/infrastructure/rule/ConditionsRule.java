@@ -12,11 +12,13 @@ import org.prebid.server.activity.infrastructure.payload.GpcActivityInvocationPa
 
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public final class ConditionsRule extends AbstractMatchRule implements Loggable {
 
     private final Set<ComponentType> componentTypes;
     private final Set<String> componentNames;
+    private final Set<String> lowerCaseComponentNames;
     private final boolean sidsMatched;
     private final List<GeoCode> geoCodes;
     private final String gpc;
@@ -31,6 +33,7 @@ public final class ConditionsRule extends AbstractMatchRule implements Loggable
 
         this.componentTypes = componentTypes;
         this.componentNames = componentNames;
+        this.lowerCaseComponentNames = lowerCase(componentNames);
         this.sidsMatched = sidsMatched;
         this.geoCodes = geoCodes;
         this.gpc = gpc;
@@ -43,7 +46,17 @@ public final class ConditionsRule extends AbstractMatchRule implements Loggable
                 && (geoCodes == null || matchesOneOfGeoCodes(activityInvocationPayload))
                 && (gpc == null || matchesGpc(activityInvocationPayload))
                 && (componentTypes == null || componentTypes.contains(activityInvocationPayload.componentType()))
-                && (componentNames == null || componentNames.contains(activityInvocationPayload.componentName()));
+                && (lowerCaseComponentNames == null || matchesComponentName(activityInvocationPayload));
+    }
+
+    private static Set<String> lowerCase(Set<String> componentNames) {
+        return componentNames != null
+                ? componentNames.stream().map(StringUtils::lowerCase).collect(Collectors.toSet())
+                : null;
+    }
+
+    private boolean matchesComponentName(ActivityInvocationPayload activityInvocationPayload) {
+        return lowerCaseComponentNames.contains(StringUtils.lowerCase(activityInvocationPayload.componentName()));
     }
 
     private boolean matchesOneOfGeoCodes(ActivityInvocationPayload activityInvocationPayload) {
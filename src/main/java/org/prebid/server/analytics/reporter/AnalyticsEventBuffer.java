@@ -0,0 +1,199 @@
+package org.prebid.server.analytics.reporter;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.prebid.server.metric.Metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Bounded lock-free buffer of analytics events, filled by any number of threads and drained in batches by one.
+ * <p>
+ * Events are put into ring of slots without locking: every producer claims the next sequence number and
+ * publishes its event stamped with that sequence to the corresponding slot. If ring is full, i.e. buffer was not
+ * flushed in time, the oldest event is overwritten and counted in {@code analytics.<reporter-name>.events_dropped}
+ * metric.
+ * <p>
+ * Buffer tracks number and total size of events, so that reporter can flush it once any of the limits is reached,
+ * in addition to flushing it by timer. Batch encoding, which usually includes serialization and compression,
+ * is done on worker thread to keep event loop free.
+ * <p>
+ * Order of events in a batch follows the order of sequence numbers. Drain stops at the first slot whose producer
+ * has claimed the sequence but not yet published its event, so that event and the ones after it are shifted
+ * to the next batch rather than lost.
+ */
+public class AnalyticsEventBuffer<T> {
+
+    private static final int MAX_CAPACITY = 1 << 20;
+
+    private final String analyticCode;
+    private final long maxEvents;
+    private final long maxBytes;
+    private final ToLongFunction<T> eventSize;
+    private final Metrics metrics;
+
+    private final AtomicReferenceArray<Slot<T>> slots;
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong byteSize = new AtomicLong();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    // written only by thread holding draining flag
+    private volatile long head;
+
+    public AnalyticsEventBuffer(String analyticCode,
+                                int capacity,
+                                long maxEvents,
+                                long maxBytes,
+                                ToLongFunction<T> eventSize,
+                                Metrics metrics) {
+
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Analytics event buffer capacity should be positive");
+        }
+
+        this.analyticCode = Objects.requireNonNull(analyticCode);
+        this.maxEvents = maxEvents;
+        this.maxBytes = maxBytes;
+        this.eventSize = Objects.requireNonNull(eventSize);
+        this.metrics = Objects.requireNonNull(metrics);
+
+        final int ringSize = ringSize(capacity);
+        this.slots = new AtomicReferenceArray<>(ringSize);
+        this.mask = ringSize - 1;
+    }
+
+    private static int ringSize(int capacity) {
+        return capacity >= MAX_CAPACITY
+                ? MAX_CAPACITY
+                : Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+    }
+
+    /**
+     * Puts event to the buffer, overwriting the oldest one if buffer is full.
+     * <p>
+     * Returns true if buffer has reached its events count or size limit and should be flushed.
+     */
+    public boolean put(T event) {
+        final long sequence = tail.getAndIncrement();
+        final Slot<T> slot = new Slot<>(sequence, event);
+        final int index = index(sequence);
+
+        // size is accounted before publishing, so drain never sees it go negative
+        byteSize.addAndGet(eventSize.applyAsLong(event));
+
+        while (true) {
+            final Slot<T> current = slots.get(index);
+            if (current != null && current.sequence() > sequence) {
+                // producer of a later lap has already published here, so this event is the oldest one
+                drop(event);
+                break;
+            }
+            if (slots.compareAndSet(index, current, slot)) {
+                if (current != null) {
+                    drop(current.event());
+                }
+                break;
+            }
+        }
+
+        return isFlushRequired();
+    }
+
+    private void drop(T event) {
+        byteSize.addAndGet(-eventSize.applyAsLong(event));
+        metrics.updateAnalyticEventsDroppedMetric(analyticCode, 1);
+    }
+
+    public boolean isFlushRequired() {
+        return size() >= maxEvents || byteSize.get() >= maxBytes;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns approximate number of events in the buffer.
+     */
+    public long size() {
+        return Math.min(tail.get() - head, slots.length());
+    }
+
+    /**
+     * Returns approximate total size of events in the buffer as defined by event size function.
+     */
+    public long byteSize() {
+        return byteSize.get();
+    }
+
+    /**
+     * Takes all events from the buffer.
+     * <p>
+     * Returns empty list if buffer is empty or is being drained by another thread at the moment.
+     */
+    public List<T> drain() {
+        if (!draining.compareAndSet(false, true)) {
+            return Collections.emptyList();
+        }
+
+        try {
+            final long end = tail.get();
+            // slots behind the ring size are already overwritten
+            final long start = Math.max(head, end - slots.length());
+            if (start >= end) {
+                return Collections.emptyList();
+            }
+
+            final List<T> events = new ArrayList<>((int) (end - start));
+            long sequence = start;
+            while (sequence < end) {
+                final int index = index(sequence);
+                final Slot<T> slot = slots.get(index);
+                if (slot == null || slot.sequence() < sequence) {
+                    // claimed but not yet published
+                    break;
+                }
+
+                // slot of a later sequence means this event was overwritten and counted as dropped
+                if (slot.sequence() == sequence && slots.compareAndSet(index, slot, null)) {
+                    events.add(slot.event());
+                    byteSize.addAndGet(-eventSize.applyAsLong(slot.event()));
+                }
+                sequence++;
+            }
+            head = sequence;
+
+            return events;
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    /**
+     * Takes all events from the buffer and encodes them into single payload on worker thread.
+     * <p>
+     * Returns future with null result if there was nothing to encode.
+     */
+    public <P> Future<P> drainAndEncode(Vertx vertx, Function<List<T>, P> batchEncoder) {
+        final List<T> events = drain();
+        return events.isEmpty()
+                ? Future.succeededFuture()
+                : vertx.executeBlocking(() -> batchEncoder.apply(events));
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence & mask);
+    }
+
+    private record Slot<T>(long sequence, T event) {
+    }
+}
@@ -22,6 +22,7 @@ import org.prebid.server.analytics.AnalyticsReporter;
 import org.prebid.server.analytics.model.AmpEvent;
 import org.prebid.server.analytics.model.AuctionEvent;
 import org.prebid.server.analytics.model.VideoEvent;
+import org.prebid.server.analytics.reporter.AnalyticsEventBuffer;
 import org.prebid.server.analytics.reporter.agma.model.AgmaAnalyticsProperties;
 import org.prebid.server.analytics.reporter.agma.model.AgmaEvent;
 import org.prebid.server.auction.model.AuctionContext;
@@ -30,6 +31,7 @@ import org.prebid.server.exception.PreBidException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.privacy.gdpr.model.TcfContext;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
 import org.prebid.server.privacy.model.PrivacyContext;
@@ -56,12 +58,15 @@ public class AgmaAnalyticsReporter implements AnalyticsReporter, Initializable {
 
     private static final Logger logger = LoggerFactory.getLogger(AgmaAnalyticsReporter.class);
 
+    private static final String NAME = "agmaAnalytics";
+    private static final int MIN_BUFFER_CAPACITY = 1024;
+
     private final String url;
     private final boolean compressToGzip;
     private final long bufferTimeoutMs;
     private final long httpTimeoutMs;
 
-    private final EventBuffer<String> buffer;
+    private final AnalyticsEventBuffer<String> buffer;
 
     private final Map<String, String> accounts;
 
@@ -76,7 +81,8 @@ public class AgmaAnalyticsReporter implements AnalyticsReporter, Initializable {
                                  JacksonMapper jacksonMapper,
                                  Clock clock,
                                  HttpClient httpClient,
-                                 Vertx vertx) {
+                                 Vertx vertx,
+                                 Metrics metrics) {
 
         this.accounts = agmaAnalyticsProperties.getAccounts();
 
@@ -85,9 +91,15 @@ public class AgmaAnalyticsReporter implements AnalyticsReporter, Initializable {
         this.httpTimeoutMs = agmaAnalyticsProperties.getHttpTimeoutMs();
         this.compressToGzip = agmaAnalyticsProperties.isGzip();
 
-        this.buffer = new EventBuffer<>(
-                agmaAnalyticsProperties.getMaxEventsCount(),
-                agmaAnalyticsProperties.getBufferSize());
+        final int maxEventsCount = agmaAnalyticsProperties.getMaxEventsCount();
+        this.buffer = new AnalyticsEventBuffer<>(
+                NAME,
+                // leaves room for events coming while the previous batch is being taken
+                Math.max(maxEventsCount * 2, MIN_BUFFER_CAPACITY),
+                maxEventsCount,
+                agmaAnalyticsProperties.getBufferSize(),
+                String::length,
+                Objects.requireNonNull(metrics));
 
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
         this.httpClient = Objects.requireNonNull(httpClient);
@@ -98,7 +110,7 @@ public class AgmaAnalyticsReporter implements AnalyticsReporter, Initializable {
 
     @Override
     public void initialize(Promise<Void> initializePromise) {
-        vertx.setPeriodic(bufferTimeoutMs, ignored -> sendEvents(buffer.pollAll()));
+        vertx.setPeriodic(bufferTimeoutMs, ignored -> sendEvents());
         initializePromise.complete();
     }
 
@@ -151,8 +163,9 @@ public class AgmaAnalyticsReporter implements AnalyticsReporter, Initializable {
                 .build();
 
         final String eventString = jacksonMapper.encodeToString(agmaEvent);
-        buffer.put(eventString, eventString.length());
-        sendEvents(buffer.pollToFlush());
+        if (buffer.put(eventString)) {
+            sendEvents();
+        }
         return Future.succeededFuture();
     }
 
@@ -207,18 +220,26 @@ public class AgmaAnalyticsReporter implements AnalyticsReporter, Initializable {
                 : publisherId;
     }
 
-    private void sendEvents(List<String> events) {
-        if (events.isEmpty()) {
-            return;
-        }
-        final String payload = preparePayload(events);
+    private void sendEvents() {
         final Future<HttpClientResponse> responseFuture = compressToGzip
-                ? httpClient.request(HttpMethod.POST, url, headers, gzip(payload), httpTimeoutMs)
-                : httpClient.request(HttpMethod.POST, url, headers, payload, httpTimeoutMs);
+                ? buffer.drainAndEncode(vertx, events -> gzip(preparePayload(events))).compose(this::send)
+                : buffer.drainAndEncode(vertx, AgmaAnalyticsReporter::preparePayload).compose(this::send);
 
         responseFuture.onComplete(this::handleReportResponse);
     }
 
+    private Future<HttpClientResponse> send(byte[] payload) {
+        return payload != null
+                ? httpClient.request(HttpMethod.POST, url, headers, payload, httpTimeoutMs)
+                : Future.succeededFuture();
+    }
+
+    private Future<HttpClientResponse> send(String payload) {
+        return payload != null
+                ? httpClient.request(HttpMethod.POST, url, headers, payload, httpTimeoutMs)
+                : Future.succeededFuture();
+    }
+
     private static String preparePayload(List<String> events) {
         return "[" + String.join(",", events) + "]";
     }
@@ -240,7 +261,7 @@ public class AgmaAnalyticsReporter implements AnalyticsReporter, Initializable {
         if (result.failed()) {
             logger.error("[agmaAnalytics] Failed to send events to endpoint {} with a reason: {}",
                     url, result.cause().getMessage());
-        } else {
+        } else if (result.result() != null) {
             final HttpClientResponse httpClientResponse = result.result();
             final int statusCode = httpClientResponse.getStatusCode();
             if (statusCode != HttpResponseStatus.OK.code()) {
@@ -268,6 +289,6 @@ public class AgmaAnalyticsReporter implements AnalyticsReporter, Initializable {
 
     @Override
     public String name() {
-        return "agmaAnalytics";
+        return NAME;
     }
 }
@@ -21,6 +21,7 @@ import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.Initializable;
 import org.prebid.server.vertx.httpclient.HttpClient;
@@ -52,7 +53,8 @@ public class PubstackAnalyticsReporter implements AnalyticsReporter, Initializab
     public PubstackAnalyticsReporter(PubstackAnalyticsProperties pubstackAnalyticsProperties,
                                      HttpClient httpClient,
                                      JacksonMapper jacksonMapper,
-                                     Vertx vertx) {
+                                     Vertx vertx,
+                                     Metrics metrics) {
 
         this.configurationRefreshDelay =
                 Objects.requireNonNull(pubstackAnalyticsProperties.getConfigurationRefreshDelayMs());
@@ -61,7 +63,8 @@ public class PubstackAnalyticsReporter implements AnalyticsReporter, Initializab
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
         this.vertx = Objects.requireNonNull(vertx);
 
-        this.eventHandlers = createEventHandlers(pubstackAnalyticsProperties, httpClient, jacksonMapper, vertx);
+        this.eventHandlers = createEventHandlers(
+                pubstackAnalyticsProperties, httpClient, jacksonMapper, vertx, Objects.requireNonNull(metrics));
         this.pubstackConfig = PubstackConfig.of(pubstackAnalyticsProperties.getScopeId(),
                 pubstackAnalyticsProperties.getEndpoint(), Collections.emptyMap());
     }
@@ -70,7 +73,8 @@ public class PubstackAnalyticsReporter implements AnalyticsReporter, Initializab
             PubstackAnalyticsProperties pubstackAnalyticsProperties,
             HttpClient httpClient,
             JacksonMapper jacksonMapper,
-            Vertx vertx) {
+            Vertx vertx,
+            Metrics metrics) {
 
         return Arrays.stream(EventType.values())
                 .collect(Collectors.toMap(Function.identity(),
@@ -80,7 +84,8 @@ public class PubstackAnalyticsReporter implements AnalyticsReporter, Initializab
                                 buildEventEndpointUrl(pubstackAnalyticsProperties.getEndpoint(), eventType),
                                 jacksonMapper,
                                 httpClient,
-                                vertx)));
+                                vertx,
+                                metrics)));
     }
 
     private static String buildEventEndpointUrl(String endpoint, EventType eventType) {
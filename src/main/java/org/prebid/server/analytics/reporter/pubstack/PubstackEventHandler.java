@@ -3,15 +3,18 @@ package org.prebid.server.analytics.reporter.pubstack;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
+import org.prebid.server.analytics.reporter.AnalyticsEventBuffer;
 import org.prebid.server.analytics.reporter.pubstack.model.PubstackAnalyticsProperties;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
@@ -19,13 +22,10 @@ import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Objects;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.function.Predicate;
+import java.util.function.BooleanSupplier;
 import java.util.zip.GZIPOutputStream;
 
 public class PubstackEventHandler {
@@ -35,12 +35,12 @@ public class PubstackEventHandler {
     private static final String APPLICATION_OCTET_STREAM = "application/octet-stream";
     private static final String GZIP = "gzip";
     private static final String NEW_LINE = "\n";
+    private static final String NAME = "pubstack";
+    private static final int MIN_BUFFER_CAPACITY = 1024;
 
     private volatile boolean enabled;
     private volatile String endpoint;
     private volatile String scopeId;
-    private final long maxByteSize;
-    private final long maxEventCount;
     private final long reportTtlMillis;
     private final long timeoutMs;
     private final Vertx vertx;
@@ -48,9 +48,8 @@ public class PubstackEventHandler {
     private final HttpClient httpClient;
 
     private final ReentrantLock lockOnSend;
-    private final AtomicReference<Queue<String>> events;
+    private final AnalyticsEventBuffer<String> buffer;
     private final MultiMap headers;
-    private final AtomicLong byteSize;
     private volatile long reportTimerId;
 
     public PubstackEventHandler(PubstackAnalyticsProperties pubstackAnalyticsProperties,
@@ -58,12 +57,11 @@ public class PubstackEventHandler {
                                 String endpoint,
                                 JacksonMapper jacksonMapper,
                                 HttpClient httpClient,
-                                Vertx vertx) {
+                                Vertx vertx,
+                                Metrics metrics) {
         this.enabled = enabled;
         this.endpoint = HttpUtil.validateUrl(endpoint);
         this.scopeId = pubstackAnalyticsProperties.getScopeId();
-        this.maxByteSize = pubstackAnalyticsProperties.getSizeBytes();
-        this.maxEventCount = pubstackAnalyticsProperties.getCount();
         this.reportTtlMillis = pubstackAnalyticsProperties.getReportTtlMs();
         this.timeoutMs = pubstackAnalyticsProperties.getTimeoutMs();
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
@@ -71,25 +69,36 @@ public class PubstackEventHandler {
         this.vertx = Objects.requireNonNull(vertx);
 
         this.lockOnSend = new ReentrantLock();
-        this.events = new AtomicReference<>(new ConcurrentLinkedQueue<>());
+        this.buffer = createBuffer(pubstackAnalyticsProperties, Objects.requireNonNull(metrics));
         this.headers = makeHeaders();
-        this.byteSize = new AtomicLong();
         if (enabled) {
             this.reportTimerId = setReportTtlTimer();
         }
     }
 
+    private static AnalyticsEventBuffer<String> createBuffer(PubstackAnalyticsProperties properties,
+                                                             Metrics metrics) {
+
+        final int maxEventCount = properties.getCount();
+        // events are reported once limits are exceeded, not reached
+        return new AnalyticsEventBuffer<>(
+                NAME,
+                Math.max(maxEventCount * 2, MIN_BUFFER_CAPACITY),
+                maxEventCount + 1L,
+                properties.getSizeBytes() + 1L,
+                event -> event.getBytes(StandardCharsets.UTF_8).length,
+                metrics);
+    }
+
     public <T> void handle(T event) {
-        if (enabled) {
-            buffer(event);
-            reportEventsOnCondition(byteSize -> byteSize.get() > maxByteSize, byteSize);
-            reportEventsOnCondition(eventsReference -> eventsReference.get().size() > maxEventCount, events);
+        if (enabled && buffer.put(toJsonEvent(event))) {
+            reportEventsOnCondition(buffer::isFlushRequired);
         }
     }
 
     public void reportEvents() {
         if (enabled) {
-            reportEventsOnCondition(events -> !events.get().isEmpty(), events);
+            reportEventsOnCondition(() -> !buffer.isEmpty());
         }
     }
 
@@ -100,22 +109,20 @@ public class PubstackEventHandler {
         this.scopeId = scopeId;
     }
 
-    private <T> void buffer(T event) {
+    private <T> String toJsonEvent(T event) {
         final ObjectNode eventNode = jacksonMapper.mapper().valueToTree(event);
         eventNode.put(SCOPE_FIELD_NAME, scopeId);
-        final String jsonEvent = jacksonMapper.encodeToString(eventNode);
-        events.get().add(jsonEvent);
-        byteSize.getAndAdd(jsonEvent.getBytes().length);
+        return jacksonMapper.encodeToString(eventNode);
     }
 
-    private <T> boolean reportEventsOnCondition(Predicate<T> conditionToSend, T conditionValue) {
+    private boolean reportEventsOnCondition(BooleanSupplier conditionToSend) {
         boolean requestWasSent = false;
-        if (conditionToSend.test(conditionValue)) {
+        if (conditionToSend.getAsBoolean()) {
             lockOnSend.lock();
             try {
-                if (conditionToSend.test(conditionValue)) {
+                if (conditionToSend.getAsBoolean()) {
                     requestWasSent = true;
-                    sendEvents(events);
+                    sendEvents();
                 }
             } catch (Exception exception) {
                 logger.error("[pubstack] Failed to send analytics report to endpoint {} with a reason {}",
@@ -127,23 +134,24 @@ public class PubstackEventHandler {
         return requestWasSent;
     }
 
-    private void sendEvents(AtomicReference<Queue<String>> events) {
+    private void sendEvents() {
         final String url = HttpUtil.validateUrl(endpoint);
-        final Queue<String> copyToSend = events.getAndSet(new ConcurrentLinkedQueue<>());
+        final Future<byte[]> payload = buffer.drainAndEncode(vertx, PubstackEventHandler::toGzippedBytes);
 
-        resetReportEventsConditions();
+        resetReportTtlTimer();
 
-        httpClient.request(HttpMethod.POST, url, headers, toGzippedBytes(copyToSend), timeoutMs)
+        payload.compose(gzippedEvents -> gzippedEvents != null
+                        ? httpClient.request(HttpMethod.POST, url, headers, gzippedEvents, timeoutMs)
+                        : Future.<HttpClientResponse>succeededFuture())
                 .onComplete(this::handleReportResponse);
     }
 
-    private void resetReportEventsConditions() {
-        byteSize.set(0);
+    private void resetReportTtlTimer() {
         vertx.cancelTimer(reportTimerId);
         reportTimerId = setReportTtlTimer();
     }
 
-    private static byte[] toGzippedBytes(Queue<String> events) {
+    private static byte[] toGzippedBytes(List<String> events) {
         return gzip(String.join(NEW_LINE, events));
     }
 
@@ -165,7 +173,7 @@ public class PubstackEventHandler {
         if (result.failed()) {
             logger.error("[pubstack] Failed to send events to endpoint {} with a reason: {}",
                     endpoint, result.cause().getMessage());
-        } else {
+        } else if (result.result() != null) {
             final HttpClientResponse httpClientResponse = result.result();
             final int statusCode = httpClientResponse.getStatusCode();
             if (statusCode != HttpResponseStatus.OK.code()) {
@@ -179,7 +187,7 @@ public class PubstackEventHandler {
     }
 
     private void sendOnTimer() {
-        final boolean requestWasSent = reportEventsOnCondition(events -> !events.get().isEmpty(), events);
+        final boolean requestWasSent = reportEventsOnCondition(() -> !buffer.isEmpty());
         if (!requestWasSent) {
             setReportTtlTimer();
         }
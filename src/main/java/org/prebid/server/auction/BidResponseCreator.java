@@ -34,6 +34,7 @@ import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.auction.model.BidderResponseInfo;
 import org.prebid.server.auction.model.CachedDebugLog;
 import org.prebid.server.auction.model.CategoryMappingResult;
+import org.prebid.server.auction.model.ImpIndex;
 import org.prebid.server.auction.model.MultiBidConfig;
 import org.prebid.server.auction.model.PaaFormat;
 import org.prebid.server.auction.model.Rejection;
@@ -68,6 +69,7 @@ import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.model.AuctionStage;
 import org.prebid.server.proto.openrtb.ext.request.ExtImp;
 import org.prebid.server.proto.openrtb.ext.request.ExtImpAuctionEnvironment;
 import org.prebid.server.proto.openrtb.ext.request.ExtImpPrebid;
@@ -410,7 +412,7 @@ public class BidResponseCreator {
                                                            BidRequestCacheInfo cacheInfo,
                                                            AuctionContext auctionContext) {
 
-        final List<Imp> imps = auctionContext.getBidRequest().getImp();
+        final ImpIndex impIndex = auctionContext.getImpIndex();
         final Account account = auctionContext.getAccount();
         final List<BidderResponseInfo> result = new ArrayList<>();
         final List<BidderResponse> bidderResponses = categoryMappingResult.getBidderResponses();
@@ -460,7 +462,7 @@ public class BidResponseCreator {
                             bidderBid.getBid(),
                             bidderBid.getType(),
                             seat,
-                            imps,
+                            impIndex,
                             bidder,
                             categoryMappingResult,
                             cacheInfo,
@@ -490,13 +492,13 @@ public class BidResponseCreator {
     private BidInfo toBidInfo(Bid bid,
                               BidType type,
                               String seat,
-                              List<Imp> imps,
+                              ImpIndex impIndex,
                               String bidder,
                               CategoryMappingResult categoryMappingResult,
                               BidRequestCacheInfo cacheInfo,
                               Account account) {
 
-        final Imp correspondingImp = correspondingImp(bid, imps);
+        final Imp correspondingImp = correspondingImp(bid, impIndex);
         return BidInfo.builder()
                 .bid(bid)
                 .bidType(type)
@@ -510,20 +512,14 @@ public class BidResponseCreator {
                 .build();
     }
 
-    private static Imp correspondingImp(Bid bid, List<Imp> imps) {
+    private static Imp correspondingImp(Bid bid, ImpIndex impIndex) {
         final String impId = bid.getImpid();
-        return correspondingImp(impId, imps)
+        return Optional.ofNullable(impIndex.get(impId))
                 // Should never occur. See ResponseBidValidator
                 .orElseThrow(
                         () -> new PreBidException("Bid with impId %s doesn't have matched imp".formatted(impId)));
     }
 
-    private static Optional<Imp> correspondingImp(String impId, List<Imp> imps) {
-        return imps.stream()
-                .filter(imp -> Objects.equals(impId, imp.getId()))
-                .findFirst();
-    }
-
     private Integer resolveTtl(Bid bid, BidType type, Imp imp, BidRequestCacheInfo cacheInfo, Account account) {
         final Integer bidTtl = bid.getExp();
         final Integer impTtl = imp != null ? imp.getExp() : null;
@@ -892,9 +888,9 @@ public class BidResponseCreator {
                 : Collections.emptyList();
 
         // TODO: Remove after transition period
-        final List<Imp> imps = auctionContext.getBidRequest().getImp();
+        final ImpIndex impIndex = auctionContext.getImpIndex();
         final List<FledgeAuctionConfig> deprecatedFledgeConfigs = bidderResponseInfos.stream()
-                .flatMap(bidderResponseInfo -> toDeprecatedFledgeConfigs(bidderResponseInfo, imps))
+                .flatMap(bidderResponseInfo -> toDeprecatedFledgeConfigs(bidderResponseInfo, impIndex))
                 .toList();
 
         final List<FledgeAuctionConfig> combinedFledgeConfigs = ListUtils.union(deprecatedFledgeConfigs, fledgeConfigs);
@@ -1008,20 +1004,21 @@ public class BidResponseCreator {
     }
 
     private Stream<FledgeAuctionConfig> toDeprecatedFledgeConfigs(BidderResponseInfo bidderResponseInfo,
-                                                                  List<Imp> imps) {
+                                                                  ImpIndex impIndex) {
 
         return Optional.ofNullable(bidderResponseInfo.getSeatBid().getFledgeAuctionConfigs())
                 .stream()
                 .flatMap(Collection::stream)
-                .filter(fledgeConfig -> validateFledgeConfig(fledgeConfig, imps))
+                .filter(fledgeConfig -> validateFledgeConfig(fledgeConfig, impIndex))
                 .map(fledgeConfig -> fledgeConfigWithBidder(
                         fledgeConfig,
                         bidderResponseInfo.getSeat(),
                         bidderResponseInfo.getAdapterCode()));
     }
 
-    private boolean validateFledgeConfig(FledgeAuctionConfig fledgeAuctionConfig, List<Imp> imps) {
-        final ExtImpAuctionEnvironment fledgeEnabled = correspondingImp(fledgeAuctionConfig.getImpId(), imps)
+    private boolean validateFledgeConfig(FledgeAuctionConfig fledgeAuctionConfig, ImpIndex impIndex) {
+        final Imp correspondingImp = impIndex.get(fledgeAuctionConfig.getImpId());
+        final ExtImpAuctionEnvironment fledgeEnabled = Optional.ofNullable(correspondingImp)
                 .map(Imp::getExt)
                 .map(ext -> convertValue(ext, "ae", ExtImpAuctionEnvironment.class))
                 .orElse(ExtImpAuctionEnvironment.SERVER_SIDE_AUCTION);
@@ -1078,7 +1075,9 @@ public class BidResponseCreator {
                 .shouldCacheVideoBids(cacheInfo.isShouldCacheVideoBids())
                 .build();
 
-        return coreCacheService.cacheBidsOpenrtb(bidsValidToBeCached, auctionContext, cacheContext, eventsContext)
+        return auctionContext.getStageTimer()
+                .measure(AuctionStage.CACHE_CALL, () -> coreCacheService.cacheBidsOpenrtb(
+                        bidsValidToBeCached, auctionContext, cacheContext, eventsContext))
                 .map(cacheResult -> addNotCachedBids(cacheResult, bidsToCache));
     }
 
@@ -1376,6 +1375,7 @@ public class BidResponseCreator {
                                       EventsContext eventsContext) {
 
         final BidRequest bidRequest = auctionContext.getBidRequest();
+        final ImpIndex impIndex = auctionContext.getImpIndex();
         final Account account = auctionContext.getAccount();
 
         final Map<String, List<ExtBidderError>> bidErrors = new HashMap<>();
@@ -1388,6 +1388,7 @@ public class BidResponseCreator {
                         bidInfos,
                         targeting,
                         bidRequest,
+                        impIndex,
                         requestCacheInfo,
                         cacheResult.getCacheBids(),
                         account,
@@ -1467,6 +1468,7 @@ public class BidResponseCreator {
     private SeatBid toSeatBid(List<BidInfo> bidInfos,
                               ExtRequestTargeting targeting,
                               BidRequest bidRequest,
+                              ImpIndex impIndex,
                               BidRequestCacheInfo requestCacheInfo,
                               Map<Bid, CacheInfo> bidToCacheInfo,
                               Account account,
@@ -1484,6 +1486,7 @@ public class BidResponseCreator {
                         bidInfo,
                         targeting,
                         bidRequest,
+                        impIndex,
                         account,
                         bidWarnings))
                 .filter(Objects::nonNull)
@@ -1545,6 +1548,7 @@ public class BidResponseCreator {
     private Bid toBid(BidInfo bidInfo,
                       ExtRequestTargeting targeting,
                       BidRequest bidRequest,
+                      ImpIndex impIndex,
                       Account account,
                       Map<String, List<ExtBidderError>> bidWarnings) {
 
@@ -1559,7 +1563,7 @@ public class BidResponseCreator {
         final Map<String, String> targetingKeywords;
         if (shouldIncludeTargetingInResponse(targeting, bidInfo.getTargetingInfo())) {
             final TargetingKeywordsCreator keywordsCreator = resolveKeywordsCreator(
-                    bidType, targeting, bidRequest, account, bidWarnings);
+                    bidType, targeting, bidRequest, impIndex, account, bidWarnings);
 
             final boolean isWinningBid = targetingInfo.isWinningBid();
             final String seat = targetingInfo.getSeat();
@@ -1794,14 +1798,15 @@ public class BidResponseCreator {
     private TargetingKeywordsCreator resolveKeywordsCreator(BidType bidType,
                                                             ExtRequestTargeting targeting,
                                                             BidRequest bidRequest,
+                                                            ImpIndex impIndex,
                                                             Account account,
                                                             Map<String, List<ExtBidderError>> bidWarnings) {
 
         final Map<BidType, TargetingKeywordsCreator> keywordsCreatorByBidType =
-                keywordsCreatorByBidType(targeting, bidRequest, account, bidWarnings);
+                keywordsCreatorByBidType(targeting, bidRequest, impIndex, account, bidWarnings);
 
         return keywordsCreatorByBidType.getOrDefault(
-                bidType, keywordsCreator(targeting, bidRequest, account, bidWarnings));
+                bidType, keywordsCreator(targeting, bidRequest, impIndex, account, bidWarnings));
     }
 
     /**
@@ -1810,13 +1815,14 @@ public class BidResponseCreator {
      */
     private TargetingKeywordsCreator keywordsCreator(ExtRequestTargeting targeting,
                                                      BidRequest bidRequest,
+                                                     ImpIndex impIndex,
                                                      Account account,
                                                      Map<String, List<ExtBidderError>> bidWarnings) {
 
         final JsonNode priceGranularityNode = targeting.getPricegranularity();
         return priceGranularityNode == null || priceGranularityNode.isNull()
                 ? null
-                : createKeywordsCreator(targeting, priceGranularityNode, bidRequest, account, bidWarnings);
+                : createKeywordsCreator(targeting, priceGranularityNode, bidRequest, impIndex, account, bidWarnings);
     }
 
     /**
@@ -1826,6 +1832,7 @@ public class BidResponseCreator {
     private Map<BidType, TargetingKeywordsCreator> keywordsCreatorByBidType(
             ExtRequestTargeting targeting,
             BidRequest bidRequest,
+            ImpIndex impIndex,
             Account account,
             Map<String, List<ExtBidderError>> bidWarnings) {
 
@@ -1840,22 +1847,24 @@ public class BidResponseCreator {
         final boolean isBannerNull = banner == null || banner.isNull();
         if (!isBannerNull) {
             result.put(
-                    BidType.banner, createKeywordsCreator(targeting, banner, bidRequest, account, bidWarnings));
+                    BidType.banner,
+                    createKeywordsCreator(targeting, banner, bidRequest, impIndex, account, bidWarnings));
         }
 
         final ObjectNode video = mediaTypePriceGranularity.getVideo();
         final boolean isVideoNull = video == null || video.isNull();
         if (!isVideoNull) {
             result.put(
-                    BidType.video, createKeywordsCreator(targeting, video, bidRequest, account, bidWarnings));
+                    BidType.video,
+                    createKeywordsCreator(targeting, video, bidRequest, impIndex, account, bidWarnings));
         }
 
         final ObjectNode xNative = mediaTypePriceGranularity.getXNative();
         final boolean isNativeNull = xNative == null || xNative.isNull();
         if (!isNativeNull) {
             result.put(
-                    BidType.xNative, createKeywordsCreator(targeting, xNative, bidRequest, account, bidWarnings)
-            );
+                    BidType.xNative,
+                    createKeywordsCreator(targeting, xNative, bidRequest, impIndex, account, bidWarnings));
         }
 
         return result;
@@ -1864,6 +1873,7 @@ public class BidResponseCreator {
     private TargetingKeywordsCreator createKeywordsCreator(ExtRequestTargeting targeting,
                                                            JsonNode priceGranularity,
                                                            BidRequest bidRequest,
+                                                           ImpIndex impIndex,
                                                            Account account,
                                                            Map<String, List<ExtBidderError>> bidWarnings) {
         final int resolvedTruncateAttrChars = resolveTruncateAttrChars(targeting, account);
@@ -1886,7 +1896,7 @@ public class BidResponseCreator {
                 resolvedTruncateAttrChars,
                 cacheHost,
                 cachePath,
-                TargetingKeywordsResolver.create(bidRequest, mapper),
+                TargetingKeywordsResolver.create(bidRequest, impIndex, mapper),
                 resolveKeyPrefix);
     }
 
@@ -36,6 +36,7 @@ import org.prebid.server.auction.bidderrequestpostprocessor.BidderRequestRejecte
 import org.prebid.server.auction.externalortb.StoredResponseProcessor;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.AuctionStageTimer;
 import org.prebid.server.auction.model.BidRejectionReason;
 import org.prebid.server.auction.model.BidRejectionTracker;
 import org.prebid.server.auction.model.BidRequestCacheInfo;
@@ -72,8 +73,10 @@ import org.prebid.server.log.CriteriaLogManager;
 import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.BidderResponseMetrics;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.model.AuctionStage;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.UpdateResult;
 import org.prebid.server.proto.openrtb.ext.ExtPrebidBidders;
@@ -125,6 +128,7 @@ public class ExchangeService {
     private static final String PREBID_META_EXT = "meta";
     private static final String BIDDER_EXT = "bidder";
     private static final String TID_EXT = "tid";
+    private static final String PREBID_IMP_EXT = "imp";
     private static final String ALL_BIDDERS_CONFIG = "*";
     private static final Integer DEFAULT_MULTIBID_LIMIT_MIN = 1;
     private static final Integer DEFAULT_MULTIBID_LIMIT_MAX = 9;
@@ -158,6 +162,7 @@ public class ExchangeService {
     private final JacksonMapper mapper;
     private final CriteriaLogManager criteriaLogManager;
     private final boolean enabledStrictAppSiteDoohValidation;
+    private final boolean copyOnWriteFanOut;
 
     public ExchangeService(double logSamplingRate,
                            BidderCatalog bidderCatalog,
@@ -184,7 +189,8 @@ public class ExchangeService {
                            Clock clock,
                            JacksonMapper mapper,
                            CriteriaLogManager criteriaLogManager,
-                           boolean enabledStrictAppSiteDoohValidation) {
+                           boolean enabledStrictAppSiteDoohValidation,
+                           boolean copyOnWriteFanOut) {
 
         this.logSamplingRate = logSamplingRate;
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
@@ -212,6 +218,7 @@ public class ExchangeService {
         this.mapper = Objects.requireNonNull(mapper);
         this.criteriaLogManager = Objects.requireNonNull(criteriaLogManager);
         this.enabledStrictAppSiteDoohValidation = enabledStrictAppSiteDoohValidation;
+        this.copyOnWriteFanOut = copyOnWriteFanOut;
     }
 
     public Future<AuctionContext> holdAuction(AuctionContext context) {
@@ -224,7 +231,7 @@ public class ExchangeService {
     private Future<AuctionContext> processAuctionRequest(AuctionContext context) {
         return context.isRequestRejected()
                 ? Future.succeededFuture(context.with(emptyResponse()))
-                : runAuction(context);
+                : runAuction(context.withImpIndex());
     }
 
     private static BidResponse emptyResponse() {
@@ -257,15 +264,8 @@ public class ExchangeService {
                                 .map(receivedContext::with))
 
                 .map(context -> updateRequestMetric(context, uidsCookie, aliases, account, requestTypeMetric))
-                .compose(context -> Future.join(
-                                context.getAuctionParticipations().stream()
-                                        .map(auctionParticipation -> processAndRequestBids(
-                                                context,
-                                                auctionParticipation.getBidderRequest(),
-                                                timeout,
-                                                aliases)
-                                                .map(auctionParticipation::with))
-                                        .toList())
+                .compose(context -> context.getStageTimer()
+                        .measure(AuctionStage.BIDDER_WAIT, () -> requestAllBids(context, timeout, aliases))
                         // send all the requests to the bidders and gathers results
                         .map(CompositeFuture::<AuctionParticipation>list)
                         .map(storedResponseProcessor::updateStoredBidResponse)
@@ -281,7 +281,9 @@ public class ExchangeService {
                         .map(auctionParticipations -> updateResponsesMetrics(auctionParticipations, account, aliases))
                         .map(context::with))
                 // produce response from bidder results
-                .compose(context -> bidResponseCreator.create(context, cacheInfo, bidderToMultiBid)
+                .compose(context -> context.getStageTimer()
+                        .measure(AuctionStage.RESPONSE_CREATION,
+                                () -> bidResponseCreator.create(context, cacheInfo, bidderToMultiBid))
                         .map(bidResponse -> criteriaLogManager.traceResponse(
                                 logger,
                                 bidResponse,
@@ -292,6 +294,18 @@ public class ExchangeService {
                         .map(context::with));
     }
 
+    private Future<CompositeFuture> requestAllBids(AuctionContext context, Timeout timeout, BidderAliases aliases) {
+
+        return Future.join(context.getAuctionParticipations().stream()
+                .map(auctionParticipation -> processAndRequestBids(
+                        context,
+                        auctionParticipation.getBidderRequest(),
+                        timeout,
+                        aliases)
+                        .map(auctionParticipation::with))
+                .toList());
+    }
+
     private BidderAliases aliases(BidRequest bidRequest, Account account) {
         final ExtRequestPrebid prebid = PbsUtil.extRequestPrebid(bidRequest);
         final Map<String, String> aliases = prebid != null ? prebid.getAliases() : null;
@@ -532,6 +546,9 @@ public class ExchangeService {
             List<Imp> imps,
             Map<String, MultiBidConfig> bidderToMultiBid) {
 
+        final AuctionStageTimer stageTimer = context.getStageTimer();
+        final long prepareStartNanos = System.nanoTime();
+
         final BidRequest bidRequest = context.getBidRequest();
         final ExtRequest requestExt = bidRequest.getExt();
         final ExtRequestPrebid prebid = requestExt != null ? requestExt.getPrebid() : null;
@@ -540,16 +557,24 @@ public class ExchangeService {
         final Map<String, Pair<User, Device>> bidderToUserAndDevice =
                 prepareUsersAndDevices(bidders, context, aliases, biddersToConfigs, eidPermissionResolver);
 
-        return privacyEnforcementService.mask(context, bidderToUserAndDevice, aliases)
-                .map(bidderToPrivacyResult -> getAuctionParticipation(
-                        bidderToPrivacyResult,
-                        bidRequest,
-                        impBidderToStoredResponse,
-                        imps,
-                        bidderToMultiBid,
-                        biddersToConfigs,
-                        aliases,
-                        context));
+        stageTimer.record(AuctionStage.BIDDER_PREPARE, prepareStartNanos);
+
+        return stageTimer.measure(AuctionStage.PRIVACY_ENFORCEMENT,
+                        () -> privacyEnforcementService.mask(context, bidderToUserAndDevice, aliases))
+                .map(bidderToPrivacyResult -> {
+                    final long startNanos = System.nanoTime();
+                    final List<AuctionParticipation> auctionParticipations = getAuctionParticipation(
+                            bidderToPrivacyResult,
+                            bidRequest,
+                            impBidderToStoredResponse,
+                            imps,
+                            bidderToMultiBid,
+                            biddersToConfigs,
+                            aliases,
+                            context);
+                    stageTimer.record(AuctionStage.BIDDER_PREPARE, startNanos);
+                    return auctionParticipations;
+                });
     }
 
     private Map<String, ExtBidderConfigOrtb> getBiddersToConfigs(ExtRequestPrebid prebid) {
@@ -888,12 +913,31 @@ public class ExchangeService {
 
         return bidRequest.getImp().stream()
                 .filter(imp -> bidderParamsFromImpExt(imp.getExt()).hasNonNull(bidder))
-                .map(imp -> imp.toBuilder().ext(imp.getExt().deepCopy()).build())
+                .map(imp -> imp.toBuilder().ext(copyImpExt(imp.getExt())).build())
                 .map(imp -> impAdjuster.adjust(imp, bidder, debugWarnings))
                 .map(imp -> prepareImp(imp, bidder, bidRequest, transmitTid, useFirstPartyData, account, debugWarnings))
                 .toList();
     }
 
+    /**
+     * Returns copy of imp.ext which can be safely modified for the particular bidder.
+     * <p>
+     * In copy-on-write mode only top-level node is copied and its subtrees are shared between bidders,
+     * since per-bidder preparation only replaces or removes top-level fields. Subtrees handed over to the bidder
+     * under ext.bidder and ext.prebid are copied separately by {@link #prepareImpExt}, so other bidders' params
+     * are never copied. Deep copy is still made when imp.ext.prebid.imp is present, because {@link ImpAdjuster}
+     * modifies nested nodes in that case.
+     */
+    private ObjectNode copyImpExt(ObjectNode impExt) {
+        if (!copyOnWriteFanOut || impExt.path(PREBID_EXT).has(PREBID_IMP_EXT)) {
+            return impExt.deepCopy();
+        }
+
+        final ObjectNode copiedImpExt = mapper.mapper().createObjectNode();
+        copiedImpExt.setAll(impExt);
+        return copiedImpExt;
+    }
+
     private Imp prepareImp(Imp imp,
                            String bidder,
                            BidRequest bidRequest,
@@ -923,7 +967,9 @@ public class ExchangeService {
                                      ObjectNode impExt,
                                      boolean transmitTid,
                                      boolean useFirstPartyData) {
-        final JsonNode bidderNode = bidderParamsFromImpExt(impExt).get(bidder);
+        final JsonNode bidderParams = bidderParamsFromImpExt(impExt).get(bidder);
+        // in copy-on-write mode bidder params are still shared with the original imp.ext
+        final JsonNode bidderNode = copyOnWriteFanOut ? bidderParams.deepCopy() : bidderParams;
         final JsonNode impExtPrebid = cleanUpImpExtPrebid(impExt.get(PREBID_EXT));
         Optional.ofNullable(impExtPrebid).ifPresentOrElse(
                 ext -> impExt.set(PREBID_EXT, ext),
@@ -941,6 +987,17 @@ public class ExchangeService {
             return null;
         }
 
+        if (copyOnWriteFanOut) {
+            // copy only allowed fields, skipping params of all bidders
+            final ObjectNode modifiedExtImpPrebid = mapper.mapper().createObjectNode();
+            extImpPrebid.fields().forEachRemaining(field -> {
+                if (BIDDER_FIELDS_EXCEPTION_LIST.contains(field.getKey())) {
+                    modifiedExtImpPrebid.set(field.getKey(), field.getValue().deepCopy());
+                }
+            });
+            return modifiedExtImpPrebid;
+        }
+
         final Iterator<String> fieldsIterator = extImpPrebid.fieldNames();
         final ObjectNode modifiedExtImpPrebid = extImpPrebid.deepCopy();
 
@@ -1367,19 +1424,20 @@ public class ExchangeService {
         for (BidderResponse bidderResponse : bidderResponses) {
             final String bidder = aliases.resolveBidder(bidderResponse.getBidder());
 
-            metrics.updateAdapterResponseTime(bidder, account, bidderResponse.getResponseTime());
+            final BidderResponseMetrics bidderResponseMetrics = metrics.forBidderResponse(bidder, account);
+            bidderResponseMetrics.updateResponseTime(bidderResponse.getResponseTime());
 
             final List<BidderBid> bidderBids = bidderResponse.getSeatBid().getBids();
             if (CollectionUtils.isEmpty(bidderBids)) {
-                metrics.updateAdapterRequestNobidMetrics(bidder, account);
+                bidderResponseMetrics.updateRequestNobidMetrics();
             } else {
-                metrics.updateAdapterRequestGotbidsMetrics(bidder, account);
+                bidderResponseMetrics.updateRequestGotbidsMetrics();
 
                 for (final BidderBid bidderBid : bidderBids) {
                     final Bid bid = bidderBid.getBid();
                     final long cpm = bid.getPrice().multiply(THOUSAND).longValue();
                     final String bidType = bidderBid.getType().toString();
-                    metrics.updateAdapterBidMetrics(bidder, account, cpm, bid.getAdm() != null, bidType);
+                    bidderResponseMetrics.updateBidMetrics(cpm, bid.getAdm() != null, bidType);
                 }
             }
 
@@ -1,22 +1,38 @@
 package org.prebid.server.auction;
 
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.Nulls;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.CoercionAction;
+import com.fasterxml.jackson.databind.cfg.CoercionInputShape;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.fasterxml.jackson.databind.type.LogicalType;
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.User;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.InvalidRequestException;
+import org.prebid.server.json.DoubleBackedJsonParser;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.json.JsonMerger;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 import org.prebid.server.util.StreamUtil;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -72,11 +88,14 @@ public class OrtbTypesResolver {
 
     private final JacksonMapper jacksonMapper;
     private final JsonMerger jsonMerger;
+    private final ObjectMapper strictMapper;
 
     public OrtbTypesResolver(double logSamplingRate, JacksonMapper jacksonMapper, JsonMerger jsonMerger) {
         this.logSamplingRate = logSamplingRate;
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
         this.jsonMerger = Objects.requireNonNull(jsonMerger);
+
+        strictMapper = createStrictMapper(jacksonMapper.mapper());
     }
 
     public void normalizeBidRequest(JsonNode bidRequest, List<String> warnings, String referer) {
@@ -100,6 +119,48 @@ public class OrtbTypesResolver {
         processWarnings(resolverWarnings, warnings, referer, "bidrequest", getOriginalRowContainerNode(bidRequest));
     }
 
+    /**
+     * Decodes {@link BidRequest} straight from the given bytes, without building intermediate JSON tree,
+     * if {@link #normalizeBidRequest(JsonNode, List, String)} would have nothing to do with it.
+     * <p>
+     * Decoding fails on everything the normalization handles: non-object user/app/site, first party data fields
+     * of non-string types and data object. Null is returned in such cases, as well as for bid request
+     * with bidderconfig or in case of any other decoding failure, so that tree-based decoding takes over.
+     */
+    public BidRequest decodeNormalized(byte[] body) {
+        final BidRequest bidRequest;
+        try (JsonParser parser = new DoubleBackedJsonParser(strictMapper.createParser(body))) {
+            bidRequest = strictMapper.readValue(parser, BidRequest.class);
+        } catch (IOException e) {
+            return null;
+        }
+
+        return bidRequest != null && !hasBidderConfig(bidRequest) ? bidRequest : null;
+    }
+
+    private static ObjectMapper createStrictMapper(ObjectMapper mapper) {
+        final ObjectMapper strictMapper = mapper.copy()
+                .configure(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY, false);
+
+        strictMapper.coercionConfigFor(LogicalType.Textual)
+                .setCoercion(CoercionInputShape.Integer, CoercionAction.Fail)
+                .setCoercion(CoercionInputShape.Float, CoercionAction.Fail)
+                .setCoercion(CoercionInputShape.Boolean, CoercionAction.Fail);
+
+        final JsonSetter.Value failOnNull = JsonSetter.Value.forValueNulls(Nulls.FAIL);
+        strictMapper.configOverride(User.class).setSetterInfo(failOnNull);
+        strictMapper.configOverride(App.class).setSetterInfo(failOnNull);
+        strictMapper.configOverride(Site.class).setSetterInfo(failOnNull);
+
+        return strictMapper;
+    }
+
+    private static boolean hasBidderConfig(BidRequest bidRequest) {
+        final ExtRequest ext = bidRequest.getExt();
+        final ExtRequestPrebid prebid = ext != null ? ext.getPrebid() : null;
+        return prebid != null && prebid.getBidderconfig() != null;
+    }
+
     private void normalizeFpdFields(JsonNode fpdContainerNode, String prefix, List<String> warnings) {
         if (fpdContainerNode != null && fpdContainerNode.isObject()) {
             final ObjectNode fpdContainerObjectNode = (ObjectNode) fpdContainerNode;
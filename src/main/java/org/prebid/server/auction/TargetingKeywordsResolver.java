@@ -2,9 +2,11 @@ package org.prebid.server.auction;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.response.Bid;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.auction.model.ImpIndex;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
@@ -26,14 +28,16 @@ public class TargetingKeywordsResolver {
     public static final String BIDDER_MACRO = "{{BIDDER}}";
 
     private final BidRequest bidRequest;
+    private final ImpIndex impIndex;
     private final JacksonMapper mapper;
 
     private final Map<String, String> staticAndRequestKeywords;
     private final List<ExtRequestPrebidAdservertargetingRule> impRequestRules;
     private final List<ExtRequestPrebidAdservertargetingRule> responseRules;
 
-    private TargetingKeywordsResolver(BidRequest bidRequest, JacksonMapper mapper) {
+    private TargetingKeywordsResolver(BidRequest bidRequest, ImpIndex impIndex, JacksonMapper mapper) {
         this.bidRequest = Objects.requireNonNull(bidRequest);
+        this.impIndex = Objects.requireNonNull(impIndex);
         this.mapper = Objects.requireNonNull(mapper);
 
         final Map<Source, List<ExtRequestPrebidAdservertargetingRule>> rulesBySource = rulesBySource();
@@ -44,7 +48,11 @@ public class TargetingKeywordsResolver {
     }
 
     public static TargetingKeywordsResolver create(BidRequest bidRequest, JacksonMapper mapper) {
-        return new TargetingKeywordsResolver(bidRequest, mapper);
+        return create(bidRequest, ImpIndex.of(bidRequest.getImp()), mapper);
+    }
+
+    public static TargetingKeywordsResolver create(BidRequest bidRequest, ImpIndex impIndex, JacksonMapper mapper) {
+        return new TargetingKeywordsResolver(bidRequest, impIndex, mapper);
     }
 
     public Map<String, String> resolve(Bid bid, String bidder) {
@@ -147,11 +155,8 @@ public class TargetingKeywordsResolver {
             return null;
         }
 
-        return bidRequest.getImp().stream()
-                .filter(imp -> Objects.equals(imp.getId(), impid))
-                .findFirst()
-                .<JsonNode>map(imp -> mapper.mapper().valueToTree(imp))
-                .orElse(null);
+        final Imp imp = impIndex.get(impid);
+        return imp != null ? mapper.mapper().valueToTree(imp) : null;
     }
 
     private Map<String, String> resolveResponseKeywords(Bid bid, String bidder) {
@@ -1,6 +1,7 @@
 package org.prebid.server.auction.externalortb;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Video;
@@ -24,6 +25,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 import org.prebid.server.proto.openrtb.ext.request.ExtStoredRequest;
 import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.settings.ParsedStoredDataCache;
 import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.VideoStoredDataResult;
 import org.prebid.server.util.ObjectUtil;
@@ -55,6 +57,7 @@ public class StoredRequestProcessor {
     private final TimeoutFactory timeoutFactory;
     private final JacksonMapper mapper;
     private final JsonMerger jsonMerger;
+    private final ParsedStoredDataCache parsedStoredDataCache;
 
     public StoredRequestProcessor(long defaultTimeout,
                                   String defaultBidRequestPath,
@@ -65,7 +68,8 @@ public class StoredRequestProcessor {
                                   Metrics metrics,
                                   TimeoutFactory timeoutFactory,
                                   JacksonMapper mapper,
-                                  JsonMerger jsonMerger) {
+                                  JsonMerger jsonMerger,
+                                  ParsedStoredDataCache parsedStoredDataCache) {
 
         this.defaultTimeout = defaultTimeout;
         this.defaultBidRequest = readBidRequest(
@@ -77,6 +81,7 @@ public class StoredRequestProcessor {
         this.timeoutFactory = Objects.requireNonNull(timeoutFactory);
         this.mapper = Objects.requireNonNull(mapper);
         this.jsonMerger = Objects.requireNonNull(jsonMerger);
+        this.parsedStoredDataCache = Objects.requireNonNull(parsedStoredDataCache);
     }
 
     public Future<AuctionStoredResult> processAuctionRequest(String accountId, BidRequest bidRequest) {
@@ -109,7 +114,7 @@ public class StoredRequestProcessor {
                         .onSuccess(storedDataResult -> updateStoredResultMetrics(storedDataResult, requestIds, impIds));
 
         return storedRequestsToBidRequest(
-                storedDataFuture, bidRequest, bidRequestToStoredRequestId.get(bidRequest), impToStoredRequestId)
+                storedDataFuture, bidRequest, bidRequestToStoredRequestId.get(bidRequest), impToStoredRequestId, false)
                 .map(this::generateBidRequestIdForApp)
                 .map(resolvedRequest -> AuctionStoredResult.of(true, resolvedRequest));
     }
@@ -126,7 +131,7 @@ public class StoredRequestProcessor {
                 .onSuccess(storedDataResult -> updateStoredResultMetrics(
                         storedDataResult, Collections.singleton(ampRequestId), Collections.emptySet()));
 
-        return storedRequestsToBidRequest(ampStoredDataFuture, bidRequest, ampRequestId, Collections.emptyMap())
+        return storedRequestsToBidRequest(ampStoredDataFuture, bidRequest, ampRequestId, Collections.emptyMap(), true)
                 .map(this::generateBidRequestId);
     }
 
@@ -208,7 +213,7 @@ public class StoredRequestProcessor {
             }
 
             final String impId = storedIdToImpIdEntry.getValue();
-            final Video video = parseVideoFromImp(storedImp);
+            final Video video = parseVideoFromImp(storedId, storedImp);
             if (video == null) {
                 errors.add("No stored video found for Imp with id " + impId);
                 continue;
@@ -220,10 +225,11 @@ public class StoredRequestProcessor {
         return VideoStoredDataResult.of(impIdToStoredVideo, errors);
     }
 
-    private Video parseVideoFromImp(String storedJson) {
+    private Video parseVideoFromImp(String storedId, String storedJson) {
         if (StringUtils.isNotBlank(storedJson)) {
             try {
-                final Imp imp = mapper.mapper().readValue(storedJson, Imp.class);
+                final JsonNode storedImpNode = parsedStoredDataCache.getImp(storedId, storedJson);
+                final Imp imp = mapper.mapper().treeToValue(storedImpNode, Imp.class);
                 return imp.getVideo();
             } catch (JsonProcessingException e) {
                 return null;
@@ -235,14 +241,15 @@ public class StoredRequestProcessor {
     private Future<BidRequest> storedRequestsToBidRequest(Future<StoredDataResult<String>> storedDataFuture,
                                                           BidRequest bidRequest,
                                                           String storedBidRequestId,
-                                                          Map<Imp, String> impsToStoredRequestId) {
+                                                          Map<Imp, String> impsToStoredRequestId,
+                                                          boolean isAmp) {
 
         return storedDataFuture
                 .compose(result -> !result.getErrors().isEmpty()
                         ? Future.failedFuture(new InvalidStoredRequestException(result.getErrors()))
                         : Future.succeededFuture(result))
                 .map(result -> mergeBidRequestAndImps(
-                        bidRequest, storedBidRequestId, impsToStoredRequestId, result));
+                        bidRequest, storedBidRequestId, impsToStoredRequestId, result, isAmp));
     }
 
     /**
@@ -253,9 +260,11 @@ public class StoredRequestProcessor {
     private BidRequest mergeBidRequestAndImps(BidRequest bidRequest,
                                               String storedRequestId,
                                               Map<Imp, String> impToStoredId,
-                                              StoredDataResult<String> storedDataResult) {
+                                              StoredDataResult<String> storedDataResult,
+                                              boolean isAmp) {
 
-        final BidRequest mergedWithStoredRequest = mergeBidRequest(bidRequest, storedRequestId, storedDataResult);
+        final BidRequest mergedWithStoredRequest =
+                mergeBidRequest(bidRequest, storedRequestId, storedDataResult, isAmp);
 
         final BidRequest mergedWithDefaultRequest = mergeDefaultRequest(mergedWithStoredRequest);
 
@@ -272,12 +281,24 @@ public class StoredRequestProcessor {
      */
     private BidRequest mergeBidRequest(BidRequest originalRequest,
                                        String storedRequestId,
-                                       StoredDataResult<String> storedDataResult) {
+                                       StoredDataResult<String> storedDataResult,
+                                       boolean isAmp) {
+
+        if (StringUtils.isBlank(storedRequestId)) {
+            return originalRequest;
+        }
 
         final String storedRequest = storedDataResult.getStoredIdToRequest().get(storedRequestId);
-        return StringUtils.isNotBlank(storedRequestId)
-                ? jsonMerger.merge(originalRequest, storedRequest, storedRequestId, BidRequest.class)
-                : originalRequest;
+        final JsonNode storedRequestNode;
+        try {
+            storedRequestNode = isAmp
+                    ? parsedStoredDataCache.getAmpRequest(storedRequestId, storedRequest)
+                    : parsedStoredDataCache.getRequest(storedRequestId, storedRequest);
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("Can't parse Json for stored request with id " + storedRequestId);
+        }
+
+        return jsonMerger.merge(originalRequest, storedRequestNode, storedRequestId, BidRequest.class);
     }
 
     /**
@@ -297,13 +318,22 @@ public class StoredRequestProcessor {
             final String storedRequestId = impToStoredId.get(imp);
             if (storedRequestId != null) {
                 final String storedImp = storedDataResult.getStoredIdToImp().get(storedRequestId);
-                final Imp mergedImp = jsonMerger.merge(imp, storedImp, storedRequestId, Imp.class);
+                final Imp mergedImp = jsonMerger.merge(
+                        imp, parseStoredImp(storedRequestId, storedImp), storedRequestId, Imp.class);
                 mergedImps.set(i, mergedImp);
             }
         }
         return bidRequest.toBuilder().imp(mergedImps).build();
     }
 
+    private JsonNode parseStoredImp(String storedImpId, String storedImp) {
+        try {
+            return parsedStoredDataCache.getImp(storedImpId, storedImp);
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("Can't parse Json for stored request with id " + storedImpId);
+        }
+    }
+
     private BidRequest generateBidRequestIdForApp(BidRequest bidRequest) {
         return bidRequest.getApp() != null
                 ? generateBidRequestId(bidRequest)
@@ -2,8 +2,11 @@ package org.prebid.server.auction.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.response.BidResponse;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import lombok.Value;
 import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
 import org.prebid.server.auction.gpp.model.GppContext;
@@ -71,12 +74,46 @@ public class AuctionContext {
 
     CachedDebugLog cachedDebugLog;
 
+    // derived from bid request imps, so it does not take part in equality
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    ImpIndex impIndex;
+
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @Builder.Default
+    AuctionStageTimer stageTimer = new AuctionStageTimer();
+
+    /**
+     * Returns {@link ImpIndex} of the current bid request imps.
+     * <p>
+     * The index is built once the request is finalized (see {@link #withImpIndex()}) and rebuilt by
+     * {@link #with(BidRequest)} whenever imps are replaced afterwards. Context which has not been indexed yet,
+     * or whose bid request was replaced bypassing {@link #with(BidRequest)}, gets a new index on every call.
+     */
+    public ImpIndex getImpIndex() {
+        final List<Imp> imps = imps(bidRequest);
+        return impIndex != null && impIndex.isBuiltFor(imps) ? impIndex : ImpIndex.of(imps);
+    }
+
+    private static List<Imp> imps(BidRequest bidRequest) {
+        return bidRequest != null ? bidRequest.getImp() : null;
+    }
+
     public AuctionContext with(Account account) {
         return this.toBuilder().account(account).build();
     }
 
     public AuctionContext with(BidRequest bidRequest) {
-        return this.toBuilder().bidRequest(bidRequest).build();
+        final List<Imp> imps = imps(bidRequest);
+        final ImpIndex updatedImpIndex = impIndex == null || impIndex.isBuiltFor(imps) ? impIndex : ImpIndex.of(imps);
+
+        return this.toBuilder()
+                .bidRequest(bidRequest)
+                .impIndex(updatedImpIndex)
+                .build();
     }
 
     public AuctionContext with(BidResponse bidResponse) {
@@ -124,6 +161,12 @@ public class AuctionContext {
                 .build();
     }
 
+    public AuctionContext withImpIndex() {
+        return this.toBuilder()
+                .impIndex(ImpIndex.of(imps(bidRequest)))
+                .build();
+    }
+
     public AuctionContext withRequestRejected() {
         return this.toBuilder()
                 .requestRejected(true)
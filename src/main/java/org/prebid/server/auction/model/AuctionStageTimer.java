@@ -0,0 +1,52 @@
+package org.prebid.server.auction.model;
+
+import io.vertx.core.Future;
+import org.prebid.server.metric.model.AuctionStage;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Accumulates time spent by the auction in each of {@link AuctionStage}s.
+ * <p>
+ * Stage may be recorded several times (e.g. bidder prepare for each bidder), then its time is summed up.
+ * Stages may be nested as well, e.g. stored request merge is a part of request factory.
+ */
+public class AuctionStageTimer {
+
+    private static final AuctionStage[] STAGES = AuctionStage.values();
+
+    private final AtomicLongArray stageNanos = new AtomicLongArray(STAGES.length);
+
+    /**
+     * Adds time passed since given {@link System#nanoTime()} value to the given stage.
+     */
+    public void record(AuctionStage stage, long startNanos) {
+        stageNanos.addAndGet(stage.ordinal(), System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Adds time passed till the completion of the asynchronous operation to the given stage.
+     */
+    public <T> Future<T> measure(AuctionStage stage, Supplier<Future<T>> operation) {
+        final long startNanos = System.nanoTime();
+        return operation.get().onComplete(ignored -> record(stage, startNanos));
+    }
+
+    public long nanos(AuctionStage stage) {
+        return stageNanos.get(stage.ordinal());
+    }
+
+    /**
+     * Passes each of the recorded stages along with its time in nanoseconds to the given consumer.
+     */
+    public void forEachRecorded(ObjLongConsumer<AuctionStage> consumer) {
+        for (AuctionStage stage : STAGES) {
+            final long nanos = stageNanos.get(stage.ordinal());
+            if (nanos > 0) {
+                consumer.accept(stage, nanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.prebid.server.auction.model;
+
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Video;
+import org.apache.commons.collections4.CollectionUtils;
+import org.prebid.server.proto.openrtb.ext.request.ImpMediaType;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Index of {@link Imp}s of the bid request by their ids.
+ * <p>
+ * Banner formats and video media type of every imp are resolved once while building the index,
+ * so that bid-to-imp lookups of the response pipeline do not scan the list of imps for every bid.
+ */
+public class ImpIndex {
+
+    private static final ImpIndex EMPTY = new ImpIndex(null, Collections.emptyMap());
+
+    private final List<Imp> imps;
+
+    private final Map<String, Entry> entries;
+
+    private ImpIndex(List<Imp> imps, Map<String, Entry> entries) {
+        this.imps = imps;
+        this.entries = entries;
+    }
+
+    public static ImpIndex of(List<Imp> imps) {
+        if (CollectionUtils.isEmpty(imps)) {
+            return EMPTY;
+        }
+
+        final Map<String, Entry> entries = new HashMap<>(imps.size() * 4 / 3 + 1);
+        for (Imp imp : imps) {
+            final String impId = imp.getId();
+            if (impId == null) {
+                continue;
+            }
+
+            final Entry entry = entries.get(impId);
+            if (entry == null) {
+                entries.put(impId, Entry.of(imp));
+            } else if (entry.video == null && imp.getVideo() != null) {
+                // the first imp wins in case of duplicated ids, while video is taken from the first imp having it,
+                // the same as for linear lookups
+                entries.put(impId, entry.withVideo(imp.getVideo()));
+            }
+        }
+
+        return new ImpIndex(imps, entries);
+    }
+
+    public static ImpIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Tells whether this index was built for exactly the given list of imps.
+     */
+    public boolean isBuiltFor(List<Imp> imps) {
+        return this.imps == imps || (CollectionUtils.isEmpty(this.imps) && CollectionUtils.isEmpty(imps));
+    }
+
+    /**
+     * Returns {@link Imp} with given id or null if there is no such imp.
+     */
+    public Imp get(String impId) {
+        final Entry entry = entry(impId);
+        return entry != null ? entry.imp : null;
+    }
+
+    /**
+     * Returns banner formats of {@link Imp} with given id, empty list if there is no such imp or it has no banner.
+     */
+    public List<Format> formats(String impId) {
+        final Entry entry = entry(impId);
+        return entry != null ? entry.formats : Collections.emptyList();
+    }
+
+    /**
+     * Returns {@link ImpMediaType#video_instream} if {@link Imp} with given id has instream video
+     * (placement or plcmt equals to 1), otherwise {@link ImpMediaType#video_outstream}.
+     */
+    public ImpMediaType videoMediaType(String impId) {
+        final Entry entry = entry(impId);
+        return entry != null ? entry.videoMediaType : ImpMediaType.video_outstream;
+    }
+
+    private Entry entry(String impId) {
+        return impId != null ? entries.get(impId) : null;
+    }
+
+    private static class Entry {
+
+        private final Imp imp;
+
+        private final List<Format> formats;
+
+        private final Video video;
+
+        private final ImpMediaType videoMediaType;
+
+        private Entry(Imp imp, List<Format> formats, Video video) {
+            this.imp = imp;
+            this.formats = formats;
+            this.video = video;
+            this.videoMediaType = videoMediaType(video);
+        }
+
+        private static Entry of(Imp imp) {
+            final Banner banner = imp.getBanner();
+            final List<Format> formats = banner != null && banner.getFormat() != null
+                    ? Collections.unmodifiableList(banner.getFormat())
+                    : Collections.emptyList();
+
+            return new Entry(imp, formats, imp.getVideo());
+        }
+
+        private Entry withVideo(Video video) {
+            return new Entry(imp, formats, video);
+        }
+
+        private static ImpMediaType videoMediaType(Video video) {
+            return video != null && (Objects.equals(video.getPlacement(), 1) || Objects.equals(video.getPlcmt(), 1))
+                    ? ImpMediaType.video_instream
+                    : ImpMediaType.video_outstream;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Regs;
 import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.web.RoutingContext;
 import org.prebid.server.auction.DebugResolver;
 import org.prebid.server.auction.GeoLocationServiceWrapper;
@@ -21,14 +22,21 @@ import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversio
 import org.prebid.server.bidadjustments.BidAdjustmentsEnricher;
 import org.prebid.server.cookie.CookieDeprecationService;
 import org.prebid.server.exception.InvalidRequestException;
+import org.prebid.server.hooks.execution.model.ExecutionAction;
+import org.prebid.server.hooks.execution.model.GroupExecutionOutcome;
+import org.prebid.server.hooks.execution.model.HookExecutionContext;
+import org.prebid.server.hooks.execution.model.Stage;
+import org.prebid.server.hooks.execution.model.StageExecutionOutcome;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.model.AuctionStage;
 import org.prebid.server.model.Endpoint;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.proto.openrtb.ext.request.ExtRegs;
 import org.prebid.server.settings.model.Account;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -96,6 +104,7 @@ public class AuctionRequestFactory {
      * Creates {@link AuctionContext} and parses BidRequest based on {@link RoutingContext}.
      */
     public Future<AuctionContext> parseRequest(RoutingContext routingContext, long startTime) {
+        final long startNanos = System.nanoTime();
         final String body;
         try {
             body = extractAndValidateBody(routingContext);
@@ -103,15 +112,23 @@ public class AuctionRequestFactory {
             return Future.failedFuture(e);
         }
 
+        final Buffer rawBody = routingContext.body().buffer();
+
         final AuctionContext initialAuctionContext = ortb2RequestFactory.createAuctionContext(
                 Endpoint.openrtb2_auction, MetricName.openrtb2web);
 
         return ortb2RequestFactory.executeEntrypointHooks(routingContext, body, initialAuctionContext)
-                .compose(httpRequest -> parseBidRequest(httpRequest, initialAuctionContext.getPrebidErrors())
+                .compose(httpRequest -> parseBidRequest(
+                        httpRequest,
+                        rawBody,
+                        isBodyUnchangedByHooks(initialAuctionContext),
+                        initialAuctionContext.getPrebidErrors())
                         .map(bidRequest -> ortb2RequestFactory
                                 .enrichAuctionContext(initialAuctionContext, httpRequest, bidRequest, startTime)
                                 .with(requestTypeMetric(bidRequest))))
-                .recover(ortb2RequestFactory::restoreResultFromRejection);
+                .recover(ortb2RequestFactory::restoreResultFromRejection)
+                .onSuccess(auctionContext -> auctionContext.getStageTimer()
+                        .record(AuctionStage.REQUEST_FACTORY, startNanos));
     }
 
     /**
@@ -122,6 +139,8 @@ public class AuctionRequestFactory {
             return Future.succeededFuture(initialContext);
         }
 
+        final long startNanos = System.nanoTime();
+
         return ortb2RequestFactory.fetchAccount(initialContext).map(initialContext::with)
 
                 .map(auctionContext -> auctionContext.with(debugResolver.debugContextFrom(auctionContext)))
@@ -157,7 +176,10 @@ public class AuctionRequestFactory {
 
                 .map(ortb2RequestFactory::updateTimeout)
 
-                .recover(ortb2RequestFactory::restoreResultFromRejection);
+                .recover(ortb2RequestFactory::restoreResultFromRejection)
+
+                .onSuccess(auctionContext -> auctionContext.getStageTimer()
+                        .record(AuctionStage.REQUEST_FACTORY, startNanos));
     }
 
     private String extractAndValidateBody(RoutingContext routingContext) {
@@ -173,20 +195,51 @@ public class AuctionRequestFactory {
         return body;
     }
 
-    private Future<BidRequest> parseBidRequest(HttpRequestContext httpRequest, List<String> errors) {
-        try {
-            final JsonNode bidRequestNode = bodyAsJsonNode(httpRequest.getBody());
-
-            final String referer = paramsExtractor.refererFrom(httpRequest);
-            ortbTypesResolver.normalizeBidRequest(bidRequestNode, errors, referer);
+    /**
+     * Tells whether the body of incoming request is still the one received from the client, so its raw bytes
+     * can be decoded instead. Entrypoint hooks can update the body only by invocation result with update action.
+     */
+    private static boolean isBodyUnchangedByHooks(AuctionContext auctionContext) {
+        final HookExecutionContext hookExecutionContext = auctionContext.getHookExecutionContext();
+        final List<StageExecutionOutcome> entrypointOutcomes = hookExecutionContext != null
+                ? hookExecutionContext.getStageOutcomes().get(Stage.entrypoint)
+                : null;
+
+        return entrypointOutcomes == null || entrypointOutcomes.stream()
+                .map(StageExecutionOutcome::getGroups)
+                .flatMap(Collection::stream)
+                .map(GroupExecutionOutcome::getHooks)
+                .flatMap(Collection::stream)
+                .noneMatch(hookOutcome -> hookOutcome.getAction() == ExecutionAction.update);
+    }
 
-            return Future.succeededFuture(jsonNodeAsBidRequest(bidRequestNode))
-                    .map(bidRequest -> fillWithValuesFromHttpRequest(bidRequest, httpRequest));
+    private Future<BidRequest> parseBidRequest(HttpRequestContext httpRequest,
+                                               Buffer rawBody,
+                                               boolean isBodyUnchanged,
+                                               List<String> errors) {
+        try {
+            // raw bytes are decoded once straight into the model, unless they were replaced or need normalization
+            final BidRequest bidRequest = isBodyUnchanged && rawBody != null
+                    ? ortbTypesResolver.decodeNormalized(rawBody.getBytes())
+                    : null;
+
+            return Future.succeededFuture(
+                            bidRequest != null ? bidRequest : decodeWithNormalization(httpRequest, errors))
+                    .map(decodedBidRequest -> fillWithValuesFromHttpRequest(decodedBidRequest, httpRequest));
         } catch (Exception e) {
             return Future.failedFuture(e);
         }
     }
 
+    private BidRequest decodeWithNormalization(HttpRequestContext httpRequest, List<String> errors) {
+        final JsonNode bidRequestNode = bodyAsJsonNode(httpRequest.getBody());
+
+        final String referer = paramsExtractor.refererFrom(httpRequest);
+        ortbTypesResolver.normalizeBidRequest(bidRequestNode, errors, referer);
+
+        return jsonNodeAsBidRequest(bidRequestNode);
+    }
+
     private JsonNode bodyAsJsonNode(String body) {
         try {
             return mapper.mapper().readTree(body);
@@ -243,7 +296,9 @@ public class AuctionRequestFactory {
         final HttpRequestContext httpRequest = auctionContext.getHttpRequest();
         final List<String> debugWarnings = auctionContext.getDebugWarnings();
 
-        return storedRequestProcessor.processAuctionRequest(account.getId(), auctionContext.getBidRequest())
+        return auctionContext.getStageTimer()
+                .measure(AuctionStage.STORED_REQUEST_MERGE, () -> storedRequestProcessor.processAuctionRequest(
+                        account.getId(), auctionContext.getBidRequest()))
                 .compose(auctionStoredResult -> updateBidRequest(auctionStoredResult, auctionContext))
                 .compose(bidRequest -> ortb2RequestFactory.limitImpressions(account, bidRequest, debugWarnings))
                 .compose(bidRequest -> ortb2RequestFactory.validateRequest(
@@ -2,11 +2,16 @@ package org.prebid.server.bidder;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Value;
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
 import org.prebid.server.spring.config.bidder.model.CompressionType;
+import org.prebid.server.spring.config.bidder.model.Connection;
 import org.prebid.server.spring.config.bidder.model.MediaType;
 
+import java.net.MalformedURLException;
+import java.net.URL;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -44,6 +49,11 @@ public class BidderInfo {
 
     long tmaxDeductionMs;
 
+    /**
+     * Settings of the connection pool dedicated to the bidder endpoint host, null if bidder uses the shared one.
+     */
+    ConnectionInfo connection;
+
     public static BidderInfo create(boolean enabled,
                                     OrtbVersion ortbVersion,
                                     boolean debugAllowed,
@@ -62,6 +72,46 @@ public class BidderInfo {
                                     org.prebid.server.spring.config.bidder.model.Ortb ortb,
                                     long tmaxDeductionMs) {
 
+        return create(
+                enabled,
+                ortbVersion,
+                debugAllowed,
+                endpoint,
+                aliasOf,
+                maintainerEmail,
+                appMediaTypes,
+                siteMediaTypes,
+                doohMediaTypes,
+                supportedVendors,
+                vendorId,
+                currencyAccepted,
+                ccpaEnforced,
+                modifyingVastXmlAllowed,
+                compressionType,
+                ortb,
+                tmaxDeductionMs,
+                null);
+    }
+
+    public static BidderInfo create(boolean enabled,
+                                    OrtbVersion ortbVersion,
+                                    boolean debugAllowed,
+                                    String endpoint,
+                                    String aliasOf,
+                                    String maintainerEmail,
+                                    List<MediaType> appMediaTypes,
+                                    List<MediaType> siteMediaTypes,
+                                    List<MediaType> doohMediaTypes,
+                                    List<String> supportedVendors,
+                                    int vendorId,
+                                    List<String> currencyAccepted,
+                                    boolean ccpaEnforced,
+                                    boolean modifyingVastXmlAllowed,
+                                    CompressionType compressionType,
+                                    org.prebid.server.spring.config.bidder.model.Ortb ortb,
+                                    long tmaxDeductionMs,
+                                    Connection connection) {
+
         return of(
                 enabled,
                 ortbVersion,
@@ -80,13 +130,45 @@ public class BidderInfo {
                 modifyingVastXmlAllowed,
                 compressionType,
                 Ortb.of(ortb.getMultiFormatSupported()),
-                tmaxDeductionMs);
+                tmaxDeductionMs,
+                connectionInfo(endpoint, connection));
     }
 
     private static PlatformInfo platformInfo(List<MediaType> mediaTypes) {
         return mediaTypes != null ? new PlatformInfo(mediaTypes) : null;
     }
 
+    private static ConnectionInfo connectionInfo(String endpoint, Connection connection) {
+        if (connection == null) {
+            return null;
+        }
+
+        final URL url;
+        try {
+            url = new URL(endpoint);
+        } catch (MalformedURLException e) {
+            return null;
+        }
+
+        final String host = url.getHost();
+        // host resolved from request macros can not have dedicated pool
+        if (StringUtils.isBlank(host) || StringUtils.containsAny(host, '{', '}')) {
+            return null;
+        }
+
+        final boolean ssl = StringUtils.equalsIgnoreCase(url.getProtocol(), "https");
+        return ConnectionInfo.of(
+                host,
+                url.getPort() != -1 ? url.getPort() : url.getDefaultPort(),
+                ssl,
+                connection.getMaxPoolSize(),
+                connection.getKeepAlive(),
+                connection.getKeepAliveTimeoutMs(),
+                BooleanUtils.isTrue(connection.getHttp2()),
+                BooleanUtils.isTrue(connection.getHttp2PriorKnowledge()),
+                ObjectUtils.defaultIfNull(connection.getPrewarmConnections(), 0));
+    }
+
     @Value
     public static class MaintainerInfo {
 
@@ -133,4 +215,33 @@ public class BidderInfo {
         @JsonProperty("multiformat-supported")
         boolean multiFormatSupported;
     }
+
+    @Value(staticConstructor = "of")
+    public static class ConnectionInfo {
+
+        String host;
+
+        int port;
+
+        boolean ssl;
+
+        Integer maxPoolSize;
+
+        Boolean keepAlive;
+
+        Integer keepAliveTimeoutMs;
+
+        boolean http2;
+
+        /**
+         * Whether cleartext HTTP/2 is used without HTTP/1.1 upgrade, applicable to non-TLS endpoints only.
+         */
+        boolean http2PriorKnowledge;
+
+        int prewarmConnections;
+
+        public String getAuthority() {
+            return host + ":" + port;
+        }
+    }
 }
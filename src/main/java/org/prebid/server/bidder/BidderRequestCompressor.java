@@ -0,0 +1,141 @@
+package org.prebid.server.bidder;
+
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.vertx.core.MultiMap;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.HttpUtil;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses bidder request body with the algorithm requested by {@code Content-Encoding} header, which is added
+ * according to bidder {@code endpoint-compression} configuration.
+ * <p>
+ * {@link Deflater}s and output buffer are kept per thread (i.e. per event loop) and reused between requests,
+ * so compression does not allocate native deflater and intermediate streams for every bidder call.
+ * <p>
+ * Bodies smaller than configured minimum size are sent uncompressed and the header is removed,
+ * since compressing them costs more than it saves.
+ */
+public class BidderRequestCompressor {
+
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0};
+    private static final int GZIP_TRAILER_SIZE = 8;
+
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+    private final int minSize;
+    private final Metrics metrics;
+    private final ThreadLocal<DeflaterContext> deflaterContexts;
+
+    public BidderRequestCompressor(int compressionLevel, int minSize, Metrics metrics) {
+        if (compressionLevel != Deflater.DEFAULT_COMPRESSION
+                && (compressionLevel < Deflater.NO_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION)) {
+            throw new IllegalArgumentException("Compression level should be -1 or in range from 0 to 9");
+        }
+
+        this.minSize = minSize;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.deflaterContexts = ThreadLocal.withInitial(() -> new DeflaterContext(compressionLevel));
+    }
+
+    /**
+     * Returns body compressed as requested by given headers, or body itself if no compression is required.
+     * <p>
+     * Removes {@code Content-Encoding} header from given headers if body is left uncompressed because of its size.
+     */
+    public byte[] compress(String bidderName, byte[] body, MultiMap headers) {
+        final String contentEncoding = headers.get(HttpUtil.CONTENT_ENCODING_HEADER);
+        final boolean gzip = StringUtils.equalsIgnoreCase(contentEncoding, HttpHeaderValues.GZIP);
+        if (!gzip && !StringUtils.equalsIgnoreCase(contentEncoding, HttpHeaderValues.DEFLATE)) {
+            return body;
+        }
+
+        if (body == null || body.length < minSize) {
+            headers.remove(HttpUtil.CONTENT_ENCODING_HEADER);
+            return body;
+        }
+
+        final long startTime = System.nanoTime();
+        final byte[] compressed = deflaterContexts.get().compress(body, gzip);
+        metrics.updateAdapterRequestCompressionMetrics(
+                bidderName, System.nanoTime() - startTime, compressionRatio(body.length, compressed.length));
+
+        return compressed;
+    }
+
+    /**
+     * Returns compressed body size as percentage of original one.
+     */
+    private static int compressionRatio(int originalSize, int compressedSize) {
+        return originalSize > 0 ? (int) (compressedSize * 100L / originalSize) : 100;
+    }
+
+    private static class DeflaterContext {
+
+        private final Deflater gzipDeflater;
+        private final Deflater zlibDeflater;
+        private final CRC32 crc;
+
+        private byte[] buffer;
+
+        DeflaterContext(int compressionLevel) {
+            // gzip header and trailer are written manually around raw deflate data
+            gzipDeflater = new Deflater(compressionLevel, true);
+            zlibDeflater = new Deflater(compressionLevel, false);
+            crc = new CRC32();
+            buffer = new byte[INITIAL_BUFFER_SIZE];
+        }
+
+        byte[] compress(byte[] body, boolean gzip) {
+            final Deflater deflater = gzip ? gzipDeflater : zlibDeflater;
+            deflater.reset();
+            deflater.setInput(body);
+            deflater.finish();
+
+            int length = 0;
+            if (gzip) {
+                System.arraycopy(GZIP_HEADER, 0, buffer, 0, GZIP_HEADER.length);
+                length = GZIP_HEADER.length;
+            }
+
+            while (!deflater.finished()) {
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+
+            if (gzip) {
+                if (buffer.length - length < GZIP_TRAILER_SIZE) {
+                    buffer = Arrays.copyOf(buffer, length + GZIP_TRAILER_SIZE);
+                }
+
+                crc.reset();
+                crc.update(body);
+                length = writeIntLittleEndian(buffer, length, (int) crc.getValue());
+                length = writeIntLittleEndian(buffer, length, body.length);
+            }
+
+            final byte[] result = Arrays.copyOf(buffer, length);
+            if (buffer.length > MAX_RETAINED_BUFFER_SIZE) {
+                buffer = new byte[INITIAL_BUFFER_SIZE];
+            }
+
+            return result;
+        }
+
+        private static int writeIntLittleEndian(byte[] buffer, int offset, int value) {
+            buffer[offset] = (byte) value;
+            buffer[offset + 1] = (byte) (value >> 8);
+            buffer[offset + 2] = (byte) (value >> 16);
+            buffer[offset + 3] = (byte) (value >> 24);
+            return offset + 4;
+        }
+    }
+}
@@ -109,6 +109,8 @@ public class HttpBidderRequestEnricher {
     private static void addContentEncodingHeader(MultiMap bidderHeaders, CompressionType compressionType) {
         if (compressionType == CompressionType.GZIP) {
             bidderHeaders.add(HttpUtil.CONTENT_ENCODING_HEADER, HttpHeaderValues.GZIP);
+        } else if (compressionType == CompressionType.DEFLATE) {
+            bidderHeaders.add(HttpUtil.CONTENT_ENCODING_HEADER, HttpHeaderValues.DEFLATE);
         }
     }
 
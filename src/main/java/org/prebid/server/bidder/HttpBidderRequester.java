@@ -1,8 +1,8 @@
 package org.prebid.server.bidder;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.BidRequest;
 import io.netty.channel.ConnectTimeoutException;
-import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
@@ -35,9 +35,8 @@ import org.prebid.server.proto.openrtb.ext.response.FledgeAuctionConfig;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+import org.prebid.server.vertx.httpclient.model.HttpEndpoint;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -49,7 +48,6 @@ import java.util.Set;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 import java.util.stream.Stream;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * Implements HTTP communication functionality common for {@link Bidder}'s.
@@ -65,17 +63,23 @@ public class HttpBidderRequester {
     private static final Logger logger = LoggerFactory.getLogger(HttpBidderRequester.class);
     private static final ConditionalLogger conditionalLogger = new ConditionalLogger(logger);
 
+    private static final int ENDPOINTS_CACHE_SIZE = 1_000;
+
     private final HttpClient httpClient;
     private final BidderRequestCompletionTrackerFactory completionTrackerFactory;
     private final BidderErrorNotifier bidderErrorNotifier;
     private final HttpBidderRequestEnricher requestEnricher;
+    private final BidderRequestCompressor requestCompressor;
     private final JacksonMapper mapper;
     private final double logSamplingRate;
 
+    private final Map<String, HttpEndpoint> endpointByOrigin;
+
     public HttpBidderRequester(HttpClient httpClient,
                                BidderRequestCompletionTrackerFactory completionTrackerFactory,
                                BidderErrorNotifier bidderErrorNotifier,
                                HttpBidderRequestEnricher requestEnricher,
+                               BidderRequestCompressor requestCompressor,
                                JacksonMapper mapper,
                                double logSamplingRate) {
 
@@ -83,8 +87,14 @@ public class HttpBidderRequester {
         this.completionTrackerFactory = completionTrackerFactoryOrFallback(completionTrackerFactory);
         this.bidderErrorNotifier = Objects.requireNonNull(bidderErrorNotifier);
         this.requestEnricher = Objects.requireNonNull(requestEnricher);
+        this.requestCompressor = Objects.requireNonNull(requestCompressor);
         this.mapper = Objects.requireNonNull(mapper);
         this.logSamplingRate = logSamplingRate;
+
+        endpointByOrigin = Caffeine.newBuilder()
+                .maximumSize(ENDPOINTS_CACHE_SIZE)
+                .<String, HttpEndpoint>build()
+                .asMap();
     }
 
     /**
@@ -117,7 +127,7 @@ public class HttpBidderRequester {
         // stored response available only for single request interaction for the moment.
         final Stream<Future<BidderCall<T>>> httpCalls = isStoredResponse(httpRequests, storedResponse, bidderName)
                 ? Stream.of(makeStoredHttpCall(httpRequests.getFirst(), storedResponse))
-                : httpRequests.stream().map(httpRequest -> doRequest(httpRequest, timeout));
+                : httpRequests.stream().map(httpRequest -> doRequest(bidderName, httpRequest, timeout));
 
         // httpCalls contains recovered and mapped to succeeded Future<BidderHttpCall> with error inside
         final BidderRequestCompletionTracker completionTracker = completionTrackerFactory.create(bidRequest);
@@ -199,47 +209,60 @@ public class HttpBidderRequester {
     /**
      * Makes an HTTP request and returns {@link Future} that will be eventually completed with success or error result.
      */
-    private <T> Future<BidderCall<T>> doRequest(HttpRequest<T> httpRequest, Timeout timeout) {
+    private <T> Future<BidderCall<T>> doRequest(String bidderName, HttpRequest<T> httpRequest, Timeout timeout) {
         final long remainingTimeout = timeout.remaining();
         if (remainingTimeout <= 0) {
             return failResponse(new TimeoutException("Timeout has been exceeded"), httpRequest);
         }
 
-        return createRequest(httpRequest, remainingTimeout)
+        return createRequest(bidderName, httpRequest, remainingTimeout)
                 .compose(response -> processResponse(response, httpRequest))
                 .recover(exception -> failResponse(exception, httpRequest));
     }
 
-    private <T> Future<HttpClientResponse> createRequest(HttpRequest<T> httpRequest, long remainingTimeout) {
+    private <T> Future<HttpClientResponse> createRequest(String bidderName,
+                                                         HttpRequest<T> httpRequest,
+                                                         long remainingTimeout) {
+
         final MultiMap requestHeaders = httpRequest.getHeaders();
-        final byte[] preparedBody = compressIfRequired(httpRequest.getBody(), requestHeaders);
+        final byte[] preparedBody = requestCompressor.compress(bidderName, httpRequest.getBody(), requestHeaders);
+        final HttpEndpoint endpoint = resolveEndpoint(httpRequest.getUri());
+        if (endpoint == null) {
+            return httpClient.request(
+                    httpRequest.getMethod(),
+                    httpRequest.getUri(),
+                    requestHeaders,
+                    preparedBody,
+                    remainingTimeout);
+        }
 
         return httpClient.request(
                 httpRequest.getMethod(),
-                httpRequest.getUri(),
+                endpoint,
                 requestHeaders,
                 preparedBody,
                 remainingTimeout);
     }
 
-    private static byte[] compressIfRequired(byte[] body, MultiMap headers) {
-        final String contentEncodingHeader = headers.get(HttpUtil.CONTENT_ENCODING_HEADER);
-        return Objects.equals(contentEncodingHeader, HttpHeaderValues.GZIP.toString())
-                ? gzip(body)
-                : body;
+    /**
+     * Resolves {@link HttpEndpoint} keys once per bidder origin (scheme, host and port), as bidder urls usually
+     * differ per request by path and query only. Invalid url is not cached and left for http client to report.
+     */
+    private HttpEndpoint resolveEndpoint(String uri) {
+        try {
+            final HttpEndpoint originEndpoint = endpointByOrigin.computeIfAbsent(
+                    HttpEndpoint.origin(uri), HttpBidderRequester::endpointOf);
+            return originEndpoint != null ? originEndpoint.withUrl(uri) : null;
+        } catch (PreBidException e) {
+            return null;
+        }
     }
 
-    private static byte[] gzip(byte[] value) {
-        try (
-                ByteArrayOutputStream obj = new ByteArrayOutputStream();
-                GZIPOutputStream gzip = new GZIPOutputStream(obj)) {
-
-            gzip.write(value);
-            gzip.finish();
-
-            return obj.toByteArray();
-        } catch (IOException e) {
-            throw new PreBidException("Failed to compress request : " + e.getMessage());
+    private static HttpEndpoint endpointOf(String url) {
+        try {
+            return HttpEndpoint.of(url);
+        } catch (PreBidException e) {
+            return null;
         }
     }
 
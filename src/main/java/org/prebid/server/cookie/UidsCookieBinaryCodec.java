@@ -0,0 +1,177 @@
+package org.prebid.server.cookie;
+
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes {@link Uids} into compact binary form and back.
+ * <p>
+ * Layout: version byte, optout flag byte, varint number of uids and then for each uid: varint family index,
+ * varint expiration epoch seconds and varint-prefixed UTF-8 uid. Family index refers to the append-only registry
+ * of cookie families, shifted by one, while {@code 0} means that varint-prefixed family name follows
+ * (for families the registry does not know).
+ * <p>
+ * Since registry entries are never removed or reordered, adding or removing bidders does not change indices
+ * of other families. Uid of a family appended to the registry by newer version of application is skipped
+ * by older one (during rolling deploy) and synced again, while the rest of the cookie is kept.
+ */
+public class UidsCookieBinaryCodec {
+
+    private static final byte VERSION = 1;
+    private static final int INLINE_FAMILY_INDEX = 0;
+
+    private final List<String> families;
+    private final Map<String, Integer> familyToIndex;
+
+    public UidsCookieBinaryCodec(List<String> familyRegistry) {
+        families = List.copyOf(familyRegistry);
+        familyToIndex = new HashMap<>();
+        for (int i = 0; i < families.size(); i++) {
+            if (familyToIndex.put(families.get(i), i + 1) != null) {
+                throw new IllegalArgumentException("Duplicate cookie family in registry: " + families.get(i));
+            }
+        }
+    }
+
+    /**
+     * Parses registry of cookie families: one family per line, blank lines and lines starting with '#' are ignored.
+     */
+    public static List<String> parseFamilyRegistry(String registry) {
+        return registry.lines()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .toList();
+    }
+
+    /**
+     * Checks if given decoded cookie value is in binary form. JSON form always starts with '{'.
+     */
+    public static boolean isBinary(byte[] value) {
+        return value.length > 0 && value[0] == VERSION;
+    }
+
+    public byte[] encode(Uids uids) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(64);
+        output.write(VERSION);
+        output.write(Boolean.TRUE.equals(uids.getOptout()) ? 1 : 0);
+
+        final Map<String, UidWithExpiry> uidsByFamily = uids.getUids();
+        writeVarint(output, uidsByFamily.size());
+        for (Map.Entry<String, UidWithExpiry> entry : uidsByFamily.entrySet()) {
+            final String family = entry.getKey();
+            final UidWithExpiry uidWithExpiry = entry.getValue();
+
+            final Integer familyIndex = familyToIndex.get(family);
+            if (familyIndex != null) {
+                writeVarint(output, familyIndex);
+            } else {
+                writeVarint(output, INLINE_FAMILY_INDEX);
+                writeString(output, family);
+            }
+            writeVarint(output, expirationEpochSecond(uidWithExpiry.getExpires()));
+            writeString(output, uidWithExpiry.getUid());
+        }
+
+        return output.toByteArray();
+    }
+
+    /**
+     * Legacy uids have no expiration date, they are written as expired at epoch to be synced again.
+     */
+    private static long expirationEpochSecond(ZonedDateTime expires) {
+        return expires != null ? Math.max(expires.toEpochSecond(), 0L) : 0L;
+    }
+
+    /**
+     * Decodes {@link Uids} from binary form.
+     *
+     * @throws IllegalArgumentException if value is malformed
+     */
+    public Uids decode(byte[] value) {
+        final ByteBuffer input = ByteBuffer.wrap(value);
+        try {
+            if (input.get() != VERSION) {
+                throw new IllegalArgumentException("Unsupported binary uids version");
+            }
+            final boolean optout = input.get() == 1;
+
+            final int size = readLength(input);
+            final Map<String, UidWithExpiry> uids = new HashMap<>(size * 4 / 3 + 1);
+            for (int i = 0; i < size; i++) {
+                final String family = readFamily(input);
+                final ZonedDateTime expires = ZonedDateTime.ofInstant(
+                        Instant.ofEpochSecond(readVarint(input)), ZoneOffset.UTC);
+                final String uid = readString(input);
+                if (family != null) {
+                    uids.put(family, new UidWithExpiry(uid, expires));
+                }
+            }
+
+            return Uids.builder().uids(uids).optout(optout).build();
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated binary uids", e);
+        }
+    }
+
+    private String readFamily(ByteBuffer input) {
+        final long familyIndex = readVarint(input);
+        if (familyIndex == INLINE_FAMILY_INDEX) {
+            return readString(input);
+        }
+        // family appended to the registry by newer version of application
+        return familyIndex <= families.size() ? families.get((int) familyIndex - 1) : null;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream output, long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            output.write((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        output.write((int) remaining);
+    }
+
+    private static void writeString(ByteArrayOutputStream output, String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(output, bytes.length);
+        output.write(bytes, 0, bytes.length);
+    }
+
+    private static long readVarint(ByteBuffer input) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            final byte current = input.get();
+            value |= (long) (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in binary uids");
+    }
+
+    private static int readLength(ByteBuffer input) {
+        final long length = readVarint(input);
+        if (length > input.remaining()) {
+            throw new IllegalArgumentException("Malformed length in binary uids");
+        }
+        return (int) length;
+    }
+
+    private static String readString(ByteBuffer input) {
+        final int length = readLength(input);
+        final String value = new String(input.array(), input.position(), length, StandardCharsets.UTF_8);
+        input.position(input.position() + length);
+        return value;
+    }
+}
@@ -41,6 +41,7 @@ public class UidsCookieService {
     private static final int MIN_COOKIE_SIZE_BYTES = 500;
     private static final int MIN_NUMBER_OF_UID_COOKIES = 1;
     private static final int MAX_NUMBER_OF_UID_COOKIES = 30;
+    private static final String PARSED_UIDS_CONTEXT_KEY = "parsedUids";
 
     private final String optOutCookieName;
     private final String optOutCookieValue;
@@ -55,7 +56,13 @@ public class UidsCookieService {
     private final PrioritizedCoopSyncProvider prioritizedCoopSyncProvider;
     private final Metrics metrics;
     private final JacksonMapper mapper;
+    private final UidsCookieBinaryCodec binaryCodec;
+    private final boolean binaryFormatEnabled;
 
+    /**
+     * Creates service writing uids cookies in compact binary form if binary format is enabled
+     * and in JSON form otherwise. Both forms are accepted on reading regardless of it.
+     */
     public UidsCookieService(String optOutCookieName,
                              String optOutCookieValue,
                              String hostCookieFamily,
@@ -66,7 +73,9 @@ public class UidsCookieService {
                              int numberOfUidCookies,
                              PrioritizedCoopSyncProvider prioritizedCoopSyncProvider,
                              Metrics metrics,
-                             JacksonMapper mapper) {
+                             JacksonMapper mapper,
+                             UidsCookieBinaryCodec binaryCodec,
+                             boolean binaryFormatEnabled) {
 
         if (maxCookieSizeBytes != 0 && maxCookieSizeBytes < MIN_COOKIE_SIZE_BYTES) {
             throw new IllegalArgumentException(
@@ -90,6 +99,8 @@ public class UidsCookieService {
         this.prioritizedCoopSyncProvider = Objects.requireNonNull(prioritizedCoopSyncProvider);
         this.metrics = Objects.requireNonNull(metrics);
         this.mapper = Objects.requireNonNull(mapper);
+        this.binaryCodec = Objects.requireNonNull(binaryCodec);
+        this.binaryFormatEnabled = binaryFormatEnabled;
     }
 
     /**
@@ -109,7 +120,8 @@ public class UidsCookieService {
      * Note: UIDs will be excluded from resulting {@link UidsCookie} if their value are 'null'.
      */
     public UidsCookie parseFromRequest(RoutingContext routingContext) {
-        return parseFromCookies(HttpUtil.cookiesAsMap(routingContext));
+        final Map<String, String> cookies = HttpUtil.cookiesAsMap(routingContext);
+        return toUidsCookie(parseUids(routingContext, cookies), cookies);
     }
 
     public UidsCookie parseFromRequest(HttpRequestContext httpRequest) {
@@ -120,7 +132,10 @@ public class UidsCookieService {
      * Retrieves UIDs cookie (base64 encoded) value from cookies map and transforms it into {@link UidsCookie}.
      */
     UidsCookie parseFromCookies(Map<String, String> cookies) {
-        final Uids parsedUids = parseUids(cookies);
+        return toUidsCookie(parseUids(cookies), cookies);
+    }
+
+    private UidsCookie toUidsCookie(Uids parsedUids, Map<String, String> cookies) {
         final boolean isOptedOut = isOptedOut(cookies);
 
         final Uids uids = Uids.builder()
@@ -131,6 +146,21 @@ public class UidsCookieService {
         return new UidsCookie(uids, mapper);
     }
 
+    /**
+     * Parses uids cookies once per request, so that all the components asking for them
+     * during request processing reuse the result.
+     */
+    private Uids parseUids(RoutingContext routingContext, Map<String, String> cookies) {
+        final Uids memoizedUids = routingContext.get(PARSED_UIDS_CONTEXT_KEY);
+        if (memoizedUids != null) {
+            return memoizedUids;
+        }
+
+        final Uids parsedUids = parseUids(cookies);
+        routingContext.put(PARSED_UIDS_CONTEXT_KEY, parsedUids);
+        return parsedUids;
+    }
+
     /**
      * Parses cookies {@link Map} and composes {@link Uids} model.
      */
@@ -144,8 +174,7 @@ public class UidsCookieService {
             }
 
             try {
-                final Uids parsedUids = mapper.decodeValue(
-                        Buffer.buffer(Base64.getUrlDecoder().decode(cookie.getValue())), Uids.class);
+                final Uids parsedUids = decodeUids(Base64.getUrlDecoder().decode(cookie.getValue()));
                 if (parsedUids != null && parsedUids.getUids() != null) {
                     parsedUids.getUids().forEach((key, value) -> uids.merge(key, value, (newValue, oldValue) ->
                             newValue.getExpires().compareTo(oldValue.getExpires()) > 0 ? newValue : oldValue));
@@ -158,12 +187,21 @@ public class UidsCookieService {
         return Uids.builder().uids(uids).build();
     }
 
+    private Uids decodeUids(byte[] value) {
+        return UidsCookieBinaryCodec.isBinary(value)
+                ? binaryCodec.decode(value)
+                : mapper.decodeValue(Buffer.buffer(value), Uids.class);
+    }
+
     /**
-     * Creates a {@link Cookie} with 'uids' as a name and encoded JSON string representing supplied {@link UidsCookie}
-     * as a value.
+     * Creates a {@link Cookie} with 'uids' as a name and encoded JSON string (or compact binary form if enabled)
+     * representing supplied {@link UidsCookie} as a value.
      */
     public Cookie aliveCookie(String cookieName, UidsCookie uidsCookie) {
-        final String value = Base64.getUrlEncoder().encodeToString(uidsCookie.toJson().getBytes());
+        final byte[] encodedUids = binaryFormatEnabled
+                ? binaryCodec.encode(uidsCookie.getCookieUids())
+                : uidsCookie.toJson().getBytes();
+        final String value = Base64.getUrlEncoder().encodeToString(encodedUids);
         return makeCookie(cookieName, value, ttlSeconds);
     }
 
@@ -362,7 +400,7 @@ public class UidsCookieService {
             return null;
         }
 
-        final boolean inSync = Optional.ofNullable(parseUids(cookies))
+        final boolean inSync = Optional.ofNullable(parseUids(routingContext, cookies))
                 .map(Uids::getUids)
                 .map(uids -> uids.get(cookieFamilyName))
                 .map(UidWithExpiry::getUid)
@@ -6,7 +6,6 @@ import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.BooleanUtils;
-import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.currency.proto.CurrencyConversionRates;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.json.JacksonMapper;
@@ -47,7 +46,8 @@ public class CurrencyConversionService implements Initializable {
     private final ExternalConversionProperties externalConversionProperties;
     private final JacksonMapper mapper;
 
-    private Map<String, Map<String, BigDecimal>> externalCurrencyRates;
+    // replaced as a whole on every update, so that readers on other threads see consistent rates
+    private volatile CurrencyRatesMatrix externalCurrencyRates;
     private ZonedDateTime lastUpdated;
 
     public CurrencyConversionService(ExternalConversionProperties externalConversionProperties) {
@@ -119,7 +119,9 @@ public class CurrencyConversionService implements Initializable {
     private Void updateCurrencyRates(CurrencyConversionRates currencyConversionRates) {
         final Map<String, Map<String, BigDecimal>> receivedCurrencyRates = currencyConversionRates.getConversions();
         if (receivedCurrencyRates != null) {
-            externalCurrencyRates = receivedCurrencyRates;
+            externalCurrencyRates = CurrencyRatesMatrix.of(
+                    receivedCurrencyRates,
+                    (fromCurrency, toCurrency) -> getConversionRate(receivedCurrencyRates, fromCurrency, toCurrency));
             lastUpdated = now();
         }
 
@@ -166,7 +168,8 @@ public class CurrencyConversionService implements Initializable {
     }
 
     public Map<String, Map<String, BigDecimal>> getExternalCurrencyRates() {
-        return externalCurrencyRates;
+        final CurrencyRatesMatrix currencyRates = externalCurrencyRates;
+        return currencyRates != null ? currencyRates.getRates() : null;
     }
 
     /**
@@ -199,27 +202,12 @@ public class CurrencyConversionService implements Initializable {
             return price;
         }
 
-        final Map<String, Map<String, BigDecimal>> firstPriorityRates;
-        final Map<String, Map<String, BigDecimal>> secondPriorityRates;
-
-        if (BooleanUtils.isFalse(usepbsrates)) {
-            firstPriorityRates = requestCurrencyRates;
-            secondPriorityRates = externalCurrencyRates;
-        } else {
-            firstPriorityRates = externalCurrencyRates;
-            secondPriorityRates = requestCurrencyRates;
-        }
-
-        final BigDecimal conversionRate = getConversionRateByPriority(firstPriorityRates,
-                secondPriorityRates,
+        final BigDecimal conversionRate = getConversionRateByPriority(
+                requestCurrencyRates,
+                usepbsrates,
                 effectiveFromCurrency,
                 effectiveToCurrency);
 
-        if (conversionRate == null) {
-            throw new PreBidException("Unable to convert from currency %s to desired ad server currency %s"
-                    .formatted(effectiveFromCurrency, effectiveToCurrency));
-        }
-
         return price.multiply(conversionRate).setScale(DEFAULT_PRICE_PRECISION, RoundingMode.HALF_EVEN);
     }
 
@@ -241,16 +229,43 @@ public class CurrencyConversionService implements Initializable {
     }
 
     /**
-     * Returns conversion rate from the given currency rates according to priority.
+     * Returns conversion rate from request or external rates according to usepbsrates flag.
+     * Rates of lower priority are looked through only if rates of higher priority have no suitable rate.
+     * Throws {@link PreBidException} if there is no suitable rate in both.
      */
-    private static BigDecimal getConversionRateByPriority(Map<String, Map<String, BigDecimal>> firstPriorityRates,
-                                                          Map<String, Map<String, BigDecimal>> secondPriorityRates,
-                                                          String fromCurrency,
-                                                          String toCurrency) {
-
-        return ObjectUtils.defaultIfNull(
-                getConversionRate(firstPriorityRates, fromCurrency, toCurrency),
-                getConversionRate(secondPriorityRates, fromCurrency, toCurrency));
+    private BigDecimal getConversionRateByPriority(Map<String, Map<String, BigDecimal>> requestCurrencyRates,
+                                                   Boolean usepbsrates,
+                                                   String fromCurrency,
+                                                   String toCurrency) {
+
+        final CurrencyRatesMatrix currencyRates = externalCurrencyRates;
+
+        BigDecimal conversionRate;
+        if (BooleanUtils.isFalse(usepbsrates)) {
+            conversionRate = getConversionRate(requestCurrencyRates, fromCurrency, toCurrency);
+            if (conversionRate == null) {
+                conversionRate = getConversionRate(currencyRates, fromCurrency, toCurrency);
+            }
+        } else {
+            conversionRate = getConversionRate(currencyRates, fromCurrency, toCurrency);
+            if (conversionRate == null) {
+                conversionRate = getConversionRate(requestCurrencyRates, fromCurrency, toCurrency);
+            }
+        }
+
+        if (conversionRate == null) {
+            throw new PreBidException("Unable to convert from currency %s to desired ad server currency %s"
+                    .formatted(fromCurrency, toCurrency));
+        }
+
+        return conversionRate;
+    }
+
+    private static BigDecimal getConversionRate(CurrencyRatesMatrix currencyRates,
+                                                String fromCurrency,
+                                                String toCurrency) {
+
+        return currencyRates != null ? currencyRates.rate(fromCurrency, toCurrency) : null;
     }
 
     /**
@@ -0,0 +1,109 @@
+package org.prebid.server.currency;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * Conversion rates between every pair of currencies mentioned in currency server response, resolved in advance.
+ * <p>
+ * Matrix is immutable and rebuilt on every rates update, so conversion of a price takes two index lookups
+ * instead of nested maps traversal and reverse, intermediate or cross rate calculation.
+ */
+class CurrencyRatesMatrix {
+
+    private final Map<String, Map<String, BigDecimal>> rates;
+
+    private final Map<String, Integer> currencyIndexes;
+
+    private final BigDecimal[] decimalRates;
+
+    private CurrencyRatesMatrix(Map<String, Map<String, BigDecimal>> rates,
+                                Map<String, Integer> currencyIndexes,
+                                BigDecimal[] decimalRates) {
+
+        this.rates = rates;
+        this.currencyIndexes = currencyIndexes;
+        this.decimalRates = decimalRates;
+    }
+
+    /**
+     * Builds matrix for given rates, where conversion rate of every currency pair is found by rate resolver.
+     * Resolver receives currency to convert from and currency to convert to and returns null if rate is unknown.
+     */
+    static CurrencyRatesMatrix of(Map<String, Map<String, BigDecimal>> rates,
+                                  BiFunction<String, String, BigDecimal> rateResolver) {
+
+        final List<String> currencies = currencies(Objects.requireNonNull(rates));
+        final int size = currencies.size();
+
+        final Map<String, Integer> currencyIndexes = new HashMap<>(size * 4 / 3 + 1);
+        for (int i = 0; i < size; i++) {
+            currencyIndexes.put(currencies.get(i), i);
+        }
+
+        final BigDecimal[] decimalRates = new BigDecimal[size * size];
+        for (int from = 0; from < size; from++) {
+            for (int to = 0; to < size; to++) {
+                decimalRates[from * size + to] = from != to
+                        ? resolveRate(rateResolver, currencies.get(from), currencies.get(to))
+                        : BigDecimal.ONE;
+            }
+        }
+
+        return new CurrencyRatesMatrix(rates, Collections.unmodifiableMap(currencyIndexes), decimalRates);
+    }
+
+    /**
+     * Leaves pair unresolved if its rate cannot be calculated (e.g. reverse of zero rate), so that single
+     * degenerate rate fails conversions of affected pairs only and not the whole matrix.
+     */
+    private static BigDecimal resolveRate(BiFunction<String, String, BigDecimal> rateResolver,
+                                          String fromCurrency,
+                                          String toCurrency) {
+
+        try {
+            return rateResolver.apply(fromCurrency, toCurrency);
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    private static List<String> currencies(Map<String, Map<String, BigDecimal>> rates) {
+        final Set<String> currencies = new LinkedHashSet<>(rates.keySet());
+        rates.values().stream()
+                .filter(Objects::nonNull)
+                .map(Map::keySet)
+                .forEach(currencies::addAll);
+
+        return List.copyOf(currencies);
+    }
+
+    /**
+     * Returns rates this matrix was built from.
+     */
+    Map<String, Map<String, BigDecimal>> getRates() {
+        return rates;
+    }
+
+    /**
+     * Returns conversion rate or null if currencies are unknown or there is no way to convert between them.
+     */
+    BigDecimal rate(String fromCurrency, String toCurrency) {
+        final int index = index(fromCurrency, toCurrency);
+        return index != -1 ? decimalRates[index] : null;
+    }
+
+    private int index(String fromCurrency, String toCurrency) {
+        final Integer fromIndex = currencyIndexes.get(fromCurrency);
+        final Integer toIndex = fromIndex != null ? currencyIndexes.get(toCurrency) : null;
+
+        return toIndex != null ? fromIndex * currencyIndexes.size() + toIndex : -1;
+    }
+}
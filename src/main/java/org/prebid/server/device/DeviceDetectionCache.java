@@ -0,0 +1,24 @@
+package org.prebid.server.device;
+
+import com.iab.openrtb.request.Device;
+
+import java.util.function.Supplier;
+
+/**
+ * Keeps devices detected from User-Agent and client hints, so device detection modules resolve a popular
+ * User-Agent once per node rather than once per request.
+ * <p>
+ * Detection results are kept separately for each detector, since modules fill in different device fields.
+ */
+public interface DeviceDetectionCache {
+
+    /**
+     * Returns device fields detected by given detector for the key, running detection only if nothing is cached.
+     * Null detection result is not cached. Returned device is shared between requests and must not be modified.
+     */
+    Device get(String detector, DeviceDetectionKey key, Supplier<Device> detection);
+
+    static DeviceDetectionCache noCache() {
+        return (detector, key, detection) -> detection.get();
+    }
+}
@@ -0,0 +1,73 @@
+package org.prebid.server.device;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Detection input the device is cached by: normalized User-Agent and client hint headers.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class DeviceDetectionKey {
+
+    private static final String USER_AGENT_HEADER = "user-agent";
+    private static final String CLIENT_HINT_HEADER_PREFIX = "sec-ch-ua";
+
+    String ua;
+
+    SortedMap<String, String> clientHints;
+
+    public static DeviceDetectionKey of(String ua, Map<String, String> clientHints) {
+        final SortedMap<String, String> normalizedClientHints = new TreeMap<>();
+        if (clientHints != null) {
+            clientHints.forEach((name, value) -> {
+                final String normalizedName = normalizeName(name);
+                if (isClientHint(normalizedName)) {
+                    normalizedClientHints.put(normalizedName, StringUtils.trimToEmpty(value));
+                }
+            });
+        }
+
+        return new DeviceDetectionKey(
+                StringUtils.normalizeSpace(ua),
+                Collections.unmodifiableSortedMap(normalizedClientHints));
+    }
+
+    /**
+     * Returns key for detection from given headers, or null if they contain anything besides User-Agent
+     * and client hints, since the detected device may depend on other headers.
+     */
+    public static DeviceDetectionKey fromHeaders(Map<String, String> headers) {
+        if (headers == null || headers.isEmpty()) {
+            return null;
+        }
+
+        String ua = null;
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            final String name = normalizeName(header.getKey());
+            if (USER_AGENT_HEADER.equals(name)) {
+                ua = header.getValue();
+            } else if (!isClientHint(name)) {
+                return null;
+            }
+        }
+
+        return of(ua, headers);
+    }
+
+    private static String normalizeName(String name) {
+        return StringUtils.trimToEmpty(name).toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isClientHint(String normalizedName) {
+        return normalizedName.startsWith(CLIENT_HINT_HEADER_PREFIX);
+    }
+}
@@ -0,0 +1,60 @@
+package org.prebid.server.device;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iab.openrtb.request.Device;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Node-wide {@link DeviceDetectionCache} bounded by number of entries of all detectors together.
+ * <p>
+ * Entries expire after given TTL, so devices detected from an outdated detection data file are eventually
+ * replaced. Hits and misses are reported per detector.
+ */
+public class InMemoryDeviceDetectionCache implements DeviceDetectionCache {
+
+    private final Cache<CacheKey, Device> cache;
+    private final Metrics metrics;
+
+    public InMemoryDeviceDetectionCache(long maxSize, long ttlSeconds, Metrics metrics) {
+        if (maxSize <= 0 || ttlSeconds <= 0) {
+            throw new IllegalArgumentException("Device detection cache size and ttl should be positive");
+        }
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    @Override
+    public Device get(String detector, DeviceDetectionKey key, Supplier<Device> detection) {
+        if (key == null) {
+            return detection.get();
+        }
+
+        final CacheKey cacheKey = new CacheKey(detector, key);
+        final Device cachedDevice = cache.getIfPresent(cacheKey);
+        if (cachedDevice != null) {
+            metrics.updateDeviceDetectionCacheMetric(detector, MetricName.hit);
+            return cachedDevice;
+        }
+
+        metrics.updateDeviceDetectionCacheMetric(detector, MetricName.miss);
+
+        final Device detectedDevice = detection.get();
+        if (detectedDevice != null) {
+            cache.put(cacheKey, detectedDevice);
+        }
+        return detectedDevice;
+    }
+
+    private record CacheKey(String detector, DeviceDetectionKey key) {
+    }
+}
@@ -0,0 +1,176 @@
+package org.prebid.server.execution.timeout;
+
+/**
+ * Hashed timing wheel confined to a single event loop thread.
+ * <p>
+ * Time is split into ticks of fixed duration, each task is put into the bucket of the tick its deadline falls into
+ * (modulo number of buckets), so that scheduling and cancellation are O(1) and advancing the wheel only looks
+ * through the buckets of passed ticks. Tasks never run earlier than requested, but may run up to one tick later.
+ * <p>
+ * Cancellation is allowed from any thread: the task is unlinked right away when cancelled on the owner thread
+ * outside of {@link #advance(long)}, and is dropped lazily by the owner thread otherwise, so that expiring actions
+ * cancelling other tasks do not modify the bucket being walked.
+ */
+class HashedTimingWheel {
+
+    private final long tickMs;
+    private final Entry[] buckets;
+    private final int mask;
+    private final long startMs;
+    private final Thread owner;
+
+    private long currentTick;
+    private int pending;
+    private boolean advancing;
+
+    private long scheduledCount;
+    private long expiredCount;
+    private long cancelledCount;
+
+    HashedTimingWheel(long tickMs, int wheelSize, long nowMs, Thread owner) {
+        if (tickMs < 1) {
+            throw new IllegalArgumentException("Tick duration must be positive");
+        }
+        if (wheelSize < 1 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a positive power of two");
+        }
+
+        this.tickMs = tickMs;
+        this.buckets = new Entry[wheelSize];
+        this.mask = wheelSize - 1;
+        this.startMs = nowMs;
+        this.owner = owner;
+    }
+
+    TimeoutTask schedule(long delayMs, Runnable action, long nowMs) {
+        final long deadlineTick = Math.max(Math.ceilDiv(nowMs + delayMs - startMs, tickMs), currentTick + 1);
+        final Entry entry = new Entry(this, action, deadlineTick);
+        link(entry);
+
+        pending++;
+        scheduledCount++;
+        return entry;
+    }
+
+    /**
+     * Runs the tasks whose deadline has passed by the given moment.
+     */
+    void advance(long nowMs) {
+        final long targetTick = (nowMs - startMs) / tickMs;
+        if (targetTick <= currentTick) {
+            return;
+        }
+
+        // if more ticks than buckets have passed, visiting each bucket once is enough
+        final long fromTick = Math.max(currentTick + 1, targetTick - mask);
+        currentTick = targetTick;
+        advancing = true;
+        try {
+            for (long tick = fromTick; tick <= targetTick; tick++) {
+                expire((int) (tick & mask), targetTick);
+            }
+        } finally {
+            advancing = false;
+        }
+    }
+
+    private void expire(int bucket, long targetTick) {
+        Entry entry = buckets[bucket];
+        while (entry != null) {
+            final Entry next = entry.next;
+            if (entry.cancelled) {
+                if (unlink(entry)) {
+                    cancelledCount++;
+                }
+            } else if (entry.deadlineTick <= targetTick) {
+                unlink(entry);
+                expiredCount++;
+                entry.action.run();
+            }
+            entry = next;
+        }
+    }
+
+    private void link(Entry entry) {
+        final int bucket = (int) (entry.deadlineTick & mask);
+        final Entry head = buckets[bucket];
+        entry.next = head;
+        if (head != null) {
+            head.prev = entry;
+        }
+        buckets[bucket] = entry;
+        entry.linked = true;
+    }
+
+    private boolean unlink(Entry entry) {
+        if (!entry.linked) {
+            return false;
+        }
+
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            buckets[(int) (entry.deadlineTick & mask)] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+        entry.linked = false;
+        pending--;
+        return true;
+    }
+
+    int pending() {
+        return pending;
+    }
+
+    long drainScheduledCount() {
+        final long count = scheduledCount;
+        scheduledCount = 0;
+        return count;
+    }
+
+    long drainExpiredCount() {
+        final long count = expiredCount;
+        expiredCount = 0;
+        return count;
+    }
+
+    long drainCancelledCount() {
+        final long count = cancelledCount;
+        cancelledCount = 0;
+        return count;
+    }
+
+    private static class Entry implements TimeoutTask {
+
+        private final HashedTimingWheel wheel;
+        private final Runnable action;
+        private final long deadlineTick;
+
+        private Entry prev;
+        private Entry next;
+        private boolean linked;
+        private volatile boolean cancelled;
+
+        Entry(HashedTimingWheel wheel, Runnable action, long deadlineTick) {
+            this.wheel = wheel;
+            this.action = action;
+            this.deadlineTick = deadlineTick;
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) {
+                return;
+            }
+
+            cancelled = true;
+            if (Thread.currentThread() == wheel.owner && !wheel.advancing && wheel.unlink(this)) {
+                wheel.cancelledCount++;
+            }
+        }
+    }
+}
@@ -10,12 +10,18 @@ import java.time.Clock;
 public class Timeout {
 
     private final Clock clock;
+    private final TimeoutScheduler scheduler;
 
     @Getter
     private final long deadline;
 
     Timeout(Clock clock, long deadline) {
+        this(clock, null, deadline);
+    }
+
+    Timeout(Clock clock, TimeoutScheduler scheduler, long deadline) {
         this.clock = clock;
+        this.scheduler = scheduler;
         this.deadline = deadline;
     }
 
@@ -28,7 +34,7 @@ public class Timeout {
             throw new IllegalArgumentException("Amount must be non-negative");
         }
 
-        return new Timeout(clock, deadline - amount);
+        return new Timeout(clock, scheduler, deadline - amount);
     }
 
     /**
@@ -37,4 +43,23 @@ public class Timeout {
     public long remaining() {
         return Math.max(deadline - clock.millis(), 0);
     }
+
+    /**
+     * Runs given action once this {@link Timeout} expires, unless returned task is cancelled before.
+     * Action is run immediately if this {@link Timeout} has already expired.
+     */
+    public TimeoutTask onExpire(Runnable action) {
+        if (scheduler == null) {
+            throw new IllegalStateException("Timeout scheduler is not configured");
+        }
+
+        final long remaining = remaining();
+        if (remaining < 1) {
+            action.run();
+            return () -> {
+            };
+        }
+
+        return scheduler.schedule(remaining, action);
+    }
 }
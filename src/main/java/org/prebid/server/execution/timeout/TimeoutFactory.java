@@ -8,9 +8,18 @@ import java.time.Clock;
 public class TimeoutFactory {
 
     private final Clock clock;
+    private final TimeoutScheduler scheduler;
 
     public TimeoutFactory(Clock clock) {
+        this(clock, null);
+    }
+
+    /**
+     * Creates factory of {@link Timeout}s able to run actions on expiration with the given {@link TimeoutScheduler}.
+     */
+    public TimeoutFactory(Clock clock, TimeoutScheduler scheduler) {
         this.clock = clock;
+        this.scheduler = scheduler;
     }
 
     /**
@@ -22,7 +31,7 @@ public class TimeoutFactory {
             throw new IllegalArgumentException("Start time and timeout must be positive");
         }
 
-        return new Timeout(clock, startTime + timeout);
+        return new Timeout(clock, scheduler, startTime + timeout);
     }
 
     /**
@@ -0,0 +1,118 @@
+package org.prebid.server.execution.timeout;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import org.prebid.server.metric.Metrics;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules timeout actions without registering Vert.x timer for each of them.
+ * <p>
+ * Each event loop context gets its own {@link HashedTimingWheel} driven by a single periodic Vert.x timer,
+ * which is armed only while the wheel has pending actions. Actions are run on the context they were scheduled from,
+ * up to one tick later than requested. Actions scheduled outside of event loop thread, e.g. from blocking code
+ * running on a worker thread of event loop context, (or when the wheel is disabled) fall back to the regular
+ * Vert.x timers.
+ */
+public class TimeoutScheduler {
+
+    private final Vertx vertx;
+    private final long tickMs;
+    private final int wheelSize;
+    private final Metrics metrics;
+
+    /**
+     * Creates scheduler backed by the regular Vert.x timers.
+     */
+    public TimeoutScheduler(Vertx vertx) {
+        this.vertx = Objects.requireNonNull(vertx);
+        this.tickMs = 0;
+        this.wheelSize = 0;
+        this.metrics = null;
+    }
+
+    public TimeoutScheduler(Vertx vertx, long tickMs, int wheelSize, Metrics metrics) {
+        if (tickMs < 1) {
+            throw new IllegalArgumentException("Tick duration must be positive");
+        }
+        if (wheelSize < 1 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a positive power of two");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * Runs given action after specified amount of milliseconds unless returned task is cancelled before.
+     */
+    public TimeoutTask schedule(long delayMs, Runnable action) {
+        if (delayMs < 1) {
+            throw new IllegalArgumentException("Cannot schedule a timeout with delay < 1 ms");
+        }
+
+        final Context context = tickMs > 0 ? Vertx.currentContext() : null;
+        if (context == null || !context.isEventLoopContext() || !Context.isOnEventLoopThread()) {
+            final long timerId = vertx.setTimer(delayMs, ignored -> action.run());
+            return () -> vertx.cancelTimer(timerId);
+        }
+
+        return contextWheel(context).schedule(delayMs, action);
+    }
+
+    private ContextWheel contextWheel(Context context) {
+        final ContextWheel existing = context.get(this);
+        if (existing != null) {
+            return existing;
+        }
+
+        final ContextWheel created = new ContextWheel();
+        context.put(this, created);
+        return created;
+    }
+
+    private static long nowMs() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    private class ContextWheel {
+
+        private final HashedTimingWheel wheel = new HashedTimingWheel(
+                tickMs, wheelSize, nowMs(), Thread.currentThread());
+
+        private long timerId = -1;
+        private long lastTickMs;
+
+        private TimeoutTask schedule(long delayMs, Runnable action) {
+            final long nowMs = nowMs();
+            final TimeoutTask task = wheel.schedule(delayMs, action, nowMs);
+            if (timerId == -1) {
+                lastTickMs = nowMs;
+                timerId = vertx.setPeriodic(tickMs, ignored -> tick());
+            }
+            return task;
+        }
+
+        private void tick() {
+            final long nowMs = nowMs();
+            final long tickLagMs = Math.max(nowMs - lastTickMs - tickMs, 0);
+            lastTickMs = nowMs;
+
+            wheel.advance(nowMs);
+            if (wheel.pending() == 0) {
+                vertx.cancelTimer(timerId);
+                timerId = -1;
+            }
+
+            metrics.updateTimeoutSchedulerMetrics(
+                    wheel.drainScheduledCount(),
+                    wheel.drainExpiredCount(),
+                    wheel.drainCancelledCount(),
+                    tickLagMs);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package org.prebid.server.execution.timeout;
+
+/**
+ * Action scheduled to run once timeout expires.
+ */
+@FunctionalInterface
+public interface TimeoutTask {
+
+    /**
+     * Cancels the action if it has not run yet, does nothing otherwise.
+     */
+    void cancel();
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.App;
 import com.iab.openrtb.request.Banner;
 import com.iab.openrtb.request.BidRequest;
@@ -15,6 +16,7 @@ import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Publisher;
 import com.iab.openrtb.request.Site;
 import com.iab.openrtb.request.Video;
+import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.BooleanUtils;
@@ -26,6 +28,7 @@ import org.prebid.server.exception.PreBidException;
 import org.prebid.server.floors.model.DeviceType;
 import org.prebid.server.floors.model.PriceFloorData;
 import org.prebid.server.floors.model.PriceFloorField;
+import org.prebid.server.floors.model.PriceFloorLocation;
 import org.prebid.server.floors.model.PriceFloorModelGroup;
 import org.prebid.server.floors.model.PriceFloorResult;
 import org.prebid.server.floors.model.PriceFloorRules;
@@ -50,6 +53,7 @@ import org.prebid.server.util.dsl.config.PrebidConfigMatchingStrategy;
 import org.prebid.server.util.dsl.config.PrebidConfigParameter;
 import org.prebid.server.util.dsl.config.PrebidConfigParameters;
 import org.prebid.server.util.dsl.config.PrebidConfigSource;
+import org.prebid.server.util.dsl.config.impl.CompiledRuleIndex;
 import org.prebid.server.util.dsl.config.impl.MostAccurateCombinationStrategy;
 import org.prebid.server.util.dsl.config.impl.SimpleDirectParameter;
 import org.prebid.server.util.dsl.config.impl.SimpleParameters;
@@ -74,6 +78,7 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
     private static final String DEFAULT_RULES_CURRENCY = "USD";
     private static final String SCHEMA_DEFAULT_DELIMITER = "|";
     private static final String WILDCARD_CATCH_ALL = "*";
+    private static final int COMPILED_MODEL_GROUPS_CACHE_SIZE = 10000;
 
     private static final String VIDEO_ALIAS = "video-instream";
 
@@ -95,6 +100,8 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
     private final JacksonMapper mapper;
 
     private final PrebidConfigMatchingStrategy matchingStrategy;
+    // model groups are compared by identity, the same instance is reused for fetched and account floors data
+    private final Map<PriceFloorModelGroup, CompiledModelGroup> compiledModelGroups;
 
     public BasicPriceFloorResolver(CurrencyConversionService currencyConversionService,
                                    CountryCodeMapper countryCodeMapper,
@@ -107,6 +114,11 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
         this.mapper = Objects.requireNonNull(mapper);
 
         matchingStrategy = new MostAccurateCombinationStrategy();
+        compiledModelGroups = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(COMPILED_MODEL_GROUPS_CACHE_SIZE)
+                .<PriceFloorModelGroup, CompiledModelGroup>build()
+                .asMap();
     }
 
     @Override
@@ -137,14 +149,21 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
             return null;
         }
 
-        final Map<String, BigDecimal> values = keysToLowerCase(modelGroup.getValues());
-        final PrebidConfigSource source = SimpleSource.of(
-                WILDCARD_CATCH_ALL,
-                ObjectUtils.defaultIfNull(schema.getDelimiter(), SCHEMA_DEFAULT_DELIMITER),
-                values.keySet());
         final PrebidConfigParameters parameters = createParameters(schema, bidRequest, imp, mediaType, format, bidder);
 
-        final String rule = matchingStrategy.match(source, parameters);
+        final Map<String, BigDecimal> values;
+        final String rule;
+        if (floorRules.getLocation() == PriceFloorLocation.request) {
+            // request floors are parsed anew for every request, so they are matched without compiling and caching
+            values = keysToLowerCase(modelGroup.getValues());
+            rule = matchingStrategy.match(createSource(modelGroup, values), parameters);
+        } else {
+            final CompiledModelGroup compiledModelGroup =
+                    compiledModelGroups.computeIfAbsent(modelGroup, BasicPriceFloorResolver::compileModelGroup);
+            values = compiledModelGroup.getValues();
+            rule = compiledModelGroup.getRuleIndex().match(parameters);
+        }
+
         final BigDecimal floorForRule = rule != null ? values.get(rule) : null;
         final BigDecimal floor = floorForRule != null ? floorForRule : modelGroup.getDefaultFloor();
         final String modelGroupCurrency = modelGroup.getCurrency();
@@ -188,6 +207,20 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
         return CollectionUtils.isNotEmpty(modelGroups) ? modelGroups.getFirst() : null;
     }
 
+    private static CompiledModelGroup compileModelGroup(PriceFloorModelGroup modelGroup) {
+        final Map<String, BigDecimal> values = keysToLowerCase(modelGroup.getValues());
+        final PrebidConfigSource source = createSource(modelGroup, values);
+
+        return CompiledModelGroup.of(values, CompiledRuleIndex.of(source, source.rules()));
+    }
+
+    private static PrebidConfigSource createSource(PriceFloorModelGroup modelGroup, Map<String, BigDecimal> values) {
+        return SimpleSource.of(
+                WILDCARD_CATCH_ALL,
+                ObjectUtils.defaultIfNull(modelGroup.getSchema().getDelimiter(), SCHEMA_DEFAULT_DELIMITER),
+                values.keySet());
+    }
+
     private static <V> Map<String, V> keysToLowerCase(Map<String, V> map) {
         return map.entrySet().stream()
                 .collect(
@@ -572,4 +605,12 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
     private static PrebidConfigParameter parameter(String value) {
         return SimpleDirectParameter.of(value.toLowerCase());
     }
+
+    @Value(staticConstructor = "of")
+    private static class CompiledModelGroup {
+
+        Map<String, BigDecimal> values;
+
+        CompiledRuleIndex ruleIndex;
+    }
 }
@@ -52,6 +52,11 @@ public class CircuitBreakerSecuredGeoLocationService implements GeoLocationServi
         return breaker.execute(promise -> geoLocationService.lookup(ip, timeout).onComplete(promise));
     }
 
+    @Override
+    public Future<GeoInfo> lookupCountry(String ip, Timeout timeout) {
+        return breaker.execute(promise -> geoLocationService.lookupCountry(ip, timeout).onComplete(promise));
+    }
+
     private void circuitOpened() {
         conditionalLogger.warn(
                 "GeoLocation service is unavailable, circuit opened.",
@@ -19,4 +19,14 @@ public interface GeoLocationService {
      * Returns geo location data by IP address.
      */
     Future<GeoInfo> lookup(String ip, Timeout timeout);
+
+    /**
+     * Returns geo location data by IP address, where only continent and country are required to be resolved.
+     * <p>
+     * Intended for callers not interested in region, city or coordinates,
+     * so implementations can skip resolving of them.
+     */
+    default Future<GeoInfo> lookupCountry(String ip, Timeout timeout) {
+        return lookup(ip, timeout);
+    }
 }
@@ -1,14 +1,19 @@
 package org.prebid.server.geolocation;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.maxmind.db.Network;
 import com.maxmind.db.Reader;
 import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.exception.GeoIp2Exception;
+import com.maxmind.geoip2.model.AbstractCountryResponse;
 import com.maxmind.geoip2.model.CityResponse;
+import com.maxmind.geoip2.model.CountryResponse;
 import com.maxmind.geoip2.record.City;
 import com.maxmind.geoip2.record.Continent;
 import com.maxmind.geoip2.record.Country;
 import com.maxmind.geoip2.record.Location;
 import com.maxmind.geoip2.record.Subdivision;
+import com.maxmind.geoip2.record.Traits;
 import io.vertx.core.Future;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
@@ -20,13 +25,28 @@ import org.prebid.server.geolocation.model.GeoInfo;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.Inet4Address;
 import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
+import java.util.Map;
 import java.util.zip.GZIPInputStream;
 
 /**
  * Implementation of the {@link GeoLocationService}
  * backed by <a href="https://dev.maxmind.com/geoip/geoip2/geolite2/">MaxMind free database</a>
+ * <p>
+ * If database file path is configured, database is extracted from the archive to disk and memory-mapped,
+ * so it is not held on heap and reloading does not require room for the second copy of it.
+ * Otherwise, database is loaded to memory.
+ * <p>
+ * Lookup results can be cached by /24 IPv4 or /48 IPv6 prefix. Only results of the networks not narrower than
+ * the prefix are cached, so that all addresses sharing the prefix are guaranteed to resolve to the same data.
+ * Every database reload starts with new caches, so results of the previous database are never served.
  */
 public class MaxMindGeoLocationService implements GeoLocationService, FileProcessor {
 
@@ -34,7 +54,28 @@ public class MaxMindGeoLocationService implements GeoLocationService, FileProces
 
     private static final String DATABASE_FILE_NAME = "GeoLite2-City.mmdb";
 
-    private DatabaseReader databaseReader;
+    private static final int IPV4_CACHE_PREFIX_LENGTH = 24;
+    private static final int IPV6_CACHE_PREFIX_LENGTH = 48;
+    private static final long IPV6_CACHE_KEY_FLAG = 1L << IPV6_CACHE_PREFIX_LENGTH;
+
+    private final Path databaseFilePath;
+    private final int cacheSize;
+
+    private volatile DatabaseReader databaseReader;
+    // caches are published after the reader they belong to and read before it on lookup
+    private volatile Map<Long, GeoInfo> cache;
+    private volatile Map<Long, GeoInfo> countryCache;
+
+    public MaxMindGeoLocationService() {
+        this(null, 0);
+    }
+
+    public MaxMindGeoLocationService(String databaseFilePath, int cacheSize) {
+        this.databaseFilePath = StringUtils.isNotBlank(databaseFilePath) ? Paths.get(databaseFilePath) : null;
+        this.cacheSize = cacheSize;
+
+        resetCaches();
+    }
 
     public Future<?> setDataPath(String dataFilePath) {
         try (TarArchiveInputStream tarInput = new TarArchiveInputStream(new GZIPInputStream(
@@ -53,7 +94,11 @@ public class MaxMindGeoLocationService implements GeoLocationService, FileProces
                         .formatted(DATABASE_FILE_NAME, dataFilePath));
             }
 
-            databaseReader = new DatabaseReader.Builder(tarInput).fileMode(Reader.FileMode.MEMORY).build();
+            databaseReader = databaseFilePath != null
+                    ? createMemoryMappedReader(tarInput, databaseFilePath)
+                    : new DatabaseReader.Builder(tarInput).fileMode(Reader.FileMode.MEMORY).build();
+            resetCaches();
+
             return Future.succeededFuture();
         } catch (IOException e) {
             return Future.failedFuture(
@@ -61,18 +106,68 @@ public class MaxMindGeoLocationService implements GeoLocationService, FileProces
         }
     }
 
+    /**
+     * Extracts database to temporary file next to the target one and moves it over the target.
+     * <p>
+     * Database file currently mapped by the previous reader is replaced, not rewritten, so it stays valid
+     * until the previous reader is garbage collected.
+     */
+    private static DatabaseReader createMemoryMappedReader(InputStream databaseInput, Path databaseFilePath)
+            throws IOException {
+
+        final Path directory = databaseFilePath.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+
+        final Path tmpFilePath = Files.createTempFile(directory, databaseFilePath.getFileName().toString(), ".tmp");
+        try {
+            Files.copy(databaseInput, tmpFilePath, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tmpFilePath, databaseFilePath,
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmpFilePath);
+        }
+
+        return new DatabaseReader.Builder(databaseFilePath.toFile()).fileMode(Reader.FileMode.MEMORY_MAPPED).build();
+    }
+
+    /**
+     * Replaces caches with empty ones instead of clearing them. Lookups still running against the previous reader
+     * may only fill the replaced caches, since the new ones are published after the new reader.
+     */
+    private void resetCaches() {
+        if (cacheSize > 0) {
+            cache = createCache(cacheSize);
+            countryCache = createCache(cacheSize);
+        }
+    }
+
+    private static Map<Long, GeoInfo> createCache(int cacheSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .<Long, GeoInfo>build()
+                .asMap();
+    }
+
     @Override
     public Future<GeoInfo> lookup(String ip, Timeout timeout) {
-        if (databaseReader == null) {
+        final Map<Long, GeoInfo> lookupCache = cache;
+        final DatabaseReader reader = databaseReader;
+        if (reader == null) {
             return Future.failedFuture("Geo location database file hasn't been downloaded yet, try again later");
         }
 
         try {
             final InetAddress inetAddress = InetAddress.getByName(ip);
-            final CityResponse cityResponse = databaseReader.city(inetAddress);
+            final Long cacheKey = lookupCache != null ? cacheKey(inetAddress) : null;
+            final GeoInfo cachedGeoInfo = cacheKey != null ? lookupCache.get(cacheKey) : null;
+            if (cachedGeoInfo != null) {
+                return Future.succeededFuture(cachedGeoInfo);
+            }
+
+            final CityResponse cityResponse = reader.city(inetAddress);
             final Location location = cityResponse != null ? cityResponse.getLocation() : null;
 
-            return Future.succeededFuture(GeoInfo.builder()
+            final GeoInfo geoInfo = GeoInfo.builder()
                     .vendor(VENDOR)
                     .continent(resolveContinent(cityResponse))
                     .country(resolveCountry(cityResponse))
@@ -81,20 +176,93 @@ public class MaxMindGeoLocationService implements GeoLocationService, FileProces
                     .city(resolveCity(cityResponse))
                     .lat(resolveLatitude(location))
                     .lon(resolveLongitude(location))
-                    .build());
+                    .build();
+
+            cacheIfPossible(lookupCache, cacheKey, inetAddress, cityResponse, geoInfo);
+            return Future.succeededFuture(geoInfo);
         } catch (IOException | GeoIp2Exception e) {
             return Future.failedFuture(e);
         }
     }
 
-    private static String resolveContinent(CityResponse cityResponse) {
-        final Continent continent = cityResponse != null ? cityResponse.getContinent() : null;
+    /**
+     * Looks up country-level database record, which skips decoding of subdivisions, city and location data.
+     */
+    @Override
+    public Future<GeoInfo> lookupCountry(String ip, Timeout timeout) {
+        final Map<Long, GeoInfo> lookupCache = countryCache;
+        final DatabaseReader reader = databaseReader;
+        if (reader == null) {
+            return Future.failedFuture("Geo location database file hasn't been downloaded yet, try again later");
+        }
+
+        try {
+            final InetAddress inetAddress = InetAddress.getByName(ip);
+            final Long cacheKey = lookupCache != null ? cacheKey(inetAddress) : null;
+            final GeoInfo cachedGeoInfo = cacheKey != null ? lookupCache.get(cacheKey) : null;
+            if (cachedGeoInfo != null) {
+                return Future.succeededFuture(cachedGeoInfo);
+            }
+
+            final CountryResponse countryResponse = reader.country(inetAddress);
+
+            final GeoInfo geoInfo = GeoInfo.builder()
+                    .vendor(VENDOR)
+                    .continent(resolveContinent(countryResponse))
+                    .country(resolveCountry(countryResponse))
+                    .build();
+
+            cacheIfPossible(lookupCache, cacheKey, inetAddress, countryResponse, geoInfo);
+            return Future.succeededFuture(geoInfo);
+        } catch (IOException | GeoIp2Exception e) {
+            return Future.failedFuture(e);
+        }
+    }
+
+    private static Long cacheKey(InetAddress inetAddress) {
+        final byte[] address = inetAddress.getAddress();
+        final int prefixBytes = (inetAddress instanceof Inet4Address
+                ? IPV4_CACHE_PREFIX_LENGTH
+                : IPV6_CACHE_PREFIX_LENGTH) / Byte.SIZE;
+
+        long key = 0;
+        for (int i = 0; i < prefixBytes; i++) {
+            key = (key << Byte.SIZE) | (address[i] & 0xFF);
+        }
+
+        // IPv4 keys never exceed 24 bits, so flag keeps them apart from IPv6 ones
+        return inetAddress instanceof Inet4Address ? key : key | IPV6_CACHE_KEY_FLAG;
+    }
+
+    private static void cacheIfPossible(Map<Long, GeoInfo> cache,
+                                        Long cacheKey,
+                                        InetAddress inetAddress,
+                                        AbstractCountryResponse response,
+                                        GeoInfo geoInfo) {
+
+        if (cacheKey == null || response == null) {
+            return;
+        }
+
+        final Traits traits = response.getTraits();
+        final Network network = traits != null ? traits.getNetwork() : null;
+        final int cachePrefixLength = inetAddress instanceof Inet4Address
+                ? IPV4_CACHE_PREFIX_LENGTH
+                : IPV6_CACHE_PREFIX_LENGTH;
+
+        if (network != null && network.getPrefixLength() <= cachePrefixLength) {
+            cache.put(cacheKey, geoInfo);
+        }
+    }
+
+    private static String resolveContinent(AbstractCountryResponse response) {
+        final Continent continent = response != null ? response.getContinent() : null;
         final String code = continent != null ? continent.getCode() : null;
         return StringUtils.lowerCase(code);
     }
 
-    private static String resolveCountry(CityResponse cityResponse) {
-        final Country country = cityResponse != null ? cityResponse.getCountry() : null;
+    private static String resolveCountry(AbstractCountryResponse response) {
+        final Country country = response != null ? response.getCountry() : null;
         final String isoCode = country != null ? country.getIsoCode() : null;
         return StringUtils.lowerCase(isoCode);
     }
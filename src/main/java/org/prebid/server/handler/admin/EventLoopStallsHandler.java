@@ -0,0 +1,35 @@
+package org.prebid.server.handler.admin;
+
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.EventLoopStallDetector;
+
+import java.util.Objects;
+
+public class EventLoopStallsHandler implements Handler<RoutingContext> {
+
+    private final EventLoopStallDetector eventLoopStallDetector;
+    private final JacksonMapper mapper;
+    private final String endpoint;
+
+    public EventLoopStallsHandler(EventLoopStallDetector eventLoopStallDetector,
+                                  JacksonMapper mapper,
+                                  String endpoint) {
+
+        this.eventLoopStallDetector = Objects.requireNonNull(eventLoopStallDetector);
+        this.mapper = Objects.requireNonNull(mapper);
+        this.endpoint = Objects.requireNonNull(endpoint);
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        final String responseString = mapper.encodeToString(eventLoopStallDetector.getReports());
+
+        HttpUtil.executeSafely(routingContext, endpoint,
+                response -> response
+                        .putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpUtil.APPLICATION_JSON_CONTENT_TYPE)
+                        .end(responseString));
+    }
+}
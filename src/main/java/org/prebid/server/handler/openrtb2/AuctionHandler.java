@@ -2,11 +2,13 @@ package org.prebid.server.handler.openrtb2;
 
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.response.BidResponse;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -34,6 +36,7 @@ import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.model.AuctionStage;
 import org.prebid.server.model.Endpoint;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.privacy.gdpr.model.TcfContext;
@@ -54,6 +57,8 @@ public class AuctionHandler implements ApplicationResource {
     private static final Logger logger = LoggerFactory.getLogger(AuctionHandler.class);
     private static final ConditionalLogger conditionalLogger = new ConditionalLogger(logger);
 
+    private static final int RESPONSE_CHUNK_SIZE = 64 * 1024;
+
     private final double logSamplingRate;
     private final AuctionRequestFactory auctionRequestFactory;
     private final ExchangeService exchangeService;
@@ -66,6 +71,8 @@ public class AuctionHandler implements ApplicationResource {
     private final PrebidVersionProvider prebidVersionProvider;
     private final HookStageExecutor hookStageExecutor;
     private final JacksonMapper mapper;
+    private final boolean streamingEncodingEnabled;
+    private final int chunkedThresholdBytes;
 
     public AuctionHandler(double logSamplingRate,
                           AuctionRequestFactory auctionRequestFactory,
@@ -78,7 +85,9 @@ public class AuctionHandler implements ApplicationResource {
                           HttpInteractionLogger httpInteractionLogger,
                           PrebidVersionProvider prebidVersionProvider,
                           HookStageExecutor hookStageExecutor,
-                          JacksonMapper mapper) {
+                          JacksonMapper mapper,
+                          boolean streamingEncodingEnabled,
+                          int chunkedThresholdBytes) {
 
         this.logSamplingRate = logSamplingRate;
         this.auctionRequestFactory = Objects.requireNonNull(auctionRequestFactory);
@@ -92,6 +101,8 @@ public class AuctionHandler implements ApplicationResource {
         this.prebidVersionProvider = Objects.requireNonNull(prebidVersionProvider);
         this.hookStageExecutor = Objects.requireNonNull(hookStageExecutor);
         this.mapper = Objects.requireNonNull(mapper);
+        this.streamingEncodingEnabled = streamingEncodingEnabled;
+        this.chunkedThresholdBytes = chunkedThresholdBytes;
     }
 
     @Override
@@ -166,11 +177,32 @@ public class AuctionHandler implements ApplicationResource {
         final MultiMap responseHeaders = getCommonResponseHeaders(routingContext)
                 .add(HttpUtil.CONTENT_TYPE_HEADER, HttpHeaderValues.APPLICATION_JSON);
 
-        return RawResponseContext.builder()
-                .responseBody(mapper.encodeToString(auctionContext.getBidResponse()))
+        final BidResponse bidResponse = auctionContext.getBidResponse();
+        final MetricName requestType = auctionContext.getRequestTypeMetric();
+        final long encodeStartTime = System.nanoTime();
+
+        final RawResponseContext.RawResponseContextBuilder responseContextBuilder = RawResponseContext.builder()
                 .responseHeaders(responseHeaders)
-                .auctionContext(auctionContext)
-                .build();
+                .auctionContext(auctionContext);
+
+        if (shouldStreamResponse(auctionContext)) {
+            responseContextBuilder.responseBuffer(mapper.encodeToBuffer(bidResponse));
+        } else {
+            responseContextBuilder.responseBody(mapper.encodeToString(bidResponse));
+        }
+
+        metrics.updateResponseEncodeTimeMetric(requestType, System.nanoTime() - encodeStartTime);
+        auctionContext.getStageTimer().record(AuctionStage.ENCODE, encodeStartTime);
+
+        return responseContextBuilder.build();
+    }
+
+    /**
+     * Response can be encoded straight into buffer only if no exitpoint hook is going to read or replace it.
+     */
+    private boolean shouldStreamResponse(AuctionContext auctionContext) {
+        return streamingEncodingEnabled
+                && (auctionContext.isAuctionSkipped() || !hookStageExecutor.hasExitpointHooks(auctionContext));
     }
 
     private Future<RawResponseContext> invokeExitpointHooks(RawResponseContext rawResponseContext) {
@@ -195,6 +227,7 @@ public class AuctionHandler implements ApplicationResource {
                                 .auctionContext(context)
                                 .responseHeaders(payload.responseHeaders())
                                 .responseBody(payload.responseBody())
+                                .responseBuffer(rawResponseContext.getResponseBuffer())
                                 .build()));
     }
 
@@ -218,6 +251,7 @@ public class AuctionHandler implements ApplicationResource {
         final List<String> errorMessages;
         final HttpResponseStatus status;
         final String body;
+        final Buffer responseBuffer;
 
         final HttpServerResponse response = routingContext.response();
         final MultiMap responseHeaders = response.headers();
@@ -231,7 +265,10 @@ public class AuctionHandler implements ApplicationResource {
                     .forEach(header -> HttpUtil.addHeaderIfValueIsNotEmpty(
                             responseHeaders, header.getKey(), header.getValue()));
             body = rawResponseContext.getResponseBody();
+            responseBuffer = rawResponseContext.getResponseBuffer();
         } else {
+            responseBuffer = null;
+
             getCommonResponseHeaders(routingContext)
                     .forEach(header -> HttpUtil.addHeaderIfValueIsNotEmpty(
                             responseHeaders, header.getKey(), header.getValue()));
@@ -293,10 +330,18 @@ public class AuctionHandler implements ApplicationResource {
         final PrivacyContext privacyContext = auctionContext != null ? auctionContext.getPrivacyContext() : null;
         final TcfContext tcfContext = privacyContext != null ? privacyContext.getTcfContext() : TcfContext.empty();
 
-        final boolean responseSent = respondWith(routingContext, status, body, requestType);
+        final boolean responseSent = responseBuffer != null
+                ? respondWith(routingContext, status, responseBuffer, requestType)
+                : respondWith(routingContext, status, body, requestType);
 
         if (responseSent) {
+            if (responseSucceeded) {
+                metrics.updateResponseBytesMetric(requestType, response.bytesWritten());
+            }
             metrics.updateRequestTimeMetric(MetricName.request_time, clock.millis() - startTime);
+            if (auctionContext != null) {
+                auctionContext.getStageTimer().forEachRecorded(metrics::updateAuctionStageTimeMetric);
+            }
             metrics.updateRequestTypeMetric(requestType, metricRequestStatus);
             if (!isAuctionSkipped) {
                 analyticsDelegator.processEvent(auctionEvent, tcfContext);
@@ -305,7 +350,12 @@ public class AuctionHandler implements ApplicationResource {
             metrics.updateRequestTypeMetric(requestType, MetricName.networkerr);
         }
 
-        httpInteractionLogger.maybeLogOpenrtb2Auction(auctionContext, routingContext, status.code(), body);
+        if (responseBuffer != null) {
+            httpInteractionLogger.maybeLogOpenrtb2Auction(
+                    auctionContext, routingContext, status.code(), responseBuffer);
+        } else {
+            httpInteractionLogger.maybeLogOpenrtb2Auction(auctionContext, routingContext, status.code(), body);
+        }
     }
 
     private boolean respondWith(RoutingContext routingContext,
@@ -323,6 +373,41 @@ public class AuctionHandler implements ApplicationResource {
 
     }
 
+    private boolean respondWith(RoutingContext routingContext,
+                                HttpResponseStatus status,
+                                Buffer body,
+                                MetricName requestType) {
+
+        return HttpUtil.executeSafely(
+                routingContext,
+                Endpoint.openrtb2_auction,
+                response -> {
+                    response
+                            .exceptionHandler(throwable -> handleResponseException(throwable, requestType))
+                            .setStatusCode(status.code());
+
+                    if (chunkedThresholdBytes > 0 && body.length() > chunkedThresholdBytes) {
+                        writeChunked(response, body);
+                    } else {
+                        response.end(body);
+                    }
+                });
+    }
+
+    /**
+     * Sends large bodies (usually debug responses) with chunked transfer encoding, slices share
+     * the memory of the encoded body, so nothing is copied.
+     */
+    private static void writeChunked(HttpServerResponse response, Buffer body) {
+        response.setChunked(true);
+
+        final int length = body.length();
+        for (int start = 0; start < length; start += RESPONSE_CHUNK_SIZE) {
+            response.write(body.slice(start, Math.min(start + RESPONSE_CHUNK_SIZE, length)));
+        }
+        response.end();
+    }
+
     private void handleResponseException(Throwable throwable, MetricName requestType) {
         logger.warn("Failed to send auction response: {}", throwable.getMessage());
         metrics.updateRequestTypeMetric(requestType, MetricName.networkerr);
@@ -1,6 +1,7 @@
 package org.prebid.server.handler.openrtb2;
 
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import lombok.Builder;
 import lombok.Value;
 import org.prebid.server.auction.model.AuctionContext;
@@ -13,5 +14,11 @@ public class RawResponseContext {
 
     String responseBody;
 
+    /**
+     * Response body encoded straight into buffer, present only when there are no exitpoint hooks to read
+     * {@link #responseBody}.
+     */
+    Buffer responseBuffer;
+
     MultiMap responseHeaders;
 }
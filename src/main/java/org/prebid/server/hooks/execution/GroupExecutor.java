@@ -3,7 +3,8 @@ package org.prebid.server.hooks.execution;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
-import io.vertx.core.Vertx;
+import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.execution.timeout.TimeoutTask;
 import org.prebid.server.hooks.execution.model.ExecutionGroup;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
 import org.prebid.server.hooks.execution.model.HookId;
@@ -19,7 +20,7 @@ import java.util.function.Supplier;
 
 class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
 
-    private final Vertx vertx;
+    private final TimeoutFactory timeoutFactory;
     private final Clock clock;
     private final Map<String, Boolean> modulesExecution;
 
@@ -30,18 +31,18 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
     private HookExecutionContext hookExecutionContext;
     private boolean rejectAllowed;
 
-    private GroupExecutor(Vertx vertx, Clock clock, Map<String, Boolean> modulesExecution) {
-        this.vertx = vertx;
+    private GroupExecutor(TimeoutFactory timeoutFactory, Clock clock, Map<String, Boolean> modulesExecution) {
+        this.timeoutFactory = timeoutFactory;
         this.clock = clock;
         this.modulesExecution = modulesExecution;
     }
 
     public static <PAYLOAD, CONTEXT extends InvocationContext> GroupExecutor<PAYLOAD, CONTEXT> create(
-            Vertx vertx,
+            TimeoutFactory timeoutFactory,
             Clock clock,
             Map<String, Boolean> modulesExecution) {
 
-        return new GroupExecutor<>(vertx, clock, modulesExecution);
+        return new GroupExecutor<>(timeoutFactory, clock, modulesExecution);
     }
 
     public GroupExecutor<PAYLOAD, CONTEXT> withGroup(ExecutionGroup group) {
@@ -118,16 +119,16 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
     private <T> Future<T> executeWithTimeout(Supplier<Future<T>> action, Long timeout) {
         final Promise<T> promise = Promise.promise();
 
-        final long timeoutTimerId = vertx.setTimer(timeout, id -> failWithTimeout(promise));
+        final TimeoutTask timeoutTask = timeoutFactory.create(timeout).onExpire(() -> failWithTimeout(promise));
 
         executeSafely(action)
-                .onComplete(result -> completeWithActionResult(promise, timeoutTimerId, result));
+                .onComplete(result -> completeWithActionResult(promise, timeoutTask, result));
 
         return promise.future();
     }
 
     private static <T> void failWithTimeout(Promise<T> promise) {
-        // no need for synchronization since timer is fired on the same event loop thread
+        // no need for synchronization since timeout is fired on the same event loop thread
         if (!promise.future().isComplete()) {
             promise.fail(new TimeoutException("Timed out while executing action"));
         }
@@ -142,8 +143,10 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
         }
     }
 
-    private <T> void completeWithActionResult(Promise<T> promise, long timeoutTimerId, AsyncResult<T> result) {
-        vertx.cancelTimer(timeoutTimerId);
+    private static <T> void completeWithActionResult(Promise<T> promise,
+                                                     TimeoutTask timeoutTask,
+                                                     AsyncResult<T> result) {
+        timeoutTask.cancel();
 
         // check is to avoid harmless exception if timeout exceeds before successful result becomes ready
         if (!promise.future().isComplete()) {
@@ -6,7 +6,6 @@ import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.response.BidResponse;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
-import io.vertx.core.Vertx;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.collections4.MapUtils;
@@ -88,7 +87,6 @@ public class HookStageExecutor {
     private final Map<String, Boolean> hostModuleExecution;
     private final HookCatalog hookCatalog;
     private final TimeoutFactory timeoutFactory;
-    private final Vertx vertx;
     private final Clock clock;
     private final ObjectMapper mapper;
     private final boolean isConfigToInvokeRequired;
@@ -99,7 +97,6 @@ public class HookStageExecutor {
                               Map<String, Boolean> hostModuleExecution,
                               HookCatalog hookCatalog,
                               TimeoutFactory timeoutFactory,
-                              Vertx vertx,
                               Clock clock,
                               ObjectMapper mapper,
                               boolean isConfigToInvokeRequired,
@@ -109,7 +106,6 @@ public class HookStageExecutor {
         this.defaultAccountExecutionPlan = defaultAccountExecutionPlan;
         this.hookCatalog = hookCatalog;
         this.timeoutFactory = timeoutFactory;
-        this.vertx = vertx;
         this.clock = clock;
         this.mapper = mapper;
         this.isConfigToInvokeRequired = isConfigToInvokeRequired;
@@ -122,7 +118,6 @@ public class HookStageExecutor {
                                            Map<String, Boolean> hostModuleExecution,
                                            HookCatalog hookCatalog,
                                            TimeoutFactory timeoutFactory,
-                                           Vertx vertx,
                                            Clock clock,
                                            JacksonMapper mapper,
                                            boolean isConfigToInvokeRequired,
@@ -137,7 +132,6 @@ public class HookStageExecutor {
                 hostModuleExecution,
                 hookCatalog,
                 Objects.requireNonNull(timeoutFactory),
-                Objects.requireNonNull(vertx),
                 Objects.requireNonNull(clock),
                 mapper.mapper(),
                 isConfigToInvokeRequired,
@@ -355,12 +349,23 @@ public class HookStageExecutor {
                 .execute();
     }
 
+    /**
+     * Tells whether exitpoint stage has any hooks to execute for the given auction,
+     * so the caller can skip materializing the response body as {@link String} when nobody is going to read it.
+     */
+    public boolean hasExitpointHooks(AuctionContext auctionContext) {
+        final Account account = ObjectUtils.defaultIfNull(auctionContext.getAccount(), EMPTY_ACCOUNT);
+        final Endpoint endpoint = auctionContext.getHookExecutionContext().getEndpoint();
+
+        return !planForStage(account, endpoint, Stage.exitpoint).isEmpty();
+    }
+
     private <PAYLOAD, CONTEXT extends InvocationContext> StageExecutor<PAYLOAD, CONTEXT> stageExecutor(
             StageWithHookType<? extends Hook<PAYLOAD, CONTEXT>> stage,
             String entity,
             HookExecutionContext context) {
 
-        return StageExecutor.<PAYLOAD, CONTEXT>create(vertx, clock)
+        return StageExecutor.<PAYLOAD, CONTEXT>create(timeoutFactory, clock)
                 .withStage(stage)
                 .withEntity(entity)
                 .withHookExecutionContext(context);
@@ -1,7 +1,7 @@
 package org.prebid.server.hooks.execution;
 
 import io.vertx.core.Future;
-import io.vertx.core.Vertx;
+import org.prebid.server.execution.timeout.TimeoutFactory;
 import org.prebid.server.hooks.execution.model.ExecutionGroup;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
 import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
@@ -17,7 +17,7 @@ import java.util.Map;
 
 class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
 
-    private final Vertx vertx;
+    private final TimeoutFactory timeoutFactory;
     private final Clock clock;
 
     private StageWithHookType<? extends Hook<PAYLOAD, CONTEXT>> stage;
@@ -30,16 +30,16 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
     private boolean rejectAllowed;
     private Map<String, Boolean> modulesExecution;
 
-    private StageExecutor(Vertx vertx, Clock clock) {
-        this.vertx = vertx;
+    private StageExecutor(TimeoutFactory timeoutFactory, Clock clock) {
+        this.timeoutFactory = timeoutFactory;
         this.clock = clock;
     }
 
     public static <PAYLOAD, CONTEXT extends InvocationContext> StageExecutor<PAYLOAD, CONTEXT> create(
-            Vertx vertx,
+            TimeoutFactory timeoutFactory,
             Clock clock) {
 
-        return new StageExecutor<>(vertx, clock);
+        return new StageExecutor<>(timeoutFactory, clock);
     }
 
     public StageExecutor<PAYLOAD, CONTEXT> withStage(StageWithHookType<? extends Hook<PAYLOAD, CONTEXT>> stage) {
@@ -105,7 +105,7 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
     }
 
     private Future<GroupResult<PAYLOAD>> executeGroup(ExecutionGroup group, PAYLOAD initialPayload) {
-        return GroupExecutor.<PAYLOAD, CONTEXT>create(vertx, clock, modulesExecution)
+        return GroupExecutor.<PAYLOAD, CONTEXT>create(timeoutFactory, clock, modulesExecution)
                 .withGroup(group)
                 .withInitialPayload(initialPayload)
                 .withHookProvider(hookProvider)
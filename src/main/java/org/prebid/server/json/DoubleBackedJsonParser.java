@@ -0,0 +1,35 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * {@link JsonParser} reading floating point numbers through {@code double}, the same way they are read
+ * from {@link com.fasterxml.jackson.databind.JsonNode} tree built by {@link ObjectMapperProvider#mapper()}.
+ * <p>
+ * Makes objects decoded straight from JSON text equal to ones converted from the tree of the same JSON.
+ */
+public class DoubleBackedJsonParser extends JsonParserDelegate {
+
+    public DoubleBackedJsonParser(JsonParser parser) {
+        super(parser);
+    }
+
+    @Override
+    public BigDecimal getDecimalValue() throws IOException {
+        return currentToken() == JsonToken.VALUE_NUMBER_FLOAT
+                ? BigDecimal.valueOf(getDoubleValue())
+                : super.getDecimalValue();
+    }
+
+    @Override
+    public float getFloatValue() throws IOException {
+        return currentToken() == JsonToken.VALUE_NUMBER_FLOAT
+                ? (float) getDoubleValue()
+                : super.getFloatValue();
+    }
+}
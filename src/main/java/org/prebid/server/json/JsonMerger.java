@@ -24,13 +24,22 @@ public class JsonMerger {
      * with reason message.
      */
     public <T> T merge(T originalObject, String storedData, String id, Class<T> classToCast) {
-        final JsonNode originJsonNode = mapper.mapper().valueToTree(originalObject);
         final JsonNode storedRequestJsonNode;
         try {
             storedRequestJsonNode = mapper.mapper().readTree(storedData);
         } catch (IOException e) {
             throw new InvalidRequestException("Can't parse Json for stored request with id " + id);
         }
+        return merge(originalObject, storedRequestJsonNode, id, classToCast);
+    }
+
+    /**
+     * Merges passed object with already parsed stored data and cast it to appropriate class.
+     * Passed stored data node is left untouched, so it can be safely shared between requests.
+     * In case of any exception during merging, throws {@link InvalidRequestException} with reason message.
+     */
+    public <T> T merge(T originalObject, JsonNode storedRequestJsonNode, String id, Class<T> classToCast) {
+        final JsonNode originJsonNode = mapper.mapper().valueToTree(originalObject);
         try {
             // Http request fields have higher priority and will override fields from stored requests
             // in case they have different values
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.web.RoutingContext;
 import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
@@ -43,6 +44,26 @@ public class HttpInteractionLogger {
                                         int statusCode,
                                         String responseBody) {
 
+        logOpenrtb2Auction(auctionContext, routingContext, statusCode, responseBody);
+    }
+
+    /**
+     * Same as {@link #maybeLogOpenrtb2Auction(AuctionContext, RoutingContext, int, String)}, but the response body
+     * is decoded from buffer only if interaction is going to be logged.
+     */
+    public void maybeLogOpenrtb2Auction(AuctionContext auctionContext,
+                                        RoutingContext routingContext,
+                                        int statusCode,
+                                        Buffer responseBody) {
+
+        logOpenrtb2Auction(auctionContext, routingContext, statusCode, responseBody);
+    }
+
+    private void logOpenrtb2Auction(AuctionContext auctionContext,
+                                    RoutingContext routingContext,
+                                    int statusCode,
+                                    Object responseBody) {
+
         if (interactionSatisfiesSpec(HttpLogSpec.Endpoint.auction, statusCode, auctionContext)) {
             logger.info(
                     "Requested URL: \"{}\", request body: \"{}\", response status: \"{}\", response body: \"{}\"",
@@ -0,0 +1,22 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+import org.prebid.server.metric.model.AuctionStage;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Auction per-stage metrics support.
+ */
+class AuctionStageMetrics extends UpdatableMetrics {
+
+    AuctionStageMetrics(MetricRegistry metricRegistry, CounterType counterType, AuctionStage stage) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                nameCreator(Objects.requireNonNull(stage)));
+    }
+
+    private static Function<MetricName, String> nameCreator(AuctionStage stage) {
+        return metricName -> "auction.stages.%s.%s".formatted(stage.getStage(), metricName);
+    }
+}
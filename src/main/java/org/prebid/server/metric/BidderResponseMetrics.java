@@ -0,0 +1,53 @@
+package org.prebid.server.metric;
+
+import java.util.Objects;
+
+/**
+ * Metrics of a single bidder response, resolved once for the bidder and account.
+ * <p>
+ * Account adapter metrics are absent if account metrics verbosity is below detailed.
+ */
+public class BidderResponseMetrics {
+
+    private final AdapterTypeMetrics adapterMetrics;
+    private final AdapterTypeMetrics accountAdapterMetrics;
+
+    BidderResponseMetrics(AdapterTypeMetrics adapterMetrics, AdapterTypeMetrics accountAdapterMetrics) {
+        this.adapterMetrics = Objects.requireNonNull(adapterMetrics);
+        this.accountAdapterMetrics = accountAdapterMetrics;
+    }
+
+    public void updateResponseTime(int responseTime) {
+        adapterMetrics.updateTimer(MetricName.request_time, responseTime);
+        if (accountAdapterMetrics != null) {
+            accountAdapterMetrics.updateTimer(MetricName.request_time, responseTime);
+        }
+    }
+
+    public void updateRequestNobidMetrics() {
+        updateRequestMetrics(MetricName.nobid);
+    }
+
+    public void updateRequestGotbidsMetrics() {
+        updateRequestMetrics(MetricName.gotbids);
+    }
+
+    private void updateRequestMetrics(MetricName metricName) {
+        adapterMetrics.request().incCounter(metricName);
+        if (accountAdapterMetrics != null) {
+            accountAdapterMetrics.request().incCounter(metricName);
+        }
+    }
+
+    public void updateBidMetrics(long cpm, boolean isAdm, String bidType) {
+        adapterMetrics.updateHistogram(MetricName.prices, cpm);
+        adapterMetrics.incCounter(MetricName.bids_received);
+        adapterMetrics.forBidType(bidType)
+                .incCounter(isAdm ? MetricName.adm_bids_received : MetricName.nurl_bids_received);
+
+        if (accountAdapterMetrics != null) {
+            accountAdapterMetrics.updateHistogram(MetricName.prices, cpm);
+            accountAdapterMetrics.incCounter(MetricName.bids_received);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Shared device detection cache metrics support, kept per detecting module.
+ */
+class DeviceDetectionCacheMetrics extends UpdatableMetrics {
+
+    DeviceDetectionCacheMetrics(MetricRegistry metricRegistry, CounterType counterType, String detector) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                nameCreator(Objects.requireNonNull(detector)));
+    }
+
+    private static Function<MetricName, String> nameCreator(String detector) {
+        return metricName -> "device-detection.cache.%s.%s".formatted(detector, metricName);
+    }
+}
@@ -0,0 +1,21 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * HTTP client per-host connection pool metrics support.
+ */
+class HttpClientPoolMetrics extends UpdatableMetrics {
+
+    HttpClientPoolMetrics(MetricRegistry metricRegistry, CounterType counterType, String host) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                nameCreator(Objects.requireNonNull(host)));
+    }
+
+    private static Function<MetricName, String> nameCreator(String host) {
+        return metricName -> "http-client.pool.%s.%s".formatted(host, metricName);
+    }
+}
@@ -40,6 +40,10 @@ public enum MetricName {
     adm_bids_received,
     nurl_bids_received,
 
+    // response encoding
+    encode_time,
+    bytes,
+
     // request types,
     openrtb2web("openrtb2-web"),
     openrtb2app("openrtb2-app"),
@@ -58,6 +62,17 @@ public enum MetricName {
     event_setuid("setuid"),
     event_unknown("unknown"),
 
+    // analytics events buffer
+    events_dropped,
+
+    // http client pools
+    wait_time,
+    queue_size,
+
+    // bidder request compression
+    compression_time,
+    compression_ratio,
+
     // request and adapter statuses
     ok,
     failed,
@@ -135,11 +150,19 @@ public enum MetricName {
     // settings cache
     stored_request("stored-request"),
     amp_stored_request("amp-stored-request"),
+    parsed_stored_request("parsed-stored-request"),
+    parsed_stored_imp("parsed-stored-imp"),
+    video_stored_request("video-stored-request"),
+    profile,
+    activity_infrastructure("activity-infrastructure"),
     account,
     initialize,
     update,
     hit,
     miss,
+    coalesced,
+    refresh_ahead("refresh-ahead"),
+    build_time,
 
     // hooks
     call,
@@ -160,7 +183,13 @@ public enum MetricName {
     processed_rules_count("processedrules.count"),
 
     // profiles
-    limit_exceeded;
+    limit_exceeded,
+
+    // timeout scheduler
+    scheduled,
+    expired,
+    cancelled,
+    tick_lag;
 
     private final String name;
 
@@ -9,6 +9,7 @@ import org.prebid.server.hooks.execution.model.ExecutionAction;
 import org.prebid.server.hooks.execution.model.ExecutionStatus;
 import org.prebid.server.hooks.execution.model.Stage;
 import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+import org.prebid.server.metric.model.AuctionStage;
 import org.prebid.server.settings.model.Account;
 
 import java.util.ArrayList;
@@ -18,6 +19,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -32,6 +34,7 @@ public class Metrics extends UpdatableMetrics {
 
     private final AccountMetricsVerbosityResolver accountMetricsVerbosityResolver;
     private final Function<MetricName, RequestStatusMetrics> requestMetricsCreator;
+    private final Function<MetricName, ResponseEncodingMetrics> responseEncodingMetricsCreator;
     private final Function<String, AccountMetrics> accountMetricsCreator;
     private final Function<String, AdapterTypeMetrics> adapterMetricsCreator;
     private final Function<String, AnalyticsReporterMetrics> analyticMetricsCreator;
@@ -39,11 +42,15 @@ public class Metrics extends UpdatableMetrics {
     private final Function<Integer, BidderCardinalityMetrics> bidderCardinalityMetricsCreator;
     private final Function<MetricName, CircuitBreakerMetrics> circuitBreakerMetricsCreator;
     private final Function<MetricName, SettingsCacheMetrics> settingsCacheMetricsCreator;
+    private final Function<String, HttpClientPoolMetrics> httpClientPoolMetricsCreator;
+    private final Function<String, DeviceDetectionCacheMetrics> deviceDetectionCacheMetricsCreator;
+    private final Function<AuctionStage, AuctionStageMetrics> auctionStageMetricsCreator;
     // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
     // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
     // thread-safe
     private final RequestsMetrics requestsMetrics;
     private final Map<MetricName, RequestStatusMetrics> requestMetrics;
+    private final Map<MetricName, ResponseEncodingMetrics> responseEncodingMetrics;
     private final Map<String, AccountMetrics> accountMetrics;
     private final Map<String, AdapterTypeMetrics> adapterMetrics;
     private final Map<String, AnalyticsReporterMetrics> analyticMetrics;
@@ -56,8 +63,12 @@ public class Metrics extends UpdatableMetrics {
     private final Map<MetricName, CircuitBreakerMetrics> circuitBreakerMetrics;
     private final CacheMetrics cacheMetrics;
     private final TimeoutNotificationMetrics timeoutNotificationMetrics;
+    private final TimeoutSchedulerMetrics timeoutSchedulerMetrics;
     private final CurrencyRatesMetrics currencyRatesMetrics;
     private final Map<MetricName, SettingsCacheMetrics> settingsCacheMetrics;
+    private final Map<String, HttpClientPoolMetrics> httpClientPoolMetrics;
+    private final Map<String, DeviceDetectionCacheMetrics> deviceDetectionCacheMetrics;
+    private final Map<AuctionStage, AuctionStageMetrics> auctionStageMetrics;
     private final HooksMetrics hooksMetrics;
     private final ProfileMetrics profileMetrics;
 
@@ -70,6 +81,8 @@ public class Metrics extends UpdatableMetrics {
         this.accountMetricsVerbosityResolver = Objects.requireNonNull(accountMetricsVerbosityResolver);
 
         requestMetricsCreator = requestType -> new RequestStatusMetrics(metricRegistry, counterType, requestType);
+        responseEncodingMetricsCreator = requestType -> new ResponseEncodingMetrics(
+                metricRegistry, counterType, requestType);
         accountMetricsCreator = account -> new AccountMetrics(metricRegistry, counterType, account);
         adapterMetricsCreator = adapterType -> new AdapterTypeMetrics(metricRegistry, counterType, adapterType);
         bidderCardinalityMetricsCreator = cardinality -> new BidderCardinalityMetrics(
@@ -80,9 +93,14 @@ public class Metrics extends UpdatableMetrics {
                 metricRegistry, counterType, moduleType);
         circuitBreakerMetricsCreator = type -> new CircuitBreakerMetrics(metricRegistry, counterType, type);
         settingsCacheMetricsCreator = type -> new SettingsCacheMetrics(metricRegistry, counterType, type);
+        httpClientPoolMetricsCreator = host -> new HttpClientPoolMetrics(metricRegistry, counterType, host);
+        deviceDetectionCacheMetricsCreator = detector ->
+                new DeviceDetectionCacheMetrics(metricRegistry, counterType, detector);
+        auctionStageMetricsCreator = stage -> new AuctionStageMetrics(metricRegistry, counterType, stage);
 
         requestsMetrics = new RequestsMetrics(metricRegistry, counterType);
         requestMetrics = new EnumMap<>(MetricName.class);
+        responseEncodingMetrics = new EnumMap<>(MetricName.class);
         accountMetrics = new HashMap<>();
         adapterMetrics = new HashMap<>();
         analyticMetrics = new HashMap<>();
@@ -95,8 +113,12 @@ public class Metrics extends UpdatableMetrics {
         circuitBreakerMetrics = new HashMap<>();
         cacheMetrics = new CacheMetrics(metricRegistry, counterType);
         timeoutNotificationMetrics = new TimeoutNotificationMetrics(metricRegistry, counterType);
+        timeoutSchedulerMetrics = new TimeoutSchedulerMetrics(metricRegistry, counterType);
         currencyRatesMetrics = new CurrencyRatesMetrics(metricRegistry, counterType);
         settingsCacheMetrics = new HashMap<>();
+        httpClientPoolMetrics = new HashMap<>();
+        deviceDetectionCacheMetrics = new HashMap<>();
+        auctionStageMetrics = new EnumMap<>(AuctionStage.class);
         hooksMetrics = new HooksMetrics(metricRegistry, counterType);
         profileMetrics = new ProfileMetrics(metricRegistry, counterType);
     }
@@ -109,6 +131,10 @@ public class Metrics extends UpdatableMetrics {
         return requestMetrics.computeIfAbsent(requestType, requestMetricsCreator);
     }
 
+    ResponseEncodingMetrics forResponseEncoding(MetricName requestType) {
+        return responseEncodingMetrics.computeIfAbsent(requestType, responseEncodingMetricsCreator);
+    }
+
     BidderCardinalityMetrics forBidderCardinality(int cardinality) {
         return bidderCardinailtyMetrics.computeIfAbsent(cardinality, bidderCardinalityMetricsCreator);
     }
@@ -153,6 +179,18 @@ public class Metrics extends UpdatableMetrics {
         return circuitBreakerMetrics.computeIfAbsent(type, circuitBreakerMetricsCreator);
     }
 
+    HttpClientPoolMetrics forHttpClientPool(String host) {
+        return httpClientPoolMetrics.computeIfAbsent(host, httpClientPoolMetricsCreator);
+    }
+
+    DeviceDetectionCacheMetrics forDeviceDetectionCache(String detector) {
+        return deviceDetectionCacheMetrics.computeIfAbsent(detector, deviceDetectionCacheMetricsCreator);
+    }
+
+    AuctionStageMetrics forAuctionStage(AuctionStage stage) {
+        return auctionStageMetrics.computeIfAbsent(stage, auctionStageMetricsCreator);
+    }
+
     CacheMetrics cache() {
         return cacheMetrics;
     }
@@ -237,6 +275,18 @@ public class Metrics extends UpdatableMetrics {
         forRequestType(requestType).incCounter(requestStatus);
     }
 
+    public void updateResponseEncodeTimeMetric(MetricName requestType, long nanos) {
+        forResponseEncoding(requestType).updateTimer(MetricName.encode_time, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void updateAuctionStageTimeMetric(AuctionStage stage, long nanos) {
+        forAuctionStage(stage).updateTimer(MetricName.duration, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void updateResponseBytesMetric(MetricName requestType, long bytes) {
+        forResponseEncoding(requestType).updateHistogram(MetricName.bytes, bytes);
+    }
+
     public void updateRequestBidderCardinalityMetric(int bidderCardinality) {
         forBidderCardinality(bidderCardinality).incCounter(MetricName.requests);
     }
@@ -298,50 +348,45 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
-    public void updateAdapterResponseTime(String bidder, Account account, int responseTime) {
-        final AdapterTypeMetrics adapterTypeMetrics = forAdapter(bidder);
-        adapterTypeMetrics.updateTimer(MetricName.request_time, responseTime);
+    /**
+     * Resolves metrics of the given bidder and of the bidder within the given account at once,
+     * so that callers updating them for every bid of the response do not look them up on each update.
+     */
+    public BidderResponseMetrics forBidderResponse(String bidder, Account account) {
+        final AdapterTypeMetrics accountAdapterMetrics =
+                accountMetricsVerbosityResolver.forAccount(account).isAtLeast(AccountMetricsVerbosityLevel.detailed)
+                        ? forAccount(account.getId()).adapter().forAdapter(bidder)
+                        : null;
 
-        if (accountMetricsVerbosityResolver.forAccount(account).isAtLeast(AccountMetricsVerbosityLevel.detailed)) {
-            final AdapterTypeMetrics accountAdapterMetrics =
-                    forAccount(account.getId()).adapter().forAdapter(bidder);
-            accountAdapterMetrics.updateTimer(MetricName.request_time, responseTime);
-        }
+        return new BidderResponseMetrics(forAdapter(bidder), accountAdapterMetrics);
+    }
+
+    public void updateAdapterResponseTime(String bidder, Account account, int responseTime) {
+        forBidderResponse(bidder, account).updateResponseTime(responseTime);
     }
 
     public void updateAdapterRequestNobidMetrics(String bidder, Account account) {
-        forAdapter(bidder).request().incCounter(MetricName.nobid);
-        if (accountMetricsVerbosityResolver.forAccount(account).isAtLeast(AccountMetricsVerbosityLevel.detailed)) {
-            forAccount(account.getId()).adapter().forAdapter(bidder).request().incCounter(MetricName.nobid);
-        }
+        forBidderResponse(bidder, account).updateRequestNobidMetrics();
     }
 
     public void updateAdapterRequestGotbidsMetrics(String bidder, Account account) {
-        forAdapter(bidder).request().incCounter(MetricName.gotbids);
-        if (accountMetricsVerbosityResolver.forAccount(account).isAtLeast(AccountMetricsVerbosityLevel.detailed)) {
-            forAccount(account.getId()).adapter().forAdapter(bidder).request().incCounter(MetricName.gotbids);
-        }
+        forBidderResponse(bidder, account).updateRequestGotbidsMetrics();
     }
 
     public void updateAdapterBidMetrics(String bidder, Account account, long cpm, boolean isAdm, String bidType) {
-        final AdapterTypeMetrics adapterTypeMetrics = forAdapter(bidder);
-        adapterTypeMetrics.updateHistogram(MetricName.prices, cpm);
-        adapterTypeMetrics.incCounter(MetricName.bids_received);
-        adapterTypeMetrics.forBidType(bidType)
-                .incCounter(isAdm ? MetricName.adm_bids_received : MetricName.nurl_bids_received);
-
-        if (accountMetricsVerbosityResolver.forAccount(account).isAtLeast(AccountMetricsVerbosityLevel.detailed)) {
-            final AdapterTypeMetrics accountAdapterMetrics =
-                    forAccount(account.getId()).adapter().forAdapter(bidder);
-            accountAdapterMetrics.updateHistogram(MetricName.prices, cpm);
-            accountAdapterMetrics.incCounter(MetricName.bids_received);
-        }
+        forBidderResponse(bidder, account).updateBidMetrics(cpm, isAdm, bidType);
     }
 
     public void updateAdapterRequestErrorMetric(String bidder, MetricName errorMetric) {
         forAdapter(bidder).request().incCounter(errorMetric);
     }
 
+    public void updateAdapterRequestCompressionMetrics(String bidder, long compressionNanos, int compressionRatio) {
+        final RequestMetrics requestMetrics = forAdapter(bidder).request();
+        requestMetrics.updateTimer(MetricName.compression_time, compressionNanos, TimeUnit.NANOSECONDS);
+        requestMetrics.updateHistogram(MetricName.compression_ratio, compressionRatio);
+    }
+
     public void updateDisabledBidderMetric(Account account) {
         incCounter(MetricName.disabled_bidder);
         if (accountMetricsVerbosityResolver.forAccount(account)
@@ -362,6 +407,10 @@ public class Metrics extends UpdatableMetrics {
         forAnalyticReporter(analyticCode).forEventType(eventType).incCounter(result);
     }
 
+    public void updateAnalyticEventsDroppedMetric(String analyticCode, long count) {
+        forAnalyticReporter(analyticCode).incCounter(MetricName.events_dropped, count);
+    }
+
     public void updatePriceFloorFetchMetric(MetricName result) {
         forPriceFloorFetch().incCounter(result);
     }
@@ -519,6 +568,10 @@ public class Metrics extends UpdatableMetrics {
         privacy().tcf().incCounter(MetricName.invalid);
     }
 
+    public void updatePrivacyTcfDecodeCacheMetric(MetricName event) {
+        privacy().tcf().decodeCache().incCounter(event);
+    }
+
     public void updatePrivacyTcfRequestsMetric(int version) {
         final UpdatableMetrics versionMetrics = privacy().tcf().fromVersion(version);
         versionMetrics.incCounter(MetricName.requests);
@@ -582,6 +635,16 @@ public class Metrics extends UpdatableMetrics {
         forCircuitBreakerType(MetricName.http).createGauge(MetricName.existing, numberSupplier);
     }
 
+    public void updateHttpClientPoolMetrics(String host, long waitNanos, int queueSize) {
+        final HttpClientPoolMetrics poolMetrics = forHttpClientPool(host);
+        poolMetrics.updateTimer(MetricName.wait_time, waitNanos, TimeUnit.NANOSECONDS);
+        poolMetrics.updateHistogram(MetricName.queue_size, queueSize);
+    }
+
+    public void updateDeviceDetectionCacheMetric(String detector, MetricName event) {
+        forDeviceDetectionCache(detector).incCounter(event);
+    }
+
     public void updateGeoLocationMetric(boolean successful) {
         incCounter(MetricName.geolocation_requests);
         if (successful) {
@@ -670,6 +733,19 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateTimeoutSchedulerMetrics(long scheduled, long expired, long cancelled, long tickLagMs) {
+        incTimeoutSchedulerCounter(MetricName.scheduled, scheduled);
+        incTimeoutSchedulerCounter(MetricName.expired, expired);
+        incTimeoutSchedulerCounter(MetricName.cancelled, cancelled);
+        timeoutSchedulerMetrics.updateHistogram(MetricName.tick_lag, tickLagMs);
+    }
+
+    private void incTimeoutSchedulerCounter(MetricName metricName, long value) {
+        if (value > 0) {
+            timeoutSchedulerMetrics.incCounter(metricName, value);
+        }
+    }
+
     public void createCurrencyRatesGauge(BooleanSupplier stateSupplier) {
         currencyRates().createGauge(MetricName.stale, () -> stateSupplier.getAsBoolean() ? 1 : 0);
     }
@@ -686,6 +762,10 @@ public class Metrics extends UpdatableMetrics {
         forSettingsCacheType(cacheType).incCounter(event);
     }
 
+    public void updateSettingsCacheBuildTime(MetricName cacheType, long timeElapsed) {
+        forSettingsCacheType(cacheType).updateTimer(MetricName.build_time, timeElapsed);
+    }
+
     public void updateHooksMetrics(
             String moduleCode,
             Stage stage,
@@ -0,0 +1,16 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+
+/**
+ * Timeout scheduler metrics support.
+ */
+class TimeoutSchedulerMetrics extends UpdatableMetrics {
+
+    TimeoutSchedulerMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                metricName -> "timeout_scheduler." + metricName);
+    }
+}
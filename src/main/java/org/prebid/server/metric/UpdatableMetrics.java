@@ -1,35 +1,43 @@
 package org.prebid.server.metric;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 
-import java.util.EnumMap;
-import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
 
 class UpdatableMetrics {
 
+    private static final int METRIC_NAMES_COUNT = MetricName.values().length;
+
     private final MetricRegistry metricRegistry;
     private final Function<MetricName, String> nameCreator;
-    private final MetricIncrementer incrementer;
+    private final Function<String, Metric> counterResolver;
     private final CounterType counterType;
-    // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
+    // not thread-safe arrays are intentionally used here because it's harmless in this particular case - eventually
     // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
-    // thread-safe
-    private final Map<MetricName, String> metricNames;
+    // thread-safe and always returns the same metric instance for the same name
+    private final String[] metricNames;
+    // metrics resolved from registry, indexed by metric name ordinal, so hot path does neither string building
+    // nor map lookups; counters and meters are backed by LongAdder and cope with concurrent updates themselves
+    private final Metric[] metrics;
 
     UpdatableMetrics(MetricRegistry metricRegistry, CounterType counterType, Function<MetricName, String> nameCreator) {
         this.metricRegistry = metricRegistry;
         this.counterType = counterType;
         this.nameCreator = nameCreator;
-        metricNames = new EnumMap<>(MetricName.class);
+        metricNames = new String[METRIC_NAMES_COUNT];
+        metrics = new Metric[METRIC_NAMES_COUNT];
 
-        incrementer = switch (counterType) {
-            case flushingCounter -> (registry, metricName, value) ->
-                    registry.counter(metricName, ResettingCounter::new).inc(value);
-            case counter -> (registry, metricName, value) -> registry.counter(metricName).inc(value);
-            case meter -> (registry, metricName, value) -> registry.meter(metricName).mark(value);
+        counterResolver = switch (counterType) {
+            case flushingCounter -> metricName -> metricRegistry.counter(metricName, ResettingCounter::new);
+            case counter -> metricRegistry::counter;
+            case meter -> metricRegistry::meter;
         };
     }
 
@@ -44,14 +52,26 @@ class UpdatableMetrics {
      * Increments metric's counter on a given value.
      */
     void incCounter(MetricName metricName, long value) {
-        incrementer.accept(metricRegistry, name(metricName), value);
+        final Metric counter = metric(metricName, counterResolver);
+        if (counter instanceof Counter) {
+            ((Counter) counter).inc(value);
+        } else {
+            ((Meter) counter).mark(value);
+        }
     }
 
     /**
      * Updates metric's timer with a given value.
      */
     void updateTimer(MetricName metricName, long millis) {
-        metricRegistry.timer(name(metricName)).update(millis, TimeUnit.MILLISECONDS);
+        updateTimer(metricName, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Updates metric's timer with a given value in given time unit.
+     */
+    void updateTimer(MetricName metricName, long duration, TimeUnit timeUnit) {
+        this.<Timer>metric(metricName, metricRegistry::timer).update(duration, timeUnit);
     }
 
     /**
@@ -59,7 +79,7 @@ class UpdatableMetrics {
      */
     void updateHistogram(MetricName metricName, long value) {
         // by default histograms with exponentially decaying reservoir (size=1028, alpha=0.015) are created
-        metricRegistry.histogram(name(metricName)).update(value);
+        this.<Histogram>metric(metricName, metricRegistry::histogram).update(value);
     }
 
     void createGauge(MetricName metricName, LongSupplier supplier) {
@@ -67,19 +87,36 @@ class UpdatableMetrics {
     }
 
     void removeMetric(MetricName metricName) {
+        metrics[metricName.ordinal()] = null;
         metricRegistry.remove(name(metricName));
     }
 
+    @SuppressWarnings("unchecked")
+    private <T extends Metric> T metric(MetricName metricName, Function<String, ? extends Metric> resolver) {
+        final int index = metricName.ordinal();
+
+        Metric metric = metrics[index];
+        if (metric == null) {
+            metric = resolver.apply(name(metricName));
+            metrics[index] = metric;
+        }
+
+        return (T) metric;
+    }
+
     private String name(MetricName metricName) {
-        return metricNames.computeIfAbsent(metricName, key -> nameCreator.apply(metricName));
+        final int index = metricName.ordinal();
+
+        String name = metricNames[index];
+        if (name == null) {
+            name = nameCreator.apply(metricName);
+            metricNames[index] = name;
+        }
+
+        return name;
     }
 
     public CounterType getCounterType() {
         return counterType;
     }
-
-    @FunctionalInterface
-    private interface MetricIncrementer {
-        void accept(MetricRegistry metricRegistry, String metricName, long value);
-    }
 }
@@ -0,0 +1,23 @@
+package org.prebid.server.metric.model;
+
+public enum AuctionStage {
+
+    REQUEST_FACTORY("request_factory"),
+    STORED_REQUEST_MERGE("stored_request_merge"),
+    PRIVACY_ENFORCEMENT("privacy_enforcement"),
+    BIDDER_PREPARE("bidder_prepare"),
+    BIDDER_WAIT("bidder_wait"),
+    RESPONSE_CREATION("response_creation"),
+    CACHE_CALL("cache_call"),
+    ENCODE("encode");
+
+    private final String stage;
+
+    AuctionStage(String stage) {
+        this.stage = stage;
+    }
+
+    public String getStage() {
+        return this.stage;
+    }
+}
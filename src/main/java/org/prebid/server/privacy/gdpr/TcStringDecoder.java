@@ -0,0 +1,68 @@
+package org.prebid.server.privacy.gdpr;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iabtcf.decoder.TCString;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Decodes TC strings and keeps successfully decoded ones in a cache bounded by approximate size of decoded fields.
+ * <p>
+ * The same consent string is usually sent by many users of one CMP, so repeated requests skip base64url decoding
+ * and bit field parsing. Decoded {@link TCString}s fill their fields lazily and are not thread-safe, so the cache
+ * keeps eagerly built immutable snapshots of them. Corrupted consent strings are not cached.
+ */
+public class TcStringDecoder {
+
+    private final Map<String, TcStringSnapshot> cache;
+    private final Metrics metrics;
+
+    public TcStringDecoder(long cacheMaxWeight, Metrics metrics) {
+        if (cacheMaxWeight < 0) {
+            throw new IllegalArgumentException("cacheMaxWeight can't be negative");
+        }
+
+        this.cache = cacheMaxWeight > 0
+                ? Caffeine.newBuilder()
+                .maximumWeight(cacheMaxWeight)
+                .<String, TcStringSnapshot>weigher((consentString, snapshot) -> consentString.length()
+                        + snapshot.weight())
+                .build()
+                .asMap()
+                : null;
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * Returns decoded {@link TCString} or throws exception if consent string is corrupted.
+     */
+    public TCString decode(String consentString) {
+        if (cache == null || consentString == null) {
+            return TCString.decode(consentString);
+        }
+
+        final TcStringSnapshot cachedTcString = cache.get(consentString);
+        if (cachedTcString != null) {
+            metrics.updatePrivacyTcfDecodeCacheMetric(MetricName.hit);
+            return cachedTcString;
+        }
+
+        metrics.updatePrivacyTcfDecodeCacheMetric(MetricName.miss);
+
+        final TcStringSnapshot tcString = new TcStringSnapshot(TCString.decode(consentString));
+        cache.put(consentString, tcString);
+        return tcString;
+    }
+
+    public boolean isValid(String consentString) {
+        try {
+            decode(consentString);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
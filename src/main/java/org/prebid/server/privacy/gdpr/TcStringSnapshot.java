@@ -0,0 +1,272 @@
+package org.prebid.server.privacy.gdpr;
+
+import com.iabtcf.decoder.TCString;
+import com.iabtcf.utils.BitSetIntIterable;
+import com.iabtcf.utils.IntIterable;
+import com.iabtcf.utils.IntIterator;
+import com.iabtcf.v2.PublisherRestriction;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Immutable copy of all fields of a decoded {@link TCString}.
+ * <p>
+ * Decoder implementations parse fields lazily on first access and are not thread-safe, so only snapshots
+ * are shared between requests. A field that fails to decode rethrows the same exception on every access,
+ * as the decoded string would.
+ */
+class TcStringSnapshot implements TCString {
+
+    private static final int OBJECT_WEIGHT = 16;
+    private static final int FIELD_WEIGHT = 16;
+
+    private final Supplier<Integer> version;
+    private final Supplier<Instant> created;
+    private final Supplier<Instant> lastUpdated;
+    private final Supplier<Integer> cmpId;
+    private final Supplier<Integer> cmpVersion;
+    private final Supplier<Integer> consentScreen;
+    private final Supplier<String> consentLanguage;
+    private final Supplier<Integer> vendorListVersion;
+    private final Supplier<IntIterable> purposesConsent;
+    private final Supplier<IntIterable> vendorConsent;
+    private final Supplier<Boolean> defaultVendorConsent;
+    private final Supplier<Integer> tcfPolicyVersion;
+    private final Supplier<Boolean> serviceSpecific;
+    private final Supplier<Boolean> useNonStandardStacks;
+    private final Supplier<IntIterable> specialFeatureOptIns;
+    private final Supplier<IntIterable> purposesLITransparency;
+    private final Supplier<Boolean> purposeOneTreatment;
+    private final Supplier<String> publisherCC;
+    private final Supplier<IntIterable> vendorLegitimateInterest;
+    private final Supplier<List<PublisherRestriction>> publisherRestrictions;
+    private final Supplier<IntIterable> allowedVendors;
+    private final Supplier<IntIterable> disclosedVendors;
+    private final Supplier<IntIterable> pubPurposesConsent;
+    private final Supplier<IntIterable> pubPurposesLITransparency;
+    private final Supplier<IntIterable> customPurposesConsent;
+    private final Supplier<IntIterable> customPurposesLITransparency;
+
+    private int weight = OBJECT_WEIGHT;
+
+    TcStringSnapshot(TCString tcString) {
+        version = capture(tcString::getVersion);
+        created = capture(tcString::getCreated);
+        lastUpdated = capture(tcString::getLastUpdated);
+        cmpId = capture(tcString::getCmpId);
+        cmpVersion = capture(tcString::getCmpVersion);
+        consentScreen = capture(tcString::getConsentScreen);
+        consentLanguage = capture(tcString::getConsentLanguage);
+        vendorListVersion = capture(tcString::getVendorListVersion);
+        purposesConsent = captureInts(tcString::getPurposesConsent);
+        vendorConsent = captureInts(tcString::getVendorConsent);
+        defaultVendorConsent = capture(tcString::getDefaultVendorConsent);
+        tcfPolicyVersion = capture(tcString::getTcfPolicyVersion);
+        serviceSpecific = capture(tcString::isServiceSpecific);
+        useNonStandardStacks = capture(tcString::getUseNonStandardStacks);
+        specialFeatureOptIns = captureInts(tcString::getSpecialFeatureOptIns);
+        purposesLITransparency = captureInts(tcString::getPurposesLITransparency);
+        purposeOneTreatment = capture(tcString::getPurposeOneTreatment);
+        publisherCC = capture(tcString::getPublisherCC);
+        vendorLegitimateInterest = captureInts(tcString::getVendorLegitimateInterest);
+        publisherRestrictions = capture(() -> copyRestrictions(tcString.getPublisherRestrictions()));
+        allowedVendors = captureInts(tcString::getAllowedVendors);
+        disclosedVendors = captureInts(tcString::getDisclosedVendors);
+        pubPurposesConsent = captureInts(tcString::getPubPurposesConsent);
+        pubPurposesLITransparency = captureInts(tcString::getPubPurposesLITransparency);
+        customPurposesConsent = captureInts(tcString::getCustomPurposesConsent);
+        customPurposesLITransparency = captureInts(tcString::getCustomPurposesLITransparency);
+    }
+
+    /**
+     * Returns approximate number of bytes retained by this snapshot.
+     */
+    int weight() {
+        return weight;
+    }
+
+    private <T> Supplier<T> capture(Supplier<T> accessor) {
+        weight += FIELD_WEIGHT;
+        try {
+            final T value = accessor.get();
+            return () -> value;
+        } catch (RuntimeException e) {
+            return () -> {
+                throw e;
+            };
+        }
+    }
+
+    private Supplier<IntIterable> captureInts(Supplier<IntIterable> accessor) {
+        return capture(() -> copyInts(accessor.get()));
+    }
+
+    private IntIterable copyInts(IntIterable source) {
+        if (source == null) {
+            return null;
+        }
+
+        final List<Integer> values = new ArrayList<>();
+        int max = 0;
+        final IntIterator iterator = source.intIterator();
+        while (iterator.hasNext()) {
+            final int value = iterator.nextInt();
+            values.add(value);
+            max = Math.max(max, value);
+        }
+
+        // bit set keeps one bit per value up to the largest one
+        weight += max / Byte.SIZE;
+        return BitSetIntIterable.from(values.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private List<PublisherRestriction> copyRestrictions(List<PublisherRestriction> source) {
+        if (source == null) {
+            return null;
+        }
+
+        final List<PublisherRestriction> restrictions = new ArrayList<>(source.size());
+        for (PublisherRestriction restriction : source) {
+            weight += FIELD_WEIGHT;
+            restrictions.add(new PublisherRestriction(
+                    restriction.getPurposeId(),
+                    restriction.getRestrictionType(),
+                    copyInts(restriction.getVendorIds())));
+        }
+        return Collections.unmodifiableList(restrictions);
+    }
+
+    @Override
+    public int getVersion() {
+        return version.get();
+    }
+
+    @Override
+    public Instant getCreated() {
+        return created.get();
+    }
+
+    @Override
+    public Instant getLastUpdated() {
+        return lastUpdated.get();
+    }
+
+    @Override
+    public int getCmpId() {
+        return cmpId.get();
+    }
+
+    @Override
+    public int getCmpVersion() {
+        return cmpVersion.get();
+    }
+
+    @Override
+    public int getConsentScreen() {
+        return consentScreen.get();
+    }
+
+    @Override
+    public String getConsentLanguage() {
+        return consentLanguage.get();
+    }
+
+    @Override
+    public int getVendorListVersion() {
+        return vendorListVersion.get();
+    }
+
+    @Override
+    public IntIterable getPurposesConsent() {
+        return purposesConsent.get();
+    }
+
+    @Override
+    public IntIterable getVendorConsent() {
+        return vendorConsent.get();
+    }
+
+    @Override
+    public boolean getDefaultVendorConsent() {
+        return defaultVendorConsent.get();
+    }
+
+    @Override
+    public int getTcfPolicyVersion() {
+        return tcfPolicyVersion.get();
+    }
+
+    @Override
+    public boolean isServiceSpecific() {
+        return serviceSpecific.get();
+    }
+
+    @Override
+    public boolean getUseNonStandardStacks() {
+        return useNonStandardStacks.get();
+    }
+
+    @Override
+    public IntIterable getSpecialFeatureOptIns() {
+        return specialFeatureOptIns.get();
+    }
+
+    @Override
+    public IntIterable getPurposesLITransparency() {
+        return purposesLITransparency.get();
+    }
+
+    @Override
+    public boolean getPurposeOneTreatment() {
+        return purposeOneTreatment.get();
+    }
+
+    @Override
+    public String getPublisherCC() {
+        return publisherCC.get();
+    }
+
+    @Override
+    public IntIterable getVendorLegitimateInterest() {
+        return vendorLegitimateInterest.get();
+    }
+
+    @Override
+    public List<PublisherRestriction> getPublisherRestrictions() {
+        return publisherRestrictions.get();
+    }
+
+    @Override
+    public IntIterable getAllowedVendors() {
+        return allowedVendors.get();
+    }
+
+    @Override
+    public IntIterable getDisclosedVendors() {
+        return disclosedVendors.get();
+    }
+
+    @Override
+    public IntIterable getPubPurposesConsent() {
+        return pubPurposesConsent.get();
+    }
+
+    @Override
+    public IntIterable getPubPurposesLITransparency() {
+        return pubPurposesLITransparency.get();
+    }
+
+    @Override
+    public IntIterable getCustomPurposesConsent() {
+        return customPurposesConsent.get();
+    }
+
+    @Override
+    public IntIterable getCustomPurposesLITransparency() {
+        return customPurposesLITransparency.get();
+    }
+}
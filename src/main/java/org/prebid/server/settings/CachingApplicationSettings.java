@@ -1,9 +1,16 @@
 package org.prebid.server.settings;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import lombok.Value;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.execution.timeout.TimeoutFactory;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.metric.MetricName;
@@ -16,14 +23,20 @@ import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.StoredItem;
 import org.prebid.server.settings.model.StoredResponseDataResult;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public class CachingApplicationSettings implements ApplicationSettings {
 
@@ -31,15 +44,27 @@ public class CachingApplicationSettings implements ApplicationSettings {
 
     private final ApplicationSettings delegate;
 
-    private final Map<String, Account> accountCache;
+    private final Cache<String, Account> accountCache;
     private final Map<String, String> accountToErrorCache;
     private final Map<String, String> adServerPublisherToErrorCache;
-    private final Map<String, Map<String, String>> categoryConfigCache;
+    private final Cache<String, Map<String, String>> categoryConfigCache;
     private final SettingsCache<String> cache;
     private final SettingsCache<String> ampCache;
     private final SettingsCache<String> videoCache;
     private final SettingsCache<Profile> profileCache;
     private final Metrics metrics;
+    private final long refreshAheadNanos;
+    private final TimeoutFactory timeoutFactory;
+    private final long refreshAheadTimeoutMs;
+
+    private final Map<String, Future<Account>> accountRequests = new ConcurrentHashMap<>();
+    private final Map<String, Future<Map<String, String>>> categoryRequests = new ConcurrentHashMap<>();
+    private final Map<StoredDataKey, Future<StoredDataResult<String>>> storedDataRequests = new ConcurrentHashMap<>();
+    private final Map<StoredDataKey, Future<StoredDataResult<String>>> ampStoredDataRequests =
+            new ConcurrentHashMap<>();
+    private final Map<StoredDataKey, Future<StoredDataResult<String>>> videoStoredDataRequests =
+            new ConcurrentHashMap<>();
+    private final Map<StoredDataKey, Future<StoredDataResult<Profile>>> profileRequests = new ConcurrentHashMap<>();
 
     public CachingApplicationSettings(ApplicationSettings delegate,
                                       SettingsCache<String> cache,
@@ -49,7 +74,10 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                       Metrics metrics,
                                       int ttl,
                                       int size,
-                                      int jitter) {
+                                      int jitter,
+                                      int refreshAhead,
+                                      TimeoutFactory timeoutFactory,
+                                      long refreshAheadTimeoutMs) {
 
         if (ttl <= 0 || size <= 0) {
             throw new IllegalArgumentException("ttl and size must be positive");
@@ -57,17 +85,27 @@ public class CachingApplicationSettings implements ApplicationSettings {
         if (jitter < 0 || jitter >= ttl) {
             throw new IllegalArgumentException("jitter must match the inequality: 0 <= jitter < ttl");
         }
+        if (refreshAhead < 0 || refreshAhead > ttl - jitter) {
+            throw new IllegalArgumentException(
+                    "refreshAhead must match the inequality: 0 <= refreshAhead <= ttl - jitter");
+        }
+        if (refreshAheadTimeoutMs <= 0) {
+            throw new IllegalArgumentException("refreshAheadTimeoutMs must be positive");
+        }
 
         this.delegate = Objects.requireNonNull(delegate);
-        this.accountCache = SettingsCache.createCache(ttl, size, jitter);
+        this.accountCache = SettingsCache.createExpiringCache(ttl, size, jitter);
         this.accountToErrorCache = SettingsCache.createCache(ttl, size, jitter);
         this.adServerPublisherToErrorCache = SettingsCache.createCache(ttl, size, jitter);
-        this.categoryConfigCache = SettingsCache.createCache(ttl, size, jitter);
+        this.categoryConfigCache = SettingsCache.createExpiringCache(ttl, size, jitter);
         this.cache = Objects.requireNonNull(cache);
         this.ampCache = Objects.requireNonNull(ampCache);
         this.videoCache = Objects.requireNonNull(videoCache);
         this.profileCache = Objects.requireNonNull(profileCache);
         this.metrics = Objects.requireNonNull(metrics);
+        this.refreshAheadNanos = TimeUnit.SECONDS.toNanos(refreshAhead);
+        this.timeoutFactory = Objects.requireNonNull(timeoutFactory);
+        this.refreshAheadTimeoutMs = refreshAheadTimeoutMs;
     }
 
     @Override
@@ -75,23 +113,49 @@ public class CachingApplicationSettings implements ApplicationSettings {
         return getFromCacheOrDelegate(
                 accountCache,
                 accountToErrorCache,
+                accountRequests,
                 StringUtils.isBlank(accountId) ? StringUtils.EMPTY : accountId,
                 timeout,
                 delegate::getAccountById,
                 event -> metrics.updateSettingsCacheEventMetric(MetricName.account, event));
     }
 
-    private static <T> Future<T> getFromCacheOrDelegate(Map<String, T> cache,
-                                                        Map<String, String> accountToErrorCache,
-                                                        String key,
-                                                        Timeout timeout,
-                                                        BiFunction<String, Timeout, Future<T>> retriever,
-                                                        Consumer<MetricName> metricUpdater) {
+    private <T> Future<T> getFromCacheOrDelegate(Cache<String, T> cache,
+                                                 Map<String, String> accountToErrorCache,
+                                                 Map<String, Future<T>> inFlightRequests,
+                                                 String key,
+                                                 Timeout timeout,
+                                                 BiFunction<String, Timeout, Future<T>> retriever,
+                                                 Consumer<MetricName> metricUpdater) {
 
-        final T cachedValue = cache.get(key);
+        final BiFunction<Timeout, Future<T>, Future<T>> cachingRetriever = (retrieverTimeout, request) -> retriever
+                .apply(key, retrieverTimeout)
+                .map(value -> {
+                    ifStillInFlight(inFlightRequests, key, request, () -> cache.put(key, value));
+                    return value;
+                })
+                .recover(throwable -> {
+                    ifStillInFlight(inFlightRequests, key, request,
+                            () -> cacheFailure(throwable, key, accountToErrorCache));
+                    return Future.failedFuture(throwable);
+                });
+
+        final T cachedValue = cache.getIfPresent(key);
         if (cachedValue != null) {
             metricUpdater.accept(MetricName.hit);
 
+            if (isExpiringSoon(cache, key)) {
+                // result is not awaited, cached value is served until the new one arrives
+                final Timeout refreshAheadTimeout = timeoutFactory.create(refreshAheadTimeoutMs);
+                coalesce(
+                        inFlightRequests,
+                        key,
+                        refreshAheadTimeout,
+                        request -> cachingRetriever.apply(refreshAheadTimeout, request),
+                        () -> metricUpdater.accept(MetricName.refresh_ahead),
+                        CachingApplicationSettings::noOp);
+            }
+
             return Future.succeededFuture(cachedValue);
         }
 
@@ -102,23 +166,127 @@ public class CachingApplicationSettings implements ApplicationSettings {
             return Future.failedFuture(new PreBidException(preBidExceptionMessage));
         }
 
-        return retriever.apply(key, timeout)
-                .map(value -> {
-                    cache.put(key, value);
-                    return value;
-                })
-                .recover(throwable -> cacheAndReturnFailedFuture(throwable, key, accountToErrorCache));
+        return coalesce(
+                inFlightRequests,
+                key,
+                timeout,
+                request -> cachingRetriever.apply(timeout, request),
+                CachingApplicationSettings::noOp,
+                () -> metricUpdater.accept(MetricName.coalesced));
+    }
+
+    private boolean isExpiringSoon(Cache<String, ?> cache, String key) {
+        return refreshAheadNanos > 0 && cache.policy().expireVariably()
+                .flatMap(expiration -> expiration.getExpiresAfter(key))
+                .map(Duration::toNanos)
+                .filter(expiresAfterNanos -> expiresAfterNanos < refreshAheadNanos)
+                .isPresent();
+    }
+
+    /**
+     * Makes concurrent requests for the same key share a single delegate call.
+     * <p>
+     * Retriever is given the future registered for the call, so it can tell whether the call is still the one
+     * in flight for the key when it completes. Callers joining the call wait for it no longer than their own
+     * timeout allows, and retry with it if the call fails on the timeout of the caller which initiated it.
+     */
+    private static <K, T> Future<T> coalesce(Map<K, Future<T>> inFlightRequests,
+                                             K key,
+                                             Timeout timeout,
+                                             Function<Future<T>, Future<T>> retriever,
+                                             Runnable onStart,
+                                             Runnable onJoin) {
+
+        final Promise<T> promise = Promise.promise();
+        final Future<T> future = promise.future();
+
+        final Future<T> inFlightRequest = inFlightRequests.putIfAbsent(key, future);
+        if (inFlightRequest != null) {
+            onJoin.run();
+            return join(inFlightRequest, timeout).recover(throwable ->
+                    throwable instanceof TimeoutException && timeout.remaining() > 0
+                            ? coalesce(inFlightRequests, key, timeout, retriever, onStart, onJoin)
+                            : Future.failedFuture(throwable));
+        }
+
+        onStart.run();
+
+        Future<T> retrieverFuture;
+        try {
+            retrieverFuture = retriever.apply(future);
+        } catch (RuntimeException e) {
+            retrieverFuture = Future.failedFuture(e);
+        }
+
+        retrieverFuture.onComplete(result -> {
+            inFlightRequests.remove(key, future);
+            promise.handle(result);
+        });
+
+        return future;
+    }
+
+    /**
+     * Returns future of the in-flight call limited by the timeout of the joining caller and completed on its
+     * context, as the shared one is completed on the context of the request which initiated the call.
+     */
+    private static <T> Future<T> join(Future<T> inFlightRequest, Timeout timeout) {
+        final long remainingTime = timeout.remaining();
+        if (remainingTime <= 0L) {
+            return Future.failedFuture(new TimeoutException("Timeout has been exceeded"));
+        }
+
+        final Context context = Vertx.currentContext();
+        if (context == null) {
+            return inFlightRequest;
+        }
+
+        final Vertx vertx = context.owner();
+        final Promise<T> promise = Promise.promise();
+        final long timerId = vertx.setTimer(remainingTime, id ->
+                promise.tryFail(new TimeoutException("Timeout has been exceeded")));
+
+        inFlightRequest.onComplete(result -> {
+            vertx.cancelTimer(timerId);
+            if (Vertx.currentContext() == context) {
+                tryComplete(promise, result);
+            } else {
+                context.runOnContext(ignored -> tryComplete(promise, result));
+            }
+        });
+
+        return promise.future();
+    }
+
+    private static <T> void tryComplete(Promise<T> promise, AsyncResult<T> result) {
+        if (result.succeeded()) {
+            promise.tryComplete(result.result());
+        } else {
+            promise.tryFail(result.cause());
+        }
     }
 
-    private static <T> Future<T> cacheAndReturnFailedFuture(Throwable throwable,
-                                                            String key,
-                                                            Map<String, String> cache) {
+    /**
+     * Runs the given action only if the request is still in flight for the key, i.e. it was not cancelled
+     * by invalidation. The check and the action are atomic against invalidation.
+     */
+    private static <K, T> void ifStillInFlight(Map<K, Future<T>> inFlightRequests,
+                                               K key,
+                                               Future<T> request,
+                                               Runnable action) {
+
+        inFlightRequests.computeIfPresent(key, (ignored, inFlightRequest) -> {
+            if (inFlightRequest == request) {
+                action.run();
+            }
+            return inFlightRequest;
+        });
+    }
 
+    private static void cacheFailure(Throwable throwable, String key, Map<String, String> cache) {
         if (throwable instanceof PreBidException) {
             cache.put(key, throwable.getMessage());
         }
-
-        return Future.failedFuture(throwable);
     }
 
     @Override
@@ -127,7 +295,15 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                           Set<String> impIds,
                                                           Timeout timeout) {
 
-        return getStoredDataFromCacheOrDelegate(cache, accountId, requestIds, impIds, timeout, delegate::getStoredData);
+        return getStoredDataFromCacheOrDelegate(
+                cache,
+                storedDataRequests,
+                accountId,
+                requestIds,
+                impIds,
+                timeout,
+                delegate::getStoredData,
+                event -> metrics.updateSettingsCacheEventMetric(MetricName.stored_request, event));
     }
 
     @Override
@@ -137,7 +313,14 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                              Timeout timeout) {
 
         return getStoredDataFromCacheOrDelegate(
-                ampCache, accountId, requestIds, impIds, timeout, delegate::getAmpStoredData);
+                ampCache,
+                ampStoredDataRequests,
+                accountId,
+                requestIds,
+                impIds,
+                timeout,
+                delegate::getAmpStoredData,
+                event -> metrics.updateSettingsCacheEventMetric(MetricName.amp_stored_request, event));
     }
 
     @Override
@@ -147,7 +330,14 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                                Timeout timeout) {
 
         return getStoredDataFromCacheOrDelegate(
-                videoCache, accountId, requestIds, impIds, timeout, delegate::getVideoStoredData);
+                videoCache,
+                videoStoredDataRequests,
+                accountId,
+                requestIds,
+                impIds,
+                timeout,
+                delegate::getVideoStoredData,
+                event -> metrics.updateSettingsCacheEventMetric(MetricName.video_stored_request, event));
     }
 
     @Override
@@ -157,15 +347,25 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                          Timeout timeout) {
 
         return getStoredDataFromCacheOrDelegate(
-                profileCache, accountId, requestIds, impIds, timeout, delegate::getProfiles);
+                profileCache,
+                profileRequests,
+                accountId,
+                requestIds,
+                impIds,
+                timeout,
+                delegate::getProfiles,
+                event -> metrics.updateSettingsCacheEventMetric(MetricName.profile, event));
     }
 
-    private static <T> Future<StoredDataResult<T>> getStoredDataFromCacheOrDelegate(SettingsCache<T> cache,
-                                                                                    String accountId,
-                                                                                    Set<String> requestIds,
-                                                                                    Set<String> impIds,
-                                                                                    Timeout timeout,
-                                                                                    StoredDataFetcher<T> retriever) {
+    private static <T> Future<StoredDataResult<T>> getStoredDataFromCacheOrDelegate(
+            SettingsCache<T> cache,
+            Map<StoredDataKey, Future<StoredDataResult<T>>> inFlightRequests,
+            String accountId,
+            Set<String> requestIds,
+            Set<String> impIds,
+            Timeout timeout,
+            StoredDataFetcher<T> retriever,
+            Consumer<MetricName> metricUpdater) {
 
         // empty string account ID doesn't make sense
         final String normalizedAccountId = StringUtils.stripToNull(accountId);
@@ -189,18 +389,29 @@ public class CachingApplicationSettings implements ApplicationSettings {
                             Collections.emptyList()));
         }
 
-        return retriever.apply(normalizedAccountId, missedRequestIds, missedImpIds, timeout).map(result -> {
-            final Map<String, T> storedIdToRequestFromDelegate = result.getStoredIdToRequest();
-            storedIdToRequest.putAll(storedIdToRequestFromDelegate);
-            for (Map.Entry<String, T> entry : storedIdToRequestFromDelegate.entrySet()) {
-                cache.saveRequestCache(normalizedAccountId, entry.getKey(), entry.getValue());
-            }
+        final Supplier<Future<StoredDataResult<T>>> cachingRetriever = () ->
+                retriever.apply(normalizedAccountId, missedRequestIds, missedImpIds, timeout).map(result -> {
+                    for (Map.Entry<String, T> entry : result.getStoredIdToRequest().entrySet()) {
+                        cache.saveRequestCache(normalizedAccountId, entry.getKey(), entry.getValue());
+                    }
+                    for (Map.Entry<String, T> entry : result.getStoredIdToImp().entrySet()) {
+                        cache.saveImpCache(normalizedAccountId, entry.getKey(), entry.getValue());
+                    }
+                    return result;
+                });
+
+        final StoredDataKey key = StoredDataKey.of(normalizedAccountId, missedRequestIds, missedImpIds);
+        final Future<StoredDataResult<T>> storedDataResult = coalesce(
+                inFlightRequests,
+                key,
+                timeout,
+                ignored -> cachingRetriever.get(),
+                CachingApplicationSettings::noOp,
+                () -> metricUpdater.accept(MetricName.coalesced));
 
-            final Map<String, T> storedIdToImpFromDelegate = result.getStoredIdToImp();
-            storedIdToImp.putAll(storedIdToImpFromDelegate);
-            for (Map.Entry<String, T> entry : storedIdToImpFromDelegate.entrySet()) {
-                cache.saveImpCache(normalizedAccountId, entry.getKey(), entry.getValue());
-            }
+        return storedDataResult.map(result -> {
+            storedIdToRequest.putAll(result.getStoredIdToRequest());
+            storedIdToImp.putAll(result.getStoredIdToImp());
 
             return StoredDataResult.of(
                     Collections.unmodifiableMap(storedIdToRequest),
@@ -242,18 +453,34 @@ public class CachingApplicationSettings implements ApplicationSettings {
         return getFromCacheOrDelegate(
                 categoryConfigCache,
                 adServerPublisherToErrorCache,
+                categoryRequests,
                 compoundKey,
                 timeout,
-                (key, timeoutParam) -> delegate.getCategories(primaryAdServer, publisher, timeout),
+                (key, timeoutParam) -> delegate.getCategories(primaryAdServer, publisher, timeoutParam),
                 CachingApplicationSettings::noOp);
     }
 
     public void invalidateAccountCache(String accountId) {
-        accountCache.remove(accountId);
+        // in-flight load started before invalidation is neither joined nor allowed to cache its result anymore
+        accountRequests.remove(accountId);
+        accountCache.invalidate(accountId);
         accountToErrorCache.remove(accountId);
         logger.debug("Account with id {} was invalidated", accountId);
     }
 
     private static <ANY> void noOp(ANY any) {
     }
+
+    private static void noOp() {
+    }
+
+    @Value(staticConstructor = "of")
+    private static class StoredDataKey {
+
+        String accountId;
+
+        Set<String> requestIds;
+
+        Set<String> impIds;
+    }
 }
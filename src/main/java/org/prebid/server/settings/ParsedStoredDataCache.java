@@ -0,0 +1,131 @@
+package org.prebid.server.settings;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Value;
+import org.apache.commons.collections4.CollectionUtils;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * In-memory cache of already parsed stored requests and imps.
+ * <p>
+ * Each entry remembers the raw JSON it was built from, so the cached tree is returned only when the stored data
+ * for the given id is still the same. Returned {@link JsonNode}s are shared between requests and must not be mutated.
+ * <p>
+ * AMP stored requests are kept apart from auction ones, since the same id may refer to different stored data
+ * in each of them. This cache listens to notifications of auction settings cache, while AMP settings cache
+ * should notify {@link #ampListener()}.
+ */
+public class ParsedStoredDataCache implements CacheNotificationListener<String> {
+
+    private final Map<String, ParsedStoredItem> requestCache;
+    private final Map<String, ParsedStoredItem> ampRequestCache;
+    private final Map<String, ParsedStoredItem> impCache;
+    private final CacheNotificationListener<String> ampListener;
+    private final JacksonMapper mapper;
+    private final Metrics metrics;
+
+    public ParsedStoredDataCache(int ttl, int size, JacksonMapper mapper, Metrics metrics) {
+        if (ttl <= 0 || size <= 0) {
+            throw new IllegalArgumentException("ttl and size must be positive");
+        }
+
+        this.requestCache = SettingsCache.createCache(ttl, size, 0);
+        this.ampRequestCache = SettingsCache.createCache(ttl, size, 0);
+        this.impCache = SettingsCache.createCache(ttl, size, 0);
+        this.ampListener = new AmpRequestsListener();
+        this.mapper = Objects.requireNonNull(mapper);
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    public CacheNotificationListener<String> ampListener() {
+        return ampListener;
+    }
+
+    public JsonNode getRequest(String id, String storedData) throws JsonProcessingException {
+        return getOrParse(requestCache, MetricName.parsed_stored_request, id, storedData);
+    }
+
+    public JsonNode getAmpRequest(String id, String storedData) throws JsonProcessingException {
+        return getOrParse(ampRequestCache, MetricName.parsed_stored_request, id, storedData);
+    }
+
+    public JsonNode getImp(String id, String storedData) throws JsonProcessingException {
+        return getOrParse(impCache, MetricName.parsed_stored_imp, id, storedData);
+    }
+
+    private JsonNode getOrParse(Map<String, ParsedStoredItem> cache,
+                                MetricName cacheType,
+                                String id,
+                                String storedData) throws JsonProcessingException {
+
+        final ParsedStoredItem cachedItem = cache.get(id);
+        if (cachedItem != null && cachedItem.isParsedFrom(storedData)) {
+            metrics.updateSettingsCacheEventMetric(cacheType, MetricName.hit);
+            return cachedItem.getNode();
+        }
+
+        metrics.updateSettingsCacheEventMetric(cacheType, MetricName.miss);
+
+        final JsonNode node = mapper.mapper().readTree(storedData);
+        cache.put(id, ParsedStoredItem.of(storedData, node));
+        return node;
+    }
+
+    /**
+     * Drops parsed entries for updated ids, they will be parsed again on the first usage.
+     */
+    @Override
+    public void save(Map<String, String> requests, Map<String, String> imps) {
+        remove(requestCache, requests != null ? requests.keySet() : null);
+        remove(impCache, imps != null ? imps.keySet() : null);
+    }
+
+    @Override
+    public void invalidate(List<String> requests, List<String> imps) {
+        remove(requestCache, requests);
+        remove(impCache, imps);
+    }
+
+    private static void remove(Map<String, ParsedStoredItem> cache, Collection<String> ids) {
+        if (CollectionUtils.isNotEmpty(ids)) {
+            ids.forEach(cache.keySet()::remove);
+        }
+    }
+
+    /**
+     * Drops parsed AMP requests for ids updated in AMP settings cache, which holds no imps.
+     */
+    private class AmpRequestsListener implements CacheNotificationListener<String> {
+
+        @Override
+        public void save(Map<String, String> requests, Map<String, String> imps) {
+            remove(ampRequestCache, requests != null ? requests.keySet() : null);
+        }
+
+        @Override
+        public void invalidate(List<String> requests, List<String> imps) {
+            remove(ampRequestCache, requests);
+        }
+    }
+
+    @Value(staticConstructor = "of")
+    private static class ParsedStoredItem {
+
+        String storedData;
+
+        JsonNode node;
+
+        boolean isParsedFrom(String data) {
+            // reference check first: the same string instance usually comes from settings cache
+            return storedData == data || storedData.equals(data);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.prebid.server.settings;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Expiry;
 import org.apache.commons.collections4.MapUtils;
@@ -21,8 +22,17 @@ public class SettingsCache<T> implements CacheNotificationListener<T> {
 
     private final Map<String, Set<StoredItem<T>>> requestCache;
     private final Map<String, Set<StoredItem<T>>> impCache;
+    private final CacheNotificationListener<T> dependentListener;
 
     public SettingsCache(int ttl, int size, int jitter) {
+        this(ttl, size, jitter, null);
+    }
+
+    /**
+     * Creates cache which additionally propagates save/invalidate notifications to the given listener,
+     * so derived caches (e.g. parsed stored data) are kept consistent with this one.
+     */
+    public SettingsCache(int ttl, int size, int jitter, CacheNotificationListener<T> dependentListener) {
         if (ttl <= 0 || size <= 0) {
             throw new IllegalArgumentException("ttl and size must be positive");
         }
@@ -32,9 +42,18 @@ public class SettingsCache<T> implements CacheNotificationListener<T> {
 
         requestCache = createCache(ttl, size, jitter);
         impCache = createCache(ttl, size, jitter);
+        this.dependentListener = dependentListener;
     }
 
     public static <T> Map<String, T> createCache(int ttlSeconds, int size, int jitterSeconds) {
+        return createExpiringCache(ttlSeconds, size, jitterSeconds).asMap();
+    }
+
+    /**
+     * Creates cache with per-entry expiration, so the remaining lifetime of each entry can be inspected
+     * through {@link Cache#policy()}.
+     */
+    public static <T> Cache<String, T> createExpiringCache(int ttlSeconds, int size, int jitterSeconds) {
         final long expireAfterNanos = (long) (ttlSeconds * 1e9);
         final long jitterNanos = jitterSeconds == 0 ? 0L : (long) (jitterSeconds * 1e9);
 
@@ -43,8 +62,7 @@ public class SettingsCache<T> implements CacheNotificationListener<T> {
                         ? new StaticExpiry<>(expireAfterNanos)
                         : new ExpiryWithJitter<>(expireAfterNanos, jitterNanos))
                 .maximumSize(size)
-                .<String, T>build()
-                .asMap();
+                .<String, T>build();
     }
 
     Map<String, Set<StoredItem<T>>> getRequestCache() {
@@ -86,12 +104,18 @@ public class SettingsCache<T> implements CacheNotificationListener<T> {
         if (MapUtils.isNotEmpty(imps)) {
             imps.forEach((key, value) -> impCache.put(key, Collections.singleton(StoredItem.of(null, value))));
         }
+        if (dependentListener != null) {
+            dependentListener.save(requests, imps);
+        }
     }
 
     @Override
     public void invalidate(List<String> requests, List<String> imps) {
         requests.forEach(requestCache.keySet()::remove);
         imps.forEach(impCache.keySet()::remove);
+        if (dependentListener != null) {
+            dependentListener.invalidate(requests, imps);
+        }
     }
 
     private static class StaticExpiry<K, V> implements Expiry<K, V> {
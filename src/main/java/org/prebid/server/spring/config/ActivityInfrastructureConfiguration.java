@@ -18,6 +18,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Clock;
 import java.util.List;
 
 @Configuration
@@ -96,8 +97,9 @@ public class ActivityInfrastructureConfiguration {
     ActivityInfrastructureCreator activityInfrastructureCreator(ActivityRuleFactory activityRuleFactory,
                                                                 GdprConfig gdprConfig,
                                                                 Metrics metrics,
-                                                                JacksonMapper jacksonMapper) {
+                                                                JacksonMapper jacksonMapper,
+                                                                Clock clock) {
 
-        return new ActivityInfrastructureCreator(activityRuleFactory, gdprConfig, metrics, jacksonMapper);
+        return new ActivityInfrastructureCreator(activityRuleFactory, gdprConfig, metrics, jacksonMapper, clock);
     }
 }
@@ -58,10 +58,13 @@ public class GeoLocationConfiguration {
         @Bean
         @ConditionalOnProperty(prefix = "geolocation.circuit-breaker", name = "enabled", havingValue = "false",
                 matchIfMissing = true)
-        GeoLocationService basicGeoLocationService(FileSyncerProperties fileSyncerProperties,
-                                                   Vertx vertx) {
+        GeoLocationService basicGeoLocationService(
+                FileSyncerProperties fileSyncerProperties,
+                @Value("${geolocation.maxmind.database-filepath:#{null}}") String databaseFilePath,
+                @Value("${geolocation.maxmind.cache-size:0}") int cacheSize,
+                Vertx vertx) {
 
-            return createGeoLocationService(fileSyncerProperties, vertx);
+            return createGeoLocationService(fileSyncerProperties, databaseFilePath, cacheSize, vertx);
         }
 
         @Bean
@@ -70,17 +73,24 @@ public class GeoLocationConfiguration {
                 Vertx vertx,
                 Metrics metrics,
                 FileSyncerProperties fileSyncerProperties,
+                @Value("${geolocation.maxmind.database-filepath:#{null}}") String databaseFilePath,
+                @Value("${geolocation.maxmind.cache-size:0}") int cacheSize,
                 @Qualifier("maxMindCircuitBreakerProperties") CircuitBreakerProperties circuitBreakerProperties,
                 Clock clock) {
 
             return new CircuitBreakerSecuredGeoLocationService(vertx,
-                    createGeoLocationService(fileSyncerProperties, vertx), metrics,
+                    createGeoLocationService(fileSyncerProperties, databaseFilePath, cacheSize, vertx), metrics,
                     circuitBreakerProperties.getOpeningThreshold(), circuitBreakerProperties.getOpeningIntervalMs(),
                     circuitBreakerProperties.getClosingIntervalMs(), clock);
         }
 
-        private GeoLocationService createGeoLocationService(FileSyncerProperties properties, Vertx vertx) {
-            final MaxMindGeoLocationService maxMindGeoLocationService = new MaxMindGeoLocationService();
+        private GeoLocationService createGeoLocationService(FileSyncerProperties properties,
+                                                            String databaseFilePath,
+                                                            int cacheSize,
+                                                            Vertx vertx) {
+
+            final MaxMindGeoLocationService maxMindGeoLocationService =
+                    new MaxMindGeoLocationService(databaseFilePath, cacheSize);
             final FileSyncer fileSyncer = FileUtil.fileSyncerFor(maxMindGeoLocationService, properties, vertx);
             fileSyncer.sync();
             return maxMindGeoLocationService;
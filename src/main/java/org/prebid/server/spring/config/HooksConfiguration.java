@@ -1,6 +1,5 @@
 package org.prebid.server.spring.config;
 
-import io.vertx.core.Vertx;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.prebid.server.execution.timeout.TimeoutFactory;
@@ -32,7 +31,6 @@ public class HooksConfiguration {
     HookStageExecutor hookStageExecutor(HooksConfigurationProperties hooksConfiguration,
                                         HookCatalog hookCatalog,
                                         TimeoutFactory timeoutFactory,
-                                        Vertx vertx,
                                         Clock clock,
                                         JacksonMapper mapper,
                                         @Value("${settings.modules.require-config-to-invoke:false}")
@@ -47,7 +45,6 @@ public class HooksConfiguration {
                         .orElseGet(Collections::emptyMap),
                 hookCatalog,
                 timeoutFactory,
-                vertx,
                 clock,
                 mapper,
                 isConfigToInvokeRequired,
@@ -17,6 +17,7 @@ import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.privacy.HostVendorTcfDefinerService;
+import org.prebid.server.privacy.gdpr.TcStringDecoder;
 import org.prebid.server.privacy.gdpr.Tcf2Service;
 import org.prebid.server.privacy.gdpr.TcfDefinerService;
 import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose01Strategy;
@@ -156,11 +157,19 @@ public class PrivacyServiceConfiguration {
                 bidderCatalog);
     }
 
+    @Bean
+    TcStringDecoder tcStringDecoder(@Value("${gdpr.tc-string-cache.max-weight}") long cacheMaxWeight,
+                                    Metrics metrics) {
+
+        return new TcStringDecoder(cacheMaxWeight, metrics);
+    }
+
     @Bean
     TcfDefinerService tcfDefinerService(
             GdprConfig gdprConfig,
             @Value("${gdpr.eea-countries}") String eeaCountriesAsString,
             Tcf2Service tcf2Service,
+            TcStringDecoder tcStringDecoder,
             GeoLocationServiceWrapper geoLocationServiceWrapper,
             BidderCatalog bidderCatalog,
             IpAddressHelper ipAddressHelper,
@@ -173,6 +182,7 @@ public class PrivacyServiceConfiguration {
                 gdprConfig,
                 eeaCountries,
                 tcf2Service,
+                tcStringDecoder,
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
@@ -5,6 +5,7 @@ import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixListFactory;
 import io.vertx.core.Vertx;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.core.net.JksOptions;
 import lombok.Data;
 import org.apache.commons.lang3.ObjectUtils;
@@ -74,7 +75,9 @@ import org.prebid.server.bidadjustments.BidAdjustmentsRulesResolver;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.bidder.BidderDeps;
 import org.prebid.server.bidder.BidderErrorNotifier;
+import org.prebid.server.bidder.BidderInfo;
 import org.prebid.server.bidder.BidderRequestCompletionTrackerFactory;
+import org.prebid.server.bidder.BidderRequestCompressor;
 import org.prebid.server.bidder.HttpBidderRequestEnricher;
 import org.prebid.server.bidder.HttpBidderRequester;
 import org.prebid.server.cache.BasicPbcStorageService;
@@ -86,10 +89,14 @@ import org.prebid.server.cookie.CookieDeprecationService;
 import org.prebid.server.cookie.CookieSyncService;
 import org.prebid.server.cookie.CoopSyncProvider;
 import org.prebid.server.cookie.PrioritizedCoopSyncProvider;
+import org.prebid.server.cookie.UidsCookieBinaryCodec;
 import org.prebid.server.cookie.UidsCookieService;
 import org.prebid.server.currency.CurrencyConversionService;
+import org.prebid.server.device.DeviceDetectionCache;
+import org.prebid.server.device.InMemoryDeviceDetectionCache;
 import org.prebid.server.events.EventsService;
 import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.execution.timeout.TimeoutScheduler;
 import org.prebid.server.floors.PriceFloorAdjuster;
 import org.prebid.server.floors.PriceFloorEnforcer;
 import org.prebid.server.floors.PriceFloorProcessor;
@@ -109,13 +116,16 @@ import org.prebid.server.metric.Metrics;
 import org.prebid.server.optout.GoogleRecaptchaVerifier;
 import org.prebid.server.privacy.HostVendorTcfDefinerService;
 import org.prebid.server.privacy.PrivacyExtractor;
+import org.prebid.server.privacy.gdpr.TcStringDecoder;
 import org.prebid.server.privacy.gdpr.TcfDefinerService;
 import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.settings.ParsedStoredDataCache;
 import org.prebid.server.settings.model.BidValidationEnforcement;
 import org.prebid.server.spring.config.model.CacheDefaultTtlProperties;
 import org.prebid.server.spring.config.model.ExternalConversionProperties;
 import org.prebid.server.spring.config.model.HttpClientCircuitBreakerProperties;
 import org.prebid.server.spring.config.model.HttpClientProperties;
+import org.prebid.server.util.ResourceUtil;
 import org.prebid.server.util.VersionInfo;
 import org.prebid.server.util.system.CpuLoadAverageStats;
 import org.prebid.server.validation.BidderParamValidator;
@@ -144,8 +154,10 @@ import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
@@ -292,6 +304,16 @@ public class ServiceConfiguration {
         return new ImplicitParametersExtractor(psl);
     }
 
+    @Bean
+    DeviceDetectionCache deviceDetectionCache(@Value("${device-detection.cache.max-size}") long maxSize,
+                                              @Value("${device-detection.cache.ttl-seconds}") long ttlSeconds,
+                                              Metrics metrics) {
+
+        return maxSize > 0
+                ? new InMemoryDeviceDetectionCache(maxSize, ttlSeconds, metrics)
+                : DeviceDetectionCache.noCache();
+    }
+
     @Bean
     IpAddressHelper ipAddressHelper(@Value("${ipv6.always-mask-right}") int ipv6AlwaysMaskBits,
                                     @Value("${ipv6.anon-left-mask-bits}") int ipv6AnonLeftMaskBits,
@@ -534,7 +556,8 @@ public class ServiceConfiguration {
                                         AmpPrivacyContextFactory ampPrivacyContextFactory,
                                         DebugResolver debugResolver,
                                         JacksonMapper mapper,
-                                        GeoLocationServiceWrapper geoLocationServiceWrapper) {
+                                        GeoLocationServiceWrapper geoLocationServiceWrapper,
+                                        TcStringDecoder tcStringDecoder) {
 
         return new AmpRequestFactory(
                 ortb2RequestFactory,
@@ -549,7 +572,8 @@ public class ServiceConfiguration {
                 ampPrivacyContextFactory,
                 debugResolver,
                 mapper,
-                geoLocationServiceWrapper);
+                geoLocationServiceWrapper,
+                tcStringDecoder);
     }
 
     @Bean
@@ -640,8 +664,13 @@ public class ServiceConfiguration {
     @Scope(scopeName = VertxContextScope.NAME, proxyMode = ScopedProxyMode.INTERFACES)
     @ConditionalOnProperty(prefix = "http-client.circuit-breaker", name = "enabled", havingValue = "false",
             matchIfMissing = true)
-    BasicHttpClient basicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
-        return createBasicHttpClient(vertx, httpClientProperties);
+    BasicHttpClient basicHttpClient(Vertx vertx,
+                                    TimeoutScheduler timeoutScheduler,
+                                    HttpClientProperties httpClientProperties,
+                                    BidderCatalog bidderCatalog,
+                                    Metrics metrics) {
+
+        return createBasicHttpClient(vertx, timeoutScheduler, httpClientProperties, bidderCatalog, metrics);
     }
 
     @Bean
@@ -656,26 +685,102 @@ public class ServiceConfiguration {
     @ConditionalOnProperty(prefix = "http-client.circuit-breaker", name = "enabled", havingValue = "true")
     CircuitBreakerSecuredHttpClient circuitBreakerSecuredHttpClient(
             Vertx vertx,
+            TimeoutScheduler timeoutScheduler,
             Metrics metrics,
             HttpClientProperties httpClientProperties,
+            BidderCatalog bidderCatalog,
             @Qualifier("httpClientCircuitBreakerProperties")
             HttpClientCircuitBreakerProperties circuitBreakerProperties,
             Clock clock) {
 
-        final HttpClient httpClient = createBasicHttpClient(vertx, httpClientProperties);
+        final HttpClient httpClient = createBasicHttpClient(
+                vertx, timeoutScheduler, httpClientProperties, bidderCatalog, metrics);
 
         return new CircuitBreakerSecuredHttpClient(
-                vertx,
                 httpClient,
                 metrics,
                 circuitBreakerProperties.getOpeningThreshold(),
+                circuitBreakerProperties.getFailureRatePercent(),
                 circuitBreakerProperties.getOpeningIntervalMs(),
                 circuitBreakerProperties.getClosingIntervalMs(),
                 circuitBreakerProperties.getIdleExpireHours(),
                 clock);
     }
 
-    private static BasicHttpClient createBasicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
+    private static BasicHttpClient createBasicHttpClient(Vertx vertx,
+                                                         TimeoutScheduler timeoutScheduler,
+                                                         HttpClientProperties httpClientProperties,
+                                                         BidderCatalog bidderCatalog,
+                                                         Metrics metrics) {
+
+        final HttpClientOptions options = createHttpClientOptions(httpClientProperties);
+        final Map<String, BidderInfo.ConnectionInfo> connections = bidderConnections(bidderCatalog);
+
+        final Map<String, io.vertx.core.http.HttpClient> hostHttpClients = new HashMap<>();
+        connections.forEach((authority, connection) -> hostHttpClients.put(
+                authority, vertx.createHttpClient(hostHttpClientOptions(options, connection))));
+
+        final BasicHttpClient httpClient = new BasicHttpClient(
+                timeoutScheduler, vertx.createHttpClient(options), hostHttpClients, metrics);
+
+        connections.values().stream()
+                .filter(connection -> connection.getPrewarmConnections() > 0)
+                .forEach(connection -> httpClient.prewarmConnections(
+                        (connection.isSsl() ? "https://" : "http://") + connection.getAuthority() + "/",
+                        connection.getPrewarmConnections()));
+
+        return httpClient;
+    }
+
+    /**
+     * Collects dedicated connection pool settings of active bidders by endpoint host,
+     * the first bidder wins if several bidders share the same host.
+     */
+    private static Map<String, BidderInfo.ConnectionInfo> bidderConnections(BidderCatalog bidderCatalog) {
+        final Map<String, BidderInfo.ConnectionInfo> connections = new HashMap<>();
+        bidderCatalog.names().stream()
+                .filter(bidderCatalog::isActive)
+                .sorted()
+                .map(bidderCatalog::bidderInfoByName)
+                .map(BidderInfo::getConnection)
+                .filter(Objects::nonNull)
+                .forEach(connection -> connections.putIfAbsent(connection.getAuthority(), connection));
+
+        return connections;
+    }
+
+    private static HttpClientOptions hostHttpClientOptions(HttpClientOptions defaultOptions,
+                                                           BidderInfo.ConnectionInfo connection) {
+
+        final HttpClientOptions options = new HttpClientOptions(defaultOptions);
+
+        final Integer maxPoolSize = connection.getMaxPoolSize();
+        if (maxPoolSize != null) {
+            options.setMaxPoolSize(maxPoolSize).setHttp2MaxPoolSize(maxPoolSize);
+        }
+
+        final Boolean keepAlive = connection.getKeepAlive();
+        if (keepAlive != null) {
+            options.setKeepAlive(keepAlive);
+        }
+
+        final Integer keepAliveTimeoutMs = connection.getKeepAliveTimeoutMs();
+        if (keepAliveTimeoutMs != null) {
+            final int keepAliveTimeoutSeconds = (int) TimeUnit.MILLISECONDS.toSeconds(keepAliveTimeoutMs + 999L);
+            options.setKeepAliveTimeout(keepAliveTimeoutSeconds).setHttp2KeepAliveTimeout(keepAliveTimeoutSeconds);
+        }
+
+        if (connection.isHttp2()) {
+            options.setProtocolVersion(HttpVersion.HTTP_2)
+                    // TLS endpoints negotiate HTTP/2 via ALPN, falling back to HTTP/1.1
+                    .setUseAlpn(connection.isSsl())
+                    .setHttp2ClearTextUpgrade(!connection.isHttp2PriorKnowledge());
+        }
+
+        return options;
+    }
+
+    private static HttpClientOptions createHttpClientOptions(HttpClientProperties httpClientProperties) {
         final HttpClientOptions options = new HttpClientOptions()
                 .setMaxPoolSize(httpClientProperties.getMaxPoolSize())
                 .setIdleTimeoutUnit(TimeUnit.MILLISECONDS)
@@ -697,7 +802,7 @@ public class ServiceConfiguration {
                     .setKeyCertOptions(jksOptions);
         }
 
-        return new BasicHttpClient(vertx, vertx.createHttpClient(options));
+        return options;
     }
 
     @Bean
@@ -718,9 +823,14 @@ public class ServiceConfiguration {
             @Value("${host-cookie.ttl-days}") Integer ttlDays,
             @Value("${host-cookie.max-cookie-size-bytes}") Integer maxCookieSizeBytes,
             @Value("${setuid.number-of-uid-cookies:1}") int numberOfUidCookies,
+            @Value("${host-cookie.binary-format-enabled:false}") boolean binaryFormatEnabled,
             PrioritizedCoopSyncProvider prioritizedCoopSyncProvider,
             Metrics metrics,
-            JacksonMapper mapper) {
+            JacksonMapper mapper) throws IOException {
+
+        // binary cookies are read even if writing them is disabled, e.g. after rollback of the flag
+        final UidsCookieBinaryCodec binaryCodec = new UidsCookieBinaryCodec(UidsCookieBinaryCodec.parseFamilyRegistry(
+                ResourceUtil.readFromClasspath("uids-cookie-families.txt")));
 
         return new UidsCookieService(
                 optOutCookieName,
@@ -733,7 +843,9 @@ public class ServiceConfiguration {
                 numberOfUidCookies,
                 prioritizedCoopSyncProvider,
                 metrics,
-                mapper);
+                mapper,
+                binaryCodec,
+                binaryFormatEnabled);
     }
 
     @Bean
@@ -836,6 +948,7 @@ public class ServiceConfiguration {
             @Autowired(required = false) BidderRequestCompletionTrackerFactory bidderRequestCompletionTrackerFactory,
             BidderErrorNotifier bidderErrorNotifier,
             HttpBidderRequestEnricher requestEnricher,
+            BidderRequestCompressor requestCompressor,
             JacksonMapper mapper) {
 
         return new HttpBidderRequester(
@@ -843,10 +956,20 @@ public class ServiceConfiguration {
                 bidderRequestCompletionTrackerFactory,
                 bidderErrorNotifier,
                 requestEnricher,
+                requestCompressor,
                 mapper,
                 logSamplingRate);
     }
 
+    @Bean
+    BidderRequestCompressor bidderRequestCompressor(
+            @Value("${http-client.request-compression.level:-1}") int compressionLevel,
+            @Value("${http-client.request-compression.min-size-bytes:0}") int minSize,
+            Metrics metrics) {
+
+        return new BidderRequestCompressor(compressionLevel, minSize, metrics);
+    }
+
     @Bean
     PrebidVersionProvider prebidVersionProvider(VersionInfo versionInfo) {
         return new PrebidVersionProvider(versionInfo.getVersion());
@@ -956,7 +1079,8 @@ public class ServiceConfiguration {
             Clock clock,
             JacksonMapper mapper,
             CriteriaLogManager criteriaLogManager,
-            @Value("${auction.strict-app-site-dooh:false}") boolean enabledStrictAppSiteDoohValidation) {
+            @Value("${auction.strict-app-site-dooh:false}") boolean enabledStrictAppSiteDoohValidation,
+            @Value("${auction.copy-on-write-fan-out:false}") boolean copyOnWriteFanOut) {
 
         return new ExchangeService(
                 logSamplingRate,
@@ -984,7 +1108,8 @@ public class ServiceConfiguration {
                 clock,
                 mapper,
                 criteriaLogManager,
-                enabledStrictAppSiteDoohValidation);
+                enabledStrictAppSiteDoohValidation,
+                copyOnWriteFanOut);
     }
 
     @Bean
@@ -1006,7 +1131,8 @@ public class ServiceConfiguration {
             Metrics metrics,
             TimeoutFactory timeoutFactory,
             JacksonMapper mapper,
-            JsonMerger jsonMerger) {
+            JsonMerger jsonMerger,
+            ParsedStoredDataCache parsedStoredDataCache) {
 
         return new StoredRequestProcessor(
                 defaultTimeoutMs,
@@ -1018,7 +1144,8 @@ public class ServiceConfiguration {
                 metrics,
                 timeoutFactory,
                 mapper,
-                jsonMerger);
+                jsonMerger,
+                parsedStoredDataCache);
     }
 
     @Bean
@@ -1166,8 +1293,12 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    BidderParamValidator bidderParamValidator(BidderCatalog bidderCatalog, JacksonMapper mapper) {
-        return BidderParamValidator.create(bidderCatalog, "static/bidder-params", mapper);
+    BidderParamValidator bidderParamValidator(
+            BidderCatalog bidderCatalog,
+            @Value("${auction.validations.bidder-params-cache-size:0}") int cacheSize,
+            JacksonMapper mapper) {
+
+        return BidderParamValidator.create(bidderCatalog, "static/bidder-params", cacheSize, mapper);
     }
 
     @Bean
@@ -1212,8 +1343,21 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    TimeoutFactory timeoutFactory(Clock clock) {
-        return new TimeoutFactory(clock);
+    TimeoutScheduler timeoutScheduler(
+            Vertx vertx,
+            Metrics metrics,
+            @Value("${timeout-scheduler.enabled:true}") boolean enabled,
+            @Value("${timeout-scheduler.tick-ms:5}") long tickMs,
+            @Value("${timeout-scheduler.wheel-size:512}") int wheelSize) {
+
+        return enabled
+                ? new TimeoutScheduler(vertx, tickMs, wheelSize, metrics)
+                : new TimeoutScheduler(vertx);
+    }
+
+    @Bean
+    TimeoutFactory timeoutFactory(Clock clock, TimeoutScheduler timeoutScheduler) {
+        return new TimeoutFactory(clock, timeoutScheduler);
     }
 
     @Bean
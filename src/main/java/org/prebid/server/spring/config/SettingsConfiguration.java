@@ -23,6 +23,7 @@ import org.prebid.server.settings.DatabaseApplicationSettings;
 import org.prebid.server.settings.EnrichingApplicationSettings;
 import org.prebid.server.settings.FileApplicationSettings;
 import org.prebid.server.settings.HttpApplicationSettings;
+import org.prebid.server.settings.ParsedStoredDataCache;
 import org.prebid.server.settings.S3ApplicationSettings;
 import org.prebid.server.settings.SettingsCache;
 import org.prebid.server.settings.helper.ParametrizedQueryHelper;
@@ -446,7 +447,8 @@ public class SettingsConfiguration {
                 @Qualifier("ampSettingsCache") SettingsCache<String> ampCache,
                 @Qualifier("videoSettingCache") SettingsCache<String> videoCache,
                 @Qualifier("profileSettingCache") SettingsCache<Profile> profilesCache,
-                Metrics metrics) {
+                Metrics metrics,
+                TimeoutFactory timeoutFactory) {
 
             return new CachingApplicationSettings(
                     enrichingApplicationSettings,
@@ -457,7 +459,10 @@ public class SettingsConfiguration {
                     metrics,
                     cacheProperties.getTtlSeconds(),
                     cacheProperties.getCacheSize(),
-                    cacheProperties.getJitterSeconds());
+                    cacheProperties.getJitterSeconds(),
+                    cacheProperties.getRefreshAheadSeconds(),
+                    timeoutFactory,
+                    cacheProperties.getRefreshAheadTimeoutMs());
         }
     }
 
@@ -472,26 +477,46 @@ public class SettingsConfiguration {
         }
     }
 
+    @Configuration
+    static class ParsedStoredDataCacheConfiguration {
+
+        @Bean
+        ParsedStoredDataCache parsedStoredDataCache(
+                @Value("${settings.parsed-cache.ttl-seconds}") int ttlSeconds,
+                @Value("${settings.parsed-cache.cache-size}") int cacheSize,
+                JacksonMapper mapper,
+                Metrics metrics) {
+
+            return new ParsedStoredDataCache(ttlSeconds, cacheSize, mapper, metrics);
+        }
+    }
+
     @Configuration
     @ConditionalOnProperty(prefix = "settings.in-memory-cache", name = {"ttl-seconds", "cache-size"})
     static class CacheConfiguration {
 
         @Bean
         @Qualifier("settingsCache")
-        SettingsCache<String> settingsCache(ApplicationSettingsCacheProperties cacheProperties) {
+        SettingsCache<String> settingsCache(ApplicationSettingsCacheProperties cacheProperties,
+                                            ParsedStoredDataCache parsedStoredDataCache) {
+
             return new SettingsCache<>(
                     cacheProperties.getTtlSeconds(),
                     cacheProperties.getCacheSize(),
-                    cacheProperties.getJitterSeconds());
+                    cacheProperties.getJitterSeconds(),
+                    parsedStoredDataCache);
         }
 
         @Bean
         @Qualifier("ampSettingsCache")
-        SettingsCache<String> ampSettingsCache(ApplicationSettingsCacheProperties cacheProperties) {
+        SettingsCache<String> ampSettingsCache(ApplicationSettingsCacheProperties cacheProperties,
+                                               ParsedStoredDataCache parsedStoredDataCache) {
+
             return new SettingsCache<>(
                     cacheProperties.getTtlSeconds(),
                     cacheProperties.getCacheSize(),
-                    cacheProperties.getJitterSeconds());
+                    cacheProperties.getJitterSeconds(),
+                    parsedStoredDataCache.ampListener());
         }
 
         @Bean
@@ -529,5 +554,9 @@ public class SettingsConfiguration {
         private Integer cacheSize;
         @Min(0)
         private int jitterSeconds;
+        @Min(0)
+        private int refreshAheadSeconds;
+        @Min(1)
+        private long refreshAheadTimeoutMs = 1000L;
     }
 }
@@ -53,6 +53,8 @@ public class BidderConfigurationProperties {
 
     private long tmaxDeductionMs;
 
+    private Connection connection;
+
     private final Class<? extends BidderConfigurationProperties> selfClass;
 
     public BidderConfigurationProperties() {
@@ -2,5 +2,5 @@ package org.prebid.server.spring.config.bidder.model;
 
 public enum CompressionType {
 
-    NONE, GZIP
+    NONE, GZIP, DEFLATE
 }
@@ -0,0 +1,30 @@
+package org.prebid.server.spring.config.bidder.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+
+@Data
+@Validated
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class Connection {
+
+    @Min(1)
+    Integer maxPoolSize;
+
+    Boolean keepAlive;
+
+    @Min(1)
+    Integer keepAliveTimeoutMs;
+
+    Boolean http2;
+
+    Boolean http2PriorKnowledge;
+
+    @Min(0)
+    Integer prewarmConnections;
+}
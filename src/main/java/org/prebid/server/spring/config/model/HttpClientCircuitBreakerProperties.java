@@ -5,6 +5,7 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
@@ -17,4 +18,9 @@ public class HttpClientCircuitBreakerProperties extends CircuitBreakerProperties
     @NotNull
     @Min(1)
     private Integer idleExpireHours;
+
+    @NotNull
+    @Min(1)
+    @Max(100)
+    private Integer failureRatePercent = 50;
 }
@@ -1,6 +1,7 @@
 package org.prebid.server.spring.config.server.admin;
 
 import com.codahale.metrics.MetricRegistry;
+import io.vertx.core.Vertx;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.ObjectUtils;
@@ -9,6 +10,7 @@ import org.prebid.server.handler.admin.AccountCacheInvalidationHandler;
 import org.prebid.server.handler.admin.AdminResourceWrapper;
 import org.prebid.server.handler.admin.CollectedMetricsHandler;
 import org.prebid.server.handler.admin.CurrencyRatesHandler;
+import org.prebid.server.handler.admin.EventLoopStallsHandler;
 import org.prebid.server.handler.admin.HttpInteractionLogHandler;
 import org.prebid.server.handler.admin.LoggerControlKnobHandler;
 import org.prebid.server.handler.admin.SettingsCacheNotificationHandler;
@@ -21,6 +23,7 @@ import org.prebid.server.log.LoggerControlKnob;
 import org.prebid.server.settings.CachingApplicationSettings;
 import org.prebid.server.settings.SettingsCache;
 import org.prebid.server.util.VersionInfo;
+import org.prebid.server.vertx.EventLoopStallDetector;
 import org.prebid.server.vertx.verticles.server.admin.AdminResource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -31,6 +34,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -181,6 +185,34 @@ public class AdminEndpointsConfiguration {
                 new CollectedMetricsHandler(metricRegistry, mapper, path));
     }
 
+    @Bean
+    @ConditionalOnExpression("${admin-endpoints.event-loop-stalls.enabled} == true")
+    EventLoopStallDetector eventLoopStallDetector(
+            Vertx vertx,
+            Clock clock,
+            @Value("${admin-endpoints.event-loop-stalls.threshold-ms:200}") long thresholdMs,
+            @Value("${admin-endpoints.event-loop-stalls.check-interval-ms:50}") long checkIntervalMs,
+            @Value("${admin-endpoints.event-loop-stalls.max-reports:100}") int maxReports) {
+
+        return new EventLoopStallDetector(vertx, thresholdMs, checkIntervalMs, maxReports, clock);
+    }
+
+    @Bean
+    @ConditionalOnExpression("${admin-endpoints.event-loop-stalls.enabled} == true")
+    AdminResource eventLoopStallsAdminEndpoint(
+            EventLoopStallDetector eventLoopStallDetector,
+            JacksonMapper mapper,
+            @Value("${admin-endpoints.event-loop-stalls.path}") String path,
+            @Value("${admin-endpoints.event-loop-stalls.on-application-port}") boolean isOnApplicationPort,
+            @Value("${admin-endpoints.event-loop-stalls.protected}") boolean isProtected) {
+
+        return new AdminResourceWrapper(
+                path,
+                isOnApplicationPort,
+                isProtected,
+                new EventLoopStallsHandler(eventLoopStallDetector, mapper, path));
+    }
+
     @Bean
     AdminResourcesBinder applicationPortAdminResourcesBinder(Map<String, String> adminEndpointCredentials,
                                                              List<AdminResource> resources) {
@@ -220,7 +220,9 @@ public class ApplicationServerConfiguration {
             HttpInteractionLogger httpInteractionLogger,
             PrebidVersionProvider prebidVersionProvider,
             HookStageExecutor hookStageExecutor,
-            JacksonMapper mapper) {
+            JacksonMapper mapper,
+            @Value("${auction.response.streaming-encoding:false}") boolean streamingEncodingEnabled,
+            @Value("${auction.response.chunked-threshold-bytes:0}") int chunkedThresholdBytes) {
 
         return new AuctionHandler(
                 logSamplingRate,
@@ -234,7 +236,9 @@ public class ApplicationServerConfiguration {
                 httpInteractionLogger,
                 prebidVersionProvider,
                 hookStageExecutor,
-                mapper);
+                mapper,
+                streamingEncodingEnabled,
+                chunkedThresholdBytes);
     }
 
     @Bean
@@ -0,0 +1,192 @@
+package org.prebid.server.util.dsl.config.impl;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.math3.util.CombinatoricsUtils;
+import org.prebid.server.util.dsl.config.PrebidConfigParameter;
+import org.prebid.server.util.dsl.config.PrebidConfigParameters;
+import org.prebid.server.util.dsl.config.PrebidConfigSchema;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Precompiled form of {@link MostAccurateCombinationStrategy}.
+ * <p>
+ * Configured rules are split by schema separator once and stored in a trie (wildcard is just another segment),
+ * so matching walks the trie for each candidate combination instead of joining strings and probing a set.
+ * Candidates are visited in exactly the same priority order as {@link MostAccurateCombinationStrategy} does,
+ * and the matched rule is returned in the same form, so both are interchangeable.
+ * <p>
+ * Index is immutable after creation and can be shared between threads.
+ */
+public class CompiledRuleIndex {
+
+    private final String wildcard;
+    private final String lowerCaseWildcard;
+    private final String separator;
+    private final Node root;
+
+    private CompiledRuleIndex(String wildcard, String separator, Node root) {
+        this.wildcard = wildcard;
+        this.lowerCaseWildcard = wildcard.toLowerCase();
+        this.separator = separator;
+        this.root = root;
+    }
+
+    public static CompiledRuleIndex of(PrebidConfigSchema schema, Iterable<String> rules) {
+        final String wildcard = Objects.requireNonNull(schema.wildcard());
+        final String separator = Objects.requireNonNull(schema.separator());
+
+        final Node root = new Node();
+        for (String rule : rules) {
+            if (rule == null) {
+                continue;
+            }
+
+            Node node = root;
+            for (String segment : StringUtils.splitByWholeSeparatorPreserveAllTokens(rule, separator)) {
+                node = node.children.computeIfAbsent(segment.toLowerCase(), ignored -> new Node());
+            }
+            node.matched = true;
+        }
+
+        return new CompiledRuleIndex(wildcard, separator, root);
+    }
+
+    public String match(PrebidConfigParameters parameters) {
+        final List<String[]> values = new ArrayList<>();
+        final List<Integer> directIndices = new ArrayList<>();
+
+        int i = 0;
+        for (PrebidConfigParameter parameter : parameters.get()) {
+            if (parameter instanceof PrebidConfigParameter.Direct direct) {
+                final String[] parameterValues = toArray(direct.values());
+                if (parameterValues.length == 0) {
+                    return null;
+                }
+                values.add(parameterValues);
+                directIndices.add(i);
+            } else {
+                values.add(null);
+            }
+            i++;
+        }
+
+        if (values.isEmpty()) {
+            return null;
+        }
+
+        final String[][] candidates = values.toArray(new String[0][]);
+        final String[][] lowerCaseCandidates = lowerCase(candidates);
+        final boolean[] wildcards = new boolean[candidates.length];
+        final int[] cursor = new int[candidates.length];
+
+        final int directCount = directIndices.size();
+        for (int wildcardsCount = 0; wildcardsCount <= directCount; wildcardsCount++) {
+            final Iterator<int[]> combinations = CombinatoricsUtils.combinationsIterator(directCount, wildcardsCount);
+            while (combinations.hasNext()) {
+                fillWildcards(wildcards, candidates, directIndices, combinations.next());
+
+                if (matchAnyCombination(lowerCaseCandidates, wildcards, cursor)) {
+                    return buildRule(candidates, wildcards, cursor);
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private static void fillWildcards(boolean[] wildcards,
+                                      String[][] candidates,
+                                      List<Integer> directIndices,
+                                      int[] combination) {
+
+        for (int i = 0; i < candidates.length; i++) {
+            wildcards[i] = candidates[i] == null;
+        }
+
+        // reversed order of indices is used to keep right-to-left wildcard priority of the reference strategy
+        final int shift = directIndices.size() - 1;
+        for (int index : combination) {
+            wildcards[directIndices.get(shift - index)] = true;
+        }
+    }
+
+    /**
+     * Iterates over cartesian product of candidate values (last position changes fastest).
+     * On success, cursor points to the matched values.
+     */
+    private boolean matchAnyCombination(String[][] candidates, boolean[] wildcards, int[] cursor) {
+        final int size = candidates.length;
+        for (int i = 0; i < size; i++) {
+            cursor[i] = 0;
+        }
+
+        while (true) {
+            if (isMatched(candidates, wildcards, cursor)) {
+                return true;
+            }
+
+            int position = size - 1;
+            while (position >= 0 && (wildcards[position] || cursor[position] == candidates[position].length - 1)) {
+                cursor[position] = 0;
+                position--;
+            }
+            if (position < 0) {
+                return false;
+            }
+            cursor[position]++;
+        }
+    }
+
+    private boolean isMatched(String[][] candidates, boolean[] wildcards, int[] cursor) {
+        Node node = root;
+        for (int i = 0; i < candidates.length && node != null; i++) {
+            node = node.children.get(wildcards[i] ? lowerCaseWildcard : candidates[i][cursor[i]]);
+        }
+        return node != null && node.matched;
+    }
+
+    private String buildRule(String[][] candidates, boolean[] wildcards, int[] cursor) {
+        final StringBuilder rule = new StringBuilder();
+        for (int i = 0; i < candidates.length; i++) {
+            if (i > 0) {
+                rule.append(separator);
+            }
+            rule.append(wildcards[i] ? wildcard : candidates[i][cursor[i]]);
+        }
+        return rule.toString();
+    }
+
+    private static String[] toArray(Iterable<String> iterable) {
+        final List<String> list = new ArrayList<>();
+        for (String value : iterable) {
+            list.add(value);
+        }
+        return list.toArray(new String[0]);
+    }
+
+    private static String[][] lowerCase(String[][] candidates) {
+        final String[][] result = new String[candidates.length][];
+        for (int i = 0; i < candidates.length; i++) {
+            if (candidates[i] != null) {
+                result[i] = new String[candidates[i].length];
+                for (int j = 0; j < candidates[i].length; j++) {
+                    result[i][j] = candidates[i][j].toLowerCase();
+                }
+            }
+        }
+        return result;
+    }
+
+    private static class Node {
+
+        private final Map<String, Node> children = new HashMap<>();
+
+        private boolean matched;
+    }
+}
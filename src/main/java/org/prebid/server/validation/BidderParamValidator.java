@@ -1,6 +1,7 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaException;
 import com.networknt.schema.JsonSchemaFactory;
@@ -14,15 +15,22 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.util.ResourceUtil;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * This Component aimed to validate <i>bidrequest.imp[i].ext.{bidder}</i> portion of bidRequest. It relies on
  * JSON schemas that need to be located as resources on classpath.
+ * <p>
+ * Every schema is also compiled to {@link CompiledJsonSchema}, so valid parameters, which is the common case,
+ * are accepted without full schema validation. Full validation is performed only to collect validation messages
+ * and its results are cached per bidder by parameters, so repeated (e.g. stored) invalid imps are not validated
+ * again.
  */
 public class BidderParamValidator {
 
@@ -31,10 +39,18 @@ public class BidderParamValidator {
     private static final String FILE_SEP = "/";
 
     private final Map<String, JsonSchema> bidderSchemas;
+    private final Map<String, CompiledJsonSchema> compiledBidderSchemas;
+    private final Map<String, Map<JsonNode, Set<String>>> validationCaches;
     private final String schemas;
 
-    private BidderParamValidator(Map<String, JsonSchema> bidderSchemas, String schemas) {
+    private BidderParamValidator(Map<String, JsonSchema> bidderSchemas,
+                                 Map<String, CompiledJsonSchema> compiledBidderSchemas,
+                                 Map<String, Map<JsonNode, Set<String>>> validationCaches,
+                                 String schemas) {
+
         this.bidderSchemas = bidderSchemas;
+        this.compiledBidderSchemas = compiledBidderSchemas;
+        this.validationCaches = validationCaches;
         this.schemas = schemas;
     }
 
@@ -42,6 +58,27 @@ public class BidderParamValidator {
      * Validates the {@link JsonNode} input parameter against bidder's JSON-schema
      */
     public Set<String> validate(String bidder, JsonNode jsonNode) {
+        if (compiledBidderSchemas.get(bidder).isValid(jsonNode)) {
+            return Collections.emptySet();
+        }
+
+        final Map<JsonNode, Set<String>> validationCache = validationCaches.get(bidder);
+        if (validationCache == null) {
+            return validateWithSchema(bidder, jsonNode);
+        }
+
+        final Set<String> cachedMessages = validationCache.get(jsonNode);
+        if (cachedMessages != null) {
+            return cachedMessages;
+        }
+
+        final Set<String> messages = Collections.unmodifiableSet(validateWithSchema(bidder, jsonNode));
+        // node is copied to keep cache key intact if parameters are modified later on
+        validationCache.put(jsonNode.deepCopy(), messages);
+        return messages;
+    }
+
+    private Set<String> validateWithSchema(String bidder, JsonNode jsonNode) {
         return bidderSchemas.get(bidder).validate(jsonNode).stream()
                 .map(ValidationMessage::getMessage)
                 .collect(Collectors.toSet());
@@ -80,6 +117,18 @@ public class BidderParamValidator {
                                               String schemaDirectory,
                                               JacksonMapper mapper) {
 
+        return create(bidderCatalog, schemaDirectory, 0, mapper);
+    }
+
+    /**
+     * Constructs an instance of {@link BidderParamValidator} caching up to given number of validation results
+     * per bidder. Cache is disabled if its size is not positive.
+     */
+    public static BidderParamValidator create(BidderCatalog bidderCatalog,
+                                              String schemaDirectory,
+                                              int cacheSize,
+                                              JacksonMapper mapper) {
+
         Objects.requireNonNull(bidderCatalog);
         Objects.requireNonNull(schemaDirectory);
         Objects.requireNonNull(mapper);
@@ -89,7 +138,38 @@ public class BidderParamValidator {
         bidderCatalog.names().forEach(bidder -> bidderRawSchemas.put(
                 bidder, createSchemaNode(bidderCatalog, schemaDirectory, bidder, mapper)));
 
-        return new BidderParamValidator(toBidderSchemas(bidderRawSchemas), toSchemas(bidderRawSchemas, mapper));
+        return new BidderParamValidator(
+                toBidderSchemas(bidderRawSchemas),
+                toCompiledBidderSchemas(bidderRawSchemas),
+                toValidationCaches(bidderRawSchemas, cacheSize),
+                toSchemas(bidderRawSchemas, mapper));
+    }
+
+    private static Map<String, CompiledJsonSchema> toCompiledBidderSchemas(Map<String, JsonNode> bidderRawSchemas) {
+        return bidderRawSchemas.entrySet().stream()
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        e -> CompiledJsonSchema.compile(e.getValue()),
+                        (first, second) -> second,
+                        CaseInsensitiveMap::new));
+    }
+
+    private static Map<String, Map<JsonNode, Set<String>>> toValidationCaches(Map<String, JsonNode> bidderRawSchemas,
+                                                                               int cacheSize) {
+
+        if (cacheSize <= 0) {
+            return Collections.emptyMap();
+        }
+
+        return bidderRawSchemas.keySet().stream()
+                .collect(Collectors.toMap(
+                        Function.identity(),
+                        ignored -> Caffeine.newBuilder()
+                                .maximumSize(cacheSize)
+                                .<JsonNode, Set<String>>build()
+                                .asMap(),
+                        (first, second) -> second,
+                        CaseInsensitiveMap::new));
     }
 
     private static Map<String, JsonSchema> toBidderSchemas(Map<String, JsonNode> bidderRawSchemas) {
@@ -0,0 +1,458 @@
+package org.prebid.server.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Validity check compiled from draft-04 JSON schema into a tree of plain node checks.
+ * <p>
+ * Check only answers whether JSON node is valid and does not build validation messages, so it is much cheaper
+ * than full schema validation for the common case of valid node. Every check answers "valid", "invalid" or
+ * "unknown", where the latter is returned for keywords or values it cannot decide on the same way as full
+ * validator does (e.g. unsupported keyword or format). Only nodes checked as valid may skip full validation.
+ */
+class CompiledJsonSchema {
+
+    private static final Set<String> ANNOTATIONS = Set.of(
+            "$schema", "id", "title", "description", "default", "examples", "definitions", "$comment");
+
+    private static final Pattern UUID_PATTERN = Pattern.compile(
+            "^\\p{XDigit}{8}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{12}$");
+
+    private static final Check VALID_CHECK = node -> Result.VALID;
+    private static final Check UNKNOWN_CHECK = node -> Result.UNKNOWN;
+
+    private final Check check;
+
+    private CompiledJsonSchema(Check check) {
+        this.check = check;
+    }
+
+    static CompiledJsonSchema compile(JsonNode schema) {
+        return new CompiledJsonSchema(compileSchema(schema));
+    }
+
+    /**
+     * Returns true if node is definitely valid against the schema, false if it is invalid or full validation
+     * is needed to find it out.
+     */
+    boolean isValid(JsonNode node) {
+        return check.check(node) == Result.VALID;
+    }
+
+    private static Check compileSchema(JsonNode schema) {
+        if (schema == null || !schema.isObject()) {
+            return UNKNOWN_CHECK;
+        }
+
+        final List<Check> checks = new ArrayList<>();
+        final Iterator<Map.Entry<String, JsonNode>> keywords = schema.fields();
+        while (keywords.hasNext()) {
+            final Map.Entry<String, JsonNode> keyword = keywords.next();
+            if (!ANNOTATIONS.contains(keyword.getKey())) {
+                checks.add(compileKeyword(keyword.getKey(), keyword.getValue(), schema));
+            }
+        }
+
+        return allOf(checks.toArray(Check[]::new));
+    }
+
+    private static Check compileKeyword(String keyword, JsonNode value, JsonNode schema) {
+        return switch (keyword) {
+            case "type" -> typeCheck(value);
+            case "properties" -> propertiesCheck(value);
+            case "required" -> requiredCheck(value);
+            case "additionalProperties" -> additionalPropertiesCheck(value, schema);
+            case "dependencies" -> dependenciesCheck(value);
+            case "items" -> value.isObject() ? itemsCheck(compileSchema(value)) : UNKNOWN_CHECK;
+            case "minItems" -> sizeCheck(value, true);
+            case "maxItems" -> sizeCheck(value, false);
+            case "minLength" -> lengthCheck(value, true);
+            case "maxLength" -> lengthCheck(value, false);
+            case "pattern" -> patternCheck(value);
+            case "format" -> formatCheck(value);
+            case "enum" -> enumCheck(value);
+            case "minimum" -> value.isNumber() ? numberCheck(value, true) : UNKNOWN_CHECK;
+            case "maximum" -> value.isNumber() ? numberCheck(value, false) : UNKNOWN_CHECK;
+            case "allOf" -> value.isArray() ? allOf(compileSchemas(value)) : UNKNOWN_CHECK;
+            case "anyOf" -> value.isArray() ? anyOf(compileSchemas(value)) : UNKNOWN_CHECK;
+            case "oneOf" -> value.isArray() ? oneOf(compileSchemas(value)) : UNKNOWN_CHECK;
+            case "not" -> not(compileSchema(value));
+            default -> UNKNOWN_CHECK;
+        };
+    }
+
+    private static Check[] compileSchemas(JsonNode schemas) {
+        final Check[] checks = new Check[schemas.size()];
+        for (int i = 0; i < checks.length; i++) {
+            checks[i] = compileSchema(schemas.get(i));
+        }
+        return checks;
+    }
+
+    private static Check typeCheck(JsonNode value) {
+        if (value.isTextual()) {
+            return typeCheck(value.textValue());
+        }
+        if (!value.isArray() || value.isEmpty()) {
+            return UNKNOWN_CHECK;
+        }
+
+        final Check[] checks = new Check[value.size()];
+        for (int i = 0; i < checks.length; i++) {
+            final JsonNode type = value.get(i);
+            checks[i] = type.isTextual() ? typeCheck(type.textValue()) : UNKNOWN_CHECK;
+        }
+        return anyOf(checks);
+    }
+
+    private static Check typeCheck(String type) {
+        return switch (type) {
+            case "object" -> node -> Result.of(node.isObject());
+            case "array" -> node -> Result.of(node.isArray());
+            case "string" -> node -> Result.of(node.isTextual());
+            case "null" -> node -> Result.of(node.isNull());
+            // textual values are left to full validator, since it may be configured to coerce them
+            case "boolean" -> node -> node.isTextual() ? Result.UNKNOWN : Result.of(node.isBoolean());
+            case "number" -> node -> node.isTextual() ? Result.UNKNOWN : Result.of(node.isNumber());
+            case "integer" -> CompiledJsonSchema::integerCheck;
+            default -> UNKNOWN_CHECK;
+        };
+    }
+
+    private static Result integerCheck(JsonNode node) {
+        if (node.isIntegralNumber()) {
+            return Result.VALID;
+        }
+        if (node.isTextual()) {
+            return Result.UNKNOWN;
+        }
+        if (!node.isNumber()) {
+            return Result.INVALID;
+        }
+
+        // floating point number without fraction may be accepted as integer depending on full validator config
+        return node.doubleValue() % 1 != 0 ? Result.INVALID : Result.UNKNOWN;
+    }
+
+    private static Check propertiesCheck(JsonNode value) {
+        if (!value.isObject()) {
+            return UNKNOWN_CHECK;
+        }
+
+        final String[] names = new String[value.size()];
+        final Check[] checks = new Check[value.size()];
+        final Iterator<Map.Entry<String, JsonNode>> properties = value.fields();
+        for (int i = 0; properties.hasNext(); i++) {
+            final Map.Entry<String, JsonNode> property = properties.next();
+            names[i] = property.getKey();
+            checks[i] = compileSchema(property.getValue());
+        }
+
+        return node -> {
+            if (!node.isObject()) {
+                return Result.VALID;
+            }
+
+            Result result = Result.VALID;
+            for (int i = 0; i < names.length && result != Result.INVALID; i++) {
+                final JsonNode propertyValue = node.get(names[i]);
+                if (propertyValue != null) {
+                    result = result.and(checks[i].check(propertyValue));
+                }
+            }
+            return result;
+        };
+    }
+
+    private static Check requiredCheck(JsonNode value) {
+        final String[] names = textValues(value);
+        if (names == null) {
+            return UNKNOWN_CHECK;
+        }
+
+        return node -> node.isObject() ? Result.of(hasAll(node, names)) : Result.VALID;
+    }
+
+    private static Check additionalPropertiesCheck(JsonNode value, JsonNode schema) {
+        if (value.isBoolean() && value.booleanValue()) {
+            return VALID_CHECK;
+        }
+
+        final JsonNode properties = schema.get("properties");
+        if (schema.has("patternProperties") || (properties != null && !properties.isObject())) {
+            return UNKNOWN_CHECK;
+        }
+
+        final Set<String> names = new HashSet<>();
+        if (properties != null) {
+            properties.fieldNames().forEachRemaining(names::add);
+        }
+
+        if (value.isBoolean()) {
+            return node -> {
+                if (!node.isObject()) {
+                    return Result.VALID;
+                }
+
+                final Iterator<String> fieldNames = node.fieldNames();
+                while (fieldNames.hasNext()) {
+                    if (!names.contains(fieldNames.next())) {
+                        return Result.INVALID;
+                    }
+                }
+                return Result.VALID;
+            };
+        }
+
+        final Check check = compileSchema(value);
+        return node -> {
+            if (!node.isObject()) {
+                return Result.VALID;
+            }
+
+            Result result = Result.VALID;
+            final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext() && result != Result.INVALID) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                if (!names.contains(field.getKey())) {
+                    result = result.and(check.check(field.getValue()));
+                }
+            }
+            return result;
+        };
+    }
+
+    private static Check dependenciesCheck(JsonNode value) {
+        if (!value.isObject()) {
+            return UNKNOWN_CHECK;
+        }
+
+        final List<Check> checks = new ArrayList<>();
+        final Iterator<Map.Entry<String, JsonNode>> dependencies = value.fields();
+        while (dependencies.hasNext()) {
+            final Map.Entry<String, JsonNode> dependency = dependencies.next();
+            final String name = dependency.getKey();
+            final JsonNode dependencyValue = dependency.getValue();
+            final Check check = dependencyValue.isArray()
+                    ? requiredCheck(dependencyValue)
+                    : compileSchema(dependencyValue);
+            checks.add(node -> node.isObject() && node.has(name) ? check.check(node) : Result.VALID);
+        }
+
+        return allOf(checks.toArray(Check[]::new));
+    }
+
+    private static Check itemsCheck(Check check) {
+        return node -> {
+            if (!node.isArray()) {
+                return Result.VALID;
+            }
+
+            Result result = Result.VALID;
+            for (int i = 0; i < node.size() && result != Result.INVALID; i++) {
+                result = result.and(check.check(node.get(i)));
+            }
+            return result;
+        };
+    }
+
+    private static Check sizeCheck(JsonNode value, boolean isMinimum) {
+        if (!value.isIntegralNumber() || !value.canConvertToInt()) {
+            return UNKNOWN_CHECK;
+        }
+
+        final int limit = value.intValue();
+        return node -> node.isArray()
+                ? Result.of(isMinimum ? node.size() >= limit : node.size() <= limit)
+                : Result.VALID;
+    }
+
+    private static Check lengthCheck(JsonNode value, boolean isMinimum) {
+        if (!value.isIntegralNumber() || !value.canConvertToInt()) {
+            return UNKNOWN_CHECK;
+        }
+
+        final int limit = value.intValue();
+        return node -> {
+            if (!node.isTextual()) {
+                return Result.VALID;
+            }
+
+            final String text = node.textValue();
+            final int length = text.codePointCount(0, text.length());
+            return Result.of(isMinimum ? length >= limit : length <= limit);
+        };
+    }
+
+    private static Check patternCheck(JsonNode value) {
+        if (!value.isTextual()) {
+            return UNKNOWN_CHECK;
+        }
+
+        final Pattern pattern;
+        try {
+            pattern = Pattern.compile(value.textValue());
+        } catch (PatternSyntaxException e) {
+            return UNKNOWN_CHECK;
+        }
+
+        return node -> node.isTextual() ? Result.of(pattern.matcher(node.textValue()).find()) : Result.VALID;
+    }
+
+    private static Check formatCheck(JsonNode value) {
+        // uuid matching strict pattern is valid regardless of whether full validator asserts formats or not
+        final boolean isUuid = value.isTextual() && "uuid".equals(value.textValue());
+        return node -> !node.isTextual() || (isUuid && UUID_PATTERN.matcher(node.textValue()).matches())
+                ? Result.VALID
+                : Result.UNKNOWN;
+    }
+
+    private static Check enumCheck(JsonNode value) {
+        if (!value.isArray()) {
+            return UNKNOWN_CHECK;
+        }
+
+        return node -> {
+            for (int i = 0; i < value.size(); i++) {
+                if (value.get(i).equals(node)) {
+                    return Result.VALID;
+                }
+            }
+
+            // numbers and containers may be compared by value rather than by node type
+            return node.isTextual() || node.isBoolean() || node.isNull() ? Result.INVALID : Result.UNKNOWN;
+        };
+    }
+
+    private static Check numberCheck(JsonNode limit, boolean isMinimum) {
+        final boolean isIntegralLimit = limit.isIntegralNumber() && limit.canConvertToLong();
+
+        return node -> {
+            if (!node.isNumber()) {
+                return Result.VALID;
+            }
+            if (node.isBigInteger() || node.isBigDecimal()) {
+                return Result.UNKNOWN;
+            }
+
+            final int comparison = isIntegralLimit && node.isIntegralNumber()
+                    ? Long.compare(node.longValue(), limit.longValue())
+                    : Double.compare(node.doubleValue(), limit.doubleValue());
+            return Result.of(isMinimum ? comparison >= 0 : comparison <= 0);
+        };
+    }
+
+    private static Check allOf(Check[] checks) {
+        if (checks.length == 0) {
+            return VALID_CHECK;
+        }
+
+        return node -> {
+            Result result = Result.VALID;
+            for (int i = 0; i < checks.length && result != Result.INVALID; i++) {
+                result = result.and(checks[i].check(node));
+            }
+            return result;
+        };
+    }
+
+    private static Check anyOf(Check[] checks) {
+        return node -> {
+            Result result = Result.INVALID;
+            for (Check check : checks) {
+                final Result checkResult = check.check(node);
+                if (checkResult == Result.VALID) {
+                    return Result.VALID;
+                }
+                if (checkResult == Result.UNKNOWN) {
+                    result = Result.UNKNOWN;
+                }
+            }
+            return result;
+        };
+    }
+
+    private static Check oneOf(Check[] checks) {
+        return node -> {
+            int validCount = 0;
+            boolean hasUnknown = false;
+            for (Check check : checks) {
+                final Result checkResult = check.check(node);
+                if (checkResult == Result.VALID) {
+                    validCount++;
+                } else if (checkResult == Result.UNKNOWN) {
+                    hasUnknown = true;
+                }
+            }
+
+            if (validCount > 1) {
+                return Result.INVALID;
+            }
+            return hasUnknown ? Result.UNKNOWN : Result.of(validCount == 1);
+        };
+    }
+
+    private static Check not(Check check) {
+        return node -> switch (check.check(node)) {
+            case VALID -> Result.INVALID;
+            case INVALID -> Result.VALID;
+            case UNKNOWN -> Result.UNKNOWN;
+        };
+    }
+
+    private static boolean hasAll(JsonNode node, String[] names) {
+        for (String name : names) {
+            if (!node.has(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String[] textValues(JsonNode value) {
+        if (!value.isArray()) {
+            return null;
+        }
+
+        final String[] result = new String[value.size()];
+        for (int i = 0; i < result.length; i++) {
+            final JsonNode element = value.get(i);
+            if (!element.isTextual()) {
+                return null;
+            }
+            result[i] = element.textValue();
+        }
+        return result;
+    }
+
+    private enum Result {
+
+        VALID, INVALID, UNKNOWN;
+
+        static Result of(boolean valid) {
+            return valid ? VALID : INVALID;
+        }
+
+        Result and(Result other) {
+            if (this == INVALID || other == INVALID) {
+                return INVALID;
+            }
+            return this == UNKNOWN || other == UNKNOWN ? UNKNOWN : VALID;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Check {
+
+        Result check(JsonNode node);
+    }
+}
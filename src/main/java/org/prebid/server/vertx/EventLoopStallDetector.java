@@ -0,0 +1,135 @@
+package org.prebid.server.vertx;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import lombok.Value;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detects event loop threads blocked for longer than configured threshold.
+ * <p>
+ * Every event loop periodically runs a heartbeat task, while separate watchdog thread checks time elapsed since
+ * the last heartbeat of each loop. Once it exceeds threshold, the stack trace of blocked thread is sampled
+ * (once per stall) and kept in a bounded list of the most recent reports.
+ */
+public class EventLoopStallDetector implements Initializable {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventLoopStallDetector.class);
+
+    private final Vertx vertx;
+    private final long thresholdNanos;
+    private final long checkIntervalMs;
+    private final int maxReports;
+    private final Clock clock;
+
+    private final List<LoopState> loops = new CopyOnWriteArrayList<>();
+    private final Deque<StallReport> reports = new ArrayDeque<>();
+
+    public EventLoopStallDetector(Vertx vertx, long thresholdMs, long checkIntervalMs, int maxReports, Clock clock) {
+        if (thresholdMs <= 0 || checkIntervalMs <= 0 || maxReports <= 0) {
+            throw new IllegalArgumentException("Threshold, check interval and max reports should be positive");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+        this.checkIntervalMs = checkIntervalMs;
+        this.maxReports = maxReports;
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    public void initialize(Promise<Void> initializePromise) {
+        for (EventExecutor executor : vertx.nettyEventLoopGroup()) {
+            final LoopState loop = new LoopState();
+            loops.add(loop);
+            executor.execute(() -> loop.thread = Thread.currentThread());
+            executor.scheduleAtFixedRate(loop::beat, 0, checkIntervalMs, TimeUnit.MILLISECONDS);
+        }
+
+        final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "event-loop-stall-detector");
+            thread.setDaemon(true);
+            return thread;
+        });
+        watchdog.scheduleAtFixedRate(this::check, checkIntervalMs, checkIntervalMs, TimeUnit.MILLISECONDS);
+
+        initializePromise.tryComplete();
+    }
+
+    void check() {
+        final long now = System.nanoTime();
+        for (LoopState loop : loops) {
+            final Thread thread = loop.thread;
+            final long beat = loop.lastBeatNanos;
+            final long stalledNanos = now - beat;
+            if (thread == null || stalledNanos <= thresholdNanos || loop.reportedBeatNanos == beat) {
+                continue;
+            }
+
+            loop.reportedBeatNanos = beat;
+            report(new StallReport(
+                    thread.getName(),
+                    Instant.now(clock),
+                    TimeUnit.NANOSECONDS.toMillis(stalledNanos),
+                    Arrays.stream(thread.getStackTrace()).map(StackTraceElement::toString).toList()));
+        }
+    }
+
+    private void report(StallReport report) {
+        logger.warn("Event loop thread {} blocked for {} ms", report.getThread(), report.getBlockedMs());
+
+        synchronized (reports) {
+            if (reports.size() == maxReports) {
+                reports.removeFirst();
+            }
+            reports.addLast(report);
+        }
+    }
+
+    /**
+     * Returns the most recent stall reports, oldest first.
+     */
+    public List<StallReport> getReports() {
+        synchronized (reports) {
+            return new ArrayList<>(reports);
+        }
+    }
+
+    private static class LoopState {
+
+        private volatile Thread thread;
+        private volatile long lastBeatNanos = System.nanoTime();
+        private volatile long reportedBeatNanos;
+
+        private void beat() {
+            lastBeatNanos = System.nanoTime();
+        }
+    }
+
+    @Value
+    public static class StallReport {
+
+        String thread;
+
+        Instant detectedAt;
+
+        long blockedMs;
+
+        List<String> stackTrace;
+    }
+}
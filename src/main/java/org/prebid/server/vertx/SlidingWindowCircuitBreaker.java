@@ -0,0 +1,207 @@
+package org.prebid.server.vertx;
+
+import io.vertx.circuitbreaker.OpenCircuitException;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free circuit breaker opening the circuit by failure rate within sliding time window.
+ * <p>
+ * Window is split into buckets, each of them packs its time slot and number of successes and failures into
+ * single {@code long}, so recording operation result is a single CAS and does not allocate. Circuit is opened
+ * when window contains at least given number of failures and their share reaches given failure rate.
+ * <p>
+ * After closing interval passes, exactly one operation is let through as a probe (half-open state),
+ * while the others keep failing fast. Probe success closes the circuit, failure opens it again.
+ */
+public class SlidingWindowCircuitBreaker {
+
+    private static final int BUCKETS_NUMBER = 10;
+
+    // bucket layout: 24 bits of time slot, 20 bits of successes, 20 bits of failures
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final int SUCCESSES_SHIFT = COUNT_BITS;
+    private static final int SLOT_SHIFT = 2 * COUNT_BITS;
+    private static final long SLOT_MASK = (1L << (Long.SIZE - SLOT_SHIFT)) - 1;
+
+    private final int openingThreshold;
+    private final int failureRatePercent;
+    private final long bucketIntervalMs;
+    private final long closingIntervalMs;
+    private final Clock clock;
+
+    private final AtomicLongArray buckets;
+    private final AtomicReference<State> state;
+    private volatile long openedTime;
+
+    private Handler<Void> openHandler;
+    private Handler<Void> halfOpenHandler;
+    private Handler<Void> closeHandler;
+
+    public SlidingWindowCircuitBreaker(int openingThreshold,
+                                       int failureRatePercent,
+                                       long openingIntervalMs,
+                                       long closingIntervalMs,
+                                       Clock clock) {
+
+        if (failureRatePercent < 1 || failureRatePercent > 100) {
+            throw new IllegalArgumentException("Circuit breaker failure rate should be in range from 1 to 100");
+        }
+
+        this.openingThreshold = openingThreshold;
+        this.failureRatePercent = failureRatePercent;
+        this.bucketIntervalMs = Math.max(openingIntervalMs / BUCKETS_NUMBER, 1L);
+        this.closingIntervalMs = closingIntervalMs;
+        this.clock = Objects.requireNonNull(clock);
+
+        buckets = new AtomicLongArray(BUCKETS_NUMBER);
+        state = new AtomicReference<>(State.CLOSED);
+    }
+
+    /**
+     * Executes the given operation with the circuit breaker control.
+     */
+    public <T> Future<T> execute(Supplier<Future<T>> command) {
+        final State currentState = state.get();
+        final boolean probe = currentState != State.CLOSED;
+        if (probe && !tryHalfOpen(currentState)) {
+            return Future.failedFuture(OpenCircuitException.INSTANCE);
+        }
+
+        return executeSafely(command).onComplete(result -> handleResult(result.succeeded(), probe));
+    }
+
+    private static <T> Future<T> executeSafely(Supplier<Future<T>> command) {
+        try {
+            return command.get();
+        } catch (Throwable e) {
+            return Future.failedFuture(e);
+        }
+    }
+
+    private boolean tryHalfOpen(State currentState) {
+        if (currentState != State.OPEN
+                || clock.millis() - openedTime < closingIntervalMs
+                || !state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+            return false;
+        }
+
+        notify(halfOpenHandler);
+        return true;
+    }
+
+    private void handleResult(boolean succeeded, boolean probe) {
+        final long currentTime = clock.millis();
+        if (probe) {
+            if (succeeded) {
+                clearWindow();
+                state.set(State.CLOSED);
+                notify(closeHandler);
+            } else {
+                openedTime = currentTime;
+                state.set(State.OPEN);
+                notify(openHandler);
+            }
+            return;
+        }
+
+        record(succeeded, currentTime);
+        if (!succeeded
+                && state.get() == State.CLOSED
+                && isFailureRateReached(currentTime)) {
+
+            openedTime = currentTime;
+            if (state.compareAndSet(State.CLOSED, State.OPEN)) {
+                notify(openHandler);
+            }
+        }
+    }
+
+    private void record(boolean succeeded, long currentTime) {
+        final long slot = currentTime / bucketIntervalMs;
+        final int index = (int) (slot % BUCKETS_NUMBER);
+        final long slotTag = slot & SLOT_MASK;
+        final int shift = succeeded ? SUCCESSES_SHIFT : 0;
+
+        long bucket;
+        long updated;
+        do {
+            bucket = buckets.get(index);
+            // bucket left from the previous round of the window is started over
+            final long actualBucket = (bucket >>> SLOT_SHIFT) == slotTag ? bucket : slotTag << SLOT_SHIFT;
+            updated = ((actualBucket >>> shift) & COUNT_MASK) == COUNT_MASK
+                    ? actualBucket
+                    : actualBucket + (1L << shift);
+        } while (!buckets.compareAndSet(index, bucket, updated));
+    }
+
+    private boolean isFailureRateReached(long currentTime) {
+        final long slot = currentTime / bucketIntervalMs;
+
+        long failures = 0;
+        long total = 0;
+        for (int i = 0; i < BUCKETS_NUMBER; i++) {
+            final long bucket = buckets.get(i);
+            final long bucketSlot = bucket >>> SLOT_SHIFT;
+            if (((slot - bucketSlot) & SLOT_MASK) < BUCKETS_NUMBER) {
+                final long bucketFailures = bucket & COUNT_MASK;
+                failures += bucketFailures;
+                total += bucketFailures + ((bucket >>> SUCCESSES_SHIFT) & COUNT_MASK);
+            }
+        }
+
+        return failures >= openingThreshold && failures * 100 >= total * failureRatePercent;
+    }
+
+    private void clearWindow() {
+        for (int i = 0; i < BUCKETS_NUMBER; i++) {
+            buckets.set(i, 0L);
+        }
+    }
+
+    private static void notify(Handler<Void> handler) {
+        if (handler != null) {
+            handler.handle(null);
+        }
+    }
+
+    /**
+     * Sets a {@link Handler} invoked when the circuit breaker state switches to open.
+     */
+    public SlidingWindowCircuitBreaker openHandler(Handler<Void> handler) {
+        openHandler = handler;
+        return this;
+    }
+
+    /**
+     * Sets a {@link Handler} invoked when the circuit breaker state switches to half-open.
+     */
+    public SlidingWindowCircuitBreaker halfOpenHandler(Handler<Void> handler) {
+        halfOpenHandler = handler;
+        return this;
+    }
+
+    /**
+     * Sets a {@link Handler} invoked when the circuit breaker state switches to close.
+     */
+    public SlidingWindowCircuitBreaker closeHandler(Handler<Void> handler) {
+        closeHandler = handler;
+        return this;
+    }
+
+    public boolean isOpen() {
+        return state.get() != State.CLOSED;
+    }
+
+    private enum State {
+
+        CLOSED, OPEN, HALF_OPEN
+    }
+}
@@ -10,25 +10,87 @@ import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.RequestOptions;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.timeout.TimeoutScheduler;
+import org.prebid.server.execution.timeout.TimeoutTask;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+import org.prebid.server.vertx.httpclient.model.HttpEndpoint;
 
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Simple wrapper around {@link HttpClient} with general functionality.
+ * <p>
+ * Requests to hosts having dedicated connection pool are sent through the corresponding client,
+ * so that slow host can not exhaust connections of the others. Time spent waiting for the connection
+ * of the dedicated pool is reported to metrics.
  */
 public class BasicHttpClient implements HttpClient {
 
-    private final Vertx vertx;
+    private static final Logger logger = LoggerFactory.getLogger(BasicHttpClient.class);
+
+    private final TimeoutScheduler timeoutScheduler;
     private final io.vertx.core.http.HttpClient httpClient;
+    private final Map<String, io.vertx.core.http.HttpClient> hostHttpClients;
+    private final Map<String, AtomicInteger> hostPendingRequests;
+    private final Metrics metrics;
 
     public BasicHttpClient(Vertx vertx, io.vertx.core.http.HttpClient httpClient) {
-        this.vertx = Objects.requireNonNull(vertx);
+        this(new TimeoutScheduler(vertx), httpClient, Collections.emptyMap(), null);
+    }
+
+    /**
+     * Creates client with dedicated clients for some hosts, where hosts are given in {@code host:port} form.
+     */
+    public BasicHttpClient(TimeoutScheduler timeoutScheduler,
+                           io.vertx.core.http.HttpClient httpClient,
+                           Map<String, io.vertx.core.http.HttpClient> hostHttpClients,
+                           Metrics metrics) {
+
+        this.timeoutScheduler = Objects.requireNonNull(timeoutScheduler);
         this.httpClient = Objects.requireNonNull(httpClient);
+        this.hostHttpClients = Objects.requireNonNull(hostHttpClients);
+        this.metrics = hostHttpClients.isEmpty() ? metrics : Objects.requireNonNull(metrics);
+
+        hostPendingRequests = new HashMap<>();
+        hostHttpClients.keySet().forEach(host -> hostPendingRequests.put(host, new AtomicInteger()));
+    }
+
+    /**
+     * Opens given number of connections to the host of given url by sending HEAD requests to its root,
+     * so that the first requests to the host do not pay for connection establishment and TLS handshake.
+     */
+    public void prewarmConnections(String url, int connections) {
+        final URL absoluteUrl;
+        try {
+            absoluteUrl = new URL(url);
+        } catch (MalformedURLException e) {
+            logger.warn("Connections to {} can not be prewarmed: {}", url, e.getMessage());
+            return;
+        }
+
+        final io.vertx.core.http.HttpClient client = clientFor(authority(absoluteUrl));
+        final RequestOptions options = new RequestOptions()
+                .setMethod(HttpMethod.HEAD)
+                .setAbsoluteURI(absoluteUrl);
+
+        for (int i = 0; i < connections; i++) {
+            makeRequest(client, options)
+                    .compose(HttpClientRequest::send)
+                    .compose(io.vertx.core.http.HttpClientResponse::body)
+                    .onFailure(error -> logger.warn("Failed to prewarm connection to {}: {}",
+                            absoluteUrl.getHost(), error.getMessage()));
+        }
     }
 
     @Override
@@ -45,6 +107,18 @@ public class BasicHttpClient implements HttpClient {
         return request(method, url, headers, timeoutMs, maxResponseSize, body);
     }
 
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method, HttpEndpoint endpoint, MultiMap headers,
+                                              byte[] body, long timeoutMs, long maxResponseSize) {
+
+        if (timeoutMs <= 0) {
+            return Future.failedFuture(new TimeoutException("Timeout has been exceeded"));
+        }
+
+        return request(
+                method, endpoint.getParsedUrl(), endpoint.getAuthority(), headers, timeoutMs, maxResponseSize, body);
+    }
+
     private Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
                                                long timeoutMs, long maxResponseSize, byte[] body) {
 
@@ -59,8 +133,19 @@ public class BasicHttpClient implements HttpClient {
             return Future.failedFuture(e);
         }
 
+        return request(method, absoluteUrl, authority(absoluteUrl), headers, timeoutMs, maxResponseSize, body);
+    }
+
+    private Future<HttpClientResponse> request(HttpMethod method,
+                                               URL absoluteUrl,
+                                               String authority,
+                                               MultiMap headers,
+                                               long timeoutMs,
+                                               long maxResponseSize,
+                                               byte[] body) {
+
         final Promise<HttpClientResponse> responsePromise = Promise.promise();
-        final long timerId = vertx.setTimer(timeoutMs, ignored ->
+        final TimeoutTask timeoutTask = timeoutScheduler.schedule(timeoutMs, () ->
                 responsePromise.tryFail(
                         new TimeoutException("Timeout period of %dms has been exceeded".formatted(timeoutMs))));
 
@@ -71,7 +156,9 @@ public class BasicHttpClient implements HttpClient {
                 .setAbsoluteURI(absoluteUrl)
                 .setHeaders(headers);
 
-        final Future<HttpClientRequest> requestFuture = makeRequest(options);
+        final Future<HttpClientRequest> requestFuture = hostHttpClients.containsKey(authority)
+                ? makeMeasuredRequest(authority, options)
+                : makeRequest(httpClient, options);
 
         requestFuture
                 .compose(request -> body != null ? request.send(Buffer.buffer(body)) : request.send())
@@ -80,13 +167,34 @@ public class BasicHttpClient implements HttpClient {
                 .onFailure(responsePromise::tryFail);
 
         return responsePromise.future()
-                .onComplete(ignored -> vertx.cancelTimer(timerId))
+                .onComplete(ignored -> timeoutTask.cancel())
                 .onFailure(ignored -> requestFuture.onSuccess(HttpClientRequest::reset));
     }
 
-    private Future<HttpClientRequest> makeRequest(RequestOptions options) {
+    private static String authority(URL url) {
+        return url.getHost() + ":" + (url.getPort() != -1 ? url.getPort() : url.getDefaultPort());
+    }
+
+    private io.vertx.core.http.HttpClient clientFor(String authority) {
+        return hostHttpClients.getOrDefault(authority, httpClient);
+    }
+
+    private Future<HttpClientRequest> makeMeasuredRequest(String authority, RequestOptions options) {
+        final AtomicInteger pendingRequests = hostPendingRequests.get(authority);
+        final int queueSize = pendingRequests.getAndIncrement();
+        final long startTime = System.nanoTime();
+
+        return makeRequest(hostHttpClients.get(authority), options)
+                .onComplete(ignored -> {
+                    pendingRequests.decrementAndGet();
+                    metrics.updateHttpClientPoolMetrics(authority, System.nanoTime() - startTime, queueSize);
+                });
+    }
+
+    private static Future<HttpClientRequest> makeRequest(io.vertx.core.http.HttpClient client,
+                                                         RequestOptions options) {
         try {
-            return httpClient.request(options);
+            return client.request(options);
         } catch (Throwable e) {
             return Future.failedFuture(e);
         }
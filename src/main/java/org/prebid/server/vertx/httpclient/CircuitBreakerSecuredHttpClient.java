@@ -3,15 +3,15 @@ package org.prebid.server.vertx.httpclient;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
-import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpMethod;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.metric.Metrics;
-import org.prebid.server.vertx.CircuitBreaker;
+import org.prebid.server.vertx.SlidingWindowCircuitBreaker;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+import org.prebid.server.vertx.httpclient.model.HttpEndpoint;
 
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -23,6 +23,9 @@ import java.util.function.Function;
 
 /**
  * Wrapper over {@link HttpClient} with circuit breaker functionality.
+ * <p>
+ * Circuit breaker is maintained per host, which is taken from the pre-resolved {@link HttpEndpoint}
+ * if given, or parsed from the url otherwise.
  */
 public class CircuitBreakerSecuredHttpClient implements HttpClient {
 
@@ -30,15 +33,15 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
     private static final ConditionalLogger conditionalLogger = new ConditionalLogger(logger);
     private static final int LOG_PERIOD_SECONDS = 5;
 
-    private final Function<String, CircuitBreaker> circuitBreakerCreator;
-    private final Map<String, CircuitBreaker> circuitBreakerByName;
+    private final Function<String, SlidingWindowCircuitBreaker> circuitBreakerCreator;
+    private final Map<String, SlidingWindowCircuitBreaker> circuitBreakerByName;
 
     private final HttpClient httpClient;
 
-    public CircuitBreakerSecuredHttpClient(Vertx vertx,
-                                           HttpClient httpClient,
+    public CircuitBreakerSecuredHttpClient(HttpClient httpClient,
                                            Metrics metrics,
                                            int openingThreshold,
+                                           int failureRatePercent,
                                            long openingIntervalMs,
                                            long closingIntervalMs,
                                            int idleExpireHours,
@@ -47,11 +50,12 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
         this.httpClient = Objects.requireNonNull(httpClient);
 
         circuitBreakerCreator = name -> createCircuitBreaker(
-                name, vertx, openingThreshold, openingIntervalMs, closingIntervalMs, clock, metrics);
+                name, openingThreshold, failureRatePercent, openingIntervalMs, closingIntervalMs, clock, metrics);
 
         circuitBreakerByName = Caffeine.newBuilder()
                 .expireAfterAccess(idleExpireHours, TimeUnit.HOURS)
-                .<String, CircuitBreaker>removalListener((name, cb, cause) -> removeCircuitBreakerGauge(name, metrics))
+                .<String, SlidingWindowCircuitBreaker>removalListener(
+                        (name, cb, cause) -> removeCircuitBreakerGauge(name, metrics))
                 .build()
                 .asMap();
 
@@ -69,9 +73,7 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
                                               long maxResponseSize) {
 
         return circuitBreakerByName.computeIfAbsent(nameFrom(url), circuitBreakerCreator)
-                .execute(promise ->
-                        httpClient.request(method, url, headers, body, timeoutMs, maxResponseSize)
-                                .onComplete(promise));
+                .execute(() -> httpClient.request(method, url, headers, body, timeoutMs, maxResponseSize));
     }
 
     @Override
@@ -81,24 +83,34 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
                                               byte[] body,
                                               long timeoutMs,
                                               long maxResponseSize) {
+
         return circuitBreakerByName.computeIfAbsent(nameFrom(url), circuitBreakerCreator)
-                .execute(promise ->
-                        httpClient.request(method, url, headers, body, timeoutMs, maxResponseSize)
-                                .onComplete(promise));
+                .execute(() -> httpClient.request(method, url, headers, body, timeoutMs, maxResponseSize));
     }
 
-    private CircuitBreaker createCircuitBreaker(String name,
-                                                Vertx vertx,
-                                                int openingThreshold,
-                                                long openingIntervalMs,
-                                                long closingIntervalMs,
-                                                Clock clock,
-                                                Metrics metrics) {
-
-        final CircuitBreaker circuitBreaker = new CircuitBreaker(
-                "http_cb_" + name,
-                Objects.requireNonNull(vertx),
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method,
+                                              HttpEndpoint endpoint,
+                                              MultiMap headers,
+                                              byte[] body,
+                                              long timeoutMs,
+                                              long maxResponseSize) {
+
+        return circuitBreakerByName.computeIfAbsent(endpoint.getHostKey(), circuitBreakerCreator)
+                .execute(() -> httpClient.request(method, endpoint, headers, body, timeoutMs, maxResponseSize));
+    }
+
+    private SlidingWindowCircuitBreaker createCircuitBreaker(String name,
+                                                             int openingThreshold,
+                                                             int failureRatePercent,
+                                                             long openingIntervalMs,
+                                                             long closingIntervalMs,
+                                                             Clock clock,
+                                                             Metrics metrics) {
+
+        final SlidingWindowCircuitBreaker circuitBreaker = new SlidingWindowCircuitBreaker(
                 openingThreshold,
+                failureRatePercent,
                 openingIntervalMs,
                 closingIntervalMs,
                 Objects.requireNonNull(clock))
@@ -111,7 +123,7 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
         return circuitBreaker;
     }
 
-    private void createCircuitBreakerGauge(String name, CircuitBreaker circuitBreaker, Metrics metrics) {
+    private void createCircuitBreakerGauge(String name, SlidingWindowCircuitBreaker circuitBreaker, Metrics metrics) {
         metrics.createHttpClientCircuitBreakerGauge(idFrom(name), circuitBreaker::isOpen);
     }
 
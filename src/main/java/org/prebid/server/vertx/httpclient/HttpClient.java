@@ -4,6 +4,7 @@ import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.http.HttpMethod;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+import org.prebid.server.vertx.httpclient.model.HttpEndpoint;
 
 /**
  * Interface describes HTTP interactions.
@@ -16,6 +17,20 @@ public interface HttpClient {
     Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
                                        byte[] body, long timeoutMs, long maxResponseSize);
 
+    /**
+     * Makes request to the endpoint resolved in advance, so that its url does not have to be parsed again.
+     */
+    default Future<HttpClientResponse> request(HttpMethod method, HttpEndpoint endpoint, MultiMap headers,
+                                               byte[] body, long timeoutMs, long maxResponseSize) {
+
+        return request(method, endpoint.getUrl(), headers, body, timeoutMs, maxResponseSize);
+    }
+
+    default Future<HttpClientResponse> request(HttpMethod method, HttpEndpoint endpoint,
+                                               MultiMap headers, byte[] body, long timeoutMs) {
+        return request(method, endpoint, headers, body, timeoutMs, Long.MAX_VALUE);
+    }
+
     default Future<HttpClientResponse> request(HttpMethod method, String url,
                                                MultiMap headers, String body, long timeoutMs) {
         return request(method, url, headers, body, timeoutMs, Long.MAX_VALUE);
@@ -0,0 +1,77 @@
+package org.prebid.server.vertx.httpclient.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.prebid.server.exception.PreBidException;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+
+/**
+ * Holds url parsed once along with the keys derived from it, so that they are not computed for every request.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class HttpEndpoint {
+
+    String url;
+
+    URL parsedUrl;
+
+    /**
+     * Protocol, host and explicitly given port, e.g. {@code https://host:8443}, identifying circuit breaker.
+     */
+    String hostKey;
+
+    /**
+     * Host and port, e.g. {@code host:443}, identifying connection pool.
+     */
+    String authority;
+
+    public static HttpEndpoint of(String url) {
+        final URL parsedUrl = parse(url);
+
+        final int port = parsedUrl.getPort();
+        return new HttpEndpoint(
+                url,
+                parsedUrl,
+                parsedUrl.getProtocol() + "://" + parsedUrl.getHost() + (port != -1 ? ":" + port : ""),
+                parsedUrl.getHost() + ":" + (port != -1 ? port : parsedUrl.getDefaultPort()));
+    }
+
+    /**
+     * Returns endpoint of the given url, which must have the same origin as this one, reusing the derived keys.
+     */
+    public HttpEndpoint withUrl(String url) {
+        return url.equals(this.url) ? this : new HttpEndpoint(url, parse(url), hostKey, authority);
+    }
+
+    /**
+     * Returns scheme, user info, host and port part of the url, e.g. {@code https://host:8443} for
+     * {@code https://host:8443/path?query}, without parsing it. Url without scheme is returned as is.
+     */
+    public static String origin(String url) {
+        final int schemeEnd = url.indexOf("://");
+        if (schemeEnd == -1) {
+            return url;
+        }
+
+        for (int i = schemeEnd + 3; i < url.length(); i++) {
+            final char character = url.charAt(i);
+            if (character == '/' || character == '?' || character == '#') {
+                return url.substring(0, i);
+            }
+        }
+
+        return url;
+    }
+
+    private static URL parse(String url) {
+        try {
+            return new URL(url);
+        } catch (MalformedURLException e) {
+            throw new PreBidException("Invalid url: " + url, e);
+        }
+    }
+}
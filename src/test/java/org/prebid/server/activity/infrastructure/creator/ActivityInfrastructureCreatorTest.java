@@ -27,6 +27,7 @@ import org.prebid.server.settings.model.activity.privacy.AccountUSCustomLogicMod
 import org.prebid.server.settings.model.activity.privacy.AccountUSNatModuleConfig;
 import org.prebid.server.settings.model.activity.rule.AccountActivityConditionsRuleConfig;
 
+import java.time.Clock;
 import java.util.Map;
 
 import static java.util.Arrays.asList;
@@ -36,7 +37,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.prebid.server.activity.infrastructure.privacy.PrivacyModuleQualifier.US_NAT;
 
@@ -59,7 +62,8 @@ public class ActivityInfrastructureCreatorTest {
 
     @BeforeEach
     public void setUp() {
-        creator = new ActivityInfrastructureCreator(activityRuleFactory, null, metrics, jacksonMapper);
+        creator = new ActivityInfrastructureCreator(
+                activityRuleFactory, null, metrics, jacksonMapper, Clock.systemUTC());
     }
 
     @Test
@@ -244,4 +248,30 @@ public class ActivityInfrastructureCreatorTest {
 
         verify(metrics).updateAlertsMetrics(eq(MetricName.general));
     }
+
+    @Test
+    public void parseShouldReuseCompiledConfigurationAndBindRequestGppContext() {
+        // given
+        final Account account = Account.builder()
+                .privacy(AccountPrivacyConfig.builder()
+                        .activities(Map.of(Activity.SYNC_USER, AccountActivityConfiguration.of(
+                                null, singletonList(AccountActivityConditionsRuleConfig.of(null, null)))))
+                        .build())
+                .build();
+        final GppContext firstGppContext = GppContextCreator.from(null, null).build().getGppContext();
+        final GppContext secondGppContext = GppContextCreator.from(null, null).build().getGppContext();
+
+        // when
+        creator.parse(account, firstGppContext, debug);
+        creator.parse(account, secondGppContext, debug);
+
+        // then
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.activity_infrastructure), eq(MetricName.miss));
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.activity_infrastructure), eq(MetricName.hit));
+        verify(metrics).updateSettingsCacheBuildTime(eq(MetricName.activity_infrastructure), anyLong());
+        verify(activityRuleFactory).from(any(), argThat(arg -> arg.getGppContext() == firstGppContext));
+        verify(activityRuleFactory).from(any(), argThat(arg -> arg.getGppContext() == secondGppContext));
+        verify(activityRuleFactory, times(2)).from(
+                same(account.getPrivacy().getActivities().get(Activity.SYNC_USER).getRules().getFirst()), any());
+    }
 }
@@ -77,6 +77,25 @@ public class ConditionsRuleCreatorTest {
         assertThat(rule.proceed(payload4)).isEqualTo(Rule.Result.DISALLOW);
     }
 
+    @Test
+    public void fromShouldMatchSidsOfEachRequestForSameConfiguration() {
+        // given
+        final AccountActivityConditionsRuleConfig config = AccountActivityConditionsRuleConfig.of(
+                AccountActivityConditionsRuleConfig.Condition.of(null, null, asList(1, 2), null, null),
+                false);
+        final GppContext matchedGppContext = GppContextCreator.from(null, asList(2, 3)).build().getGppContext();
+        final GppContext notMatchedGppContext = GppContextCreator.from(null, asList(3, 4)).build().getGppContext();
+
+        // when
+        final Rule matchedRule = target.from(config, creationContext(matchedGppContext));
+        final Rule notMatchedRule = target.from(config, creationContext(notMatchedGppContext));
+
+        // then
+        final ActivityInvocationPayload payload = ActivityInvocationPayloadImpl.of(ComponentType.BIDDER, "name");
+        assertThat(matchedRule.proceed(payload)).isEqualTo(Rule.Result.DISALLOW);
+        assertThat(notMatchedRule.proceed(payload)).isEqualTo(Rule.Result.ABSTAIN);
+    }
+
     private static BidRequest givenBidRequest(String country, String region, String gpc) {
         return BidRequest.builder()
                 .device(Device.builder().geo(Geo.builder().country(country).region(region).build()).build())
@@ -92,6 +92,20 @@ public class ConditionsRuleTest extends VertxTest {
         assertThat(matches).isEqualTo(false);
     }
 
+    @Test
+    public void matchesShouldIgnoreCaseOfComponentNames() {
+        // given
+        final ConditionsRule rule = new ConditionsRule(null, singleton("ComponentName"), true, null, null, true);
+        final ActivityInvocationPayload payload = ActivityInvocationPayloadImpl.of(
+                ComponentType.ANALYTICS, "componentNAME");
+
+        // when
+        final boolean matches = rule.matches(payload);
+
+        // then
+        assertThat(matches).isEqualTo(true);
+    }
+
     @Test
     public void matchesShouldReturnFalseIfSidsDoesNotMatched() {
         // given
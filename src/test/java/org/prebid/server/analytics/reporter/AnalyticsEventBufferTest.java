@@ -0,0 +1,213 @@
+package org.prebid.server.analytics.reporter;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.Metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class AnalyticsEventBufferTest {
+
+    @Mock
+    private Metrics metrics;
+
+    @Mock
+    private Vertx vertx;
+
+    @Test
+    public void creationShouldFailOnNonPositiveCapacity() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new AnalyticsEventBuffer<String>("analytics", 0, 1, 1, String::length, metrics));
+    }
+
+    @Test
+    public void putShouldTrackNumberAndSizeOfEvents() {
+        // given
+        final AnalyticsEventBuffer<String> target = givenBuffer(16, 10, 100);
+
+        // when
+        target.put("event1");
+        target.put("event22");
+
+        // then
+        assertThat(target.size()).isEqualTo(2);
+        assertThat(target.byteSize()).isEqualTo(13);
+        assertThat(target.isEmpty()).isFalse();
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void putShouldReturnTrueWhenEventsCountLimitIsReached() {
+        // given
+        final AnalyticsEventBuffer<String> target = givenBuffer(16, 2, 100);
+
+        // when and then
+        assertThat(target.put("event1")).isFalse();
+        assertThat(target.put("event2")).isTrue();
+        assertThat(target.isFlushRequired()).isTrue();
+    }
+
+    @Test
+    public void putShouldReturnTrueWhenEventsSizeLimitIsReached() {
+        // given
+        final AnalyticsEventBuffer<String> target = givenBuffer(16, 10, 10);
+
+        // when and then
+        assertThat(target.put("event")).isFalse();
+        assertThat(target.put("event")).isTrue();
+    }
+
+    @Test
+    public void putShouldOverwriteOldestEventsAndUpdateMetricWhenBufferIsFull() {
+        // given
+        final AnalyticsEventBuffer<String> target = givenBuffer(4, 10, 100);
+
+        // when
+        for (int i = 1; i <= 6; i++) {
+            target.put("event" + i);
+        }
+
+        // then
+        assertThat(target.size()).isEqualTo(4);
+        assertThat(target.byteSize()).isEqualTo(24);
+        assertThat(target.drain()).containsExactly("event3", "event4", "event5", "event6");
+        verify(metrics, times(2)).updateAnalyticEventsDroppedMetric("analytics", 1);
+    }
+
+    @Test
+    public void drainShouldReturnEventsInOrderAndResetBuffer() {
+        // given
+        final AnalyticsEventBuffer<String> target = givenBuffer(3, 10, 100);
+        target.put("event1");
+        target.put("event2");
+
+        // when
+        final List<String> result = target.drain();
+
+        // then
+        assertThat(result).containsExactly("event1", "event2");
+        assertThat(target.isEmpty()).isTrue();
+        assertThat(target.byteSize()).isZero();
+        assertThat(target.drain()).isEmpty();
+    }
+
+    @Test
+    public void drainShouldReturnOnlyEventsPutAfterPreviousDrain() {
+        // given
+        final AnalyticsEventBuffer<String> target = givenBuffer(4, 10, 100);
+        target.put("event1");
+        target.put("event2");
+        target.put("event3");
+        target.drain();
+
+        // when
+        target.put("event4");
+        target.put("event5");
+
+        // then
+        assertThat(target.size()).isEqualTo(2);
+        assertThat(target.drain()).containsExactly("event4", "event5");
+    }
+
+    @Test
+    public void drainShouldReturnEveryEventOnceWhenPutByConcurrentProducers() throws InterruptedException {
+        // given
+        final int producersCount = 4;
+        final int eventsPerProducer = 20_000;
+        final AnalyticsEventBuffer<String> target = givenBuffer(
+                producersCount * eventsPerProducer, Long.MAX_VALUE, Long.MAX_VALUE);
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> producers = new ArrayList<>();
+        for (int producer = 0; producer < producersCount; producer++) {
+            final String prefix = producer + "-";
+            final Thread thread = new Thread(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < eventsPerProducer; i++) {
+                    target.put(prefix + i);
+                }
+            });
+            thread.start();
+            producers.add(thread);
+        }
+
+        // when
+        final List<String> drained = new ArrayList<>();
+        start.countDown();
+        while (producers.stream().anyMatch(Thread::isAlive)) {
+            drained.addAll(target.drain());
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        drained.addAll(target.drain());
+
+        // then
+        assertThat(drained).hasSize(producersCount * eventsPerProducer).doesNotHaveDuplicates();
+        assertThat(target.isEmpty()).isTrue();
+        assertThat(target.byteSize()).isZero();
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void drainAndEncodeShouldReturnNullWithoutEncodingWhenBufferIsEmpty() {
+        // given
+        final AnalyticsEventBuffer<String> target = givenBuffer(4, 10, 100);
+
+        // when
+        final Future<String> result = target.drainAndEncode(vertx, events -> String.join(",", events));
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.result()).isNull();
+        verifyNoInteractions(vertx);
+    }
+
+    @Test
+    public void drainAndEncodeShouldEncodeEventsOnWorkerThread() {
+        // given
+        given(vertx.executeBlocking(Mockito.<Callable<?>>any())).willAnswer(invocation ->
+                Future.succeededFuture(((Callable<?>) invocation.getArgument(0)).call()));
+
+        final AnalyticsEventBuffer<String> target = givenBuffer(4, 10, 100);
+        target.put("event1");
+        target.put("event2");
+
+        // when
+        final Future<String> result = target.drainAndEncode(vertx, events -> String.join(",", events));
+
+        // then
+        verify(vertx).executeBlocking(any(Callable.class));
+        assertThat(result.result()).isEqualTo("event1,event2");
+        assertThat(target.isEmpty()).isTrue();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private AnalyticsEventBuffer<String> givenBuffer(int capacity, long maxEvents, long maxBytes) {
+        return new AnalyticsEventBuffer<>("analytics", capacity, maxEvents, maxBytes, String::length, metrics);
+    }
+}
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
 import org.prebid.server.analytics.model.AmpEvent;
@@ -26,6 +27,7 @@ import org.prebid.server.analytics.reporter.agma.model.AgmaAnalyticsProperties;
 import org.prebid.server.analytics.reporter.agma.model.AgmaEvent;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.TimeoutContext;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.privacy.gdpr.model.TcfContext;
 import org.prebid.server.privacy.model.PrivacyContext;
 import org.prebid.server.proto.openrtb.ext.request.ExtUser;
@@ -41,6 +43,7 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.zip.GZIPOutputStream;
 
 import static io.vertx.core.http.HttpMethod.POST;
@@ -76,6 +79,9 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
     @Mock
     private PrebidVersionProvider versionProvider;
 
+    @Mock
+    private Metrics metrics;
+
     @Captor
     private ArgumentCaptor<MultiMap> headersCaptor;
 
@@ -101,12 +107,20 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
 
         given(versionProvider.getNameVersionRecord()).willReturn("pbs_version");
         given(vertx.setTimer(anyLong(), any())).willReturn(1L, 2L);
+        given(vertx.executeBlocking(Mockito.<Callable<?>>any())).willAnswer(invocation -> {
+            try {
+                return Future.succeededFuture(((Callable<?>) invocation.getArgument(0)).call());
+            } catch (Throwable e) {
+                return Future.failedFuture(e);
+            }
+        });
         given(httpClient.request(eq(POST), anyString(), any(), anyString(), anyLong())).willReturn(
                 Future.succeededFuture(HttpClientResponse.of(200, MultiMap.caseInsensitiveMultiMap(), "")));
         given(httpClient.request(eq(POST), anyString(), any(), any(byte[].class), anyLong())).willReturn(
                 Future.succeededFuture(HttpClientResponse.of(200, MultiMap.caseInsensitiveMultiMap(), "")));
 
-        target = new AgmaAnalyticsReporter(properties, versionProvider, jacksonMapper, clock, httpClient, vertx);
+        target = new AgmaAnalyticsReporter(
+                properties, versionProvider, jacksonMapper, clock, httpClient, vertx, metrics);
     }
 
     @Test
@@ -402,7 +416,8 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
                 .accounts(Map.of("unknown_publisherId", "anotherCode"))
                 .build();
 
-        target = new AgmaAnalyticsReporter(properties, versionProvider, jacksonMapper, clock, httpClient, vertx);
+        target = new AgmaAnalyticsReporter(
+                properties, versionProvider, jacksonMapper, clock, httpClient, vertx, metrics);
 
         // given
         final Site givenSite = Site.builder().publisher(Publisher.builder().id("publisherId").build()).build();
@@ -436,7 +451,8 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
                 .accounts(Map.of("publisherId_bundleId", "accountCode"))
                 .build();
 
-        target = new AgmaAnalyticsReporter(properties, versionProvider, jacksonMapper, clock, httpClient, vertx);
+        target = new AgmaAnalyticsReporter(
+                properties, versionProvider, jacksonMapper, clock, httpClient, vertx, metrics);
 
         // given
         final App givenApp = App.builder().bundle("bundleId")
@@ -496,7 +512,8 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
                 .accounts(Map.of("_mySite", "accountCode"))
                 .build();
 
-        target = new AgmaAnalyticsReporter(properties, versionProvider, jacksonMapper, clock, httpClient, vertx);
+        target = new AgmaAnalyticsReporter(
+                properties, versionProvider, jacksonMapper, clock, httpClient, vertx, metrics);
 
         // given
         final Site givenSite = Site.builder().id("mySite").build();
@@ -554,7 +571,8 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
                 .accounts(Map.of("publisherId", "accountCode"))
                 .build();
 
-        target = new AgmaAnalyticsReporter(properties, versionProvider, jacksonMapper, clock, httpClient, vertx);
+        target = new AgmaAnalyticsReporter(
+                properties, versionProvider, jacksonMapper, clock, httpClient, vertx, metrics);
 
         final Site givenSite = Site.builder().publisher(Publisher.builder().id("publisherId").build()).build();
 
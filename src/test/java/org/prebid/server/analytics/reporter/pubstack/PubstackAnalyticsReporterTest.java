@@ -19,6 +19,7 @@ import org.prebid.server.analytics.reporter.pubstack.model.EventType;
 import org.prebid.server.analytics.reporter.pubstack.model.PubstackAnalyticsProperties;
 import org.prebid.server.analytics.reporter.pubstack.model.PubstackConfig;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -50,6 +51,9 @@ public class PubstackAnalyticsReporterTest extends VertxTest {
     @Mock
     private HttpClient httpClient;
 
+    @Mock
+    private Metrics metrics;
+
     @Mock
     private PubstackEventHandler auctionHandler;
 
@@ -78,7 +82,7 @@ public class PubstackAnalyticsReporterTest extends VertxTest {
         handlers.put(EventType.setuid, setuidHandler);
 
         pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper,
-                vertx);
+                vertx, metrics);
         // inject mocked handlers to private fields without accessor method
         ReflectionTestUtils.setField(pubstackAnalyticsReporter, "eventHandlers", handlers);
     }
@@ -189,7 +193,7 @@ public class PubstackAnalyticsReporterTest extends VertxTest {
     @Test
     public void processEventShouldCallEventHandlerForAuction() {
         // given
-        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper, vertx);
+        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper, vertx, metrics);
         // inject mocked handler to private fields without accessor method
         ReflectionTestUtils.setField(pubstackAnalyticsReporter, "eventHandlers",
                 Collections.singletonMap(EventType.auction, auctionHandler));
@@ -205,7 +209,7 @@ public class PubstackAnalyticsReporterTest extends VertxTest {
     @Test
     public void processEventShouldCallEventHandlerForSetuid() {
         // given
-        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper, vertx);
+        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper, vertx, metrics);
         // inject mocked handler to private fields without accessor method
         ReflectionTestUtils.setField(pubstackAnalyticsReporter, "eventHandlers",
                 Collections.singletonMap(EventType.setuid, setuidHandler));
@@ -222,7 +226,7 @@ public class PubstackAnalyticsReporterTest extends VertxTest {
     public void processEventShouldCallEventHandlerForCookieSync() {
         // given
         final PubstackEventHandler cookieSyncHandler = mock(PubstackEventHandler.class);
-        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper, vertx);
+        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper, vertx, metrics);
         // inject mocked handler to private fields without accessor method
         ReflectionTestUtils.setField(pubstackAnalyticsReporter, "eventHandlers",
                 Collections.singletonMap(EventType.cookiesync, cookieSyncHandler));
@@ -239,7 +243,7 @@ public class PubstackAnalyticsReporterTest extends VertxTest {
     public void processEventShouldCallEventHandlerForAmp() {
         // given
         final PubstackEventHandler ampHandler = mock(PubstackEventHandler.class);
-        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper, vertx);
+        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper, vertx, metrics);
         // inject mocked handler to private fields without accessor method
         ReflectionTestUtils.setField(pubstackAnalyticsReporter, "eventHandlers",
                 Collections.singletonMap(EventType.amp, ampHandler));
@@ -256,7 +260,7 @@ public class PubstackAnalyticsReporterTest extends VertxTest {
     public void processEventShouldCallEventHandlerForVideo() {
         // given
         final PubstackEventHandler videoHandler = mock(PubstackEventHandler.class);
-        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper, vertx);
+        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper, vertx, metrics);
         // inject mocked handler to private fields without accessor method
         ReflectionTestUtils.setField(pubstackAnalyticsReporter, "eventHandlers",
                 Collections.singletonMap(EventType.video, videoHandler));
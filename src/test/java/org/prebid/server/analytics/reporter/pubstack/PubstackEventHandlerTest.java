@@ -8,22 +8,23 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
 import org.prebid.server.analytics.model.AuctionEvent;
 import org.prebid.server.analytics.model.SetuidEvent;
+import org.prebid.server.analytics.reporter.AnalyticsEventBuffer;
 import org.prebid.server.analytics.reporter.pubstack.model.PubstackAnalyticsProperties;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.TimeoutContext;
 import org.prebid.server.cookie.UidsCookie;
 import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.Set;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.Callable;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -31,6 +32,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -39,17 +41,27 @@ import static org.mockito.Mockito.verifyNoInteractions;
 @ExtendWith(MockitoExtension.class)
 public class PubstackEventHandlerTest extends VertxTest {
 
-    @Mock
+    @Mock(strictness = LENIENT)
     private Vertx vertx;
 
     @Mock
     private HttpClient httpClient;
 
+    @Mock
+    private Metrics metrics;
+
     private PubstackEventHandler pubstackEventHandler;
 
     @BeforeEach
     public void setUp() {
         given(vertx.setTimer(anyLong(), any())).willReturn(1L, 2L);
+        given(vertx.executeBlocking(Mockito.<Callable<?>>any())).willAnswer(invocation -> {
+            try {
+                return Future.succeededFuture(((Callable<?>) invocation.getArgument(0)).call());
+            } catch (Throwable e) {
+                return Future.failedFuture(e);
+            }
+        });
         final PubstackAnalyticsProperties properties = PubstackAnalyticsProperties.builder()
                 .endpoint("http://endpoint.com")
                 .scopeId("scopeId")
@@ -59,7 +71,7 @@ public class PubstackEventHandlerTest extends VertxTest {
                 .timeoutMs(5000L)
                 .build();
         pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com", jacksonMapper,
-                httpClient, vertx);
+                httpClient, vertx, metrics);
     }
 
     @Test
@@ -74,16 +86,13 @@ public class PubstackEventHandlerTest extends VertxTest {
                 .timeoutMs(5000L)
                 .build();
         pubstackEventHandler = new PubstackEventHandler(properties, false, "http://example.com", jacksonMapper,
-                httpClient, vertx);
+                httpClient, vertx, metrics);
 
         // when
         pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder1").build());
 
         // then
-        @SuppressWarnings("unchecked") final AtomicReference<Set<String>> events =
-                (AtomicReference<Set<String>>) ReflectionTestUtils
-                        .getField(pubstackEventHandler, "events");
-        assertThat(events.get()).isEmpty();
+        assertThat(eventsBuffer().isEmpty()).isTrue();
         verifyNoInteractions(httpClient);
     }
 
@@ -94,16 +103,12 @@ public class PubstackEventHandlerTest extends VertxTest {
         pubstackEventHandler.handle(setuidEvent);
 
         // then
-        final AtomicLong byteSize = (AtomicLong) ReflectionTestUtils.getField(pubstackEventHandler, "byteSize");
-        @SuppressWarnings("unchecked") final AtomicReference<Set<String>> events =
-                (AtomicReference<Set<String>>) ReflectionTestUtils
-                        .getField(pubstackEventHandler, "events");
         final ObjectNode eventJsonNode = mapper.valueToTree(setuidEvent);
         eventJsonNode.put("scope", "scopeId");
         final String eventJsonRow = mapper.writeValueAsString(eventJsonNode);
-        assertThat(byteSize.get()).isEqualTo(eventJsonRow.getBytes().length);
-        assertThat(events.get()).hasSize(1)
-                .containsOnly(eventJsonRow);
+        final AnalyticsEventBuffer<String> eventsBuffer = eventsBuffer();
+        assertThat(eventsBuffer.byteSize()).isEqualTo(eventJsonRow.getBytes().length);
+        assertThat(eventsBuffer.drain()).containsExactly(eventJsonRow);
     }
 
     @Test
@@ -118,7 +123,7 @@ public class PubstackEventHandlerTest extends VertxTest {
                 .timeoutMs(5000L)
                 .build();
         pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com", jacksonMapper,
-                httpClient, vertx);
+                httpClient, vertx, metrics);
 
         // when
         pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder1").build());
@@ -139,7 +144,7 @@ public class PubstackEventHandlerTest extends VertxTest {
                 .timeoutMs(5000L)
                 .build();
         pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com", jacksonMapper,
-                httpClient, vertx);
+                httpClient, vertx, metrics);
 
         // when
         pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder1").build());
@@ -179,8 +184,8 @@ public class PubstackEventHandlerTest extends VertxTest {
         verify(vertx).cancelTimer(anyLong());
         // one time in constructor and second after the send request
         verify(vertx, times(2)).setTimer(anyLong(), any());
-        final AtomicLong byteSize = (AtomicLong) ReflectionTestUtils.getField(pubstackEventHandler, "byteSize");
-        assertThat(byteSize.get()).isEqualTo(0);
+        assertThat(eventsBuffer().byteSize()).isEqualTo(0);
+        assertThat(eventsBuffer().isEmpty()).isTrue();
         final Long currentTimerId = (Long) ReflectionTestUtils.getField(pubstackEventHandler,
                 "reportTimerId");
         assertThat(currentTimerId).isEqualTo(2);
@@ -221,4 +226,9 @@ public class PubstackEventHandlerTest extends VertxTest {
         verify(vertx, times(2)).setTimer(anyLong(), any());
         verify(vertx).cancelTimer(anyLong());
     }
+
+    @SuppressWarnings("unchecked")
+    private AnalyticsEventBuffer<String> eventsBuffer() {
+        return (AnalyticsEventBuffer<String>) ReflectionTestUtils.getField(pubstackEventHandler, "buffer");
+    }
 }
@@ -358,6 +358,36 @@ public class CurrencyConversionServiceTest extends VertxTest {
                 .withMessage("Unable to convert from currency UAH to desired ad server currency AUD");
     }
 
+    @Test
+    public void convertCurrencyShouldUseRatesUpdatedAlongWithDegenerateRate() throws JsonProcessingException {
+        // given
+        final Map<String, Map<String, BigDecimal>> currencyRates = new HashMap<>();
+        currencyRates.put(GBP, Map.of(EUR, BigDecimal.valueOf(1.3), USD, BigDecimal.ZERO));
+        givenHttpClientReturnsResponse(httpClient, 200,
+                mapper.writeValueAsString(CurrencyConversionRates.of(null, currencyRates)));
+
+        // when
+        currencyService = createInitializedService(URL, 1L, -1L, httpClient);
+
+        // then
+        assertThat(currencyService.convertCurrency(BigDecimal.ONE, givenBidRequestWithCurrencies(null, null), GBP, EUR))
+                .isEqualByComparingTo(BigDecimal.valueOf(1.3));
+        assertThatExceptionOfType(PreBidException.class)
+                .isThrownBy(() -> currencyService.convertCurrency(BigDecimal.ONE,
+                        givenBidRequestWithCurrencies(null, null), USD, GBP))
+                .withMessage("Unable to convert from currency USD to desired ad server currency GBP");
+    }
+
+    @Test
+    public void convertCurrencyShouldResolveReverseRateFromExternalRatesMatrix() {
+        // when
+        final BigDecimal price = currencyService.convertCurrency(BigDecimal.ONE,
+                givenBidRequestWithCurrencies(null, null), EUR, GBP);
+
+        // then
+        assertThat(price).isEqualByComparingTo(BigDecimal.valueOf(0.769));
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public void initializeShouldMakeOneInitialRequestAndTwoScheduled() {
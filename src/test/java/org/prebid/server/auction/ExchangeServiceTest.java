@@ -98,6 +98,7 @@ import org.prebid.server.hooks.execution.v1.bidder.BidderRequestPayloadImpl;
 import org.prebid.server.hooks.execution.v1.bidder.BidderResponsePayloadImpl;
 import org.prebid.server.log.CriteriaLogManager;
 import org.prebid.server.log.HttpInteractionLogger;
+import org.prebid.server.metric.BidderResponseMetrics;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
@@ -277,9 +278,12 @@ public class ExchangeServiceTest extends VertxTest {
     @Mock(strictness = LENIENT)
     private BidsAdjuster bidsAdjuster;
 
-    @Mock
+    @Mock(strictness = LENIENT)
     private Metrics metrics;
 
+    @Mock
+    private BidderResponseMetrics bidderResponseMetrics;
+
     @Mock
     private UidsCookie uidsCookie;
 
@@ -299,6 +303,8 @@ public class ExchangeServiceTest extends VertxTest {
     @SuppressWarnings("unchecked")
     @BeforeEach
     public void setUp() {
+        given(metrics.forBidderResponse(any(), any())).willReturn(bidderResponseMetrics);
+
         given(bidResponseCreator.create(any(), any(), any()))
                 .willReturn(Future.succeededFuture(givenBidResponseWithBids(singletonList(givenBid(identity())))));
 
@@ -3108,10 +3114,10 @@ public class ExchangeServiceTest extends VertxTest {
         verify(metrics).updateAccountRequestMetrics(any(), eq(MetricName.openrtb2web));
         verify(metrics).updateAdapterRequestTypeAndNoCookieMetrics(
                 eq("someBidder"), eq(MetricName.openrtb2web), eq(true));
-        verify(metrics).updateAdapterResponseTime(eq("someBidder"), any(), anyInt());
-        verify(metrics).updateAdapterRequestGotbidsMetrics(eq("someBidder"), any());
-        verify(metrics).updateAdapterBidMetrics(
-                eq("someBidder"), any(), eq(10000L), eq(false), eq("banner"));
+        verify(metrics).forBidderResponse(eq("someBidder"), any());
+        verify(bidderResponseMetrics).updateResponseTime(anyInt());
+        verify(bidderResponseMetrics).updateRequestGotbidsMetrics();
+        verify(bidderResponseMetrics).updateBidMetrics(eq(10000L), eq(false), eq("banner"));
     }
 
     @Test
@@ -3274,7 +3280,8 @@ public class ExchangeServiceTest extends VertxTest {
         target.holdAuction(givenRequestContext(bidRequest));
 
         // then
-        verify(metrics).updateAdapterRequestNobidMetrics(eq("someBidder"), any());
+        verify(metrics).forBidderResponse(eq("someBidder"), any());
+        verify(bidderResponseMetrics).updateRequestNobidMetrics();
     }
 
     @Test
@@ -3299,7 +3306,8 @@ public class ExchangeServiceTest extends VertxTest {
         target.holdAuction(givenRequestContext(bidRequest));
 
         // then
-        verify(metrics).updateAdapterRequestGotbidsMetrics(eq("someBidder"), any());
+        verify(metrics).forBidderResponse(eq("someBidder"), any());
+        verify(bidderResponseMetrics).updateRequestGotbidsMetrics();
         verify(metrics).updateAdapterRequestErrorMetric(eq("someBidder"), eq(MetricName.badinput));
         verify(metrics).updateAdapterRequestErrorMetric(eq("someBidder"), eq(MetricName.badserverresponse));
         verify(metrics).updateAdapterRequestErrorMetric(eq("someBidder"), eq(MetricName.failedtorequestbids));
@@ -3848,6 +3856,134 @@ public class ExchangeServiceTest extends VertxTest {
                         "bidder", Map.of("test-host", "unknownHost", "publisher_id", "ps4"))));
     }
 
+    @Test
+    public void shouldProperPopulateImpExtPrebidInCopyOnWriteMode() {
+        // given
+        givenTarget(false, true);
+
+        final HashMap<String, Object> impExpPrebidMap = new HashMap<>();
+        impExpPrebidMap.put("test-field", "test-value");
+        impExpPrebidMap.put("storedrequest", Map.of("id", "id"));
+        impExpPrebidMap.put("options", Map.of("echovideoattrs", true));
+        impExpPrebidMap.put("is_rewarded_inventory", 1);
+        impExpPrebidMap.put("floors", Map.of("floorRule", "rule"));
+        impExpPrebidMap.put("adunitcode", "adCodeValue");
+        impExpPrebidMap.put("passthrough", Map.of("test-field", "test-value"));
+        impExpPrebidMap.put("bidder", Map.of("bidderName",
+                Map.of("test-host", "unknownHost", "publisher_id", "ps4")));
+
+        final Imp imp = Imp.builder().ext(mapper.valueToTree(Map.of("prebid", impExpPrebidMap))).build();
+        final BidRequest bidRequest = givenBidRequest(singletonList(imp), identity());
+        final AuctionContext auctionContext = givenRequestContext(bidRequest);
+
+        given(privacyEnforcementService.mask(any(), anyMap(), any()))
+                .willReturn(Future.succeededFuture(singletonList(BidderPrivacyResult.builder()
+                        .requestBidder("bidderName")
+                        .build())));
+
+        // when
+        target.holdAuction(auctionContext);
+
+        // then
+        final BidRequest capturedBidRequest = captureBidRequest();
+        assertThat(capturedBidRequest.getImp())
+                .extracting(Imp::getExt)
+                .containsExactly(mapper.valueToTree(Map.of(
+                        "prebid", Map.of(
+                                "storedrequest", Map.of("id", "id"),
+                                "options", Map.of("echovideoattrs", true),
+                                "is_rewarded_inventory", 1,
+                                "adunitcode", "adCodeValue"),
+                        "bidder", Map.of("test-host", "unknownHost", "publisher_id", "ps4"))));
+    }
+
+    @Test
+    public void shouldShareImpExtSubtreesBetweenBiddersInCopyOnWriteMode() {
+        // given
+        givenTarget(false, true);
+
+        final ObjectNode impExt = mapper.valueToTree(Map.of(
+                "prebid", Map.of("bidder", Map.of(
+                        "bidder1", Map.of("param", 1),
+                        "bidder2", Map.of("param", 2))),
+                "skadn", Map.of("version", "2.0")));
+        givenBidder(givenEmptySeatBid());
+
+        final BidRequest bidRequest = givenBidRequest(singletonList(Imp.builder().id("impId").ext(impExt).build()));
+
+        // when
+        target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
+        verify(httpBidderRequester, times(2))
+                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        final List<ObjectNode> bidderImpExts = bidderRequestCaptor.getAllValues().stream()
+                .map(bidderRequest -> bidderRequest.getBidRequest().getImp().getFirst().getExt())
+                .toList();
+
+        assertThat(bidderImpExts)
+                .extracting(bidderImpExt -> bidderImpExt.get("skadn"))
+                .allSatisfy(skadn -> assertThat(skadn).isSameAs(impExt.get("skadn")));
+        assertThat(bidderImpExts)
+                .extracting(bidderImpExt -> bidderImpExt.get("bidder"))
+                .containsExactlyInAnyOrder(
+                        mapper.createObjectNode().put("param", 1),
+                        mapper.createObjectNode().put("param", 2));
+        assertThat(impExt.get("prebid").get("bidder")).hasSize(2);
+    }
+
+    @Test
+    public void shouldNotShareBidderParamsAndImpExtPrebidBetweenBiddersInCopyOnWriteMode() {
+        // given
+        givenTarget(false, true);
+
+        final ObjectNode impExt = mapper.valueToTree(Map.of(
+                "prebid", Map.of(
+                        "options", Map.of("echovideoattrs", true),
+                        "bidder", Map.of(
+                                "bidder1", Map.of("param", 1),
+                                "bidder2", Map.of("param", 2)))));
+
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+                .willAnswer(invocation -> {
+                    final ObjectNode bidderImpExt = invocation.<BidderRequest>getArgument(1)
+                            .getBidRequest().getImp().getFirst().getExt();
+                    // only bidder1 modifies its imp.ext
+                    if (bidderImpExt.at("/bidder/param").asInt() == 1) {
+                        ((ObjectNode) bidderImpExt.get("bidder")).put("param", 100);
+                        ((ObjectNode) bidderImpExt.at("/prebid/options")).put("echovideoattrs", false);
+                    }
+                    return Future.succeededFuture(givenEmptySeatBid());
+                });
+
+        final BidRequest bidRequest = givenBidRequest(singletonList(Imp.builder().id("impId").ext(impExt).build()));
+
+        // when
+        target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
+        verify(httpBidderRequester, times(2))
+                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        assertThat(bidderRequestCaptor.getAllValues())
+                .extracting(bidderRequest -> bidderRequest.getBidRequest().getImp().getFirst().getExt())
+                .containsExactlyInAnyOrder(
+                        mapper.valueToTree(Map.of(
+                                "prebid", Map.of("options", Map.of("echovideoattrs", false)),
+                                "bidder", Map.of("param", 100))),
+                        mapper.valueToTree(Map.of(
+                                "prebid", Map.of("options", Map.of("echovideoattrs", true)),
+                                "bidder", Map.of("param", 2))));
+
+        assertThat(impExt).isEqualTo(mapper.valueToTree(Map.of(
+                "prebid", Map.of(
+                        "options", Map.of("echovideoattrs", true),
+                        "bidder", Map.of(
+                                "bidder1", Map.of("param", 1),
+                                "bidder2", Map.of("param", 2))))));
+    }
+
     @Test
     public void shouldReturnsSourceWithCorrespondingRequestExtPrebidSchainsIfSchainIsNotNull() {
         // given
@@ -4186,6 +4322,10 @@ public class ExchangeServiceTest extends VertxTest {
     }
 
     private void givenTarget(boolean enabledStrictAppSiteDoohValidation) {
+        givenTarget(enabledStrictAppSiteDoohValidation, false);
+    }
+
+    private void givenTarget(boolean enabledStrictAppSiteDoohValidation, boolean copyOnWriteFanOut) {
         target = new ExchangeService(
                 0,
                 bidderCatalog,
@@ -4211,7 +4351,8 @@ public class ExchangeServiceTest extends VertxTest {
                 clock,
                 jacksonMapper,
                 criteriaLogManager,
-                enabledStrictAppSiteDoohValidation);
+                enabledStrictAppSiteDoohValidation,
+                copyOnWriteFanOut);
     }
 
     private AuctionContext givenRequestContext(BidRequest bidRequest) {
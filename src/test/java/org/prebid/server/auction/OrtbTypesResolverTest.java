@@ -4,10 +4,13 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.IntNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
 import org.junit.jupiter.api.Test;
 import org.prebid.server.VertxTest;
 import org.prebid.server.json.JsonMerger;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -560,6 +563,69 @@ public class OrtbTypesResolverTest extends VertxTest {
         assertThat(fpd.path("app")).isEqualTo(requestFpdApp);
     }
 
+    @Test
+    public void decodeNormalizedShouldReturnBidRequestIfFpdFieldsHaveExpectedTypes() {
+        // given
+        final String bidRequest = """
+                {"id":"requestId","imp":[{"id":"impId","bidfloor":1.10,"ext":{"user":[1],"data":{}}}],
+                "user":{"gender":"male","keywords":null,"data":[{"id":"dataId"}],"ext":{"data":{}}},
+                "site":{"page":"page","keywords":"k1,k2"},
+                "ext":{"prebid":{"debug":1,"data":{"bidders":["bidder"]}}}}""";
+
+        // when
+        final BidRequest result = ortbTypesResolver.decodeNormalized(bidRequest.getBytes());
+
+        // then
+        assertThat(result).isNotNull();
+        assertThat(result.getId()).isEqualTo("requestId");
+        assertThat(result.getUser().getGender()).isEqualTo("male");
+        assertThat(result.getSite().getKeywords()).isEqualTo("k1,k2");
+        // decimals are read through double, the same as when decoding from json tree
+        assertThat(result.getImp()).extracting(Imp::getBidfloor).containsExactly(new BigDecimal("1.1"));
+    }
+
+    @Test
+    public void decodeNormalizedShouldReturnNullIfFpdContainerIsNotObject() {
+        // when and then
+        assertThat(decodeNormalized("{\"user\":null}")).isNull();
+        assertThat(decodeNormalized("{\"app\":[]}")).isNull();
+        assertThat(decodeNormalized("{\"site\":\"site\"}")).isNull();
+        assertThat(decodeNormalized("[]")).isNull();
+    }
+
+    @Test
+    public void decodeNormalizedShouldReturnNullIfFpdFieldIsNotString() {
+        // when and then
+        assertThat(decodeNormalized("{\"user\":{\"gender\":[\"male\"]}}")).isNull();
+        assertThat(decodeNormalized("{\"app\":{\"bundle\":1}}")).isNull();
+        assertThat(decodeNormalized("{\"app\":{\"name\":true}}")).isNull();
+        assertThat(decodeNormalized("{\"site\":{\"keywords\":[\"k1\",\"k2\"]}}")).isNull();
+    }
+
+    @Test
+    public void decodeNormalizedShouldReturnNullIfFpdDataIsObject() {
+        // when and then
+        assertThat(decodeNormalized("{\"site\":{\"data\":{\"id\":\"dataId\"}}}")).isNull();
+    }
+
+    @Test
+    public void decodeNormalizedShouldReturnNullIfBidderConfigIsPresent() {
+        // when and then
+        assertThat(decodeNormalized("{\"ext\":{\"prebid\":{\"bidderconfig\":[]}}}")).isNull();
+        assertThat(decodeNormalized("{\"ext\":{\"prebid\":{\"bidderconfig\":null}}}")).isNotNull();
+    }
+
+    @Test
+    public void decodeNormalizedShouldReturnNullIfBodyIsInvalid() {
+        // when and then
+        assertThat(decodeNormalized("{\"imp\":\"invalid\"}")).isNull();
+        assertThat(decodeNormalized("invalid")).isNull();
+    }
+
+    private BidRequest decodeNormalized(String json) {
+        return ortbTypesResolver.decodeNormalized(json.getBytes());
+    }
+
     private static ArrayNode array(String... fields) {
         final ArrayNode arrayNode = mapper.createArrayNode();
         Arrays.stream(fields).forEach(arrayNode::add);
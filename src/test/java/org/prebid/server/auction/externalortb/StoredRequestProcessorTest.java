@@ -29,6 +29,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 import org.prebid.server.proto.openrtb.ext.request.ExtStoredRequest;
 import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.settings.ParsedStoredDataCache;
 import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.VideoStoredDataResult;
 
@@ -90,7 +91,8 @@ public class StoredRequestProcessorTest extends VertxTest {
                 metrics,
                 timeoutFactory,
                 jacksonMapper,
-                new JsonMerger(jacksonMapper));
+                new JsonMerger(jacksonMapper),
+                new ParsedStoredDataCache(10, 10, jacksonMapper, metrics));
     }
 
     @Test
@@ -193,7 +195,8 @@ public class StoredRequestProcessorTest extends VertxTest {
                 metrics,
                 timeoutFactory,
                 jacksonMapper,
-                new JsonMerger(jacksonMapper));
+                new JsonMerger(jacksonMapper),
+                new ParsedStoredDataCache(10, 10, jacksonMapper, metrics));
 
         final BidRequest bidRequest = givenBidRequest(builder -> builder
                 .id("request-id")
@@ -242,7 +245,8 @@ public class StoredRequestProcessorTest extends VertxTest {
                 metrics,
                 timeoutFactory,
                 jacksonMapper,
-                new JsonMerger(jacksonMapper));
+                new JsonMerger(jacksonMapper),
+                new ParsedStoredDataCache(10, 10, jacksonMapper, metrics));
 
         final BidRequest bidRequest = givenBidRequest(builder -> builder
                 .app(App.builder().build())
@@ -339,7 +343,8 @@ public class StoredRequestProcessorTest extends VertxTest {
                 metrics,
                 timeoutFactory,
                 jacksonMapper,
-                new JsonMerger(jacksonMapper));
+                new JsonMerger(jacksonMapper),
+                new ParsedStoredDataCache(10, 10, jacksonMapper, metrics));
 
         given(applicationSettings.getAmpStoredData(any(), anySet(), anySet(), any()))
                 .willReturn(Future.succeededFuture(StoredDataResult.of(
@@ -373,7 +378,8 @@ public class StoredRequestProcessorTest extends VertxTest {
                 metrics,
                 timeoutFactory,
                 jacksonMapper,
-                new JsonMerger(jacksonMapper));
+                new JsonMerger(jacksonMapper),
+                new ParsedStoredDataCache(10, 10, jacksonMapper, metrics));
 
         given(applicationSettings.getAmpStoredData(any(), anySet(), anySet(), any()))
                 .willReturn(Future.succeededFuture(StoredDataResult.of(
@@ -999,7 +1005,8 @@ public class StoredRequestProcessorTest extends VertxTest {
                 metrics,
                 timeoutFactory,
                 jacksonMapper,
-                new JsonMerger(jacksonMapper));
+                new JsonMerger(jacksonMapper),
+                new ParsedStoredDataCache(10, 10, jacksonMapper, metrics));
 
         final Video storedImpVideo = Video.builder().mimes(singletonList("video/mp4")).w(640).h(480).build();
         final String storedImpJson = mapper.writeValueAsString(givenImp(builder -> builder.video(storedImpVideo)));
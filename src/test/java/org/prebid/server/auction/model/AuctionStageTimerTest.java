@@ -0,0 +1,63 @@
+package org.prebid.server.auction.model;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.metric.model.AuctionStage;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AuctionStageTimerTest {
+
+    private final AuctionStageTimer target = new AuctionStageTimer();
+
+    @Test
+    public void recordShouldSumUpTimeOfTheSameStage() {
+        // given
+        final long startNanos = System.nanoTime() - 1_000L;
+
+        // when
+        target.record(AuctionStage.BIDDER_PREPARE, startNanos);
+        final long firstNanos = target.nanos(AuctionStage.BIDDER_PREPARE);
+        target.record(AuctionStage.BIDDER_PREPARE, startNanos);
+
+        // then
+        assertThat(firstNanos).isGreaterThanOrEqualTo(1_000L);
+        assertThat(target.nanos(AuctionStage.BIDDER_PREPARE)).isGreaterThan(firstNanos);
+        assertThat(target.nanos(AuctionStage.ENCODE)).isZero();
+    }
+
+    @Test
+    public void measureShouldRecordStageOnlyWhenOperationIsCompleted() {
+        // given
+        final Promise<String> promise = Promise.promise();
+
+        // when
+        final Future<String> result = target.measure(AuctionStage.BIDDER_WAIT, promise::future);
+        final long nanosBeforeCompletion = target.nanos(AuctionStage.BIDDER_WAIT);
+        promise.fail("error");
+
+        // then
+        assertThat(result.cause()).hasMessage("error");
+        assertThat(nanosBeforeCompletion).isZero();
+        assertThat(target.nanos(AuctionStage.BIDDER_WAIT)).isPositive();
+    }
+
+    @Test
+    public void forEachRecordedShouldSkipNotRecordedStages() {
+        // given
+        target.record(AuctionStage.REQUEST_FACTORY, System.nanoTime() - 10L);
+        target.record(AuctionStage.ENCODE, System.nanoTime() - 10L);
+
+        final Map<AuctionStage, Long> recorded = new EnumMap<>(AuctionStage.class);
+
+        // when
+        target.forEachRecorded(recorded::put);
+
+        // then
+        assertThat(recorded).containsOnlyKeys(AuctionStage.REQUEST_FACTORY, AuctionStage.ENCODE);
+    }
+}
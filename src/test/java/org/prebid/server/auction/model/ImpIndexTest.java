@@ -0,0 +1,143 @@
+package org.prebid.server.auction.model;
+
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Video;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.proto.openrtb.ext.request.ImpMediaType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ImpIndexTest {
+
+    @Test
+    public void getShouldReturnImpById() {
+        // given
+        final Imp imp1 = Imp.builder().id("impId1").build();
+        final Imp imp2 = Imp.builder().id("impId2").build();
+
+        // when
+        final ImpIndex target = ImpIndex.of(List.of(imp1, imp2));
+
+        // then
+        assertThat(target.get("impId1")).isSameAs(imp1);
+        assertThat(target.get("impId2")).isSameAs(imp2);
+        assertThat(target.get("unknown")).isNull();
+        assertThat(target.get(null)).isNull();
+    }
+
+    @Test
+    public void getShouldReturnFirstImpIfIdsAreDuplicated() {
+        // given
+        final Imp imp1 = Imp.builder().id("impId").exp(1).build();
+        final Imp imp2 = Imp.builder().id("impId").exp(2).build();
+
+        // when
+        final ImpIndex target = ImpIndex.of(List.of(imp1, imp2));
+
+        // then
+        assertThat(target.get("impId")).isSameAs(imp1);
+    }
+
+    @Test
+    public void isBuiltForShouldCompareImpsByIdentity() {
+        // given
+        final List<Imp> imps = List.of(Imp.builder().id("impId").build());
+
+        // when
+        final ImpIndex target = ImpIndex.of(imps);
+
+        // then
+        assertThat(target.isBuiltFor(imps)).isTrue();
+        assertThat(target.isBuiltFor(new ArrayList<>(imps))).isFalse();
+        assertThat(ImpIndex.of(null).isBuiltFor(List.of())).isTrue();
+    }
+
+    @Test
+    public void auctionContextShouldReuseIndexUntilImpsAreReplaced() {
+        // given
+        final BidRequest bidRequest = BidRequest.builder().imp(List.of(Imp.builder().id("impId").build())).build();
+        final AuctionContext auctionContext = AuctionContext.builder().bidRequest(bidRequest).build().withImpIndex();
+
+        // when
+        final ImpIndex index = auctionContext.getImpIndex();
+        final AuctionContext updatedContext = auctionContext.with(bidRequest.toBuilder()
+                .imp(List.of(Imp.builder().id("otherImpId").build()))
+                .build());
+
+        // then
+        assertThat(auctionContext.getImpIndex()).isSameAs(index);
+        assertThat(updatedContext.getImpIndex()).isNotSameAs(index);
+        assertThat(updatedContext.getImpIndex().get("otherImpId")).isNotNull();
+        assertThat(updatedContext.getImpIndex().get("impId")).isNull();
+    }
+
+    @Test
+    public void auctionContextShouldBuildIndexOnTheFlyIfNotIndexed() {
+        // given
+        final BidRequest bidRequest = BidRequest.builder().imp(List.of(Imp.builder().id("impId").build())).build();
+        final AuctionContext auctionContext = AuctionContext.builder().bidRequest(bidRequest).build();
+
+        // when
+        final ImpIndex index = auctionContext.getImpIndex();
+
+        // then
+        assertThat(index.get("impId")).isNotNull();
+        assertThat(auctionContext.getImpIndex()).isNotSameAs(index);
+    }
+
+    @Test
+    public void formatsShouldReturnBannerFormatsOfImp() {
+        // given
+        final Format format = Format.builder().w(300).h(250).build();
+        final Imp bannerImp = Imp.builder().id("bannerImpId").banner(Banner.builder().format(List.of(format)).build())
+                .build();
+        final Imp videoImp = Imp.builder().id("videoImpId").video(Video.builder().build()).build();
+
+        // when
+        final ImpIndex target = ImpIndex.of(List.of(bannerImp, videoImp));
+
+        // then
+        assertThat(target.formats("bannerImpId")).containsExactly(format);
+        assertThat(target.formats("videoImpId")).isEmpty();
+        assertThat(target.formats("unknown")).isEmpty();
+    }
+
+    @Test
+    public void videoMediaTypeShouldResolveInstreamByPlacementOrPlcmt() {
+        // given
+        final Imp placementImp = Imp.builder().id("placementImpId").video(Video.builder().placement(1).build())
+                .build();
+        final Imp plcmtImp = Imp.builder().id("plcmtImpId").video(Video.builder().plcmt(1).build()).build();
+        final Imp outstreamImp = Imp.builder().id("outstreamImpId").video(Video.builder().placement(3).build())
+                .build();
+
+        // when
+        final ImpIndex target = ImpIndex.of(List.of(placementImp, plcmtImp, outstreamImp));
+
+        // then
+        assertThat(target.videoMediaType("placementImpId")).isEqualTo(ImpMediaType.video_instream);
+        assertThat(target.videoMediaType("plcmtImpId")).isEqualTo(ImpMediaType.video_instream);
+        assertThat(target.videoMediaType("outstreamImpId")).isEqualTo(ImpMediaType.video_outstream);
+        assertThat(target.videoMediaType("unknown")).isEqualTo(ImpMediaType.video_outstream);
+    }
+
+    @Test
+    public void videoMediaTypeShouldTakeVideoOfFirstImpHavingItIfIdsAreDuplicated() {
+        // given
+        final Imp bannerImp = Imp.builder().id("impId").banner(Banner.builder().build()).build();
+        final Imp videoImp = Imp.builder().id("impId").video(Video.builder().plcmt(1).build()).build();
+
+        // when
+        final ImpIndex target = ImpIndex.of(List.of(bannerImp, videoImp));
+
+        // then
+        assertThat(target.get("impId")).isSameAs(bannerImp);
+        assertThat(target.videoMediaType("impId")).isEqualTo(ImpMediaType.video_instream);
+    }
+}
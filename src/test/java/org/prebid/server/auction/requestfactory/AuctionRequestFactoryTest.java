@@ -14,6 +14,7 @@ import com.iab.openrtb.request.Site;
 import com.iab.openrtb.request.Source;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.net.impl.SocketAddressImpl;
 import io.vertx.ext.web.RequestBody;
@@ -44,8 +45,15 @@ import org.prebid.server.bidadjustments.model.BidAdjustmentsRule;
 import org.prebid.server.cookie.CookieDeprecationService;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.hooks.execution.model.ExecutionAction;
+import org.prebid.server.hooks.execution.model.GroupExecutionOutcome;
+import org.prebid.server.hooks.execution.model.HookExecutionContext;
+import org.prebid.server.hooks.execution.model.HookExecutionOutcome;
+import org.prebid.server.hooks.execution.model.Stage;
+import org.prebid.server.hooks.execution.model.StageExecutionOutcome;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
+import org.prebid.server.model.Endpoint;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.privacy.ccpa.Ccpa;
 import org.prebid.server.privacy.gdpr.model.TcfContext;
@@ -77,6 +85,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.prebid.server.assertion.FutureAssertion.assertThat;
 
@@ -584,6 +593,76 @@ public class AuctionRequestFactoryTest extends VertxTest {
         verify(ortbTypesResolver).normalizeBidRequest(any(), any(), any());
     }
 
+    @Test
+    public void shouldDecodeBidRequestFromRawBodyIfNormalizationIsNotRequired() {
+        // given
+        final BidRequest receivedBidRequest = BidRequest.builder().id("requestId").build();
+        givenRawBidRequest("{\"id\":\"requestId\"}");
+        given(ortbTypesResolver.decodeNormalized(any())).willReturn(receivedBidRequest);
+
+        // when
+        target.parseRequest(routingContext, 0L);
+
+        // then
+        verify(ortbTypesResolver).decodeNormalized(eq("{\"id\":\"requestId\"}".getBytes()));
+        verify(ortbTypesResolver, never()).normalizeBidRequest(any(), any(), any());
+
+        final ArgumentCaptor<BidRequest> captor = ArgumentCaptor.forClass(BidRequest.class);
+        verify(ortb2RequestFactory).enrichAuctionContext(any(), any(), captor.capture(), anyLong());
+        assertThat(captor.getValue()).isSameAs(receivedBidRequest);
+    }
+
+    @Test
+    public void shouldNormalizeBidRequestIfRawBodyCanNotBeDecodedAsNormalized() {
+        // given
+        givenRawBidRequest(bidRequestToString(defaultBidRequest));
+        given(ortbTypesResolver.decodeNormalized(any())).willReturn(null);
+
+        // when
+        target.parseRequest(routingContext, 0L);
+
+        // then
+        verify(ortbTypesResolver).normalizeBidRequest(any(), any(), any());
+    }
+
+    @Test
+    public void shouldFallbackToNormalizationIfRawBodyCanNotBeDecoded() {
+        // given
+        givenRawBidRequest("{\"imp\":\"invalid\"}");
+
+        // when
+        final Future<?> future = target.parseRequest(routingContext, 0L);
+
+        // then
+        verify(ortbTypesResolver).normalizeBidRequest(any(), any(), any());
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause())
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageStartingWith("Error decoding bidRequest");
+    }
+
+    @Test
+    public void shouldNotDecodeRawBodyIfEntrypointHookUpdatedRequest() {
+        // given
+        givenRawBidRequest(bidRequestToString(defaultBidRequest));
+
+        final HookExecutionContext hookExecutionContext = HookExecutionContext.of(Endpoint.openrtb2_auction);
+        hookExecutionContext.getStageOutcomes().put(Stage.entrypoint, singletonList(StageExecutionOutcome.of(
+                "http-request",
+                singletonList(GroupExecutionOutcome.of(singletonList(HookExecutionOutcome.builder()
+                        .action(ExecutionAction.update)
+                        .build()))))));
+        given(ortb2RequestFactory.createAuctionContext(any(), any()))
+                .willReturn(defaultActionContext.toBuilder().hookExecutionContext(hookExecutionContext).build());
+
+        // when
+        target.parseRequest(routingContext, 0L);
+
+        // then
+        verify(ortbTypesResolver, never()).decodeNormalized(any());
+        verify(ortbTypesResolver).normalizeBidRequest(any(), any(), any());
+    }
+
     @Test
     public void shouldReturnFailedFutureIfOrtb2RequestFactoryReturnedFailedFuture() {
         // given
@@ -849,6 +928,11 @@ public class AuctionRequestFactoryTest extends VertxTest {
         }
     }
 
+    private void givenRawBidRequest(String body) {
+        given(requestBody.asString()).willReturn(body);
+        given(requestBody.buffer()).willReturn(Buffer.buffer(body));
+    }
+
     private void givenAuctionContext(BidRequest bidRequest, Account account) {
         given(ortb2RequestFactory.enrichAuctionContext(any(), any(), any(), anyLong()))
                 .willReturn(defaultActionContext.toBuilder()
@@ -16,6 +16,7 @@ import org.prebid.server.VertxTest;
 import org.prebid.server.auction.model.AuctionParticipation;
 import org.prebid.server.auction.model.BidderRequest;
 import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.auction.model.ImpIndex;
 import org.prebid.server.bidadjustments.model.BidAdjustmentsRules;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderError;
@@ -107,7 +108,8 @@ public class BidAdjustmentsProcessorTest extends VertxTest {
         given(currencyService.convertCurrency(any(), any(), eq("EUR"), eq("UAH"))).willReturn(expectedPrice);
 
         // when
-        final AuctionParticipation result = target.enrichWithAdjustedBids(auctionParticipation, bidRequest);
+        final AuctionParticipation result = target.enrichWithAdjustedBids(
+                auctionParticipation, bidRequest, ImpIndex.of(bidRequest.getImp()));
 
         // then
         assertThat(result.getBidderResponse().getSeatBid().getBids())
@@ -142,7 +144,8 @@ public class BidAdjustmentsProcessorTest extends VertxTest {
                 .willAnswer(invocationOnMock -> invocationOnMock.getArgument(0));
 
         // when
-        final AuctionParticipation result = target.enrichWithAdjustedBids(auctionParticipation, bidRequest);
+        final AuctionParticipation result = target.enrichWithAdjustedBids(
+                auctionParticipation, bidRequest, ImpIndex.of(bidRequest.getImp()));
 
         // then
         assertThat(result.getBidderResponse().getSeatBid().getBids())
@@ -168,7 +171,8 @@ public class BidAdjustmentsProcessorTest extends VertxTest {
                 .willThrow(new PreBidException("Unable to convert bid currency CUR to desired ad server currency USD"));
 
         // when
-        final AuctionParticipation result = target.enrichWithAdjustedBids(auctionParticipation, bidRequest);
+        final AuctionParticipation result = target.enrichWithAdjustedBids(
+                auctionParticipation, bidRequest, ImpIndex.of(bidRequest.getImp()));
 
         // then
         final BidderError expectedError = BidderError.generic(
@@ -196,7 +200,8 @@ public class BidAdjustmentsProcessorTest extends VertxTest {
                 .willThrow(new PreBidException("Unable to convert bid currency CUR to desired ad server currency USD"));
 
         // when
-        final AuctionParticipation result = target.enrichWithAdjustedBids(auctionParticipation, bidRequest);
+        final AuctionParticipation result = target.enrichWithAdjustedBids(
+                auctionParticipation, bidRequest, ImpIndex.of(bidRequest.getImp()));
 
         // then
         final BidderError expectedError = BidderError.generic(
@@ -240,7 +245,8 @@ public class BidAdjustmentsProcessorTest extends VertxTest {
         given(currencyService.convertCurrency(any(), any(), eq("EUR"), eq("UAH"))).willReturn(expectedPrice);
 
         // when
-        final AuctionParticipation result = target.enrichWithAdjustedBids(auctionParticipation, bidRequest);
+        final AuctionParticipation result = target.enrichWithAdjustedBids(
+                auctionParticipation, bidRequest, ImpIndex.of(bidRequest.getImp()));
 
         // then
         final BidderSeatBid seatBid = result.getBidderResponse().getSeatBid();
@@ -284,7 +290,8 @@ public class BidAdjustmentsProcessorTest extends VertxTest {
         final AuctionParticipation auctionParticipation = givenAuctionParticipation(bidderResponse, bidRequest);
 
         // when
-        final AuctionParticipation result = target.enrichWithAdjustedBids(auctionParticipation, bidRequest);
+        final AuctionParticipation result = target.enrichWithAdjustedBids(
+                auctionParticipation, bidRequest, ImpIndex.of(bidRequest.getImp()));
 
         // then
         verify(currencyService).convertCurrency(eq(firstBidderPrice), eq(bidRequest), eq("CUR1"), any());
@@ -334,7 +341,7 @@ public class BidAdjustmentsProcessorTest extends VertxTest {
 
         // when
         final AuctionParticipation result = target.enrichWithAdjustedBids(
-                auctionParticipation, bidRequest);
+                auctionParticipation, bidRequest, ImpIndex.of(bidRequest.getImp()));
 
         // then
         verify(currencyService).convertCurrency(eq(firstBidderPrice), eq(bidRequest), eq("USD"), eq("CUR"));
@@ -384,7 +391,8 @@ public class BidAdjustmentsProcessorTest extends VertxTest {
         final AuctionParticipation auctionParticipation = givenAuctionParticipation(bidderResponse, bidRequest);
 
         // when
-        final AuctionParticipation result = target.enrichWithAdjustedBids(auctionParticipation, bidRequest);
+        final AuctionParticipation result = target.enrichWithAdjustedBids(
+                auctionParticipation, bidRequest, ImpIndex.of(bidRequest.getImp()));
 
         // then
         verify(currencyService).convertCurrency(eq(bidder1Price), eq(bidRequest), eq("EUR"), eq("USD"));
@@ -429,7 +437,8 @@ public class BidAdjustmentsProcessorTest extends VertxTest {
         final AuctionParticipation auctionParticipation = givenAuctionParticipation(bidderResponse, bidRequest);
 
         // when
-        final AuctionParticipation result = target.enrichWithAdjustedBids(auctionParticipation, bidRequest);
+        final AuctionParticipation result = target.enrichWithAdjustedBids(
+                auctionParticipation, bidRequest, ImpIndex.of(bidRequest.getImp()));
 
         // then
         assertThat(result.getBidderResponse().getSeatBid().getBids())
@@ -480,7 +489,8 @@ public class BidAdjustmentsProcessorTest extends VertxTest {
         final AuctionParticipation auctionParticipation = givenAuctionParticipation(bidderResponse, bidRequest);
 
         // when
-        final AuctionParticipation result = target.enrichWithAdjustedBids(auctionParticipation, bidRequest);
+        final AuctionParticipation result = target.enrichWithAdjustedBids(
+                auctionParticipation, bidRequest, ImpIndex.of(bidRequest.getImp()));
 
         // then
         assertThat(result.getBidderResponse().getSeatBid().getBids())
@@ -531,7 +541,8 @@ public class BidAdjustmentsProcessorTest extends VertxTest {
         final AuctionParticipation auctionParticipation = givenAuctionParticipation(bidderResponse, bidRequest);
 
         // when
-        final AuctionParticipation result = target.enrichWithAdjustedBids(auctionParticipation, bidRequest);
+        final AuctionParticipation result = target.enrichWithAdjustedBids(
+                auctionParticipation, bidRequest, ImpIndex.of(bidRequest.getImp()));
 
         // then
         assertThat(result.getBidderResponse().getSeatBid().getBids())
@@ -584,7 +595,8 @@ public class BidAdjustmentsProcessorTest extends VertxTest {
 
         final AuctionParticipation auctionParticipation = givenAuctionParticipation(bidderResponse, bidRequest);
         // when
-        final AuctionParticipation result = target.enrichWithAdjustedBids(auctionParticipation, bidRequest);
+        final AuctionParticipation result = target.enrichWithAdjustedBids(
+                auctionParticipation, bidRequest, ImpIndex.of(bidRequest.getImp()));
 
         // then
         assertThat(result.getBidderResponse().getSeatBid().getBids())
@@ -633,7 +645,8 @@ public class BidAdjustmentsProcessorTest extends VertxTest {
         final AuctionParticipation auctionParticipation = givenAuctionParticipation(bidderResponse, bidRequest);
 
         // when
-        final AuctionParticipation result = target.enrichWithAdjustedBids(auctionParticipation, bidRequest);
+        final AuctionParticipation result = target.enrichWithAdjustedBids(
+                auctionParticipation, bidRequest, ImpIndex.of(bidRequest.getImp()));
 
         // then
         assertThat(result.getBidderResponse().getSeatBid().getBids())
@@ -684,7 +697,8 @@ public class BidAdjustmentsProcessorTest extends VertxTest {
         final AuctionParticipation auctionParticipation = givenAuctionParticipation(bidderResponse, bidRequest);
 
         // when
-        final AuctionParticipation result = target.enrichWithAdjustedBids(auctionParticipation, bidRequest);
+        final AuctionParticipation result = target.enrichWithAdjustedBids(
+                auctionParticipation, bidRequest, ImpIndex.of(bidRequest.getImp()));
 
         // then
         assertThat(result.getBidderResponse().getSeatBid().getBids())
@@ -732,7 +746,8 @@ public class BidAdjustmentsProcessorTest extends VertxTest {
         final AuctionParticipation auctionParticipation = givenAuctionParticipation(bidderResponse, bidRequest);
 
         // when
-        final AuctionParticipation result = target.enrichWithAdjustedBids(auctionParticipation, bidRequest);
+        final AuctionParticipation result = target.enrichWithAdjustedBids(
+                auctionParticipation, bidRequest, ImpIndex.of(bidRequest.getImp()));
 
         // then
         assertThat(result.getBidderResponse().getSeatBid().getBids())
@@ -780,7 +795,8 @@ public class BidAdjustmentsProcessorTest extends VertxTest {
         final AuctionParticipation auctionParticipation = givenAuctionParticipation(bidderResponse, bidRequest);
 
         // when
-        final AuctionParticipation result = target.enrichWithAdjustedBids(auctionParticipation, bidRequest);
+        final AuctionParticipation result = target.enrichWithAdjustedBids(
+                auctionParticipation, bidRequest, ImpIndex.of(bidRequest.getImp()));
 
         // then
         assertThat(result.getBidderResponse().getSeatBid().getBids())
@@ -828,7 +844,8 @@ public class BidAdjustmentsProcessorTest extends VertxTest {
         final AuctionParticipation auctionParticipation = givenAuctionParticipation(bidderResponse, bidRequest);
 
         // when
-        final AuctionParticipation result = target.enrichWithAdjustedBids(auctionParticipation, bidRequest);
+        final AuctionParticipation result = target.enrichWithAdjustedBids(
+                auctionParticipation, bidRequest, ImpIndex.of(bidRequest.getImp()));
 
         // then
         assertThat(result.getBidderResponse().getSeatBid().getBids())
@@ -0,0 +1,125 @@
+package org.prebid.server.bidder;
+
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.vertx.core.MultiMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.HttpUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class BidderRequestCompressorTest {
+
+    private static final byte[] BODY = "{\"id\":\"request-id\",\"imp\":[{\"id\":\"imp-id\"},{\"id\":\"imp-id\"}]}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private Metrics metrics;
+
+    @Test
+    public void creationShouldFailOnInvalidCompressionLevel() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BidderRequestCompressor(10, 0, metrics));
+    }
+
+    @Test
+    public void compressShouldReturnSameBodyIfContentEncodingHeaderIsAbsent() {
+        // given
+        final BidderRequestCompressor target = new BidderRequestCompressor(Deflater.DEFAULT_COMPRESSION, 0, metrics);
+
+        // when
+        final byte[] result = target.compress("bidder", BODY, MultiMap.caseInsensitiveMultiMap());
+
+        // then
+        assertThat(result).isSameAs(BODY);
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void compressShouldGzipBodyAndUpdateMetrics() throws IOException {
+        // given
+        final BidderRequestCompressor target = new BidderRequestCompressor(Deflater.BEST_SPEED, 0, metrics);
+        final MultiMap headers = givenHeaders(HttpHeaderValues.GZIP);
+
+        // when
+        final byte[] result = target.compress("bidder", BODY, headers);
+
+        // then
+        assertThat(readAll(new GZIPInputStream(new ByteArrayInputStream(result)))).isEqualTo(BODY);
+        assertThat(headers.get(HttpUtil.CONTENT_ENCODING_HEADER)).isEqualTo("gzip");
+        verify(metrics).updateAdapterRequestCompressionMetrics(eq("bidder"), anyLong(), anyInt());
+    }
+
+    @Test
+    public void compressShouldDeflateBody() throws IOException {
+        // given
+        final BidderRequestCompressor target = new BidderRequestCompressor(Deflater.DEFAULT_COMPRESSION, 0, metrics);
+
+        // when
+        final byte[] result = target.compress("bidder", BODY, givenHeaders(HttpHeaderValues.DEFLATE));
+
+        // then
+        assertThat(readAll(new InflaterInputStream(new ByteArrayInputStream(result)))).isEqualTo(BODY);
+    }
+
+    @Test
+    public void compressShouldReuseDeflaterForSubsequentBodiesOfDifferentSizes() throws IOException {
+        // given
+        final BidderRequestCompressor target = new BidderRequestCompressor(Deflater.DEFAULT_COMPRESSION, 0, metrics);
+        final byte[] largeBody = "x".repeat(100_000).getBytes(StandardCharsets.UTF_8);
+
+        // when
+        final byte[] largeResult = target.compress("bidder", largeBody, givenHeaders(HttpHeaderValues.GZIP));
+        final byte[] smallResult = target.compress("bidder", BODY, givenHeaders(HttpHeaderValues.GZIP));
+
+        // then
+        assertThat(readAll(new GZIPInputStream(new ByteArrayInputStream(largeResult)))).isEqualTo(largeBody);
+        assertThat(readAll(new GZIPInputStream(new ByteArrayInputStream(smallResult)))).isEqualTo(BODY);
+        verify(metrics, times(2)).updateAdapterRequestCompressionMetrics(eq("bidder"), anyLong(), anyInt());
+    }
+
+    @Test
+    public void compressShouldReturnSameBodyAndRemoveHeaderIfBodyIsSmallerThanMinSize() {
+        // given
+        final BidderRequestCompressor target = new BidderRequestCompressor(
+                Deflater.DEFAULT_COMPRESSION, BODY.length + 1, metrics);
+        final MultiMap headers = givenHeaders(HttpHeaderValues.GZIP);
+
+        // when
+        final byte[] result = target.compress("bidder", BODY, headers);
+
+        // then
+        assertThat(result).isSameAs(BODY);
+        assertThat(headers.contains(HttpUtil.CONTENT_ENCODING_HEADER)).isFalse();
+        verifyNoInteractions(metrics);
+    }
+
+    private static MultiMap givenHeaders(CharSequence contentEncoding) {
+        return MultiMap.caseInsensitiveMultiMap().add(HttpUtil.CONTENT_ENCODING_HEADER, contentEncoding);
+    }
+
+    private static byte[] readAll(InputStream inputStream) throws IOException {
+        try (inputStream) {
+            return inputStream.readAllBytes();
+        }
+    }
+}
@@ -232,6 +232,44 @@ public class HttpBidderRequestEnricherTest {
         assertThat(resultHeaders.get("Content-Encoding")).isEqualTo("gzip");
     }
 
+    @Test
+    public void shouldAddDeflateContentEncodingHeaderIfRequiredByBidderConfig() {
+        // given
+        when(bidderAliases.resolveBidder(BIDDER_NAME)).thenReturn(BIDDER_NAME);
+        when(bidderCatalog.bidderInfoByName(eq(BIDDER_NAME))).thenReturn(BidderInfo.create(
+                true,
+                null,
+                false,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                0,
+                null,
+                false,
+                false,
+                CompressionType.DEFLATE,
+                Ortb.of(false),
+                0L));
+
+        final CaseInsensitiveMultiMap originalHeaders = CaseInsensitiveMultiMap.builder().build();
+
+        // when
+        final MultiMap resultHeaders = target
+                .enrichHeaders(
+                        BIDDER_NAME,
+                        MultiMap.caseInsensitiveMultiMap(),
+                        originalHeaders,
+                        bidderAliases,
+                        BidRequest.builder().build());
+
+        // then
+        assertThat(resultHeaders.get("Content-Encoding")).isEqualTo("deflate");
+    }
+
     private static boolean isEqualsMultiMaps(MultiMap left, MultiMap right) {
         return left.size() == right.size() && left.entries().stream()
                 .allMatch(entry -> right.contains(entry.getKey(), entry.getValue(), true));
@@ -36,6 +36,7 @@ import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.bidder.model.Result;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgi;
@@ -44,6 +45,7 @@ import org.prebid.server.proto.openrtb.ext.response.FledgeAuctionConfig;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+import org.prebid.server.vertx.httpclient.model.HttpEndpoint;
 
 import java.time.Clock;
 import java.time.Instant;
@@ -54,6 +56,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.zip.Deflater;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
@@ -63,7 +66,9 @@ import static java.util.Collections.singletonMap;
 import static java.util.function.UnaryOperator.identity;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
@@ -100,6 +105,10 @@ public class HttpBidderRequesterTest extends VertxTest {
     private RoutingContext routingContext;
     @Mock(strictness = LENIENT)
     private HttpServerRequest httpServerRequest;
+    @Mock
+    private Metrics metrics;
+
+    private BidderRequestCompressor requestCompressor;
 
     private HttpBidderRequester target;
 
@@ -119,8 +128,9 @@ public class HttpBidderRequesterTest extends VertxTest {
         timeout = timeoutFactory.create(500L);
         expiredTimeout = timeoutFactory.create(clock.instant().minusMillis(1500L).toEpochMilli(), 1000L);
 
+        requestCompressor = new BidderRequestCompressor(Deflater.DEFAULT_COMPRESSION, 0, metrics);
         target = new HttpBidderRequester(
-                httpClient, null, bidderErrorNotifier, requestEnricher, jacksonMapper, 0.0);
+                httpClient, null, bidderErrorNotifier, requestEnricher, requestCompressor, jacksonMapper, 0.0);
         given(bidder.makeBidderResponse(any(BidderCall.class), any(BidRequest.class))).willCallRealMethod();
     }
 
@@ -307,6 +317,48 @@ public class HttpBidderRequesterTest extends VertxTest {
         verify(bidRejectionTracker, never()).rejectImps(anyList(), any());
     }
 
+    @Test
+    public void shouldSendRequestsToEndpointsResolvedOncePerOriginWhenUriIsValidUrl() {
+        // given
+        given(httpClient.request(any(), any(HttpEndpoint.class), any(), any(byte[].class), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, null)));
+
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(asList(
+                        givenSimpleHttpRequest(httpRequestBuilder -> httpRequestBuilder
+                                .uri("https://bidder.com:8443/path?id=1")),
+                        givenSimpleHttpRequest(httpRequestBuilder -> httpRequestBuilder
+                                .uri("https://bidder.com:8443/path?id=2"))),
+                emptyList()));
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        target.requestBids(
+                bidder,
+                bidderRequest,
+                bidRejectionTracker,
+                timeout,
+                CaseInsensitiveMultiMap.empty(),
+                bidderAliases,
+                false);
+
+        // then
+        final ArgumentCaptor<HttpEndpoint> endpointCaptor = ArgumentCaptor.forClass(HttpEndpoint.class);
+        verify(httpClient, times(2)).request(any(), endpointCaptor.capture(), any(), any(byte[].class), anyLong());
+        verify(httpClient, never()).request(any(), anyString(), any(), any(byte[].class), anyLong());
+
+        assertThat(endpointCaptor.getAllValues())
+                .extracting(HttpEndpoint::getUrl, HttpEndpoint::getHostKey, HttpEndpoint::getAuthority)
+                .containsExactlyInAnyOrder(
+                        tuple("https://bidder.com:8443/path?id=1", "https://bidder.com:8443", "bidder.com:8443"),
+                        tuple("https://bidder.com:8443/path?id=2", "https://bidder.com:8443", "bidder.com:8443"));
+        assertThat(endpointCaptor.getAllValues().get(0).getHostKey())
+                .isSameAs(endpointCaptor.getAllValues().get(1).getHostKey());
+    }
+
     @Test
     public void shouldSendMultipleRequests() throws JsonProcessingException {
         // given
@@ -529,6 +581,7 @@ public class HttpBidderRequesterTest extends VertxTest {
         final ArgumentCaptor<byte[]> actualRequestBody = ArgumentCaptor.forClass(byte[].class);
         verify(httpClient).request(any(), anyString(), any(), actualRequestBody.capture(), anyLong());
         assertThat(actualRequestBody.getValue()).isNotSameAs(EMPTY_BYTE_BODY);
+        verify(metrics).updateAdapterRequestCompressionMetrics(eq("bidder"), anyLong(), anyInt());
 
         verify(bidRejectionTracker, never()).reject(any(Rejection.class));
         verify(bidRejectionTracker, never()).rejectImps(anyList(), any());
@@ -558,6 +611,7 @@ public class HttpBidderRequesterTest extends VertxTest {
                 },
                 bidderErrorNotifier,
                 requestEnricher,
+                requestCompressor,
                 jacksonMapper,
                 0.0);
 
@@ -623,7 +677,7 @@ public class HttpBidderRequesterTest extends VertxTest {
 
         // then
         verify(bidder).makeHttpRequests(any());
-        verify(httpClient, times(4)).request(any(), any(), any(), any(byte[].class), anyLong());
+        verify(httpClient, times(4)).request(any(), anyString(), any(), any(byte[].class), anyLong());
         verify(bidder, times(2)).makeBidderResponse(any(), any());
 
         assertThat(bidderSeatBid.getBids()).containsOnly(bidderBidDeal1, bidderBidDeal2);
@@ -672,7 +726,7 @@ public class HttpBidderRequesterTest extends VertxTest {
 
         // then
         verify(bidder).makeHttpRequests(any());
-        verify(httpClient, times(4)).request(any(), any(), any(), any(byte[].class), anyLong());
+        verify(httpClient, times(4)).request(any(), anyString(), any(), any(byte[].class), anyLong());
         verify(bidder, times(4)).makeBidderResponse(any(), any());
 
         assertThat(bidderSeatBid.getBids()).contains(bidderBid, bidderBid, bidderBid, bidderBid);
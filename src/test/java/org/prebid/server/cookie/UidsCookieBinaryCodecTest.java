@@ -0,0 +1,148 @@
+package org.prebid.server.cookie;
+
+import org.junit.jupiter.api.Test;
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+import org.prebid.server.util.ResourceUtil;
+
+import java.io.IOException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class UidsCookieBinaryCodecTest {
+
+    private static final ZonedDateTime EXPIRES = ZonedDateTime.of(2030, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC);
+
+    private final UidsCookieBinaryCodec target = new UidsCookieBinaryCodec(List.of("rubicon", "adnxs", "appnexus"));
+
+    @Test
+    public void decodeShouldReturnEncodedUids() {
+        // given
+        final Uids uids = Uids.builder()
+                .uids(Map.of(
+                        "rubicon", new UidWithExpiry("rubiconUid", EXPIRES),
+                        "adnxs", new UidWithExpiry("адnxs-uid", EXPIRES.plusDays(1)),
+                        "unknownFamily", new UidWithExpiry("unknownUid", EXPIRES)))
+                .optout(true)
+                .build();
+
+        // when
+        final Uids result = target.decode(target.encode(uids));
+
+        // then
+        assertThat(result).isEqualTo(uids);
+    }
+
+    @Test
+    public void encodeShouldWriteLegacyUidWithoutExpirationAsExpiredAtEpoch() {
+        // given
+        final Uids uids = Uids.builder()
+                .uids(Map.of("rubicon", new UidWithExpiry("rubiconUid", null)))
+                .optout(false)
+                .build();
+
+        // when
+        final Uids result = target.decode(target.encode(uids));
+
+        // then
+        assertThat(result.getUids().get("rubicon"))
+                .isEqualTo(new UidWithExpiry("rubiconUid", ZonedDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC)));
+    }
+
+    @Test
+    public void encodeShouldProduceValueSmallerThanJson() {
+        // given
+        final Uids uids = Uids.builder()
+                .uids(Map.of("rubicon", new UidWithExpiry("rubiconUid", EXPIRES)))
+                .optout(false)
+                .build();
+
+        // when
+        final byte[] result = target.encode(uids);
+
+        // then
+        assertThat(UidsCookieBinaryCodec.isBinary(result)).isTrue();
+        assertThat(result).hasSizeLessThan(30);
+    }
+
+    @Test
+    public void isBinaryShouldReturnFalseForJson() {
+        // when and then
+        assertThat(UidsCookieBinaryCodec.isBinary("{\"tempUIDs\":{}}".getBytes())).isFalse();
+        assertThat(UidsCookieBinaryCodec.isBinary(new byte[0])).isFalse();
+    }
+
+    @Test
+    public void decodeShouldKeepUidsWhenFamiliesAreAppendedToRegistry() {
+        // given
+        final byte[] value = new UidsCookieBinaryCodec(List.of("rubicon")).encode(Uids.builder()
+                .uids(Map.of("rubicon", new UidWithExpiry("rubiconUid", EXPIRES)))
+                .build());
+
+        // when
+        final Uids result = target.decode(value);
+
+        // then
+        assertThat(result.getUids()).containsOnlyKeys("rubicon");
+    }
+
+    @Test
+    public void decodeShouldSkipOnlyUidsOfFamiliesUnknownToRegistry() {
+        // given
+        final byte[] value = new UidsCookieBinaryCodec(List.of("rubicon", "adnxs", "appnexus", "newFamily"))
+                .encode(Uids.builder()
+                        .uids(Map.of(
+                                "newFamily", new UidWithExpiry("newUid", EXPIRES),
+                                "appnexus", new UidWithExpiry("appnexusUid", EXPIRES)))
+                        .build());
+
+        // when
+        final Uids result = target.decode(value);
+
+        // then
+        assertThat(result.getUids()).containsOnlyKeys("appnexus");
+    }
+
+    @Test
+    public void creationShouldFailOnDuplicateFamilyInRegistry() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new UidsCookieBinaryCodec(List.of("rubicon", "rubicon")));
+    }
+
+    @Test
+    public void familyRegistryResourceShouldNotContainDuplicates() throws IOException {
+        // given
+        final List<String> registry = UidsCookieBinaryCodec.parseFamilyRegistry(
+                ResourceUtil.readFromClasspath("uids-cookie-families.txt"));
+
+        // when and then
+        assertThat(registry).isNotEmpty().doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void parseFamilyRegistryShouldSkipCommentsAndBlankLines() {
+        // when
+        final List<String> result = UidsCookieBinaryCodec.parseFamilyRegistry("# comment\nrubicon\n\n adnxs \n");
+
+        // then
+        assertThat(result).containsExactly("rubicon", "adnxs");
+    }
+
+    @Test
+    public void decodeShouldFailIfValueIsTruncated() {
+        // given
+        final byte[] value = target.encode(Uids.builder()
+                .uids(Map.of("rubicon", new UidWithExpiry("rubiconUid", EXPIRES)))
+                .build());
+
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> target.decode(Arrays.copyOf(value, value.length - 3)));
+    }
+}
@@ -33,7 +33,9 @@ import static java.util.function.Function.identity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -46,6 +48,7 @@ public class UidsCookieServiceTest extends VertxTest {
 
     private static final String RUBICON = "rubicon";
     private static final String ADNXS = "adnxs";
+    private static final UidsCookieBinaryCodec BINARY_CODEC = new UidsCookieBinaryCodec(List.of(RUBICON, ADNXS));
     // Zero means size checking is disabled
     private static final int MAX_COOKIE_SIZE_BYTES = 0;
 
@@ -71,7 +74,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 1,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                BINARY_CODEC,
+                false);
     }
 
     @Test
@@ -322,7 +327,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 1,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                BINARY_CODEC,
+                false);
         given(routingContext.cookieMap()).willReturn(
                 singletonMap(OPT_OUT_COOKIE_NAME, Cookie.cookie("trp_optout", "true")));
 
@@ -347,7 +354,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 1,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                BINARY_CODEC,
+                false);
         given(routingContext.cookieMap()).willReturn(
                 singletonMap(OPT_OUT_COOKIE_NAME, Cookie.cookie("trp_optout", "true")));
 
@@ -372,7 +381,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 1,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                BINARY_CODEC,
+                false);
         given(routingContext.cookieMap()).willReturn(singletonMap("khaos", Cookie.cookie("khaos", "abc123")));
 
         // when
@@ -396,7 +407,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 1,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                BINARY_CODEC,
+                false);
 
         final Map<String, Cookie> cookies = new HashMap<>();
         // this uids cookie value stands for { "tempUIDs":{ "rubicon":{ "uid": "J5VLCWQP-26-CWFT",
@@ -462,6 +475,102 @@ public class UidsCookieServiceTest extends VertxTest {
                 .isCloseTo(Instant.now().plus(14, ChronoUnit.DAYS), within(10, ChronoUnit.SECONDS));
     }
 
+    @Test
+    public void aliveCookieShouldReturnBinaryCookieReadableAlongWithJsonCookieWhenBinaryFormatEnabled() {
+        // given
+        target = new UidsCookieService(
+                "trp_optout",
+                "true",
+                null,
+                null,
+                "cookie-domain",
+                90,
+                MAX_COOKIE_SIZE_BYTES,
+                1,
+                prioritizedCoopSyncProvider,
+                metrics,
+                jacksonMapper,
+                new UidsCookieBinaryCodec(List.of(RUBICON, ADNXS)),
+                true);
+
+        final UidsCookie uidsCookie = new UidsCookie(
+                Uids.builder().uids(new HashMap<>()).build(), jacksonMapper)
+                .updateUid(RUBICON, "rubiconUid");
+        final String jsonCookieValue = Base64.getUrlEncoder().encodeToString(
+                new UidsCookie(Uids.builder().uids(new HashMap<>()).build(), jacksonMapper)
+                        .updateUid(ADNXS, "adnxsUid")
+                        .toJson()
+                        .getBytes());
+
+        // when
+        final Cookie cookie = target.aliveCookie("uids", uidsCookie);
+
+        // then
+        assertThat(Base64.getUrlDecoder().decode(cookie.getValue())[0]).isEqualTo((byte) 1);
+
+        final UidsCookie parsedUidsCookie = target.parseFromCookies(
+                Map.of("uids", cookie.getValue(), "uids2", jsonCookieValue));
+        assertThat(parsedUidsCookie.uidFrom(RUBICON)).isEqualTo("rubiconUid");
+        assertThat(parsedUidsCookie.uidFrom(ADNXS)).isEqualTo("adnxsUid");
+    }
+
+    @Test
+    public void parseFromRequestShouldReadBinaryCookieWhenBinaryFormatDisabled() {
+        // given
+        final String binaryCookieValue = Base64.getUrlEncoder().encodeToString(
+                BINARY_CODEC.encode(Uids.builder()
+                        .uids(singletonMap(RUBICON, UidWithExpiry.live("rubiconUid")))
+                        .build()));
+        given(routingContext.cookieMap()).willReturn(singletonMap("uids", Cookie.cookie("uids", binaryCookieValue)));
+
+        // when
+        final UidsCookie uidsCookie = target.parseFromRequest(routingContext);
+
+        // then
+        assertThat(uidsCookie.uidFrom(RUBICON)).isEqualTo("rubiconUid");
+    }
+
+    @Test
+    public void aliveCookieShouldReturnJsonCookieWhenBinaryFormatDisabled() {
+        // given
+        final UidsCookie uidsCookie = new UidsCookie(
+                Uids.builder().uids(new HashMap<>()).build(), jacksonMapper)
+                .updateUid(RUBICON, "rubiconUid");
+
+        // when
+        final Cookie cookie = target.aliveCookie("uids", uidsCookie);
+
+        // then
+        assertThat(Base64.getUrlDecoder().decode(cookie.getValue())[0]).isEqualTo((byte) '{');
+    }
+
+    @Test
+    public void parseFromRequestShouldReuseUidsParsedEarlierWithinRequest() {
+        // given
+        given(routingContext.get("parsedUids")).willReturn(Uids.builder()
+                .uids(singletonMap(RUBICON, UidWithExpiry.live("rubiconUid")))
+                .build());
+
+        // when
+        final UidsCookie uidsCookie = target.parseFromRequest(routingContext);
+
+        // then
+        assertThat(uidsCookie.uidFrom(RUBICON)).isEqualTo("rubiconUid");
+        verify(routingContext, never()).put(any(), any());
+    }
+
+    @Test
+    public void parseFromRequestShouldMemoizeParsedUidsWithinRequest() {
+        // given
+        given(routingContext.cookieMap()).willReturn(singletonMap("uids", Cookie.cookie("uids", "abcde")));
+
+        // when
+        target.parseFromRequest(routingContext);
+
+        // then
+        verify(routingContext).put(eq("parsedUids"), any(Uids.class));
+    }
+
     @Test
     public void aliveCookieShouldReturnCookieWithExpectedExpiration() {
         // given
@@ -522,7 +631,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 1,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                BINARY_CODEC,
+                false);
 
         // when
         final String hostCookie = target.parseHostCookie(singletonMap("khaos", "userId"));
@@ -564,7 +675,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 1,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                BINARY_CODEC,
+                false);
 
         // when
         final String result = target.hostCookieUidToSync(routingContext, "cookie-family");
@@ -587,7 +700,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 1,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                BINARY_CODEC,
+                false);
 
         final UidsCookie uidsCookie = new UidsCookie(
                 Uids.builder().uids(Map.of("cookie-family", UidWithExpiry.live("hostCookieUid"))).build(),
@@ -621,7 +736,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 1,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                BINARY_CODEC,
+                false);
 
         given(routingContext.cookieMap()).willReturn(emptyMap());
 
@@ -646,7 +763,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 1,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                BINARY_CODEC,
+                false);
 
         final UidsCookie uidsCookie = new UidsCookie(
                 Uids.builder().uids(Map.of(RUBICON, UidWithExpiry.live("hostCookieUid"))).build(),
@@ -738,7 +857,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 2,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                BINARY_CODEC,
+                false);
 
         final UidsCookie uidsCookie = givenUidsCookie(Map.of("family", UidWithExpiry.live("uid")));
 
@@ -765,7 +886,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 1,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                BINARY_CODEC,
+                false);
         given(prioritizedCoopSyncProvider.isPrioritizedFamily("family")).willReturn(false);
         given(prioritizedCoopSyncProvider.isPrioritizedFamily("very-very-very-very-long-family")).willReturn(true);
         given(prioritizedCoopSyncProvider.isPrioritizedFamily("another-very-very-very-long-family")).willReturn(true);
@@ -801,7 +924,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 1,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                BINARY_CODEC,
+                false);
         given(prioritizedCoopSyncProvider.isPrioritizedFamily(any())).willReturn(true);
 
         // cookie of encoded size 450 bytes
@@ -835,7 +960,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 2,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                BINARY_CODEC,
+                false);
         given(prioritizedCoopSyncProvider.isPrioritizedFamily(any())).willReturn(true);
 
         // cookie of encoded size 450 bytes
@@ -871,7 +998,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 5,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                BINARY_CODEC,
+                false);
         given(prioritizedCoopSyncProvider.isPrioritizedFamily(any())).willReturn(false);
 
         // cookie of encoded size 450 bytes
@@ -922,7 +1051,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 2,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                BINARY_CODEC,
+                false);
         given(prioritizedCoopSyncProvider.isPrioritizedFamily(any())).willReturn(false);
 
         // cookie of encoded size 450 bytes
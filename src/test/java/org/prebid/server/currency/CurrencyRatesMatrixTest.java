@@ -0,0 +1,69 @@
+package org.prebid.server.currency;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CurrencyRatesMatrixTest {
+
+    @Test
+    public void ofShouldResolveRatesForEveryPairOfKnownCurrencies() {
+        // given
+        final Map<String, Map<String, BigDecimal>> rates = Map.of("USD", Map.of("EUR", BigDecimal.valueOf(0.9)));
+        final List<String> resolvedPairs = new ArrayList<>();
+
+        // when
+        final CurrencyRatesMatrix target = CurrencyRatesMatrix.of(rates, (fromCurrency, toCurrency) -> {
+            resolvedPairs.add(fromCurrency + toCurrency);
+            return fromCurrency.equals("USD") ? BigDecimal.valueOf(0.9) : null;
+        });
+
+        // then
+        assertThat(resolvedPairs).containsExactlyInAnyOrder("USDEUR", "EURUSD");
+        assertThat(target.getRates()).isSameAs(rates);
+        assertThat(target.rate("USD", "EUR")).isEqualTo(BigDecimal.valueOf(0.9));
+        assertThat(target.rate("EUR", "USD")).isNull();
+    }
+
+    @Test
+    public void ofShouldLeavePairUnresolvedIfItsRateCannotBeCalculated() {
+        // given
+        final Map<String, Map<String, BigDecimal>> rates = Map.of("USD", Map.of("EUR", BigDecimal.ZERO));
+
+        // when
+        final CurrencyRatesMatrix target = CurrencyRatesMatrix.of(rates, (fromCurrency, toCurrency) ->
+                fromCurrency.equals("EUR") ? BigDecimal.ONE.divide(BigDecimal.ZERO) : BigDecimal.ZERO);
+
+        // then
+        assertThat(target.rate("EUR", "USD")).isNull();
+        assertThat(target.rate("USD", "EUR")).isEqualTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    public void rateShouldReturnNullForUnknownCurrencies() {
+        // given
+        final CurrencyRatesMatrix target = CurrencyRatesMatrix.of(
+                Map.of("USD", Map.of("EUR", BigDecimal.ONE)),
+                (fromCurrency, toCurrency) -> BigDecimal.ONE);
+
+        // when and then
+        assertThat(target.rate("USD", "GBP")).isNull();
+        assertThat(target.rate("GBP", "USD")).isNull();
+        assertThat(target.rate(null, "USD")).isNull();
+    }
+
+    @Test
+    public void rateShouldReturnNullForEmptyRates() {
+        // given
+        final CurrencyRatesMatrix target = CurrencyRatesMatrix.of(emptyMap(), (fromCurrency, toCurrency) -> null);
+
+        // when and then
+        assertThat(target.rate("USD", "EUR")).isNull();
+    }
+}
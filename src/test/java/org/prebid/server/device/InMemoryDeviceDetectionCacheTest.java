@@ -0,0 +1,114 @@
+package org.prebid.server.device;
+
+import com.iab.openrtb.request.Device;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class InMemoryDeviceDetectionCacheTest {
+
+    private static final String UA = "Mozilla/5.0 (iPhone; CPU iPhone OS 17_7_2) Version/17.4.1 Mobile/15E148";
+
+    @Mock
+    private Metrics metrics;
+
+    private InMemoryDeviceDetectionCache target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new InMemoryDeviceDetectionCache(100, 60, metrics);
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveMaxSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new InMemoryDeviceDetectionCache(0, 60, metrics));
+    }
+
+    @Test
+    public void getShouldReturnCachedDeviceForSameNormalizedKey() {
+        // given
+        final AtomicInteger detections = new AtomicInteger();
+        final Device device = Device.builder().make("Apple").build();
+
+        // when
+        final Device first = target.get(
+                "detector",
+                DeviceDetectionKey.of(UA, Map.of("Sec-CH-UA-Mobile", "?1", "Accept", "*/*")),
+                () -> {
+                    detections.incrementAndGet();
+                    return device;
+                });
+        final Device second = target.get(
+                "detector",
+                DeviceDetectionKey.of("  " + UA + " ", Map.of("sec-ch-ua-mobile", " ?1")),
+                () -> {
+                    detections.incrementAndGet();
+                    return Device.builder().build();
+                });
+
+        // then
+        assertThat(first).isSameAs(device);
+        assertThat(second).isSameAs(device);
+        assertThat(detections).hasValue(1);
+        verify(metrics).updateDeviceDetectionCacheMetric("detector", MetricName.miss);
+        verify(metrics).updateDeviceDetectionCacheMetric("detector", MetricName.hit);
+    }
+
+    @Test
+    public void getShouldKeepDevicesOfDifferentDetectorsSeparately() {
+        // given
+        final DeviceDetectionKey key = DeviceDetectionKey.of(UA, null);
+        final Device first = Device.builder().make("first").build();
+        final Device second = Device.builder().make("second").build();
+        target.get("first", key, () -> first);
+
+        // when
+        final Device result = target.get("second", key, () -> second);
+
+        // then
+        assertThat(result).isSameAs(second);
+        verify(metrics).updateDeviceDetectionCacheMetric("second", MetricName.miss);
+    }
+
+    @Test
+    public void getShouldNotCacheNullDetectionResult() {
+        // given
+        final DeviceDetectionKey key = DeviceDetectionKey.of(UA, null);
+        target.get("detector", key, () -> null);
+
+        // when
+        final Device result = target.get("detector", key, () -> Device.builder().build());
+
+        // then
+        assertThat(result).isNotNull();
+        verify(metrics, times(2)).updateDeviceDetectionCacheMetric("detector", MetricName.miss);
+    }
+
+    @Test
+    public void getShouldBypassCacheWhenKeyIsNull() {
+        // given
+        final DeviceDetectionKey key = DeviceDetectionKey.fromHeaders(Map.of("User-Agent", UA, "Accept", "*/*"));
+
+        // when
+        final Device result = target.get("detector", key, () -> Device.builder().build());
+
+        // then
+        assertThat(key).isNull();
+        assertThat(result).isNotNull();
+        verifyNoInteractions(metrics);
+    }
+}
@@ -0,0 +1,135 @@
+package org.prebid.server.execution.timeout;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class HashedTimingWheelTest {
+
+    private final HashedTimingWheel target = new HashedTimingWheel(10L, 4, 1000L, Thread.currentThread());
+
+    @Test
+    public void creationShouldFailIfWheelSizeIsNotPowerOfTwo() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new HashedTimingWheel(10L, 3, 1000L, Thread.currentThread()));
+    }
+
+    @Test
+    public void advanceShouldRunTasksNotEarlierThanTheirDeadline() {
+        // given
+        final List<String> fired = new ArrayList<>();
+        target.schedule(15L, () -> fired.add("first"), 1000L);
+        target.schedule(30L, () -> fired.add("second"), 1000L);
+
+        // when
+        target.advance(1010L);
+        final List<String> firedAfterFirstTick = new ArrayList<>(fired);
+        target.advance(1020L);
+        final List<String> firedAfterSecondTick = new ArrayList<>(fired);
+        target.advance(1030L);
+
+        // then
+        assertThat(firedAfterFirstTick).isEmpty();
+        assertThat(firedAfterSecondTick).containsExactly("first");
+        assertThat(fired).containsExactly("first", "second");
+        assertThat(target.pending()).isZero();
+        assertThat(target.drainScheduledCount()).isEqualTo(2);
+        assertThat(target.drainExpiredCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void advanceShouldRunTasksDueAfterSeveralRevolutionsOnlyWhenTheirRoundComes() {
+        // given
+        final List<String> fired = new ArrayList<>();
+        target.schedule(10L, () -> fired.add("near"), 1000L);
+        target.schedule(50L, () -> fired.add("far"), 1000L);
+
+        // when
+        target.advance(1010L);
+        final List<String> firedAfterFirstRevolution = new ArrayList<>(fired);
+        target.advance(1050L);
+
+        // then
+        assertThat(firedAfterFirstRevolution).containsExactly("near");
+        assertThat(fired).containsExactly("near", "far");
+    }
+
+    @Test
+    public void advanceShouldRunAllOverdueTasksAfterLongPause() {
+        // given
+        final List<String> fired = new ArrayList<>();
+        target.schedule(10L, () -> fired.add("first"), 1000L);
+        target.schedule(70L, () -> fired.add("second"), 1000L);
+        target.schedule(5000L, () -> fired.add("third"), 1000L);
+
+        // when
+        target.advance(2000L);
+
+        // then
+        assertThat(fired).containsExactlyInAnyOrder("first", "second");
+        assertThat(target.pending()).isOne();
+    }
+
+    @Test
+    public void cancelShouldPreventTaskFromRunning() {
+        // given
+        final List<String> fired = new ArrayList<>();
+        final TimeoutTask task = target.schedule(10L, () -> fired.add("cancelled"), 1000L);
+        target.schedule(10L, () -> fired.add("kept"), 1000L);
+
+        // when
+        task.cancel();
+        task.cancel();
+        target.advance(1010L);
+
+        // then
+        assertThat(fired).containsExactly("kept");
+        assertThat(target.drainCancelledCount()).isOne();
+        assertThat(target.drainExpiredCount()).isOne();
+    }
+
+    @Test
+    public void cancelFromExpiringTaskShouldDropSiblingOfSameTickAndKeepExpiringOthers() {
+        // given
+        final List<String> fired = new ArrayList<>();
+        target.schedule(10L, () -> fired.add("kept"), 1000L);
+        final TimeoutTask sibling = target.schedule(10L, () -> fired.add("cancelled"), 1000L);
+        target.schedule(10L, () -> {
+            fired.add("cancelling");
+            sibling.cancel();
+        }, 1000L);
+
+        // when
+        target.advance(1010L);
+
+        // then
+        assertThat(fired).containsExactly("cancelling", "kept");
+        assertThat(target.pending()).isZero();
+        assertThat(target.drainExpiredCount()).isEqualTo(2);
+        assertThat(target.drainCancelledCount()).isOne();
+    }
+
+    @Test
+    public void cancelFromAnotherThreadShouldDropTaskOnAdvance() throws InterruptedException {
+        // given
+        final List<String> fired = new ArrayList<>();
+        final TimeoutTask task = target.schedule(10L, () -> fired.add("cancelled"), 1000L);
+
+        // when
+        final Thread thread = new Thread(task::cancel);
+        thread.start();
+        thread.join();
+        final int pendingBeforeAdvance = target.pending();
+        target.advance(1010L);
+
+        // then
+        assertThat(pendingBeforeAdvance).isOne();
+        assertThat(fired).isEmpty();
+        assertThat(target.pending()).isZero();
+        assertThat(target.drainCancelledCount()).isOne();
+    }
+}
@@ -0,0 +1,98 @@
+package org.prebid.server.execution.timeout;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.Metrics;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@ExtendWith(VertxExtension.class)
+public class TimeoutSchedulerTest {
+
+    @Test
+    public void creationShouldFailIfWheelSizeIsNotPowerOfTwo(Vertx vertx) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new TimeoutScheduler(vertx, 5L, 100, mock(Metrics.class)));
+    }
+
+    @Test
+    public void scheduleShouldRunActionOnTheSameEventLoopContext(Vertx vertx, VertxTestContext context) {
+        // given
+        final Metrics metrics = mock(Metrics.class);
+        final TimeoutScheduler target = new TimeoutScheduler(vertx, 5L, 8, metrics);
+        final Context eventLoopContext = vertx.getOrCreateContext();
+
+        // when
+        eventLoopContext.runOnContext(ignored -> {
+            final long startNanos = System.nanoTime();
+            target.schedule(20L, () -> context.verify(() -> {
+                // then
+                assertThat(Vertx.currentContext()).isSameAs(eventLoopContext);
+                assertThat(System.nanoTime() - startNanos).isGreaterThanOrEqualTo(MILLISECONDS.toNanos(20L));
+                verify(metrics, atLeastOnce())
+                        .updateTimeoutSchedulerMetrics(anyLong(), anyLong(), anyLong(), anyLong());
+                context.completeNow();
+            }));
+        });
+    }
+
+    @Test
+    public void scheduleShouldNotRunCancelledAction(Vertx vertx, VertxTestContext context) {
+        // given
+        final Metrics metrics = mock(Metrics.class);
+        final TimeoutScheduler target = new TimeoutScheduler(vertx, 5L, 8, metrics);
+        final AtomicBoolean fired = new AtomicBoolean();
+
+        // when
+        vertx.runOnContext(ignored -> {
+            target.schedule(10L, () -> fired.set(true)).cancel();
+            vertx.setTimer(50L, id -> context.verify(() -> {
+                // then
+                assertThat(fired).isFalse();
+                verify(metrics).updateTimeoutSchedulerMetrics(eq(1L), eq(0L), eq(1L), anyLong());
+                context.completeNow();
+            }));
+        });
+    }
+
+    @Test
+    public void scheduleShouldFallBackToVertxTimerOutsideOfEventLoopContext(Vertx vertx, VertxTestContext context) {
+        // given
+        final TimeoutScheduler target = new TimeoutScheduler(vertx, 5L, 8, mock(Metrics.class));
+
+        // when
+        target.schedule(10L, context::completeNow);
+    }
+
+    @Test
+    public void scheduleShouldFallBackToVertxTimerOnWorkerThreadOfEventLoopContext(Vertx vertx,
+                                                                                  VertxTestContext context) {
+        // given
+        final Metrics metrics = mock(Metrics.class);
+        final TimeoutScheduler target = new TimeoutScheduler(vertx, 5L, 8, metrics);
+        final Context eventLoopContext = vertx.getOrCreateContext();
+
+        // when
+        eventLoopContext.executeBlocking(() -> target.schedule(10L, () -> context.verify(() -> {
+            // then
+            verifyNoInteractions(metrics);
+            context.completeNow();
+        })));
+    }
+}
@@ -5,8 +5,13 @@ import org.junit.jupiter.api.Test;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 public class TimeoutTest {
 
@@ -31,4 +36,50 @@ public class TimeoutTest {
         // when and then
         assertThat(timeout.remaining()).isZero();
     }
+
+    @Test
+    public void onExpireShouldScheduleActionForRemainingTime() {
+        // given
+        final Instant now = Instant.now();
+        final TimeoutScheduler scheduler = mock(TimeoutScheduler.class);
+        final Timeout timeout = new Timeout(
+                Clock.fixed(now, ZoneId.systemDefault()), scheduler, now.plusMillis(300L).toEpochMilli());
+        final Runnable action = () -> {
+        };
+
+        // when
+        timeout.minus(100L).onExpire(action);
+
+        // then
+        verify(scheduler).schedule(200L, action);
+    }
+
+    @Test
+    public void onExpireShouldRunActionImmediatelyIfTimeoutAlreadyExpired() {
+        // given
+        final Instant now = Instant.now();
+        final TimeoutScheduler scheduler = mock(TimeoutScheduler.class);
+        final Timeout timeout = new Timeout(
+                Clock.fixed(now.plusMillis(500L), ZoneId.systemDefault()), scheduler, now.toEpochMilli());
+        final AtomicBoolean expired = new AtomicBoolean();
+
+        // when
+        timeout.onExpire(() -> expired.set(true));
+
+        // then
+        assertThat(expired).isTrue();
+        verifyNoInteractions(scheduler);
+    }
+
+    @Test
+    public void onExpireShouldFailIfSchedulerIsNotConfigured() {
+        // given
+        final Instant now = Instant.now();
+        final Timeout timeout =
+                new Timeout(Clock.fixed(now, ZoneId.systemDefault()), now.plusMillis(1000L).toEpochMilli());
+
+        // when and then
+        assertThatIllegalStateException().isThrownBy(() -> timeout.onExpire(() -> {
+        }));
+    }
 }
@@ -24,6 +24,7 @@ import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.floors.model.PriceFloorData;
 import org.prebid.server.floors.model.PriceFloorField;
+import org.prebid.server.floors.model.PriceFloorLocation;
 import org.prebid.server.floors.model.PriceFloorModelGroup;
 import org.prebid.server.floors.model.PriceFloorResult;
 import org.prebid.server.floors.model.PriceFloorRules;
@@ -192,6 +193,30 @@ public class BasicPriceFloorResolverTest extends VertxTest {
                 .isEqualTo(BigDecimal.TEN);
     }
 
+    @Test
+    public void resolveShouldReturnPriceFloorForRequestFloorsMatchedWithoutCompiling() {
+        // given
+        final BidRequest bidRequest = BidRequest.builder()
+                .site(Site.builder().domain("siteDomain").build())
+                .build();
+
+        final PriceFloorRules floorRules = givenRules(PriceFloorModelGroup.builder()
+                .schema(PriceFloorSchema.of("|", singletonList(PriceFloorField.siteDomain)))
+                .value("SiteDomain", BigDecimal.TEN)
+                .value("*", BigDecimal.ONE)
+                .build())
+                .toBuilder()
+                .location(PriceFloorLocation.request)
+                .build();
+
+        // when
+        final PriceFloorResult result = target.resolve(bidRequest, floorRules, givenImp(identity()), "bidder", null);
+
+        // then
+        assertThat(result.getFloorRule()).isEqualTo("sitedomain");
+        assertThat(result.getFloorValue()).isEqualTo(BigDecimal.TEN);
+    }
+
     @Test
     public void resolveShouldReturnPriceFloorForSiteDomainPresentedByApp() {
         // given
@@ -1,13 +1,16 @@
 package org.prebid.server.geolocation;
 
+import com.maxmind.db.Network;
 import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.exception.GeoIp2Exception;
 import com.maxmind.geoip2.model.CityResponse;
+import com.maxmind.geoip2.model.CountryResponse;
 import com.maxmind.geoip2.record.City;
 import com.maxmind.geoip2.record.Continent;
 import com.maxmind.geoip2.record.Country;
 import com.maxmind.geoip2.record.Location;
 import com.maxmind.geoip2.record.Subdivision;
+import com.maxmind.geoip2.record.Traits;
 import io.vertx.core.Future;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +19,7 @@ import org.mockito.internal.util.reflection.ReflectionMemberAccessor;
 import org.prebid.server.geolocation.model.GeoInfo;
 
 import java.io.IOException;
+import java.net.InetAddress;
 
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
@@ -23,6 +27,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class MaxMindGeoLocationServiceTest {
 
@@ -127,4 +133,107 @@ public class MaxMindGeoLocationServiceTest {
         assertThat(future.succeeded()).isTrue();
         assertThat(future.result()).isEqualTo(GeoInfo.builder().vendor("maxmind").build());
     }
+
+    @Test
+    public void lookupCountryShouldReturnContinentAndCountryOnly() throws IOException, GeoIp2Exception,
+            NoSuchFieldException, IllegalAccessException {
+
+        // given
+        final Country country = Mockito.mock(Country.class);
+        given(country.getIsoCode()).willReturn("FR");
+
+        final Continent continent = Mockito.mock(Continent.class);
+        given(continent.getCode()).willReturn("EU");
+
+        final CountryResponse countryResponse = Mockito.mock(CountryResponse.class);
+        given(countryResponse.getCountry()).willReturn(country);
+        given(countryResponse.getContinent()).willReturn(continent);
+
+        final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
+        given(databaseReader.country(any())).willReturn(countryResponse);
+        givenDatabaseReader(databaseReader);
+
+        // when
+        final Future<GeoInfo> future = maxMindGeoLocationService.lookupCountry(TEST_IP, null);
+
+        // then
+        assertThat(future.result())
+                .isEqualTo(GeoInfo.builder().vendor("maxmind").continent("eu").country("fr").build());
+        verify(databaseReader, times(0)).city(any());
+    }
+
+    @Test
+    public void lookupShouldCacheResultForAddressesOfTheSamePrefixIfNetworkIsNotNarrower() throws Exception {
+        // given
+        maxMindGeoLocationService = new MaxMindGeoLocationService(null, 100);
+
+        final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
+        final CityResponse cityResponse = givenCityResponse("80.215.0.0", 16);
+        given(databaseReader.city(any())).willReturn(cityResponse);
+        givenDatabaseReader(databaseReader);
+
+        // when
+        final GeoInfo first = maxMindGeoLocationService.lookup("80.215.195.122", null).result();
+        final GeoInfo second = maxMindGeoLocationService.lookup("80.215.195.1", null).result();
+        maxMindGeoLocationService.lookup("80.215.196.1", null);
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(databaseReader, times(2)).city(any());
+    }
+
+    @Test
+    public void lookupShouldNotCacheResultIfNetworkIsNarrowerThanPrefix() throws Exception {
+        // given
+        maxMindGeoLocationService = new MaxMindGeoLocationService(null, 100);
+
+        final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
+        final CityResponse cityResponse = givenCityResponse("80.215.195.0", 26);
+        given(databaseReader.city(any())).willReturn(cityResponse);
+        givenDatabaseReader(databaseReader);
+
+        // when
+        maxMindGeoLocationService.lookup("80.215.195.1", null);
+        maxMindGeoLocationService.lookup("80.215.195.1", null);
+
+        // then
+        verify(databaseReader, times(2)).city(any());
+    }
+
+    @Test
+    public void lookupShouldCacheIpv6ResultsByPrefix() throws Exception {
+        // given
+        maxMindGeoLocationService = new MaxMindGeoLocationService(null, 100);
+
+        final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
+        final CityResponse cityResponse = givenCityResponse("2001:db8::", 32);
+        given(databaseReader.city(any())).willReturn(cityResponse);
+        givenDatabaseReader(databaseReader);
+
+        // when
+        maxMindGeoLocationService.lookup("2001:db8:1::1", null);
+        maxMindGeoLocationService.lookup("2001:db8:1:ff::2", null);
+        maxMindGeoLocationService.lookup("2001:db8:2::1", null);
+
+        // then
+        verify(databaseReader, times(2)).city(any());
+    }
+
+    private static CityResponse givenCityResponse(String networkAddress, int prefixLength) throws IOException {
+        final Traits traits = Mockito.mock(Traits.class);
+        given(traits.getNetwork()).willReturn(new Network(InetAddress.getByName(networkAddress), prefixLength));
+
+        final CityResponse cityResponse = Mockito.mock(CityResponse.class);
+        given(cityResponse.getTraits()).willReturn(traits);
+        return cityResponse;
+    }
+
+    private void givenDatabaseReader(DatabaseReader databaseReader) throws NoSuchFieldException,
+            IllegalAccessException {
+
+        new ReflectionMemberAccessor().set(
+                maxMindGeoLocationService.getClass().getDeclaredField("databaseReader"),
+                maxMindGeoLocationService,
+                databaseReader);
+    }
 }
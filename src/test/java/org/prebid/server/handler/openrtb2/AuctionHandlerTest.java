@@ -8,6 +8,7 @@ import com.iab.openrtb.response.BidResponse;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -174,19 +175,7 @@ public class AuctionHandlerTest extends VertxTest {
 
         timeout = new TimeoutFactory(clock).create(2000L);
 
-        target = new AuctionHandler(
-                0.01,
-                auctionRequestFactory,
-                exchangeService,
-                skippedAuctionService,
-                analyticsReporterDelegator,
-                metrics,
-                hooksMetricsService,
-                clock,
-                httpInteractionLogger,
-                prebidVersionProvider,
-                hookStageExecutor,
-                jacksonMapper);
+        target = givenTarget(false, 0);
     }
 
     @Test
@@ -435,6 +424,78 @@ public class AuctionHandlerTest extends VertxTest {
         verifyNoInteractions(hooksMetricsService, hookStageExecutor);
     }
 
+    @Test
+    public void shouldRespondWithEncodedBufferWhenStreamingEncodingEnabledAndNoExitpointHooks() {
+        // given
+        target = givenTarget(true, 0);
+
+        given(auctionRequestFactory.parseRequest(any(), anyLong()))
+                .willReturn(Future.succeededFuture(givenAuctionContext(identity())));
+        given(auctionRequestFactory.enrichAuctionContext(any()))
+                .willAnswer(invocation -> Future.succeededFuture(invocation.getArgument(0)));
+        givenHoldAuction(BidResponse.builder().id("id").build());
+        given(hookStageExecutor.hasExitpointHooks(any())).willReturn(false);
+        given(httpResponse.bytesWritten()).willReturn(11L);
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        final ArgumentCaptor<Buffer> bodyCaptor = ArgumentCaptor.forClass(Buffer.class);
+        verify(httpResponse).end(bodyCaptor.capture());
+        assertThat(bodyCaptor.getValue().toString()).isEqualTo("{\"id\":\"id\"}");
+        verify(httpResponse, never()).end(anyString());
+        verify(httpResponse, never()).setChunked(anyBoolean());
+
+        verify(metrics).updateResponseEncodeTimeMetric(eq(MetricName.openrtb2web), anyLong());
+        verify(metrics).updateResponseBytesMetric(eq(MetricName.openrtb2web), eq(11L));
+        verify(httpInteractionLogger).maybeLogOpenrtb2Auction(any(), any(), eq(200), any(Buffer.class));
+    }
+
+    @Test
+    public void shouldRespondWithStringWhenStreamingEncodingEnabledButExitpointHooksPresent() {
+        // given
+        target = givenTarget(true, 0);
+
+        given(auctionRequestFactory.parseRequest(any(), anyLong()))
+                .willReturn(Future.succeededFuture(givenAuctionContext(identity())));
+        given(auctionRequestFactory.enrichAuctionContext(any()))
+                .willAnswer(invocation -> Future.succeededFuture(invocation.getArgument(0)));
+        givenHoldAuction(BidResponse.builder().build());
+        given(hookStageExecutor.hasExitpointHooks(any())).willReturn(true);
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(hookStageExecutor).executeExitpointStage(any(), eq("{}"), any());
+        verify(httpResponse).end(eq("{}"));
+        verify(httpResponse, never()).end(any(Buffer.class));
+    }
+
+    @Test
+    public void shouldRespondWithChunksWhenEncodedResponseExceedsChunkedThreshold() {
+        // given
+        target = givenTarget(true, 5);
+
+        given(auctionRequestFactory.parseRequest(any(), anyLong()))
+                .willReturn(Future.succeededFuture(givenAuctionContext(identity())));
+        given(auctionRequestFactory.enrichAuctionContext(any()))
+                .willAnswer(invocation -> Future.succeededFuture(invocation.getArgument(0)));
+        givenHoldAuction(BidResponse.builder().id("id").build());
+        given(hookStageExecutor.hasExitpointHooks(any())).willReturn(false);
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).setChunked(true);
+        final ArgumentCaptor<Buffer> chunkCaptor = ArgumentCaptor.forClass(Buffer.class);
+        verify(httpResponse).write(chunkCaptor.capture());
+        assertThat(chunkCaptor.getValue().toString()).isEqualTo("{\"id\":\"id\"}");
+        verify(httpResponse).end();
+    }
+
     @Test
     public void shouldRespondWithBidResponse() {
         // given
@@ -1231,6 +1292,24 @@ public class AuctionHandlerTest extends VertxTest {
         return captor.getValue();
     }
 
+    private AuctionHandler givenTarget(boolean streamingEncodingEnabled, int chunkedThresholdBytes) {
+        return new AuctionHandler(
+                0.01,
+                auctionRequestFactory,
+                exchangeService,
+                skippedAuctionService,
+                analyticsReporterDelegator,
+                metrics,
+                hooksMetricsService,
+                clock,
+                httpInteractionLogger,
+                prebidVersionProvider,
+                hookStageExecutor,
+                jacksonMapper,
+                streamingEncodingEnabled,
+                chunkedThresholdBytes);
+    }
+
     private void givenHoldAuction(BidResponse bidResponse) {
         given(exchangeService.holdAuction(any()))
                 .willAnswer(inv -> Future.succeededFuture(((AuctionContext) inv.getArgument(0)).toBuilder()
@@ -35,6 +35,7 @@ import org.prebid.server.auction.model.debug.DebugContext;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderSeatBid;
 import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.execution.timeout.TimeoutScheduler;
 import org.prebid.server.hooks.execution.model.ABTest;
 import org.prebid.server.hooks.execution.model.EndpointExecutionPlan;
 import org.prebid.server.hooks.execution.model.ExecutionAction;
@@ -145,7 +146,7 @@ public class HookStageExecutorTest extends VertxTest {
     public void setUp() {
         vertx = Vertx.vertx();
         clock = Clock.systemUTC();
-        timeoutFactory = new TimeoutFactory(Clock.fixed(clock.instant(), ZoneOffset.UTC));
+        timeoutFactory = new TimeoutFactory(Clock.fixed(clock.instant(), ZoneOffset.UTC), new TimeoutScheduler(vertx));
     }
 
     @AfterEach
@@ -476,7 +477,6 @@ public class HookStageExecutorTest extends VertxTest {
                 Map.of("module-alpha", false),
                 hookCatalog,
                 timeoutFactory,
-                vertx,
                 clock,
                 jacksonMapper,
                 false,
@@ -1478,7 +1478,6 @@ public class HookStageExecutorTest extends VertxTest {
                 Map.of("module-epsilon", true, "module-zeta", false),
                 hookCatalog,
                 timeoutFactory,
-                vertx,
                 clock,
                 jacksonMapper,
                 false,
@@ -1596,7 +1595,6 @@ public class HookStageExecutorTest extends VertxTest {
                 Map.of("module-epsilon", true, "module-zeta", false),
                 hookCatalog,
                 timeoutFactory,
-                vertx,
                 clock,
                 jacksonMapper,
                 true,
@@ -3735,7 +3733,6 @@ public class HookStageExecutorTest extends VertxTest {
                 Collections.emptyMap(),
                 hookCatalog,
                 timeoutFactory,
-                vertx,
                 clock,
                 jacksonMapper,
                 false,
@@ -24,6 +24,7 @@ import org.prebid.server.hooks.execution.model.ExecutionAction;
 import org.prebid.server.hooks.execution.model.ExecutionStatus;
 import org.prebid.server.hooks.execution.model.Stage;
 import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+import org.prebid.server.metric.model.AuctionStage;
 import org.prebid.server.settings.model.Account;
 
 import java.util.Collections;
@@ -409,6 +410,30 @@ public class MetricsTest {
         assertThat(metricRegistry.timer("request_time").getCount()).isOne();
     }
 
+    @Test
+    public void updateTimeoutSchedulerMetricsShouldUpdateMetrics() {
+        // when
+        metrics.updateTimeoutSchedulerMetrics(3, 1, 2, 7);
+        metrics.updateTimeoutSchedulerMetrics(0, 1, 0, 0);
+
+        // then
+        assertThat(metricRegistry.counter("timeout_scheduler.scheduled").getCount()).isEqualTo(3);
+        assertThat(metricRegistry.counter("timeout_scheduler.expired").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.counter("timeout_scheduler.cancelled").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.histogram("timeout_scheduler.tick_lag").getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void updateAuctionStageTimeMetricShouldUpdateMetric() {
+        // when
+        metrics.updateAuctionStageTimeMetric(AuctionStage.REQUEST_FACTORY, 1_000_000L);
+        metrics.updateAuctionStageTimeMetric(AuctionStage.BIDDER_WAIT, 2_000_000L);
+
+        // then
+        assertThat(metricRegistry.timer("auction.stages.request_factory.duration").getCount()).isOne();
+        assertThat(metricRegistry.timer("auction.stages.bidder_wait.duration").getCount()).isOne();
+    }
+
     @Test
     public void updateRequestTypeMetricShouldIncrementMetric() {
         // when
@@ -428,6 +453,28 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("requests.networkerr.amp").getCount()).isOne();
     }
 
+    @Test
+    public void updateResponseEncodeTimeMetricShouldUpdateMetric() {
+        // when
+        metrics.updateResponseEncodeTimeMetric(MetricName.openrtb2web, 1500L);
+
+        // then
+        assertThat(metricRegistry.timer("responses.openrtb2-web.encode_time").getCount()).isOne();
+        assertThat(metricRegistry.timer("responses.openrtb2-web.encode_time").getSnapshot().getMax())
+                .isEqualTo(1500L);
+    }
+
+    @Test
+    public void updateResponseBytesMetricShouldUpdateMetric() {
+        // when
+        metrics.updateResponseBytesMetric(MetricName.openrtb2app, 2048L);
+
+        // then
+        assertThat(metricRegistry.histogram("responses.openrtb2-app.bytes").getCount()).isOne();
+        assertThat(metricRegistry.histogram("responses.openrtb2-app.bytes").getSnapshot().getMax())
+                .isEqualTo(2048L);
+    }
+
     @Test
     public void uupdateRequestBidderCardinalityMetricShouldIncrementMetrics() {
         // when
@@ -490,6 +537,52 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("analytics.analyticCode.setuid.badinput").getCount()).isOne();
     }
 
+    @Test
+    public void updateHttpClientPoolMetricsShouldUpdateMetrics() {
+        // when
+        metrics.updateHttpClientPoolMetrics("host:443", 2_000_000L, 3);
+
+        // then
+        assertThat(metricRegistry.timer("http-client.pool.host:443.wait_time").getSnapshot().getMax())
+                .isEqualTo(2_000_000L);
+        assertThat(metricRegistry.histogram("http-client.pool.host:443.queue_size").getSnapshot().getMax())
+                .isEqualTo(3L);
+    }
+
+    @Test
+    public void updateDeviceDetectionCacheMetricShouldIncrementMetricOfDetector() {
+        // when
+        metrics.updateDeviceDetectionCacheMetric("wurfl-devicedetection", MetricName.hit);
+        metrics.updateDeviceDetectionCacheMetric("wurfl-devicedetection", MetricName.miss);
+        metrics.updateDeviceDetectionCacheMetric("fiftyone-devicedetection", MetricName.hit);
+
+        // then
+        assertThat(metricRegistry.counter("device-detection.cache.wurfl-devicedetection.hit").getCount()).isOne();
+        assertThat(metricRegistry.counter("device-detection.cache.wurfl-devicedetection.miss").getCount()).isOne();
+        assertThat(metricRegistry.counter("device-detection.cache.fiftyone-devicedetection.hit").getCount()).isOne();
+    }
+
+    @Test
+    public void updateAdapterRequestCompressionMetricsShouldUpdateMetrics() {
+        // when
+        metrics.updateAdapterRequestCompressionMetrics(RUBICON, 1_000_000L, 25);
+
+        // then
+        assertThat(metricRegistry.timer("adapter.rubicon.requests.compression_time").getSnapshot().getMax())
+                .isEqualTo(1_000_000L);
+        assertThat(metricRegistry.histogram("adapter.rubicon.requests.compression_ratio").getSnapshot().getMax())
+                .isEqualTo(25L);
+    }
+
+    @Test
+    public void updateAnalyticEventsDroppedMetricShouldIncrementMetric() {
+        // when
+        metrics.updateAnalyticEventsDroppedMetric(ANALYTIC_CODE, 2);
+
+        // then
+        assertThat(metricRegistry.counter("analytics.analyticCode.events_dropped").getCount()).isEqualTo(2);
+    }
+
     @Test
     public void updateFetchWithFetchResultShouldCreateMetricsAsExpected() {
         // when
@@ -624,6 +717,31 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("adapter.conversant.banner.nurl_bids_received").getCount()).isEqualTo(2);
     }
 
+    @Test
+    public void forBidderResponseShouldResolveAccountVerbosityOnceForAllUpdates() {
+        // given
+        final BidderResponseMetrics bidderResponseMetrics =
+                metrics.forBidderResponse(RUBICON, Account.empty(ACCOUNT_ID));
+
+        // when
+        bidderResponseMetrics.updateResponseTime(500);
+        bidderResponseMetrics.updateRequestGotbidsMetrics();
+        bidderResponseMetrics.updateBidMetrics(1234L, true, "banner");
+        bidderResponseMetrics.updateBidMetrics(1234L, false, "banner");
+
+        // then
+        verify(accountMetricsVerbosityResolver).forAccount(any());
+        assertThat(metricRegistry.timer("adapter.rubicon.request_time").getCount()).isOne();
+        assertThat(metricRegistry.timer("account.accountId.adapter.rubicon.request_time").getCount()).isOne();
+        assertThat(metricRegistry.counter("adapter.rubicon.requests.gotbids").getCount()).isOne();
+        assertThat(metricRegistry.counter("account.accountId.adapter.rubicon.requests.gotbids").getCount())
+                .isOne();
+        assertThat(metricRegistry.counter("adapter.rubicon.bids_received").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.counter("account.accountId.adapter.rubicon.bids_received").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.counter("adapter.rubicon.banner.adm_bids_received").getCount()).isOne();
+        assertThat(metricRegistry.counter("adapter.rubicon.banner.nurl_bids_received").getCount()).isOne();
+    }
+
     @Test
     public void updateUnknownBidderMetricsShouldIncrementMetrics() {
         // when
@@ -1,5 +1,6 @@
 package org.prebid.server.metric;
 
+import com.codahale.metrics.Counter;
 import com.codahale.metrics.MetricRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,6 +11,7 @@ import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
@@ -57,6 +59,51 @@ public class UpdatableMetricsTest {
         verify(nameCreator).apply(eq(MetricName.requests));
     }
 
+    @Test
+    public void incCounterShouldResolveCounterFromRegistryOnlyOnceOnSuccessiveCalls() {
+        // given
+        final MetricRegistry registry = mock(MetricRegistry.class);
+        final Counter counter = new Counter();
+        given(registry.counter(anyString())).willReturn(counter);
+
+        updatableMetrics = new UpdatableMetrics(registry, CounterType.counter, MetricName::toString);
+
+        // when
+        updatableMetrics.incCounter(MetricName.requests, 5);
+        updatableMetrics.incCounter(MetricName.requests, 6);
+
+        // then
+        verify(registry).counter(eq("requests"));
+        assertThat(counter.getCount()).isEqualTo(11);
+    }
+
+    @Test
+    public void incCounterShouldMarkMeterWhenCounterTypeIsMeter() {
+        // given
+        updatableMetrics = givenUpdatableMetricsWith(CounterType.meter);
+
+        // when
+        updatableMetrics.incCounter(MetricName.requests, 5);
+        updatableMetrics.incCounter(MetricName.requests, 6);
+
+        // then
+        assertThat(metricRegistry.meter("requests").getCount()).isEqualTo(11);
+    }
+
+    @Test
+    public void incCounterShouldRegisterMetricAgainWhenItWasRemoved() {
+        // given
+        updatableMetrics = givenUpdatableMetricsWith(CounterType.counter);
+        updatableMetrics.incCounter(MetricName.requests, 5);
+
+        // when
+        updatableMetrics.removeMetric(MetricName.requests);
+        updatableMetrics.incCounter(MetricName.requests, 6);
+
+        // then
+        assertThat(metricRegistry.counter("requests").getCount()).isEqualTo(6);
+    }
+
     @Test
     public void incCounterShouldIncrementByOne() {
         // given
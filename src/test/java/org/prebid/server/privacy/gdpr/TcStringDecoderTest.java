@@ -0,0 +1,122 @@
+package org.prebid.server.privacy.gdpr;
+
+import com.iabtcf.decoder.TCString;
+import com.iabtcf.utils.IntIterable;
+import com.iabtcf.utils.IntIterator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class TcStringDecoderTest {
+
+    private static final String CONSENT_STRING = "CPBCa-mPBCa-mAAAAAENA0CAAEAAAAAAACiQAaQAwAAgAgABoAAAAAA";
+
+    @Mock
+    private Metrics metrics;
+
+    private TcStringDecoder target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new TcStringDecoder(1000, metrics);
+    }
+
+    @Test
+    public void creationShouldFailOnNegativeCacheMaxWeight() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new TcStringDecoder(-1, metrics));
+    }
+
+    @Test
+    public void decodeShouldReturnCachedTcStringForSameConsentString() {
+        // when
+        final TCString first = target.decode(CONSENT_STRING);
+        final TCString second = target.decode(CONSENT_STRING);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(second.getVersion()).isEqualTo(2);
+        verify(metrics).updatePrivacyTcfDecodeCacheMetric(MetricName.miss);
+        verify(metrics).updatePrivacyTcfDecodeCacheMetric(MetricName.hit);
+    }
+
+    @Test
+    public void decodeShouldReturnCachedTcStringWithAllFieldsOfDecodedOne() {
+        // given
+        final TCString expected = TCString.decode(CONSENT_STRING);
+
+        // when
+        final TCString result = target.decode(CONSENT_STRING);
+
+        // then
+        assertThat(result).isNotSameAs(expected);
+        assertThat(result.getVersion()).isEqualTo(expected.getVersion());
+        assertThat(result.getTcfPolicyVersion()).isEqualTo(expected.getTcfPolicyVersion());
+        assertThat(result.getVendorListVersion()).isEqualTo(expected.getVendorListVersion());
+        assertThat(result.getLastUpdated()).isEqualTo(expected.getLastUpdated());
+        assertThat(toList(result.getPurposesConsent())).isEqualTo(toList(expected.getPurposesConsent()));
+        assertThat(toList(result.getVendorConsent())).isEqualTo(toList(expected.getVendorConsent()));
+        assertThat(toList(result.getVendorLegitimateInterest())).isEqualTo(toList(expected.getVendorLegitimateInterest()));
+        assertThat(result.getPublisherRestrictions()).hasSameSizeAs(expected.getPublisherRestrictions());
+    }
+
+    @Test
+    public void decodeShouldNotCacheTcStringWhenCacheIsDisabled() {
+        // given
+        target = new TcStringDecoder(0, metrics);
+
+        // when
+        final TCString first = target.decode(CONSENT_STRING);
+        final TCString second = target.decode(CONSENT_STRING);
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void decodeShouldNotCacheInvalidConsentString() {
+        // when
+        final boolean firstValid = target.isValid("invalid");
+        final boolean secondValid = target.isValid("invalid");
+
+        // then
+        assertThat(firstValid).isFalse();
+        assertThat(secondValid).isFalse();
+        verify(metrics, times(2)).updatePrivacyTcfDecodeCacheMetric(MetricName.miss);
+    }
+
+    @Test
+    public void isValidShouldReturnTrueWhenStringIsValid() {
+        // when and then
+        assertThat(target.isValid(CONSENT_STRING)).isTrue();
+    }
+
+    @Test
+    public void isValidShouldReturnFalseWhenStringIsNull() {
+        // when and then
+        assertThat(target.isValid(null)).isFalse();
+    }
+
+    private static List<Integer> toList(IntIterable intIterable) {
+        final List<Integer> values = new ArrayList<>();
+        final IntIterator iterator = intIterable.intIterator();
+        while (iterator.hasNext()) {
+            values.add(iterator.nextInt());
+        }
+        return values;
+    }
+}
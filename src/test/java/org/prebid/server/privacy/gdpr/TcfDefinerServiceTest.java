@@ -66,10 +66,14 @@ public class TcfDefinerServiceTest {
     @Mock
     private Metrics metrics;
 
+    private TcStringDecoder tcStringDecoder;
+
     private TcfDefinerService target;
 
     @BeforeEach
     public void setUp() {
+        tcStringDecoder = new TcStringDecoder(0, metrics);
+
         final GdprConfig gdprConfig = GdprConfig.builder()
                 .defaultValue("1")
                 .enabled(true)
@@ -82,6 +86,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                tcStringDecoder,
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
@@ -97,6 +102,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                tcStringDecoder,
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
@@ -176,6 +182,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                tcStringDecoder,
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
@@ -209,6 +216,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                tcStringDecoder,
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
@@ -242,6 +250,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                tcStringDecoder,
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
@@ -286,6 +295,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                tcStringDecoder,
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
@@ -328,6 +338,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                tcStringDecoder,
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
@@ -448,6 +459,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                tcStringDecoder,
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
@@ -641,23 +653,4 @@ public class TcfDefinerServiceTest {
         expectedBidderNameToPrivacyMap.put("b2", PrivacyEnforcementAction.allowAll());
         assertThat(result).succeededWith(TcfResponse.of(true, expectedBidderNameToPrivacyMap, null));
     }
-
-    @Test
-    public void isConsentStringValidShouldReturnTrueWhenStringIsValid() {
-        // when and then
-        assertThat(TcfDefinerService.isConsentStringValid("CPBCa-mPBCa-mAAAAAENA0CAAEAAAAAAACiQAaQAwAAgAgABoAAAAAA"))
-                .isTrue();
-    }
-
-    @Test
-    public void isConsentStringValidShouldReturnFalseWhenStringIsNull() {
-        // when and then
-        assertThat(TcfDefinerService.isConsentStringValid(null)).isFalse();
-    }
-
-    @Test
-    public void isConsentStringValidShouldReturnFalseWhenStringNotValid() {
-        // when and then
-        assertThat(TcfDefinerService.isConsentStringValid("invalid")).isFalse();
-    }
 }
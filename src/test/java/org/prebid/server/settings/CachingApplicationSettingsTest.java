@@ -1,9 +1,13 @@
 package org.prebid.server.settings;
 
+import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.exception.InvalidRequestException;
@@ -21,7 +25,10 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
@@ -30,12 +37,15 @@ import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -50,11 +60,14 @@ public class CachingApplicationSettingsTest {
 
     private CachingApplicationSettings target;
 
+    private TimeoutFactory timeoutFactory;
+
     private Timeout timeout;
 
     @BeforeEach
     public void setUp() {
-        timeout = new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault())).create(500L);
+        timeoutFactory = new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault()));
+        timeout = timeoutFactory.create(500L);
 
         target = new CachingApplicationSettings(
                 delegateSettings,
@@ -65,7 +78,10 @@ public class CachingApplicationSettingsTest {
                 metrics,
                 360,
                 100,
-                0);
+                0,
+                0,
+                timeoutFactory,
+                1000L);
     }
 
     @Test
@@ -430,6 +446,252 @@ public class CachingApplicationSettingsTest {
         verifyNoMoreInteractions(delegateSettings);
     }
 
+    @Test
+    public void getAccountByIdShouldShareSingleDelegateCallBetweenConcurrentMisses() {
+        // given
+        final Promise<Account> promise = Promise.promise();
+        given(delegateSettings.getAccountById(eq("accountId"), same(timeout))).willReturn(promise.future());
+
+        // when
+        final Future<Account> firstFuture = target.getAccountById("accountId", timeout);
+        final Future<Account> secondFuture = target.getAccountById("accountId", timeout);
+        promise.complete(Account.empty("accountId"));
+
+        // then
+        assertThat(firstFuture.result()).isEqualTo(Account.empty("accountId"));
+        assertThat(secondFuture.result()).isEqualTo(Account.empty("accountId"));
+        verify(delegateSettings).getAccountById(eq("accountId"), same(timeout));
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.coalesced));
+    }
+
+    @Test
+    public void getAccountByIdShouldCallDelegateAgainAfterPreviousCallCompleted() {
+        // given
+        given(delegateSettings.getAccountById(eq("accountId"), same(timeout)))
+                .willReturn(Future.failedFuture("error"));
+
+        // when
+        target.getAccountById("accountId", timeout);
+        target.getAccountById("accountId", timeout);
+
+        // then
+        verify(delegateSettings, times(2)).getAccountById(eq("accountId"), same(timeout));
+    }
+
+    @Test
+    public void getAccountByIdShouldRefreshAccountInBackgroundWhenItIsAboutToExpire() {
+        // given
+        target = new CachingApplicationSettings(
+                delegateSettings,
+                new SettingsCache<>(360, 100, 0),
+                new SettingsCache<>(360, 100, 0),
+                new SettingsCache<>(360, 100, 0),
+                new SettingsCache<>(360, 100, 0),
+                metrics,
+                360,
+                100,
+                0,
+                360,
+                timeoutFactory,
+                1000L);
+
+        final Account updatedAccount = Account.builder().id("accountId").build();
+        given(delegateSettings.getAccountById(eq("accountId"), any()))
+                .willReturn(Future.succeededFuture(Account.empty("accountId")))
+                .willReturn(Future.succeededFuture(updatedAccount));
+
+        // when
+        target.getAccountById("accountId", timeout);
+        final Future<Account> refreshingFuture = target.getAccountById("accountId", timeout);
+        final Future<Account> refreshedFuture = target.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(refreshingFuture.result()).isEqualTo(Account.empty("accountId"));
+        assertThat(refreshedFuture.result()).isSameAs(updatedAccount);
+        verify(metrics, times(2)).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.refresh_ahead));
+    }
+
+    @Test
+    public void getAccountByIdShouldRefreshAccountOnceWithItsOwnTimeoutWhileRefreshIsInFlight() {
+        // given
+        target = new CachingApplicationSettings(
+                delegateSettings,
+                new SettingsCache<>(360, 100, 0),
+                new SettingsCache<>(360, 100, 0),
+                new SettingsCache<>(360, 100, 0),
+                new SettingsCache<>(360, 100, 0),
+                metrics,
+                360,
+                100,
+                0,
+                360,
+                timeoutFactory,
+                1000L);
+
+        final Promise<Account> refreshPromise = Promise.promise();
+        given(delegateSettings.getAccountById(eq("accountId"), any()))
+                .willReturn(Future.succeededFuture(Account.empty("accountId")))
+                .willReturn(refreshPromise.future());
+
+        // when
+        target.getAccountById("accountId", timeout);
+        target.getAccountById("accountId", timeout);
+        target.getAccountById("accountId", timeout);
+
+        // then
+        final ArgumentCaptor<Timeout> timeoutCaptor = ArgumentCaptor.forClass(Timeout.class);
+        verify(delegateSettings, times(2)).getAccountById(eq("accountId"), timeoutCaptor.capture());
+        assertThat(timeoutCaptor.getAllValues().get(1)).isNotSameAs(timeout)
+                .extracting(Timeout::remaining).isEqualTo(1000L);
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.refresh_ahead));
+        verify(metrics, never()).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.coalesced));
+    }
+
+    @Test
+    public void getAccountByIdShouldCallDelegateAgainWhenPreviousCallThrewException() {
+        // given
+        given(delegateSettings.getAccountById(eq("accountId"), same(timeout)))
+                .willThrow(new IllegalStateException("error"))
+                .willReturn(Future.succeededFuture(Account.empty("accountId")));
+
+        // when
+        final Future<Account> failedFuture = target.getAccountById("accountId", timeout);
+        final Future<Account> future = target.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(failedFuture.cause()).isInstanceOf(IllegalStateException.class).hasMessage("error");
+        assertThat(future.result()).isEqualTo(Account.empty("accountId"));
+        verify(delegateSettings, times(2)).getAccountById(eq("accountId"), same(timeout));
+    }
+
+    @Test
+    public void getAccountByIdShouldCompleteCoalescedMissOnContextOfItsCaller() throws InterruptedException {
+        // given
+        final Vertx vertx = Vertx.vertx();
+        final Promise<Account> promise = Promise.promise();
+        given(delegateSettings.getAccountById(eq("accountId"), same(timeout))).willReturn(promise.future());
+
+        final Context initiatorContext = vertx.getOrCreateContext();
+        final Context waiterContext = vertx.getOrCreateContext();
+        final AtomicReference<Context> completionContext = new AtomicReference<>();
+        final CountDownLatch joined = new CountDownLatch(1);
+        final CountDownLatch completed = new CountDownLatch(1);
+
+        // when
+        initiatorContext.runOnContext(ignored -> target.getAccountById("accountId", timeout));
+        waiterContext.runOnContext(ignored -> {
+            target.getAccountById("accountId", timeout).onComplete(result -> {
+                completionContext.set(Vertx.currentContext());
+                completed.countDown();
+            });
+            joined.countDown();
+        });
+        joined.await(5, TimeUnit.SECONDS);
+        initiatorContext.runOnContext(ignored -> promise.complete(Account.empty("accountId")));
+        completed.await(5, TimeUnit.SECONDS);
+        vertx.close();
+
+        // then
+        assertThat(completionContext.get()).isSameAs(waiterContext);
+    }
+
+    @Test
+    public void getAccountByIdShouldNotCacheAccountLoadedBeforeInvalidation() {
+        // given
+        final Promise<Account> promise = Promise.promise();
+        final Account updatedAccount = Account.builder().id("accountId").build();
+        given(delegateSettings.getAccountById(eq("accountId"), same(timeout)))
+                .willReturn(promise.future())
+                .willReturn(Future.succeededFuture(updatedAccount));
+
+        // when
+        target.getAccountById("accountId", timeout);
+        target.invalidateAccountCache("accountId");
+        final Future<Account> invalidatedFuture = target.getAccountById("accountId", timeout);
+        promise.complete(Account.empty("accountId"));
+        final Future<Account> future = target.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(invalidatedFuture.result()).isSameAs(updatedAccount);
+        assertThat(future.result()).isSameAs(updatedAccount);
+        verify(delegateSettings, times(2)).getAccountById(eq("accountId"), same(timeout));
+        verify(metrics, never()).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.coalesced));
+    }
+
+    @Test
+    public void getAccountByIdShouldFailCoalescedMissWhenItsOwnTimeoutExpired() {
+        // given
+        final Promise<Account> promise = Promise.promise();
+        given(delegateSettings.getAccountById(eq("accountId"), same(timeout))).willReturn(promise.future());
+
+        // when
+        target.getAccountById("accountId", timeout);
+        final Future<Account> future = target.getAccountById("accountId", timeoutFactory.create(1L, 1L));
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(TimeoutException.class);
+        verify(delegateSettings).getAccountById(eq("accountId"), same(timeout));
+    }
+
+    @Test
+    public void getAccountByIdShouldRetryCoalescedMissWithItsOwnTimeoutWhenInitiatorTimedOut() {
+        // given
+        final Timeout initiatorTimeout = timeoutFactory.create(100L);
+        final Promise<Account> promise = Promise.promise();
+        given(delegateSettings.getAccountById(eq("accountId"), same(initiatorTimeout)))
+                .willReturn(promise.future());
+        given(delegateSettings.getAccountById(eq("accountId"), same(timeout)))
+                .willReturn(Future.succeededFuture(Account.empty("accountId")));
+
+        // when
+        final Future<Account> initiatorFuture = target.getAccountById("accountId", initiatorTimeout);
+        final Future<Account> future = target.getAccountById("accountId", timeout);
+        promise.fail(new TimeoutException("Timeout has been exceeded"));
+
+        // then
+        assertThat(initiatorFuture.cause()).isInstanceOf(TimeoutException.class);
+        assertThat(future.result()).isEqualTo(Account.empty("accountId"));
+        verify(delegateSettings).getAccountById(eq("accountId"), same(timeout));
+    }
+
+    @Test
+    public void getStoredDataShouldShareSingleDelegateCallBetweenConcurrentMisses() {
+        // given
+        final Promise<StoredDataResult<String>> promise = Promise.promise();
+        given(delegateSettings.getStoredData(any(), any(), any(), any())).willReturn(promise.future());
+
+        // when
+        final Future<StoredDataResult<String>> firstFuture =
+                target.getStoredData("1001", singleton("reqid"), emptySet(), timeout);
+        final Future<StoredDataResult<String>> secondFuture =
+                target.getStoredData("1001", singleton("reqid"), emptySet(), timeout);
+        promise.complete(StoredDataResult.of(singletonMap("reqid", "json"), emptyMap(), emptyList()));
+
+        // then
+        assertThat(firstFuture.result().getStoredIdToRequest()).containsOnly(entry("reqid", "json"));
+        assertThat(secondFuture.result().getStoredIdToRequest()).containsOnly(entry("reqid", "json"));
+        verify(delegateSettings).getStoredData(eq("1001"), eq(singleton("reqid")), eq(emptySet()), same(timeout));
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.stored_request), eq(MetricName.coalesced));
+    }
+
+    @Test
+    public void creationShouldFailWhenRefreshAheadExceedsTtl() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new CachingApplicationSettings(
+                delegateSettings,
+                new SettingsCache<>(360, 100, 0),
+                new SettingsCache<>(360, 100, 0),
+                new SettingsCache<>(360, 100, 0),
+                new SettingsCache<>(360, 100, 0),
+                metrics,
+                360,
+                100,
+                10,
+                360,
+                timeoutFactory,
+                1000L));
+    }
+
     @Test
     public void getStoredResponseShouldPropagateFailure() {
         // given
@@ -0,0 +1,168 @@
+package org.prebid.server.settings;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.VertxTest;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ParsedStoredDataCacheTest extends VertxTest {
+
+    @Mock
+    private Metrics metrics;
+
+    private ParsedStoredDataCache target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new ParsedStoredDataCache(10, 10, jacksonMapper, metrics);
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveTtlOrSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new ParsedStoredDataCache(0, 10, jacksonMapper, metrics));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new ParsedStoredDataCache(10, 0, jacksonMapper, metrics));
+    }
+
+    @Test
+    public void getRequestShouldParseStoredDataOnFirstCall() throws JsonProcessingException {
+        // when
+        final JsonNode result = target.getRequest("id", "{\"field\":1}");
+
+        // then
+        assertThat(result).isEqualTo(mapper.createObjectNode().put("field", 1));
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.parsed_stored_request, MetricName.miss);
+    }
+
+    @Test
+    public void getRequestShouldReturnSameNodeForSameStoredData() throws JsonProcessingException {
+        // given
+        final JsonNode first = target.getRequest("id", "{\"field\":1}");
+
+        // when
+        final JsonNode second = target.getRequest("id", "{\"field\":1}");
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.parsed_stored_request, MetricName.hit);
+    }
+
+    @Test
+    public void getRequestShouldReparseWhenStoredDataChanged() throws JsonProcessingException {
+        // given
+        target.getRequest("id", "{\"field\":1}");
+
+        // when
+        final JsonNode result = target.getRequest("id", "{\"field\":2}");
+
+        // then
+        assertThat(result).isEqualTo(mapper.createObjectNode().put("field", 2));
+        verify(metrics, times(2)).updateSettingsCacheEventMetric(MetricName.parsed_stored_request, MetricName.miss);
+    }
+
+    @Test
+    public void getImpShouldUseSeparateCacheAndMetric() throws JsonProcessingException {
+        // given
+        target.getRequest("id", "{\"field\":1}");
+
+        // when
+        target.getImp("id", "{\"field\":1}");
+
+        // then
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.parsed_stored_imp, MetricName.miss);
+    }
+
+    @Test
+    public void getRequestShouldThrowExceptionOnInvalidJson() {
+        assertThatExceptionOfType(JsonProcessingException.class)
+                .isThrownBy(() -> target.getRequest("id", "{{}"));
+    }
+
+    @Test
+    public void saveShouldDropParsedEntriesForUpdatedIds() throws JsonProcessingException {
+        // given
+        final JsonNode first = target.getRequest("id", "{\"field\":1}");
+        target.save(singletonMap("id", "{\"field\":1}"), emptyMap());
+
+        // when
+        final JsonNode second = target.getRequest("id", "{\"field\":1}");
+
+        // then
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+    }
+
+    @Test
+    public void invalidateShouldDropParsedEntries() throws JsonProcessingException {
+        // given
+        final JsonNode first = target.getImp("id", "{\"field\":1}");
+        target.invalidate(emptyList(), singletonList("id"));
+
+        // when
+        final JsonNode second = target.getImp("id", "{\"field\":1}");
+
+        // then
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+    }
+
+    @Test
+    public void getAmpRequestShouldNotShareEntriesWithAuctionRequests() throws JsonProcessingException {
+        // given
+        final JsonNode request = target.getRequest("id", "{\"field\":1}");
+        final JsonNode ampRequest = target.getAmpRequest("id", "{\"field\":2}");
+
+        // when
+        final JsonNode secondRequest = target.getRequest("id", "{\"field\":1}");
+        final JsonNode secondAmpRequest = target.getAmpRequest("id", "{\"field\":2}");
+
+        // then
+        assertThat(secondRequest).isSameAs(request);
+        assertThat(secondAmpRequest).isSameAs(ampRequest);
+        verify(metrics, times(2)).updateSettingsCacheEventMetric(MetricName.parsed_stored_request, MetricName.hit);
+    }
+
+    @Test
+    public void ampListenerShouldDropOnlyParsedAmpRequests() throws JsonProcessingException {
+        // given
+        final JsonNode request = target.getRequest("id", "{\"field\":1}");
+        final JsonNode ampRequest = target.getAmpRequest("id", "{\"field\":1}");
+        target.ampListener().invalidate(singletonList("id"), emptyList());
+
+        // when
+        final JsonNode secondRequest = target.getRequest("id", "{\"field\":1}");
+        final JsonNode secondAmpRequest = target.getAmpRequest("id", "{\"field\":1}");
+
+        // then
+        assertThat(secondRequest).isSameAs(request);
+        assertThat(secondAmpRequest).isNotSameAs(ampRequest).isEqualTo(ampRequest);
+    }
+
+    @Test
+    public void saveShouldNotDropParsedAmpRequests() throws JsonProcessingException {
+        // given
+        final JsonNode ampRequest = target.getAmpRequest("id", "{\"field\":1}");
+        target.save(singletonMap("id", "{\"field\":2}"), emptyMap());
+
+        // when
+        final JsonNode result = target.getAmpRequest("id", "{\"field\":1}");
+
+        // then
+        assertThat(result).isSameAs(ampRequest);
+    }
+}
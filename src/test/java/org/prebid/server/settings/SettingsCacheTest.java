@@ -2,15 +2,23 @@ package org.prebid.server.settings;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.settings.model.StoredItem;
 
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
 
+@ExtendWith(MockitoExtension.class)
 public class SettingsCacheTest {
 
+    @Mock
+    private CacheNotificationListener<String> dependentListener;
+
     private SettingsCache<String> settingsCache;
 
     @BeforeEach
@@ -75,4 +83,18 @@ public class SettingsCacheTest {
         assertThat(settingsCache.getImpCache()).hasSize(1)
                 .containsEntry("impId2", singleton(StoredItem.of(null, "impValue2")));
     }
+
+    @Test
+    public void saveAndInvalidateShouldBePropagatedToDependentListener() {
+        // given
+        settingsCache = new SettingsCache<>(10, 10, 0, dependentListener);
+
+        // when
+        settingsCache.save(singletonMap("reqId1", "reqValue1"), singletonMap("impId1", "impValue1"));
+        settingsCache.invalidate(singletonList("reqId1"), singletonList("impId1"));
+
+        // then
+        verify(dependentListener).save(singletonMap("reqId1", "reqValue1"), singletonMap("impId1", "impValue1"));
+        verify(dependentListener).invalidate(singletonList("reqId1"), singletonList("impId1"));
+    }
 }
@@ -0,0 +1,137 @@
+package org.prebid.server.util.dsl.config.impl;
+
+import org.junit.jupiter.api.Test;
+import org.prebid.server.util.dsl.config.PrebidConfigParameter;
+import org.prebid.server.util.dsl.config.PrebidConfigParameters;
+import org.prebid.server.util.dsl.config.PrebidConfigSource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompiledRuleIndexTest {
+
+    private static final List<String> VALUES = asList("a", "b", "C", "dd", "*");
+
+    private final MostAccurateCombinationStrategy referenceStrategy = new MostAccurateCombinationStrategy();
+
+    @Test
+    public void matchShouldReturnExactRuleWhenPresent() {
+        // given
+        final PrebidConfigSource source = SimpleSource.of("*", "|", asList("banner|300x250", "banner|*"));
+        final PrebidConfigParameters parameters = SimpleParameters.of(asList(
+                SimpleDirectParameter.of("banner"),
+                SimpleDirectParameter.of("300x250")));
+
+        // when and then
+        assertThat(CompiledRuleIndex.of(source, source.rules()).match(parameters)).isEqualTo("banner|300x250");
+    }
+
+    @Test
+    public void matchShouldFallbackToWildcardRule() {
+        // given
+        final PrebidConfigSource source = SimpleSource.of("*", "|", asList("banner|728x90", "banner|*"));
+        final PrebidConfigParameters parameters = SimpleParameters.of(asList(
+                SimpleDirectParameter.of("banner"),
+                SimpleDirectParameter.of("300x250")));
+
+        // when and then
+        assertThat(CompiledRuleIndex.of(source, source.rules()).match(parameters)).isEqualTo("banner|*");
+    }
+
+    @Test
+    public void matchShouldIgnoreCaseOfRulesAndParameters() {
+        // given
+        final PrebidConfigSource source = SimpleSource.of("*", "|", singleton("BANNER|Www.Example.com"));
+        final PrebidConfigParameters parameters = SimpleParameters.of(asList(
+                SimpleDirectParameter.of("banner"),
+                SimpleDirectParameter.of("www.EXAMPLE.com")));
+
+        // when and then
+        assertThat(CompiledRuleIndex.of(source, source.rules()).match(parameters))
+                .isEqualTo("banner|www.EXAMPLE.com");
+    }
+
+    @Test
+    public void matchShouldReturnNullWhenAnyParameterIsEmpty() {
+        // given
+        final PrebidConfigSource source = SimpleSource.of("*", "|", singleton("*|*"));
+        final PrebidConfigParameters parameters = SimpleParameters.of(asList(
+                SimpleDirectParameter.of("banner"),
+                SimpleDirectParameter.of(emptyList())));
+
+        // when and then
+        assertThat(CompiledRuleIndex.of(source, source.rules()).match(parameters)).isNull();
+    }
+
+    @Test
+    public void matchShouldReturnNullWhenParametersAreEmpty() {
+        // given
+        final PrebidConfigSource source = SimpleSource.of("*", "|", singleton("*"));
+
+        // when and then
+        assertThat(CompiledRuleIndex.of(source, source.rules()).match(SimpleParameters.of(emptyList()))).isNull();
+    }
+
+    @Test
+    public void matchShouldBeEquivalentToMostAccurateCombinationStrategy() {
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 5000; i++) {
+            // given
+            final int fieldsCount = 1 + random.nextInt(6);
+            final String separator = random.nextBoolean() ? "|" : "::";
+            final PrebidConfigSource source = SimpleSource.of(
+                    "*", separator, givenRules(random, fieldsCount, separator));
+            final PrebidConfigParameters parameters = givenParameters(random, fieldsCount);
+
+            // when
+            final String expected = referenceStrategy.match(source, parameters);
+            final String actual = CompiledRuleIndex.of(source, source.rules()).match(parameters);
+
+            // then
+            assertThat(actual)
+                    .describedAs("rules: %s, parameters: %s", source.rules(), parameters)
+                    .isEqualTo(expected);
+        }
+    }
+
+    private static Set<String> givenRules(Random random, int fieldsCount, String separator) {
+        final Set<String> rules = new HashSet<>();
+        final int rulesCount = random.nextInt(40);
+        for (int i = 0; i < rulesCount; i++) {
+            final List<String> segments = new ArrayList<>();
+            for (int j = 0; j < fieldsCount; j++) {
+                final String value = VALUES.get(random.nextInt(VALUES.size()));
+                segments.add(random.nextBoolean() ? value.toUpperCase() : value);
+            }
+            rules.add(String.join(separator, segments));
+        }
+        return rules;
+    }
+
+    private static PrebidConfigParameters givenParameters(Random random, int fieldsCount) {
+        final List<PrebidConfigParameter> parameters = new ArrayList<>();
+        for (int i = 0; i < fieldsCount; i++) {
+            if (random.nextInt(5) == 0) {
+                parameters.add(PrebidConfigParameter.wildcard());
+                continue;
+            }
+
+            final List<String> values = new ArrayList<>();
+            final int valuesCount = 1 + random.nextInt(2);
+            for (int j = 0; j < valuesCount; j++) {
+                values.add(VALUES.get(random.nextInt(VALUES.size() - 1)));
+            }
+            parameters.add(SimpleDirectParameter.of(values));
+        }
+        return SimpleParameters.of(parameters);
+    }
+}
@@ -1,6 +1,7 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -342,6 +343,37 @@ public class BidderParamValidatorTest extends VertxTest {
         assertThat(messages.size()).isEqualTo(3);
     }
 
+    @Test
+    public void validateShouldReturnCachedValidationMessagesForEqualImpExt() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(bidderCatalog, "static/bidder-params", 10, jacksonMapper);
+
+        final JsonNode node = mapper.createObjectNode().put("siteId", 2);
+        final Set<String> messages = bidderParamValidator.validate(RUBICON, node);
+
+        // when
+        final Set<String> result = bidderParamValidator.validate(RUBICON, node.deepCopy());
+
+        // then
+        assertThat(messages).isNotEmpty();
+        assertThat(result).isSameAs(messages);
+    }
+
+    @Test
+    public void validateShouldNotReuseCachedValidationMessagesWhenImpExtIsModified() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(bidderCatalog, "static/bidder-params", 10, jacksonMapper);
+
+        final ObjectNode node = mapper.createObjectNode().put("siteId", 2).put("zoneId", 3);
+        bidderParamValidator.validate(RUBICON, node);
+
+        // when
+        final Set<String> result = bidderParamValidator.validate(RUBICON, node.put("accountId", 1));
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
     @Test
     public void schemaShouldReturnSchemasString() throws IOException {
         // given
@@ -0,0 +1,134 @@
+package org.prebid.server.validation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.VertxTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompiledJsonSchemaTest extends VertxTest {
+
+    @Test
+    public void isValidShouldReturnTrueForNodeMatchingSchema() throws JsonProcessingException {
+        // given
+        final CompiledJsonSchema target = givenSchema("""
+                {
+                  "$schema": "http://json-schema.org/draft-04/schema#",
+                  "title": "Test Adapter Params",
+                  "type": "object",
+                  "properties": {
+                    "placementId": {"type": ["integer", "string"], "pattern": "^\\\\d+$", "minimum": 1},
+                    "keywords": {"type": "array", "minItems": 1, "items": {"type": "string", "minLength": 1}},
+                    "mode": {"type": "string", "enum": ["a", "b"]}
+                  },
+                  "required": ["placementId"]
+                }""");
+
+        // when and then
+        assertThat(target.isValid(givenNode("{\"placementId\": 5, \"keywords\": [\"k\"], \"mode\": \"a\"}"))).isTrue();
+        assertThat(target.isValid(givenNode("{\"placementId\": \"5\"}"))).isTrue();
+    }
+
+    @Test
+    public void isValidShouldReturnFalseForNodeNotMatchingSchema() throws JsonProcessingException {
+        // given
+        final CompiledJsonSchema target = givenSchema("""
+                {
+                  "type": "object",
+                  "properties": {
+                    "placementId": {"type": "integer", "minimum": 1},
+                    "keywords": {"type": "array", "minItems": 1},
+                    "mode": {"type": "string", "enum": ["a", "b"]}
+                  },
+                  "required": ["placementId"]
+                }""");
+
+        // when and then
+        assertThat(target.isValid(givenNode("{}"))).isFalse();
+        assertThat(target.isValid(givenNode("{\"placementId\": 0}"))).isFalse();
+        assertThat(target.isValid(givenNode("{\"placementId\": 1.5}"))).isFalse();
+        assertThat(target.isValid(givenNode("{\"placementId\": 1, \"keywords\": []}"))).isFalse();
+        assertThat(target.isValid(givenNode("{\"placementId\": 1, \"mode\": \"c\"}"))).isFalse();
+    }
+
+    @Test
+    public void isValidShouldEvaluateCombiningKeywords() throws JsonProcessingException {
+        // given
+        final CompiledJsonSchema target = givenSchema("""
+                {
+                  "type": "object",
+                  "oneOf": [{"required": ["placementId"]}, {"required": ["invCode", "member"]}],
+                  "not": {"required": ["placementId", "invCode"]}
+                }""");
+
+        // when and then
+        assertThat(target.isValid(givenNode("{\"placementId\": 1}"))).isTrue();
+        assertThat(target.isValid(givenNode("{\"invCode\": \"code\", \"member\": \"member\"}"))).isTrue();
+        assertThat(target.isValid(givenNode("{\"placementId\": 1, \"invCode\": \"code\"}"))).isFalse();
+        assertThat(target.isValid(givenNode("{\"placementId\": 1, \"invCode\": \"c\", \"member\": \"m\"}")))
+                .isFalse();
+    }
+
+    @Test
+    public void isValidShouldEvaluateAdditionalPropertiesAndDependencies() throws JsonProcessingException {
+        // given
+        final CompiledJsonSchema target = givenSchema("""
+                {
+                  "type": "object",
+                  "properties": {"appid": {"type": "string"}, "placementid": {"type": "string"}},
+                  "dependencies": {"appid": ["placementid"]},
+                  "additionalProperties": false
+                }""");
+
+        // when and then
+        assertThat(target.isValid(givenNode("{\"appid\": \"app\", \"placementid\": \"placement\"}"))).isTrue();
+        assertThat(target.isValid(givenNode("{\"appid\": \"app\"}"))).isFalse();
+        assertThat(target.isValid(givenNode("{\"other\": \"value\"}"))).isFalse();
+    }
+
+    @Test
+    public void isValidShouldReturnFalseWhenSchemaHasUnsupportedKeyword() throws JsonProcessingException {
+        // given
+        final CompiledJsonSchema target = givenSchema("""
+                {
+                  "type": "object",
+                  "properties": {"placementId": {"$ref": "#/definitions/id"}}
+                }""");
+
+        // when and then
+        assertThat(target.isValid(givenNode("{}"))).isTrue();
+        assertThat(target.isValid(givenNode("{\"placementId\": 1}"))).isFalse();
+    }
+
+    @Test
+    public void isValidShouldNotAcceptUndecidableValuesInsideNot() throws JsonProcessingException {
+        // given
+        final CompiledJsonSchema target = givenSchema("""
+                {
+                  "properties": {"id": {"not": {"type": "string", "format": "hostname"}}}
+                }""");
+
+        // when and then
+        assertThat(target.isValid(givenNode("{\"id\": 1}"))).isTrue();
+        assertThat(target.isValid(givenNode("{\"id\": \"host.com\"}"))).isFalse();
+    }
+
+    @Test
+    public void isValidShouldAcceptOnlyStrictUuidFormat() throws JsonProcessingException {
+        // given
+        final CompiledJsonSchema target = givenSchema("{\"type\": \"string\", \"format\": \"uuid\"}");
+
+        // when and then
+        assertThat(target.isValid(givenNode("\"0b5e6d54-1f8a-4d3e-9d0a-6b1c2f3e4a5b\""))).isTrue();
+        assertThat(target.isValid(givenNode("\"not-uuid\""))).isFalse();
+    }
+
+    private static CompiledJsonSchema givenSchema(String schema) throws JsonProcessingException {
+        return CompiledJsonSchema.compile(mapper.readTree(schema));
+    }
+
+    private static JsonNode givenNode(String node) throws JsonProcessingException {
+        return mapper.readTree(node);
+    }
+}
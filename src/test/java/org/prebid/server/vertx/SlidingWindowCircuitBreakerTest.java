@@ -0,0 +1,195 @@
+package org.prebid.server.vertx;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class SlidingWindowCircuitBreakerTest {
+
+    @Mock(strictness = LENIENT)
+    private Clock clock;
+
+    private SlidingWindowCircuitBreaker target;
+
+    @BeforeEach
+    public void setUp() {
+        given(clock.millis()).willReturn(1000L);
+
+        target = new SlidingWindowCircuitBreaker(2, 50, 100L, 200L, clock);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidFailureRate() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new SlidingWindowCircuitBreaker(1, 101, 100L, 200L, clock));
+    }
+
+    @Test
+    public void executeShouldSucceedIfOperationSucceeds() {
+        // when
+        final Future<String> future = target.execute(() -> Future.succeededFuture("value"));
+
+        // then
+        assertThat(future.result()).isEqualTo("value");
+        assertThat(target.isOpen()).isFalse();
+    }
+
+    @Test
+    public void executeShouldFailIfOperationThrowsException() {
+        // when
+        final Future<String> future = target.execute(() -> {
+            throw new IllegalStateException("exception");
+        });
+
+        // then
+        assertThat(future.cause()).isInstanceOf(IllegalStateException.class).hasMessage("exception");
+    }
+
+    @Test
+    public void executeShouldNotOpenCircuitIfFailuresCountIsBelowThreshold() {
+        // when
+        executeWithFail();
+
+        // then
+        assertThat(target.isOpen()).isFalse();
+    }
+
+    @Test
+    public void executeShouldNotOpenCircuitIfFailureRateIsNotReached() {
+        // when
+        executeWithSuccess();
+        executeWithSuccess();
+        executeWithSuccess();
+        executeWithFail();
+        executeWithFail();
+
+        // then
+        assertThat(target.isOpen()).isFalse();
+    }
+
+    @Test
+    public void executeShouldOpenCircuitAndFailFastIfThresholdAndFailureRateAreReached() {
+        // given
+        final Handler<Void> openHandler = givenHandler();
+        target.openHandler(openHandler);
+
+        final AtomicInteger invocations = new AtomicInteger();
+
+        // when
+        executeWithSuccess();
+        executeWithFail();
+        executeWithFail();
+        final Future<String> future = target.execute(() -> {
+            invocations.incrementAndGet();
+            return Future.succeededFuture("value");
+        });
+
+        // then
+        assertThat(target.isOpen()).isTrue();
+        assertThat(future.cause()).hasMessage("open circuit");
+        assertThat(invocations.get()).isZero();
+        verify(openHandler).handle(null);
+    }
+
+    @Test
+    public void executeShouldNotCountFailuresOutsideOfWindow() {
+        // when
+        executeWithFail();
+        given(clock.millis()).willReturn(1150L);
+        executeWithFail();
+
+        // then
+        assertThat(target.isOpen()).isFalse();
+    }
+
+    @Test
+    public void executeShouldCloseCircuitIfProbeSucceedsAfterClosingInterval() {
+        // given
+        final Handler<Void> halfOpenHandler = givenHandler();
+        final Handler<Void> closeHandler = givenHandler();
+        target.halfOpenHandler(halfOpenHandler).closeHandler(closeHandler);
+
+        executeWithFail();
+        executeWithFail();
+
+        // when
+        given(clock.millis()).willReturn(1100L);
+        final Future<String> beforeClosingInterval = executeWithSuccess();
+        given(clock.millis()).willReturn(1200L);
+        final Future<String> probe = executeWithSuccess();
+
+        // then
+        assertThat(beforeClosingInterval.failed()).isTrue();
+        assertThat(probe.result()).isEqualTo("value");
+        assertThat(target.isOpen()).isFalse();
+        verify(halfOpenHandler).handle(null);
+        verify(closeHandler).handle(null);
+    }
+
+    @Test
+    public void executeShouldReopenCircuitIfProbeFails() {
+        // given
+        final Handler<Void> closeHandler = givenHandler();
+        target.closeHandler(closeHandler);
+
+        executeWithFail();
+        executeWithFail();
+
+        // when
+        given(clock.millis()).willReturn(1200L);
+        final Future<String> probe = executeWithFail();
+        final Future<String> afterProbe = executeWithSuccess();
+
+        // then
+        assertThat(probe.cause()).hasMessage("exception");
+        assertThat(afterProbe.cause()).hasMessage("open circuit");
+        assertThat(target.isOpen()).isTrue();
+        verify(closeHandler, never()).handle(null);
+    }
+
+    @Test
+    public void executeShouldLetThroughOnlyOneProbeWhileHalfOpen() {
+        // given
+        executeWithFail();
+        executeWithFail();
+        given(clock.millis()).willReturn(1200L);
+
+        // when
+        final Future<String> probe = target.execute(() -> Promise.<String>promise().future());
+        final Future<String> concurrent = executeWithSuccess();
+
+        // then
+        assertThat(probe.isComplete()).isFalse();
+        assertThat(concurrent.cause()).hasMessage("open circuit");
+    }
+
+    private Future<String> executeWithSuccess() {
+        return target.execute(() -> Future.succeededFuture("value"));
+    }
+
+    private Future<String> executeWithFail() {
+        return target.execute(() -> Future.failedFuture(new RuntimeException("exception")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Handler<Void> givenHandler() {
+        return mock(Handler.class);
+    }
+}
@@ -17,6 +17,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.execution.timeout.TimeoutScheduler;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.httpclient.model.HttpEndpoint;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
@@ -24,6 +27,7 @@ import java.io.OutputStreamWriter;
 import java.net.MalformedURLException;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -31,10 +35,14 @@ import java.util.concurrent.TimeoutException;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 @ExtendWith(VertxExtension.class)
@@ -81,6 +89,79 @@ public class BasicHttpClientTest {
         verify(httpClientRequest).send(eq(Buffer.buffer("body".getBytes())));
     }
 
+    @Test
+    public void requestShouldUseDedicatedClientOfHostAndUpdatePoolMetrics() {
+        // given
+        final HttpClient hostHttpClient = mock(HttpClient.class);
+        given(hostHttpClient.request(any())).willReturn(Future.succeededFuture(httpClientRequest));
+        final Metrics metrics = mock(Metrics.class);
+
+        httpClient = new BasicHttpClient(
+                new TimeoutScheduler(vertx),
+                wrappedHttpClient,
+                Map.of("www.example.com:443", hostHttpClient),
+                metrics);
+
+        // when
+        httpClient.request(HttpMethod.POST, "https://www.example.com/path", null, "body", 500L);
+        httpClient.request(HttpMethod.POST, "http://www.example.com/path", null, "body", 500L);
+
+        // then
+        verify(hostHttpClient).request(any());
+        verify(wrappedHttpClient).request(any());
+        verify(metrics).updateHttpClientPoolMetrics(eq("www.example.com:443"), anyLong(), eq(0));
+    }
+
+    @Test
+    public void requestShouldUseDedicatedClientOfPreResolvedEndpoint() {
+        // given
+        final HttpClient hostHttpClient = mock(HttpClient.class);
+        given(hostHttpClient.request(any())).willReturn(Future.succeededFuture(httpClientRequest));
+
+        httpClient = new BasicHttpClient(
+                new TimeoutScheduler(vertx),
+                wrappedHttpClient,
+                Map.of("www.example.com:443", hostHttpClient),
+                mock(Metrics.class));
+
+        // when
+        httpClient.request(HttpMethod.POST, HttpEndpoint.of("https://www.example.com/path"), null, new byte[0], 500L);
+
+        // then
+        final ArgumentCaptor<RequestOptions> requestOptionsArgumentCaptor =
+                ArgumentCaptor.forClass(RequestOptions.class);
+        verify(hostHttpClient).request(requestOptionsArgumentCaptor.capture());
+        verifyNoInteractions(wrappedHttpClient);
+
+        assertThat(requestOptionsArgumentCaptor.getValue().getURI()).isEqualTo("/path");
+        assertThat(requestOptionsArgumentCaptor.getValue().getHost()).isEqualTo("www.example.com");
+    }
+
+    @Test
+    public void prewarmConnectionsShouldSendHeadRequestsThroughDedicatedClient() {
+        // given
+        final HttpClient hostHttpClient = mock(HttpClient.class);
+        given(hostHttpClient.request(any())).willReturn(Future.succeededFuture(httpClientRequest));
+        given(httpClientResponse.body()).willReturn(Future.succeededFuture(Buffer.buffer()));
+
+        httpClient = new BasicHttpClient(
+                new TimeoutScheduler(vertx),
+                wrappedHttpClient,
+                Map.of("www.example.com:443", hostHttpClient),
+                mock(Metrics.class));
+
+        // when
+        httpClient.prewarmConnections("https://www.example.com/", 2);
+
+        // then
+        final ArgumentCaptor<RequestOptions> requestOptionsCaptor = ArgumentCaptor.forClass(RequestOptions.class);
+        verify(hostHttpClient, times(2)).request(requestOptionsCaptor.capture());
+        assertThat(requestOptionsCaptor.getAllValues())
+                .extracting(RequestOptions::getMethod)
+                .containsOnly(HttpMethod.HEAD);
+        verifyNoInteractions(wrappedHttpClient);
+    }
+
     @Test
     public void requestShouldSucceedIfHttpRequestSucceeds() {
         // given
@@ -17,10 +17,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+import org.prebid.server.vertx.httpclient.model.HttpEndpoint;
 
 import java.time.Clock;
-import java.time.Instant;
-import java.time.ZoneId;
 import java.util.function.BooleanSupplier;
 import java.util.function.LongSupplier;
 
@@ -31,6 +30,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -51,8 +51,8 @@ public class CircuitBreakerSecuredHttpClientTest {
     @BeforeEach
     public void setUp() {
         vertx = Vertx.vertx();
-        clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
-        httpClient = new CircuitBreakerSecuredHttpClient(vertx, wrappedHttpClient, metrics, 1, 100L, 200L, 24, clock);
+        clock = Clock.systemUTC();
+        httpClient = new CircuitBreakerSecuredHttpClient(wrappedHttpClient, metrics, 1, 50, 100L, 200L, 24, clock);
     }
 
     @AfterEach
@@ -169,7 +169,7 @@ public class CircuitBreakerSecuredHttpClientTest {
     @Test
     public void requestShouldFailWithOriginalExceptionIfOpeningIntervalExceeds() {
         // given
-        httpClient = new CircuitBreakerSecuredHttpClient(vertx, wrappedHttpClient, metrics, 2, 100L, 200L, 24, clock);
+        httpClient = new CircuitBreakerSecuredHttpClient(wrappedHttpClient, metrics, 2, 50, 100L, 200L, 24, clock);
 
         givenHttpClientReturning(new RuntimeException("exception1"), new RuntimeException("exception2"));
 
@@ -189,6 +189,28 @@ public class CircuitBreakerSecuredHttpClientTest {
         assertThat(future2.cause()).isInstanceOf(RuntimeException.class).hasMessage("exception2");
     }
 
+    @Test
+    public void requestShouldShareCircuitBetweenEndpointAndUrlOfSameHost() {
+        // given
+        givenHttpClientReturning(new RuntimeException("exception"));
+
+        // when
+        final Future<?> future1 = doRequest(); // 1 call
+        final Future<?> future2 = httpClient.request(
+                HttpMethod.POST, HttpEndpoint.of("http://url/path"), null, new byte[0], 0L); // 2 call
+
+        // then
+        verify(wrappedHttpClient).request(any(), anyString(), any(), (String) any(), anyLong(), anyLong());
+        verify(wrappedHttpClient, never())
+                .request(any(), any(HttpEndpoint.class), any(), any(byte[].class), anyLong(), anyLong());
+
+        assertThat(future1.failed()).isTrue();
+        assertThat(future1.cause()).isInstanceOf(RuntimeException.class).hasMessage("exception");
+
+        assertThat(future2.failed()).isTrue();
+        assertThat(future2.cause()).isInstanceOf(RuntimeException.class).hasMessage("open circuit");
+    }
+
     @Test
     public void circuitBreakerNumberGaugeShouldReportActualNumber() {
         // when
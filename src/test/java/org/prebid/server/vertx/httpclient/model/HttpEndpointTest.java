@@ -0,0 +1,31 @@
+package org.prebid.server.vertx.httpclient.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HttpEndpointTest {
+
+    @Test
+    public void originShouldReturnSchemeHostAndPortOfUrl() {
+        assertThat(HttpEndpoint.origin("https://bidder.com:8443/path?id=1")).isEqualTo("https://bidder.com:8443");
+        assertThat(HttpEndpoint.origin("http://bidder.com?id=1")).isEqualTo("http://bidder.com");
+        assertThat(HttpEndpoint.origin("http://bidder.com")).isEqualTo("http://bidder.com");
+        assertThat(HttpEndpoint.origin("bidder.com/path")).isEqualTo("bidder.com/path");
+    }
+
+    @Test
+    public void withUrlShouldReuseKeysOfOriginEndpoint() {
+        // given
+        final HttpEndpoint originEndpoint = HttpEndpoint.of("https://bidder.com");
+
+        // when
+        final HttpEndpoint result = originEndpoint.withUrl("https://bidder.com/path?id=1");
+
+        // then
+        assertThat(result.getUrl()).isEqualTo("https://bidder.com/path?id=1");
+        assertThat(result.getParsedUrl().getQuery()).isEqualTo("id=1");
+        assertThat(result.getHostKey()).isEqualTo("https://bidder.com");
+        assertThat(result.getAuthority()).isEqualTo("bidder.com:443");
+    }
+}